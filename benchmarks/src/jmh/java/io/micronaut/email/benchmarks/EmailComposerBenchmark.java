@@ -0,0 +1,170 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.benchmarks;
+
+import com.mailjet.client.MailjetRequest;
+import com.postmarkapp.postmark.client.data.model.message.Message;
+import com.sendgrid.Request;
+import io.micronaut.email.Attachment;
+import io.micronaut.email.Email;
+import io.micronaut.email.encoding.AttachmentEncodingCache;
+import io.micronaut.email.encoding.AttachmentEncodingCacheConfigurationProperties;
+import io.micronaut.email.encoding.DefaultAttachmentEncodingCache;
+import io.micronaut.email.javamail.composer.DefaultMessageComposer;
+import io.micronaut.email.javamail.composer.MessageComposer;
+import io.micronaut.email.mailjet.MailjetEmailComposer;
+import io.micronaut.email.postmark.PostmarkConfigurationProperties;
+import io.micronaut.email.postmark.PostmarkEmailComposer;
+import io.micronaut.email.sendgrid.SendgridEmailComposer;
+import io.micronaut.email.ses.SesEmailComposer;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Session;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.ses.model.SesRequest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Properties;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how fast every {@link io.micronaut.email.EmailComposer} turns an {@link Email} into the payload of its provider.
+ * Run it with {@code ./gradlew :benchmarks:jmh}, optionally restricted with {@code -PjmhIncludes=EmailComposerBenchmark.ses}.
+ * The gc profiler reports the allocation rate next to the throughput.
+ *
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EmailComposerBenchmark {
+
+    /**
+     * Number of recipients of the email.
+     */
+    @Param({"1", "50"})
+    public int recipients;
+
+    /**
+     * Number of characters of the text and of the html bodies.
+     */
+    @Param({"1024", "65536"})
+    public int bodySize;
+
+    /**
+     * Bytes of the attachment, zero for an email without attachments.
+     */
+    @Param({"0", "1048576"})
+    public int attachmentSize;
+
+    /**
+     * Whether the composers share an {@link AttachmentEncodingCache}, thus the attachment is encoded once instead of on every invocation.
+     */
+    @Param({"false", "true"})
+    public boolean attachmentCache;
+
+    private final Session session = Session.getInstance(new Properties());
+    private MessageComposer messageComposer;
+    private SesEmailComposer sesEmailComposer;
+    private SendgridEmailComposer sendgridEmailComposer;
+    private PostmarkEmailComposer postmarkEmailComposer;
+    private MailjetEmailComposer mailjetEmailComposer;
+
+    private Email email;
+
+    @Setup
+    public void setup() {
+        AttachmentEncodingCache cache = attachmentCache ? new DefaultAttachmentEncodingCache(new AttachmentEncodingCacheConfigurationProperties()) : null;
+        messageComposer = new DefaultMessageComposer(cache);
+        sesEmailComposer = new SesEmailComposer(messageComposer, null);
+        sendgridEmailComposer = new SendgridEmailComposer(cache, null);
+        postmarkEmailComposer = new PostmarkEmailComposer(new PostmarkConfigurationProperties(), cache, null);
+        mailjetEmailComposer = new MailjetEmailComposer(cache, null);
+        Email.Builder builder = Email.builder()
+                .from("sender@example.com")
+                .subject("Benchmark")
+                .body(body('h', bodySize), body('t', bodySize));
+        for (int i = 0; i < recipients; i++) {
+            builder.to("receiver" + i + "@example.com");
+        }
+        if (attachmentSize > 0) {
+            byte[] content = new byte[attachmentSize];
+            new Random(attachmentSize).nextBytes(content);
+            builder.attachment(Attachment.builder()
+                    .filename("report.pdf")
+                    .contentType("application/pdf")
+                    .content(content)
+                    .build());
+        }
+        email = builder.build();
+    }
+
+    /**
+     * The MIME message is written, since Jakarta Mail encodes the parts lazily.
+     * @return the message
+     * @throws MessagingException if the message cannot be composed
+     * @throws IOException if the message cannot be written
+     */
+    @Benchmark
+    public jakarta.mail.Message javamail() throws MessagingException, IOException {
+        jakarta.mail.Message message = messageComposer.compose(email, session);
+        message.writeTo(OutputStream.nullOutputStream());
+        return message;
+    }
+
+    /**
+     * Composes a {@code SendEmailRequest} for emails without attachments and a {@code SendRawEmailRequest} otherwise.
+     * @return the request
+     */
+    @Benchmark
+    public SesRequest ses() {
+        return sesEmailComposer.compose(email);
+    }
+
+    @Benchmark
+    public Request sendgrid() {
+        return sendgridEmailComposer.compose(email);
+    }
+
+    @Benchmark
+    public Message postmark() {
+        return postmarkEmailComposer.compose(email);
+    }
+
+    @Benchmark
+    public MailjetRequest mailjet() {
+        return mailjetEmailComposer.compose(email);
+    }
+
+    private static String body(char c, int size) {
+        return String.valueOf(c).repeat(size);
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.benchmarks;
+
+import io.micronaut.email.suppression.DefaultSuppressionList;
+import io.micronaut.email.suppression.SuppressionConfigurationProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the per-recipient check of {@link DefaultSuppressionList} for addresses which are suppressed and for addresses which are not.
+ * Run it with {@code ./gradlew :benchmarks:jmh -PjmhIncludes=SuppressionListBenchmark}.
+ *
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SuppressionListBenchmark {
+
+    private static final int ADDRESSES = 1024;
+
+    /**
+     * Number of suppressed addresses.
+     */
+    @Param({"1000000"})
+    public int suppressed;
+
+    private DefaultSuppressionList suppressionList;
+    private String[] suppressedAddresses;
+    private String[] deliverableAddresses;
+    private int next;
+
+    @Setup
+    public void setup() {
+        SuppressionConfigurationProperties configuration = new SuppressionConfigurationProperties();
+        configuration.setExpectedAddresses(suppressed);
+        suppressionList = new DefaultSuppressionList(configuration);
+        for (int i = 0; i < suppressed; i++) {
+            suppressionList.suppress("bounced" + i + "@example.com");
+        }
+        suppressedAddresses = new String[ADDRESSES];
+        deliverableAddresses = new String[ADDRESSES];
+        for (int i = 0; i < ADDRESSES; i++) {
+            suppressedAddresses[i] = "Bounced" + (i * 997 % suppressed) + "@Example.com";
+            deliverableAddresses[i] = "customer" + i + "@example.com";
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        suppressionList.close();
+    }
+
+    @Benchmark
+    public boolean suppressedAddress() {
+        return suppressionList.isSuppressed(suppressedAddresses[next++ & (ADDRESSES - 1)]);
+    }
+
+    @Benchmark
+    public boolean deliverableAddress() {
+        return suppressionList.isSuppressed(deliverableAddresses[next++ & (ADDRESSES - 1)]);
+    }
+}
@@ -17,10 +17,13 @@ package io.micronaut.email.ses;
 
 import io.micronaut.context.annotation.Requires;
 import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.async.annotation.SingleResult;
 import io.micronaut.email.AsyncTransactionalEmailSender;
 import io.micronaut.email.Email;
 import io.micronaut.email.EmailException;
+import io.micronaut.email.metrics.EmailMetrics;
+import jakarta.inject.Inject;
 import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 import org.reactivestreams.Publisher;
@@ -34,6 +37,8 @@ import software.amazon.awssdk.services.ses.model.SesRequest;
 import software.amazon.awssdk.services.ses.model.SesResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 
 /**
@@ -56,14 +61,33 @@ public class AsyncSesEmailSender implements AsyncTransactionalEmailSender<SesReq
     private final SesAsyncClient ses;
     private final SesEmailComposer messageComposer;
 
+    @Nullable
+    private final EmailMetrics emailMetrics;
+
     /**
      * @param ses Amazon Simple Email Service Client
      * @param messageComposer Message Composer
+     * @param emailMetrics Email metrics. If null, nothing is recorded.
+     * @since 2.8.0
      */
+    @Inject
     public AsyncSesEmailSender(SesAsyncClient ses,
-                               SesEmailComposer messageComposer) {
+                               SesEmailComposer messageComposer,
+                               @Nullable EmailMetrics emailMetrics) {
         this.ses = ses;
         this.messageComposer = messageComposer;
+        this.emailMetrics = emailMetrics;
+    }
+
+    /**
+     * @param ses Amazon Simple Email Service Client
+     * @param messageComposer Message Composer
+     * @deprecated Use {@link AsyncSesEmailSender#AsyncSesEmailSender(SesAsyncClient, SesEmailComposer, EmailMetrics)}
+     */
+    @Deprecated(since = "2.8.0", forRemoval = true)
+    public AsyncSesEmailSender(SesAsyncClient ses,
+                               SesEmailComposer messageComposer) {
+        this(ses, messageComposer, null);
     }
 
     @Override
@@ -82,20 +106,30 @@ public class AsyncSesEmailSender implements AsyncTransactionalEmailSender<SesReq
     @SingleResult
     public Publisher<SesResponse> sendAsync(@NonNull @NotNull @Valid Email email,
                                             @NonNull @NotNull Consumer<SesRequest> emailRequest) throws EmailException {
-        try {
-            return sendAsync(messageComposer.compose(email, emailRequest));
-        } catch (EmailException e) {
-            return Mono.error(e);
-        }
+        return Mono.fromCompletionStage(sendStage(email, emailRequest));
     }
 
+    /**
+     * Sends an email with the future returned by the {@link SesAsyncClient}.
+     * @param email Email
+     * @param emailRequest Email Request Consumer
+     * @return {@link software.amazon.awssdk.services.ses.model.SendRawEmailResponse} or {@link software.amazon.awssdk.services.ses.model.SendEmailResponse}
+     */
+    @Override
     @NonNull
-    private Publisher<SesResponse> sendAsync(@NonNull SesRequest sesRequest) {
-        if (sesRequest instanceof SendRawEmailRequest) {
-            return Mono.fromFuture(ses.sendRawEmail((SendRawEmailRequest) sesRequest));
-        } else if (sesRequest instanceof SendEmailRequest) {
-            return Mono.fromFuture(ses.sendEmail((SendEmailRequest) sesRequest));
+    public CompletionStage<SesResponse> sendStage(@NonNull @NotNull @Valid Email email,
+                                                  @NonNull @NotNull Consumer<SesRequest> emailRequest) {
+        SesRequest sesRequest;
+        try {
+            sesRequest = EmailMetrics.compose(emailMetrics, NAME, messageComposer, email, emailRequest);
+        } catch (EmailException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        if (sesRequest instanceof SendRawEmailRequest sendRawEmailRequest) {
+            return ses.sendRawEmail(sendRawEmailRequest).thenApply(SesResponse.class::cast);
+        } else if (sesRequest instanceof SendEmailRequest sendEmailRequest) {
+            return ses.sendEmail(sendEmailRequest).thenApply(SesResponse.class::cast);
         }
-        return Mono.error(new EmailException("SesRequest returned by SesEmailComposer should be either SendRawEmailRequest or SendEmailRequest"));
+        return CompletableFuture.failedFuture(new EmailException("SesRequest returned by SesEmailComposer should be either SendRawEmailRequest or SendEmailRequest"));
     }
 }
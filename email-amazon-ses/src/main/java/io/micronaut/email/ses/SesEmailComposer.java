@@ -16,6 +16,7 @@
 package io.micronaut.email.ses;
 
 import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.util.CollectionUtils;
 import io.micronaut.core.util.StringUtils;
 import io.micronaut.email.BodyType;
@@ -24,6 +25,10 @@ import io.micronaut.email.Email;
 import io.micronaut.email.EmailComposer;
 import io.micronaut.email.EmailException;
 import io.micronaut.email.javamail.composer.MessageComposer;
+import io.micronaut.email.size.EmailSizeEstimator;
+import io.micronaut.email.size.EmailSizeLimits;
+import io.micronaut.email.validation.EmailAddresses;
+import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import jakarta.mail.Message;
 import jakarta.mail.MessagingException;
@@ -41,7 +46,6 @@ import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.nio.ByteBuffer;
 import java.util.Properties;
 
 /**
@@ -52,16 +56,35 @@ import java.util.Properties;
 public class SesEmailComposer implements EmailComposer<SesRequest> {
     private final MessageComposer messageComposer;
 
+    @Nullable
+    private final EmailSizeLimits emailSizeLimits;
+
     /**
      * @param messageComposer Message Composer
+     * @deprecated Use {@link #SesEmailComposer(MessageComposer, EmailSizeLimits)} instead.
      */
+    @Deprecated(since = "2.8.0", forRemoval = true)
     public SesEmailComposer(MessageComposer messageComposer) {
+        this(messageComposer, null);
+    }
+
+    /**
+     * @param messageComposer Message Composer
+     * @param emailSizeLimits Email size limits. If present, emails which exceed them are rejected before they are composed.
+     * @since 2.8.0
+     */
+    @Inject
+    public SesEmailComposer(MessageComposer messageComposer,
+                            @Nullable EmailSizeLimits emailSizeLimits) {
         this.messageComposer = messageComposer;
+        this.emailSizeLimits = emailSizeLimits;
     }
 
     @NonNull
     @Override
     public SesRequest compose(@NonNull @NotNull @Valid Email email) throws EmailException {
+        EmailAddresses.validate(email);
+        EmailSizeLimits.check(emailSizeLimits, SesEmailSender.NAME, email);
         if (CollectionUtils.isEmpty(email.getAttachments())) {
             return sendEmailRequest(email);
         }
@@ -76,19 +99,21 @@ public class SesEmailComposer implements EmailComposer<SesRequest> {
     private SendRawEmailRequest sendRawEmailRequest(@NonNull Email email) throws MessagingException, IOException {
         return SendRawEmailRequest.builder()
                 .rawMessage(RawMessage.builder()
-                        .data(bytesOfMessage(messageComposer.compose(email, Session.getDefaultInstance(new Properties()))))
+                        .data(bytesOfMessage(email, messageComposer.compose(email, Session.getDefaultInstance(new Properties()))))
                         .build())
                 .build();
     }
 
     @NonNull
-    private SdkBytes bytesOfMessage(@NonNull Message message) throws IOException, MessagingException {
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    private SdkBytes bytesOfMessage(@NonNull Email email, @NonNull Message message) throws IOException, MessagingException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(initialCapacity(email));
         message.writeTo(outputStream);
-        ByteBuffer buf = ByteBuffer.wrap(outputStream.toByteArray());
-        byte[] arr = new byte[buf.remaining()];
-        buf.get(arr);
-        return SdkBytes.fromByteArray(arr);
+        // the array returned by toByteArray is not shared, thus it is safe to hand it over without copying it again
+        return SdkBytes.fromByteArrayUnsafe(outputStream.toByteArray());
+    }
+
+    private static int initialCapacity(@NonNull Email email) {
+        return (int) Math.min(EmailSizeEstimator.estimate(email).getMessageSize(), Integer.MAX_VALUE - 8);
     }
 
     @NonNull
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.ses;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.email.EmailErrorClassifier;
+import io.micronaut.email.EmailErrorType;
+import jakarta.inject.Singleton;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.exception.ApiCallAttemptTimeoutException;
+import software.amazon.awssdk.core.exception.ApiCallTimeoutException;
+import software.amazon.awssdk.core.exception.SdkException;
+
+import java.io.IOException;
+
+/**
+ * {@link EmailErrorClassifier} for the AWS SDK exceptions thrown by the SES clients, for example {@code Throttling} when the maximum send rate is exceeded
+ * or {@code MessageRejected} for an email SES does not accept. Client failures, such as missing credentials, are classified only if they are caused by a network error.
+ *
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+@Singleton
+public class SesEmailErrorClassifier implements EmailErrorClassifier {
+    private static final int STATUS_INTERNAL_SERVER_ERROR = 500;
+
+    @Override
+    @NonNull
+    public EmailErrorType classify(@NonNull Throwable throwable) {
+        if (throwable instanceof AwsServiceException serviceException) {
+            if (serviceException.isThrottlingException()) {
+                return EmailErrorType.THROTTLED;
+            }
+            return serviceException.statusCode() >= STATUS_INTERNAL_SERVER_ERROR ? EmailErrorType.TRANSIENT : EmailErrorType.PERMANENT;
+        }
+        if (throwable instanceof ApiCallTimeoutException
+                || throwable instanceof ApiCallAttemptTimeoutException
+                || throwable instanceof IOException
+                || (throwable instanceof SdkException sdkException && sdkException.retryable())) {
+            return EmailErrorType.TRANSIENT;
+        }
+        return EmailErrorType.UNKNOWN;
+    }
+}
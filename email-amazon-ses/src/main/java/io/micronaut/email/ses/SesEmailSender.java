@@ -17,13 +17,19 @@ package io.micronaut.email.ses;
 
 import io.micronaut.context.annotation.Requires;
 import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.email.BulkSendResult;
+import io.micronaut.email.BulkTransactionalEmailSender;
 import io.micronaut.email.Email;
 import io.micronaut.email.EmailException;
+import io.micronaut.email.metrics.EmailMetrics;
 import io.micronaut.email.TransactionalEmailSender;
+import jakarta.inject.Inject;
 import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.services.ses.SesClient;
 import software.amazon.awssdk.services.ses.model.SendEmailRequest;
 import software.amazon.awssdk.services.ses.model.SendEmailResponse;
@@ -33,17 +39,21 @@ import software.amazon.awssdk.services.ses.model.SesRequest;
 import software.amazon.awssdk.services.ses.model.SesResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.function.Consumer;
 
 /**
- * <a href="https://aws.amazon.com/es/ses/">Amazon Simple Email Service</a> implementation of {@link io.micronaut.email.TransactionalEmailSender}.
+ * <a href="https://aws.amazon.com/es/ses/">Amazon Simple Email Service</a> implementation of {@link io.micronaut.email.TransactionalEmailSender} and {@link BulkTransactionalEmailSender}.
+ * Amazon SES only accepts several destinations in a single request for templated emails, thus bulk sends issue a request per email reusing the client's connections.
  * @author Sergio del Amo
  * @since 1.0.0
  */
 @Named(SesEmailSender.NAME)
 @Requires(beans = SesClient.class)
 @Singleton
-public class SesEmailSender implements TransactionalEmailSender<SesRequest, SesResponse> {
+public class SesEmailSender implements TransactionalEmailSender<SesRequest, SesResponse>, BulkTransactionalEmailSender<SesResponse> {
     /**
      * {@link SesEmailSender} name.
      */
@@ -55,14 +65,33 @@ public class SesEmailSender implements TransactionalEmailSender<SesRequest, SesR
     private final SesClient ses;
     private final SesEmailComposer messageComposer;
 
+    @Nullable
+    private final EmailMetrics emailMetrics;
+
     /**
      * @param ses Amazon Simple Email Service Client
      * @param messageComposer Message Composer
+     * @param emailMetrics Email metrics. If null, nothing is recorded.
+     * @since 2.8.0
      */
+    @Inject
     public SesEmailSender(SesClient ses,
-                          SesEmailComposer messageComposer) {
+                          SesEmailComposer messageComposer,
+                          @Nullable EmailMetrics emailMetrics) {
         this.ses = ses;
         this.messageComposer = messageComposer;
+        this.emailMetrics = emailMetrics;
+    }
+
+    /**
+     * @param ses Amazon Simple Email Service Client
+     * @param messageComposer Message Composer
+     * @deprecated Use {@link SesEmailSender#SesEmailSender(SesClient, SesEmailComposer, EmailMetrics)}
+     */
+    @Deprecated(since = "2.8.0", forRemoval = true)
+    public SesEmailSender(SesClient ses,
+                          SesEmailComposer messageComposer) {
+        this(ses, messageComposer, null);
     }
 
     @Override
@@ -80,7 +109,7 @@ public class SesEmailSender implements TransactionalEmailSender<SesRequest, SesR
     @NonNull
     public SesResponse send(@NonNull @NotNull @Valid Email email,
                             @NonNull @NotNull Consumer<SesRequest> emailRequest) throws EmailException {
-        SesRequest sesRequest = messageComposer.compose(email, emailRequest);
+        SesRequest sesRequest = EmailMetrics.compose(emailMetrics, NAME, messageComposer, email, emailRequest);
         if (sesRequest instanceof SendRawEmailRequest) {
             return sendRawEmail((SendRawEmailRequest) sesRequest);
         } else if (sesRequest instanceof SendEmailRequest) {
@@ -89,6 +118,22 @@ public class SesEmailSender implements TransactionalEmailSender<SesRequest, SesR
         throw new EmailException("SesRequest returned by SesEmailComposer should be either SendRawEmailRequest or SendEmailRequest");
     }
 
+    @Override
+    @NonNull
+    public List<BulkSendResult<SesResponse>> sendAll(@NonNull @NotNull Collection<@Valid Email> emails) throws EmailException {
+        List<BulkSendResult<SesResponse>> results = new ArrayList<>(emails.size());
+        for (Email email : emails) {
+            try {
+                results.add(BulkSendResult.success(email, send(email, r -> { })));
+            } catch (SdkException e) {
+                results.add(BulkSendResult.failure(email, new EmailException(e)));
+            } catch (EmailException e) {
+                results.add(BulkSendResult.failure(email, e));
+            }
+        }
+        return results;
+    }
+
     @NonNull
     private SesResponse sendEmailRequest(@NonNull SendEmailRequest email) throws EmailException {
         SendEmailResponse response = ses.sendEmail(email);
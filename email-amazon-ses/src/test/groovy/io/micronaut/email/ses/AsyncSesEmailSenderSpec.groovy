@@ -0,0 +1,60 @@
+package io.micronaut.email.ses
+
+import io.micronaut.email.Email
+import io.micronaut.email.javamail.composer.DefaultMessageComposer
+import software.amazon.awssdk.core.exception.SdkClientException
+import software.amazon.awssdk.services.ses.SesAsyncClient
+import software.amazon.awssdk.services.ses.model.SendEmailRequest
+import software.amazon.awssdk.services.ses.model.SendEmailResponse
+import software.amazon.awssdk.services.ses.model.SendRawEmailRequest
+import software.amazon.awssdk.services.ses.model.SendRawEmailResponse
+import software.amazon.awssdk.services.ses.model.SesResponse
+import spock.lang.Specification
+
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.TimeUnit
+
+class AsyncSesEmailSenderSpec extends Specification {
+
+    SesAsyncClient ses = Mock()
+
+    AsyncSesEmailSender sender = new AsyncSesEmailSender(ses, new SesEmailComposer(new DefaultMessageComposer(null), null), null)
+
+    void "the completion stage completes with the response of the client future"() {
+        when:
+        Email email = Email.builder().from('sender@example.com').to('receiver@example.com').subject('Hello').body('Hello world').build()
+        SesResponse response = sender.sendStage(email).toCompletableFuture().get(5, TimeUnit.SECONDS)
+
+        then:
+        1 * ses.sendEmail({ SendEmailRequest request -> request.message().subject().data() == 'Hello' }) >>
+                CompletableFuture.completedFuture(SendEmailResponse.builder().messageId('message-1').build())
+        'message-1' == (response as SendEmailResponse).messageId()
+    }
+
+    void "emails with attachments complete with the response of the raw email future"() {
+        when:
+        SesResponse response = sender.sendStage(Email.builder()
+                .from('sender@example.com')
+                .to('receiver@example.com')
+                .subject('Hello')
+                .body('Hello world')
+                .attachment { it.filename('report.txt').contentType('text/plain').content('report'.bytes) }
+                .build()).toCompletableFuture().get(5, TimeUnit.SECONDS)
+
+        then:
+        1 * ses.sendRawEmail(_ as SendRawEmailRequest) >> CompletableFuture.completedFuture(SendRawEmailResponse.builder().messageId('message-2').build())
+        'message-2' == (response as SendRawEmailResponse).messageId()
+    }
+
+    void "a failed client future completes the stage exceptionally"() {
+        when:
+        Email email = Email.builder().from('sender@example.com').to('receiver@example.com').subject('Hello').body('Hello world').build()
+        sender.sendStage(email).toCompletableFuture().get(5, TimeUnit.SECONDS)
+
+        then:
+        1 * ses.sendEmail(_ as SendEmailRequest) >> CompletableFuture.failedFuture(SdkClientException.create('Connection reset'))
+        ExecutionException e = thrown()
+        e.cause instanceof SdkClientException
+    }
+}
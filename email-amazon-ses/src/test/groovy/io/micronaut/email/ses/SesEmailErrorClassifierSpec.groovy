@@ -0,0 +1,33 @@
+package io.micronaut.email.ses
+
+import io.micronaut.email.EmailErrorType
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails
+import software.amazon.awssdk.core.exception.ApiCallTimeoutException
+import software.amazon.awssdk.core.exception.SdkClientException
+import software.amazon.awssdk.services.ses.model.SesException
+import spock.lang.Specification
+import spock.lang.Unroll
+
+class SesEmailErrorClassifierSpec extends Specification {
+
+    @Unroll
+    void "#description is classified as #errorType"(Throwable throwable, EmailErrorType errorType, String description) {
+        expect:
+        errorType == new SesEmailErrorClassifier().classify(throwable)
+
+        where:
+        throwable                                               || errorType                | description
+        serviceException(400, 'Throttling')                     || EmailErrorType.THROTTLED | 'maximum send rate exceeded'
+        serviceException(400, 'MessageRejected')                || EmailErrorType.PERMANENT | 'rejected message'
+        serviceException(503, 'ServiceUnavailable')             || EmailErrorType.TRANSIENT | 'service unavailable'
+        ApiCallTimeoutException.create(1000)                    || EmailErrorType.TRANSIENT | 'api call timeout'
+        SdkClientException.create('Unable to load credentials') || EmailErrorType.UNKNOWN   | 'missing credentials'
+    }
+
+    private static SesException serviceException(int status, String errorCode) {
+        (SesException) SesException.builder()
+                .statusCode(status)
+                .awsErrorDetails(AwsErrorDetails.builder().errorCode(errorCode).build())
+                .build()
+    }
+}
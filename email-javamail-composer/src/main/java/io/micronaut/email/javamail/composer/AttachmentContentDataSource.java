@@ -0,0 +1,72 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.javamail.composer;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.email.AttachmentContent;
+import jakarta.activation.DataSource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Read-only {@link DataSource} which opens a new stream over an {@link AttachmentContent} every time it is read,
+ * thus the attachment is streamed into the message when it is written instead of being copied into it.
+ *
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+public class AttachmentContentDataSource implements DataSource {
+
+    private final AttachmentContent content;
+    private final String contentType;
+    private final String name;
+
+    /**
+     *
+     * @param content attachment content
+     * @param contentType content type
+     * @param name filename
+     */
+    public AttachmentContentDataSource(@NonNull AttachmentContent content,
+                                       @NonNull String contentType,
+                                       @NonNull String name) {
+        this.content = content;
+        this.contentType = contentType;
+        this.name = name;
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        return content.openStream();
+    }
+
+    @Override
+    public OutputStream getOutputStream() throws IOException {
+        throw new IOException("cannot write to an attachment content");
+    }
+
+    @Override
+    public String getContentType() {
+        return contentType;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.javamail.composer;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.email.AttachmentContent;
+import io.micronaut.email.encoding.AttachmentEncodingCache;
+import jakarta.activation.DataHandler;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.PreencodedMimeBodyPart;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Enumeration;
+
+/**
+ * Attachment body part which writes the Base64 encoding of its content held by an {@link AttachmentEncodingCache} instead of encoding it every time.
+ * The part is read as any other part, through a {@link AttachmentContentDataSource}.
+ *
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+class CachedAttachmentBodyPart extends PreencodedMimeBodyPart {
+
+    private static final String ENCODING_BASE64 = "base64";
+    private static final byte[] CRLF = {'\r', '\n'};
+
+    private final AttachmentEncodingCache attachmentEncodingCache;
+    private final AttachmentContent content;
+
+    /**
+     *
+     * @param attachmentEncodingCache Attachment encoding cache
+     * @param content attachment content
+     * @param contentType content type
+     * @param name filename
+     * @throws MessagingException if the data handler cannot be set
+     */
+    CachedAttachmentBodyPart(@NonNull AttachmentEncodingCache attachmentEncodingCache,
+                             @NonNull AttachmentContent content,
+                             @NonNull String contentType,
+                             @NonNull String name) throws MessagingException {
+        super(ENCODING_BASE64);
+        this.attachmentEncodingCache = attachmentEncodingCache;
+        this.content = content;
+        setDataHandler(new DataHandler(new AttachmentContentDataSource(content, contentType, name)));
+    }
+
+    @Override
+    public void writeTo(OutputStream os) throws IOException, MessagingException {
+        Enumeration<String> headerLines = getAllHeaderLines();
+        while (headerLines.hasMoreElements()) {
+            os.write(headerLines.nextElement().getBytes(StandardCharsets.UTF_8));
+            os.write(CRLF);
+        }
+        os.write(CRLF);
+        os.write(attachmentEncodingCache.mimeBase64(content));
+        os.flush();
+    }
+}
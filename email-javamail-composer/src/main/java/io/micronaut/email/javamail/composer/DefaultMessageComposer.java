@@ -16,6 +16,7 @@
 package io.micronaut.email.javamail.composer;
 
 import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.util.CollectionUtils;
 import io.micronaut.core.util.StringUtils;
 import io.micronaut.email.Attachment;
@@ -23,8 +24,11 @@ import io.micronaut.email.Body;
 import io.micronaut.email.BodyType;
 import io.micronaut.email.Contact;
 import io.micronaut.email.Email;
+import io.micronaut.email.encoding.AttachmentEncodingCache;
+import io.micronaut.email.validation.EmailAddresses;
 import jakarta.activation.DataHandler;
 import jakarta.activation.DataSource;
+import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import jakarta.mail.Address;
 import jakarta.mail.Message;
@@ -35,10 +39,11 @@ import jakarta.mail.internet.InternetAddress;
 import jakarta.mail.internet.MimeBodyPart;
 import jakarta.mail.internet.MimeMessage;
 import jakarta.mail.internet.MimeMultipart;
-import jakarta.mail.util.ByteArrayDataSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.UnsupportedEncodingException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -67,6 +72,27 @@ public class DefaultMessageComposer implements MessageComposer {
         BODY_TYPES = m;
     }
 
+    @Nullable
+    private final AttachmentEncodingCache attachmentEncodingCache;
+
+    /**
+     * @deprecated Use {@link #DefaultMessageComposer(AttachmentEncodingCache)} instead.
+     */
+    @Deprecated(since = "2.8.0", forRemoval = true)
+    public DefaultMessageComposer() {
+        this(null);
+    }
+
+    /**
+     *
+     * @param attachmentEncodingCache Attachment encoding cache. If present, cacheable attachments are written with their cached Base64 encoding; other attachments are streamed.
+     * @since 2.8.0
+     */
+    @Inject
+    public DefaultMessageComposer(@Nullable AttachmentEncodingCache attachmentEncodingCache) {
+        this.attachmentEncodingCache = attachmentEncodingCache;
+    }
+
     @Override
     @NonNull
     public Message compose(@NonNull Email email,
@@ -160,9 +186,14 @@ public class DefaultMessageComposer implements MessageComposer {
     }
 
     private MimeBodyPart attachmentBodyPart(@NonNull Attachment attachment) throws MessagingException {
-        MimeBodyPart att = new MimeBodyPart();
-        DataSource fds = new ByteArrayDataSource(attachment.getContent(), attachment.getContentType());
-        att.setDataHandler(new DataHandler(fds));
+        MimeBodyPart att;
+        if (attachmentEncodingCache != null && attachmentEncodingCache.isCacheable(attachment.getAttachmentContent())) {
+            att = new CachedAttachmentBodyPart(attachmentEncodingCache, attachment.getAttachmentContent(), attachment.getContentType(), attachment.getFilename());
+        } else {
+            att = new MimeBodyPart();
+            DataSource fds = new AttachmentContentDataSource(attachment.getAttachmentContent(), attachment.getContentType(), attachment.getFilename());
+            att.setDataHandler(new DataHandler(fds));
+        }
         String reportName = attachment.getFilename();
         att.setFileName(reportName);
         att.setHeader("Content-Type", attachment.getContentType());
@@ -175,11 +206,26 @@ public class DefaultMessageComposer implements MessageComposer {
         return att;
     }
 
+    /**
+     * Builds the address without parsing it again with {@link InternetAddress#parse(String)}. The email is validated and its domain normalized with {@link EmailAddresses}.
+     * @param contact Contact
+     * @return Internet address
+     * @throws AddressException if the contact's email is not valid
+     */
     private InternetAddress contactToAddress(Contact contact) throws AddressException {
+        InternetAddress address = new InternetAddress();
+        try {
+            address.setAddress(EmailAddresses.normalize(contact.getEmail()));
+        } catch (IllegalArgumentException e) {
+            throw new AddressException(e.getMessage(), contact.getEmail());
+        }
         if (StringUtils.isNotEmpty(contact.getName())) {
-            return InternetAddress.parse(contact.getName() + " <" + contact.getEmail() + ">")[0];
-        } else {
-            return InternetAddress.parse(contact.getEmail())[0];
+            try {
+                address.setPersonal(contact.getName(), StandardCharsets.UTF_8.name());
+            } catch (UnsupportedEncodingException e) {
+                throw new AddressException(e.getMessage(), contact.getEmail());
+            }
         }
+        return address;
     }
 }
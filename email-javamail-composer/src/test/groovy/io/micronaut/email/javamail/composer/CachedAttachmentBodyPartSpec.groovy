@@ -0,0 +1,68 @@
+package io.micronaut.email.javamail.composer
+
+import io.micronaut.email.Email
+import io.micronaut.email.encoding.AttachmentEncodingCacheConfigurationProperties
+import io.micronaut.email.encoding.DefaultAttachmentEncodingCache
+import jakarta.mail.Session
+import jakarta.mail.internet.MimeMessage
+import jakarta.mail.internet.MimeMultipart
+import spock.lang.Specification
+
+class CachedAttachmentBodyPartSpec extends Specification {
+
+    void "attachments are written with their cached encoding"() {
+        given:
+        DefaultAttachmentEncodingCache cache = new DefaultAttachmentEncodingCache(new AttachmentEncodingCacheConfigurationProperties())
+        byte[] content = new byte[5000]
+        new Random(1).nextBytes(content)
+        Email email = Email.builder()
+                .from("sender@example.com")
+                .to("receiver@example.com")
+                .subject("Report")
+                .body("Lore ipsum body")
+                .attachment { it.filename("report.pdf").contentType("application/pdf").content(content) }
+                .build()
+        Session session = Session.getInstance(new Properties())
+
+        when:
+        MimeMessage message = new DefaultMessageComposer(cache).compose(email, session) as MimeMessage
+        ByteArrayOutputStream written = new ByteArrayOutputStream()
+        message.writeTo(written)
+        MimeMessage parsed = new MimeMessage(session, new ByteArrayInputStream(written.toByteArray()))
+        def part = (parsed.content as MimeMultipart).getBodyPart(1)
+
+        then:
+        cache.size() > 0
+        "base64" == part.getHeader("Content-Transfer-Encoding")[0]
+        "report.pdf" == part.fileName
+        content == (part.inputStream as InputStream).bytes
+        content == ((message.content as MimeMultipart).getBodyPart(1).content as InputStream).bytes
+    }
+
+    void "attachments which are not cacheable are streamed"() {
+        given:
+        DefaultAttachmentEncodingCache cache = new DefaultAttachmentEncodingCache(new AttachmentEncodingCacheConfigurationProperties(maxSize: 1000))
+        byte[] content = new byte[5000]
+        new Random(1).nextBytes(content)
+        Email email = Email.builder()
+                .from("sender@example.com")
+                .to("receiver@example.com")
+                .subject("Report")
+                .body("Lore ipsum body")
+                .attachment { it.filename("report.pdf").contentType("application/pdf").content(content) }
+                .build()
+        Session session = Session.getInstance(new Properties())
+
+        when:
+        MimeMessage message = new DefaultMessageComposer(cache).compose(email, session) as MimeMessage
+        def part = (message.content as MimeMultipart).getBodyPart(1)
+        ByteArrayOutputStream written = new ByteArrayOutputStream()
+        message.writeTo(written)
+        MimeMessage parsed = new MimeMessage(session, new ByteArrayInputStream(written.toByteArray()))
+
+        then:
+        !(part instanceof CachedAttachmentBodyPart)
+        0 == cache.size()
+        content == ((parsed.content as MimeMultipart).getBodyPart(1).inputStream as InputStream).bytes
+    }
+}
@@ -1,9 +1,12 @@
 package io.micronaut.email.javamail.composer
 
+import io.micronaut.email.Contact
 import io.micronaut.email.Email
 import io.micronaut.test.extensions.spock.annotation.MicronautTest
 import jakarta.inject.Inject
 import jakarta.mail.Message
+import jakarta.mail.internet.AddressException
+import jakarta.mail.internet.InternetAddress
 import jakarta.mail.internet.MimeMultipart
 import spock.lang.Specification
 import spock.lang.Unroll
@@ -177,4 +180,42 @@ class DefaultMessageComposerSpec extends Specification {
         subject == message.getSubject()
         !message.getRecipients(Message.RecipientType.CC)
     }
+
+    void "contact names are kept as they are and domains are normalized"() {
+        given:
+        Email email = Email.builder()
+                .from(new Contact("sender@Example.com", "Snow, John"))
+                .to(new Contact("receiver@bücher.example", "Jürgen"))
+                .subject("Apple Music")
+                .body("Lore ipsum body")
+                .build()
+
+        when:
+        Message message = defaultMessageComposer.compose(email, null)
+        InternetAddress from = message.from[0] as InternetAddress
+        InternetAddress to = message.getRecipients(Message.RecipientType.TO)[0] as InternetAddress
+
+        then:
+        "sender@example.com" == from.address
+        "Snow, John" == from.personal
+        "receiver@xn--bcher-kva.example" == to.address
+        "Jürgen" == to.personal
+    }
+
+    void "invalid addresses fail before the message is composed"() {
+        given:
+        Email email = Email.builder()
+                .from("sender@example.com")
+                .to("receiver@example..com")
+                .subject("Apple Music")
+                .body("Lore ipsum body")
+                .build()
+
+        when:
+        defaultMessageComposer.compose(email, null)
+
+        then:
+        AddressException e = thrown()
+        "receiver@example..com" == e.ref
+    }
 }
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.javamail.sender;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.order.Ordered;
+import io.micronaut.runtime.context.scope.refresh.RefreshEvent;
+import io.micronaut.runtime.context.scope.refresh.RefreshEventListener;
+import jakarta.mail.Session;
+
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * {@link SessionProvider} which creates the {@link Session} once and reuses it for every email.
+ * The session is created again after a {@link RefreshEvent} which changes any of the {@link #getObservedConfigurationPrefixes()}.
+ * Extend this class to opt in to session caching in your own {@link SessionProvider}.
+ *
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+public abstract class CachedSessionProvider implements SessionProvider, RefreshEventListener {
+
+    private volatile Session session;
+
+    @Override
+    @NonNull
+    public Session session() {
+        Session result = session;
+        if (result == null) {
+            synchronized (this) {
+                result = session;
+                if (result == null) {
+                    result = createSession();
+                    session = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Creates the session to be cached.
+     * @return A Session
+     */
+    @NonNull
+    protected abstract Session createSession();
+
+    /**
+     * Discards the cached session. The next invocation of {@link #session()} creates a new one.
+     */
+    public void invalidate() {
+        session = null;
+    }
+
+    @Override
+    public void onApplicationEvent(RefreshEvent event) {
+        invalidate();
+    }
+
+    @Override
+    @NonNull
+    public Set<String> getObservedConfigurationPrefixes() {
+        return Collections.singleton(JavaMailConfigurationProperties.PREFIX);
+    }
+
+    @Override
+    public int getOrder() {
+        // run after the configuration has been rebound
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+}
@@ -26,13 +26,14 @@ import jakarta.mail.Session;
 import java.util.Properties;
 
 /**
+ * Default {@link SessionProvider}. It creates the {@link Session} with the properties supplied by {@link MailPropertiesProvider} once and caches it.
  * @author Sergio del Amo
  * @since 1.0.0
  */
 @Requires(beans = MailPropertiesProvider.class)
 @Secondary
 @Singleton
-public class DefaultSessionProvider implements SessionProvider {
+public class DefaultSessionProvider extends CachedSessionProvider {
     @NonNull
     private final MailPropertiesProvider mailPropertiesProvider;
 
@@ -51,11 +52,11 @@ public class DefaultSessionProvider implements SessionProvider {
 
     @Override
     @NonNull
-    public Session session() {
+    protected Session createSession() {
         Properties props = mailPropertiesProvider.mailProperties();
         if (authenticator != null && !props.containsKey("mail.smtp.auth")) {
             props.setProperty("mail.smtp.auth", "true");
         }
-        return Session.getDefaultInstance(props, authenticator);
+        return Session.getInstance(props, authenticator);
     }
 }
@@ -0,0 +1,233 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.javamail.sender;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.order.Ordered;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.runtime.context.scope.refresh.RefreshEvent;
+import io.micronaut.runtime.context.scope.refresh.RefreshEventListener;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Singleton;
+import jakarta.mail.Address;
+import jakarta.mail.Message;
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.Session;
+import jakarta.mail.Transport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link TransportPool} which keeps a bounded set of connected {@link Transport} per {@link Session}.
+ * Connections are checked when they are returned to the pool with {@link Transport#isConnected()}, which for SMTP issues a NOOP command,
+ * and they are closed once they reach {@link TransportPoolConfiguration#getMaxMessagesPerConnection()} or stay unused longer than {@link TransportPoolConfiguration#getIdleTimeout()}.
+ * Pools are keyed by {@link Session} identity, thus the {@link SessionProvider} should return the same {@link Session} for the same configuration.
+ * When the JavaMail configuration is refreshed, the existing connections are closed.
+ *
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+@Requires(property = JavaMailConfigurationProperties.TransportPoolConfigurationProperties.PREFIX + ".enabled", value = StringUtils.TRUE)
+@Singleton
+public class DefaultTransportPool implements TransportPool, RefreshEventListener {
+    private static final Logger LOG = LoggerFactory.getLogger(DefaultTransportPool.class);
+
+    private final Map<Session, SessionTransports> pools = new ConcurrentHashMap<>();
+    private final int maxSize;
+    private final int maxMessagesPerConnection;
+    private final long idleTimeoutNanos;
+    private final long acquireTimeoutNanos;
+    private volatile boolean closed;
+
+    /**
+     * @param configuration Transport pool configuration
+     */
+    public DefaultTransportPool(TransportPoolConfiguration configuration) {
+        this.maxSize = Math.max(1, configuration.getMaxSize());
+        this.maxMessagesPerConnection = Math.max(1, configuration.getMaxMessagesPerConnection());
+        this.idleTimeoutNanos = configuration.getIdleTimeout().toNanos();
+        this.acquireTimeoutNanos = configuration.getAcquireTimeout().toNanos();
+    }
+
+    @Override
+    public void send(@NonNull Message message) throws MessagingException {
+        Session session = message.getSession();
+        if (session == null || closed) {
+            Transport.send(message);
+            return;
+        }
+        message.saveChanges();
+        Address[] recipients = message.getAllRecipients();
+        if (recipients == null || recipients.length == 0) {
+            throw new SendFailedException("No recipient addresses");
+        }
+        SessionTransports transports = pools.computeIfAbsent(session, SessionTransports::new);
+        PooledTransport pooled = transports.borrow();
+        try {
+            pooled.transport.sendMessage(message, recipients);
+        } finally {
+            transports.release(pooled);
+        }
+    }
+
+    /**
+     * Closes every idle connection. Connections in use are closed when they are returned.
+     */
+    @PreDestroy
+    public void close() {
+        closed = true;
+        retireAll();
+    }
+
+    @Override
+    public void onApplicationEvent(RefreshEvent event) {
+        retireAll();
+    }
+
+    @Override
+    @NonNull
+    public Set<String> getObservedConfigurationPrefixes() {
+        return Collections.singleton(JavaMailConfigurationProperties.PREFIX);
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+
+    private void retireAll() {
+        Iterator<SessionTransports> it = pools.values().iterator();
+        while (it.hasNext()) {
+            SessionTransports transports = it.next();
+            it.remove();
+            transports.retire();
+        }
+    }
+
+    private static void close(@NonNull PooledTransport pooled) {
+        try {
+            pooled.transport.close();
+        } catch (MessagingException e) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("MessagingException closing pooled transport", e);
+            }
+        }
+    }
+
+    /**
+     * Connections of a single session. The semaphore bounds the connections in use plus the idle ones.
+     */
+    private final class SessionTransports {
+        private final Session session;
+        private final Semaphore permits = new Semaphore(maxSize);
+        private final Deque<PooledTransport> idle = new ConcurrentLinkedDeque<>();
+        private volatile boolean retired;
+
+        private SessionTransports(Session session) {
+            this.session = session;
+        }
+
+        @NonNull
+        private PooledTransport borrow() throws MessagingException {
+            try {
+                if (!permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                    throw new MessagingException("Timed out waiting for a pooled transport");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new MessagingException("Interrupted while waiting for a pooled transport", e);
+            }
+            try {
+                long now = System.nanoTime();
+                PooledTransport pooled;
+                while ((pooled = idle.pollFirst()) != null) {
+                    if (now - pooled.lastUsed < idleTimeoutNanos) {
+                        return pooled;
+                    }
+                    close(pooled);
+                }
+                Transport transport = session.getTransport();
+                transport.connect();
+                return new PooledTransport(transport);
+            } catch (MessagingException | RuntimeException e) {
+                permits.release();
+                throw e;
+            }
+        }
+
+        private void release(@NonNull PooledTransport pooled) {
+            try {
+                pooled.messages++;
+                if (retired || pooled.messages >= maxMessagesPerConnection || !pooled.transport.isConnected()) {
+                    close(pooled);
+                } else {
+                    pooled.lastUsed = System.nanoTime();
+                    // LIFO keeps the most recently used connections busy and lets the others expire
+                    idle.offerFirst(pooled);
+                    if (retired && idle.remove(pooled)) {
+                        close(pooled);
+                    }
+                    evictExpired(pooled.lastUsed);
+                }
+            } finally {
+                permits.release();
+            }
+        }
+
+        private void evictExpired(long now) {
+            PooledTransport oldest;
+            while ((oldest = idle.peekLast()) != null && now - oldest.lastUsed >= idleTimeoutNanos) {
+                if (idle.removeLastOccurrence(oldest)) {
+                    close(oldest);
+                }
+            }
+        }
+
+        private void retire() {
+            retired = true;
+            PooledTransport pooled;
+            while ((pooled = idle.pollFirst()) != null) {
+                close(pooled);
+            }
+        }
+    }
+
+    /**
+     * A connected transport and its usage.
+     */
+    private static final class PooledTransport {
+        private final Transport transport;
+        private int messages;
+        private long lastUsed;
+
+        private PooledTransport(Transport transport) {
+            this.transport = transport;
+            this.lastUsed = System.nanoTime();
+        }
+    }
+}
@@ -16,8 +16,10 @@
 package io.micronaut.email.javamail.sender;
 
 import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.convert.format.MapFormat;
+import java.time.Duration;
 import java.util.Map;
 
 /**
@@ -74,4 +76,132 @@ public class JavaMailConfigurationProperties implements JavaMailConfiguration {
     public void setProperties(@MapFormat(transformation = MapFormat.MapTransformation.FLAT) Map<String, Object> properties) {
         this.properties = properties;
     }
+
+    /**
+     * {@link ConfigurationProperties} implementation of {@link TransportPoolConfiguration}.
+     * @since 2.8.0
+     */
+    @ConfigurationProperties("pool")
+    public static class TransportPoolConfigurationProperties implements TransportPoolConfiguration {
+
+        /**
+         * pool prefix.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final String PREFIX = JavaMailConfigurationProperties.PREFIX + ".pool";
+
+        /**
+         * The default enable value.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final boolean DEFAULT_ENABLED = false;
+
+        /**
+         * The default maximum number of connections per session.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final int DEFAULT_MAX_SIZE = 8;
+
+        /**
+         * The default number of messages sent through a connection before it is recycled.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final int DEFAULT_MAX_MESSAGES_PER_CONNECTION = 100;
+
+        /**
+         * The default idle timeout in seconds.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final long DEFAULT_IDLE_TIMEOUT_SECONDS = 30;
+
+        /**
+         * The default acquire timeout in seconds.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final long DEFAULT_ACQUIRE_TIMEOUT_SECONDS = 30;
+
+        private boolean enabled = DEFAULT_ENABLED;
+
+        private int maxSize = DEFAULT_MAX_SIZE;
+
+        private int maxMessagesPerConnection = DEFAULT_MAX_MESSAGES_PER_CONNECTION;
+
+        @NonNull
+        private Duration idleTimeout = Duration.ofSeconds(DEFAULT_IDLE_TIMEOUT_SECONDS);
+
+        @NonNull
+        private Duration acquireTimeout = Duration.ofSeconds(DEFAULT_ACQUIRE_TIMEOUT_SECONDS);
+
+        @Override
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * Whether to reuse connected transports instead of opening a connection per email. Default value: `{@value #DEFAULT_ENABLED}`
+         *
+         * @param enabled True if the transport pool is enabled
+         */
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        @Override
+        public int getMaxSize() {
+            return maxSize;
+        }
+
+        /**
+         * Maximum number of connections opened per session. Default value: `{@value #DEFAULT_MAX_SIZE}`
+         *
+         * @param maxSize Maximum number of connections opened per session
+         */
+        public void setMaxSize(int maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        public int getMaxMessagesPerConnection() {
+            return maxMessagesPerConnection;
+        }
+
+        /**
+         * Number of messages sent through a connection before it is closed and replaced. Default value: `{@value #DEFAULT_MAX_MESSAGES_PER_CONNECTION}`
+         *
+         * @param maxMessagesPerConnection Number of messages sent through a connection before it is recycled
+         */
+        public void setMaxMessagesPerConnection(int maxMessagesPerConnection) {
+            this.maxMessagesPerConnection = maxMessagesPerConnection;
+        }
+
+        @Override
+        @NonNull
+        public Duration getIdleTimeout() {
+            return idleTimeout;
+        }
+
+        /**
+         * Duration a connection may remain unused in the pool before it is closed. Default value: `{@value #DEFAULT_IDLE_TIMEOUT_SECONDS}` seconds
+         *
+         * @param idleTimeout Idle timeout
+         */
+        public void setIdleTimeout(@NonNull Duration idleTimeout) {
+            this.idleTimeout = idleTimeout;
+        }
+
+        @Override
+        @NonNull
+        public Duration getAcquireTimeout() {
+            return acquireTimeout;
+        }
+
+        /**
+         * Maximum duration to wait for a connection when every connection is in use. Default value: `{@value #DEFAULT_ACQUIRE_TIMEOUT_SECONDS}` seconds
+         *
+         * @param acquireTimeout Acquire timeout
+         */
+        public void setAcquireTimeout(@NonNull Duration acquireTimeout) {
+            this.acquireTimeout = acquireTimeout;
+        }
+    }
 }
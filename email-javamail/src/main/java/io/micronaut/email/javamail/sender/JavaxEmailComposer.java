@@ -16,10 +16,13 @@
 package io.micronaut.email.javamail.sender;
 
 import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.email.Email;
 import io.micronaut.email.EmailComposer;
 import io.micronaut.email.EmailException;
 import io.micronaut.email.javamail.composer.MessageComposer;
+import io.micronaut.email.size.EmailSizeLimits;
+import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import jakarta.mail.Message;
 import jakarta.mail.MessagingException;
@@ -41,19 +44,39 @@ public class JavaxEmailComposer implements EmailComposer<Message> {
     private final SessionProvider sessionProvider;
     private final MessageComposer messageComposer;
 
+    @Nullable
+    private final EmailSizeLimits emailSizeLimits;
+
     /**
      * @param sessionProvider Session Provider
      * @param messageComposer Message Composer
+     * @deprecated Use {@link #JavaxEmailComposer(SessionProvider, MessageComposer, EmailSizeLimits)} instead.
      */
+    @Deprecated(since = "2.8.0", forRemoval = true)
     public JavaxEmailComposer(SessionProvider sessionProvider,
                               MessageComposer messageComposer) {
+        this(sessionProvider, messageComposer, null);
+    }
+
+    /**
+     * @param sessionProvider Session Provider
+     * @param messageComposer Message Composer
+     * @param emailSizeLimits Email size limits. If present, emails which exceed them are rejected before they are composed.
+     * @since 2.8.0
+     */
+    @Inject
+    public JavaxEmailComposer(SessionProvider sessionProvider,
+                              MessageComposer messageComposer,
+                              @Nullable EmailSizeLimits emailSizeLimits) {
         this.sessionProvider = sessionProvider;
         this.messageComposer = messageComposer;
+        this.emailSizeLimits = emailSizeLimits;
     }
 
     @Override
     @NonNull
     public Message compose(@NonNull @NotNull @Valid Email email) throws EmailException {
+        EmailSizeLimits.check(emailSizeLimits, JavaxEmailSender.NAME, email);
         Session session = sessionProvider.session();
         try {
             return messageComposer.compose(email, session);
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.javamail.sender;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.email.EmailErrorClassifier;
+import io.micronaut.email.EmailErrorType;
+import jakarta.inject.Singleton;
+import jakarta.mail.AuthenticationFailedException;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.AddressException;
+
+import java.io.IOException;
+
+/**
+ * {@link EmailErrorClassifier} for Jakarta Mail. SMTP implementations use the server reply, such as {@code 451 4.7.1 Try again later}, as the exception message,
+ * thus 4xx replies are classified as {@link EmailErrorType#TRANSIENT} and 5xx replies as {@link EmailErrorType#PERMANENT}.
+ *
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+@Singleton
+public class JavaxEmailErrorClassifier implements EmailErrorClassifier {
+    private static final int REPLY_CODE_LENGTH = 3;
+
+    @Override
+    @NonNull
+    public EmailErrorType classify(@NonNull Throwable throwable) {
+        if (throwable instanceof AuthenticationFailedException || throwable instanceof AddressException) {
+            return EmailErrorType.PERMANENT;
+        }
+        if (throwable instanceof MessagingException) {
+            return classifyReplyCode(throwable.getMessage());
+        }
+        if (throwable instanceof IOException) {
+            return EmailErrorType.TRANSIENT;
+        }
+        return EmailErrorType.UNKNOWN;
+    }
+
+    @NonNull
+    private static EmailErrorType classifyReplyCode(@Nullable String message) {
+        if (message == null || message.length() < REPLY_CODE_LENGTH
+                || (message.length() > REPLY_CODE_LENGTH && message.charAt(REPLY_CODE_LENGTH) != ' ' && message.charAt(REPLY_CODE_LENGTH) != '-')) {
+            return EmailErrorType.UNKNOWN;
+        }
+        for (int i = 0; i < REPLY_CODE_LENGTH; i++) {
+            if (!Character.isDigit(message.charAt(i))) {
+                return EmailErrorType.UNKNOWN;
+            }
+        }
+        return switch (message.charAt(0)) {
+            case '4' -> EmailErrorType.TRANSIENT;
+            case '5' -> EmailErrorType.PERMANENT;
+            default -> EmailErrorType.UNKNOWN;
+        };
+    }
+}
@@ -18,11 +18,15 @@ package io.micronaut.email.javamail.sender;
 import io.micronaut.context.annotation.Requires;
 import io.micronaut.context.annotation.Secondary;
 import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.email.AbstractTransactionalEmailSender;
 import io.micronaut.email.Email;
 import io.micronaut.email.EmailException;
+import io.micronaut.email.execution.SenderExecutors;
 import io.micronaut.email.javamail.composer.MessageComposer;
+import io.micronaut.email.metrics.EmailMetrics;
 import io.micronaut.scheduling.TaskExecutors;
+import jakarta.inject.Inject;
 import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 import jakarta.mail.Message;
@@ -57,14 +61,41 @@ public class JavaxEmailSender extends AbstractTransactionalEmailSender<Message,
 
     private final JavaxEmailComposer javaxEmailComposer;
 
+    @Nullable
+    private final TransportPool transportPool;
+
+    @Nullable
+    private final EmailMetrics emailMetrics;
+
     /**
      * @param executorService    Executor service
      * @param javaxEmailComposer Message Composer
+     * @param transportPool      Transport pool. If null, a new connection is opened for every email.
+     * @param emailMetrics       Email metrics. If null, nothing is recorded.
+     * @param senderExecutors    Sender executors. If null, asynchronous sends run on the executor service.
+     * @since 2.8.0
      */
+    @Inject
     public JavaxEmailSender(@Named(TaskExecutors.IO) ExecutorService executorService,
-                            JavaxEmailComposer javaxEmailComposer) {
-        super(executorService);
+                            JavaxEmailComposer javaxEmailComposer,
+                            @Nullable TransportPool transportPool,
+                            @Nullable EmailMetrics emailMetrics,
+                            @Nullable SenderExecutors senderExecutors) {
+        super(executorService, senderExecutors);
         this.javaxEmailComposer = javaxEmailComposer;
+        this.transportPool = transportPool;
+        this.emailMetrics = emailMetrics;
+    }
+
+    /**
+     * @param executorService    Executor service
+     * @param javaxEmailComposer Message Composer
+     * @deprecated Use {@link JavaxEmailSender#JavaxEmailSender(ExecutorService, JavaxEmailComposer, TransportPool, EmailMetrics, SenderExecutors)}
+     */
+    @Deprecated(since = "2.8.0", forRemoval = true)
+    public JavaxEmailSender(ExecutorService executorService,
+                            JavaxEmailComposer javaxEmailComposer) {
+        this(executorService, javaxEmailComposer, null, null, null);
     }
 
     @Override
@@ -77,9 +108,13 @@ public class JavaxEmailSender extends AbstractTransactionalEmailSender<Message,
     @NonNull
     public Void send(@NonNull @NotNull @Valid Email email,
                      @NonNull @NotNull Consumer<Message> emailRequest) throws EmailException {
-        Message message = javaxEmailComposer.compose(email, emailRequest);
+        Message message = EmailMetrics.compose(emailMetrics, NAME, javaxEmailComposer, email, emailRequest);
         try {
-            Transport.send(message);
+            if (transportPool != null) {
+                transportPool.send(message);
+            } else {
+                Transport.send(message);
+            }
             return null;
         } catch (MessagingException e) {
             if (LOG.isErrorEnabled()) {
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.javamail.sender;
+
+import io.micronaut.core.annotation.NonNull;
+import jakarta.mail.Message;
+import jakarta.mail.MessagingException;
+
+/**
+ * Sends messages through connected {@link jakarta.mail.Transport} instances which are reused across emails instead of
+ * opening a new connection for every email as {@link jakarta.mail.Transport#send(Message)} does.
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+@FunctionalInterface
+public interface TransportPool {
+
+    /**
+     * Sends a message to all the recipient addresses specified in the message.
+     * @param message Message to send
+     * @throws MessagingException if the message could not be sent or no connection could be obtained
+     */
+    void send(@NonNull Message message) throws MessagingException;
+}
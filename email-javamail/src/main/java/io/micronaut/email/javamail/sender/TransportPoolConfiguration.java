@@ -0,0 +1,55 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.javamail.sender;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.util.Toggleable;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the pool of connected {@link jakarta.mail.Transport} used by {@link TransportPool}.
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+public interface TransportPoolConfiguration extends Toggleable {
+
+    /**
+     *
+     * @return Maximum number of connections opened per {@link jakarta.mail.Session}.
+     */
+    int getMaxSize();
+
+    /**
+     *
+     * @return Number of messages sent through a connection before it is closed and replaced.
+     */
+    int getMaxMessagesPerConnection();
+
+    /**
+     *
+     * @return Duration a connection may remain unused in the pool before it is closed.
+     */
+    @NonNull
+    Duration getIdleTimeout();
+
+    /**
+     *
+     * @return Maximum duration to wait for a connection when every connection is in use.
+     */
+    @NonNull
+    Duration getAcquireTimeout();
+}
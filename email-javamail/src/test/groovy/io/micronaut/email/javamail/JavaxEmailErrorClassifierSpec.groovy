@@ -0,0 +1,30 @@
+package io.micronaut.email.javamail
+
+import io.micronaut.email.EmailErrorType
+import io.micronaut.email.javamail.sender.JavaxEmailErrorClassifier
+import jakarta.mail.AuthenticationFailedException
+import jakarta.mail.MessagingException
+import jakarta.mail.SendFailedException
+import jakarta.mail.internet.AddressException
+import spock.lang.Specification
+import spock.lang.Unroll
+
+class JavaxEmailErrorClassifierSpec extends Specification {
+
+    @Unroll
+    void "#description is classified as #errorType"(Throwable throwable, EmailErrorType errorType, String description) {
+        expect:
+        errorType == new JavaxEmailErrorClassifier().classify(throwable)
+
+        where:
+        throwable                                                || errorType                | description
+        new MessagingException('451 4.7.1 Try again later')      || EmailErrorType.TRANSIENT | 'SMTP 4xx reply'
+        new MessagingException('421-4.7.0 Too many connections') || EmailErrorType.TRANSIENT | 'SMTP 4xx multiline reply'
+        new MessagingException('550 5.1.1 User unknown')         || EmailErrorType.PERMANENT | 'SMTP 5xx reply'
+        new AuthenticationFailedException('535 Bad credentials') || EmailErrorType.PERMANENT | 'authentication failure'
+        new AddressException('Illegal address')                  || EmailErrorType.PERMANENT | 'invalid address'
+        new SocketTimeoutException()                             || EmailErrorType.TRANSIENT | 'network timeout'
+        new SendFailedException('Invalid Addresses')             || EmailErrorType.UNKNOWN   | 'message without reply code'
+        new MessagingException('2500 messages')                  || EmailErrorType.UNKNOWN   | 'message starting with a number'
+    }
+}
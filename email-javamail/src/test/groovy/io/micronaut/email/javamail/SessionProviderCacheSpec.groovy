@@ -0,0 +1,48 @@
+package io.micronaut.email.javamail
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.email.javamail.sender.SessionProvider
+import io.micronaut.runtime.context.scope.refresh.RefreshEvent
+import jakarta.mail.Session
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+class SessionProviderCacheSpec extends Specification {
+
+    @AutoCleanup
+    @Shared
+    ApplicationContext applicationContext = ApplicationContext.run([
+            'javamail.properties': ['mail.smtp.host': "smtp.gmail.com",
+                                    "mail.smtp.port": "465"]])
+
+    void "the session is created once and reused"() {
+        given:
+        SessionProvider sessionProvider = applicationContext.getBean(SessionProvider)
+
+        when:
+        Session session = sessionProvider.session()
+
+        then:
+        session.is(sessionProvider.session())
+        "smtp.gmail.com" == session.getProperty("mail.smtp.host")
+    }
+
+    void "the session is created again when the javamail configuration is refreshed"() {
+        given:
+        SessionProvider sessionProvider = applicationContext.getBean(SessionProvider)
+        Session session = sessionProvider.session()
+
+        when:
+        applicationContext.publishEvent(new RefreshEvent(['micronaut.email.from.email': 'sender@example.com']))
+
+        then:
+        session.is(sessionProvider.session())
+
+        when:
+        applicationContext.publishEvent(new RefreshEvent(['javamail.properties.mail.smtp.port': '587']))
+
+        then:
+        !session.is(sessionProvider.session())
+    }
+}
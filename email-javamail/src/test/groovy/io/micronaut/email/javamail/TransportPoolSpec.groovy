@@ -0,0 +1,107 @@
+package io.micronaut.email.javamail
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.email.javamail.sender.TransportPool
+import io.micronaut.email.javamail.sender.TransportPoolConfiguration
+import jakarta.mail.Address
+import jakarta.mail.Message
+import jakarta.mail.MessagingException
+import jakarta.mail.Provider
+import jakarta.mail.Session
+import jakarta.mail.Transport
+import jakarta.mail.URLName
+import jakarta.mail.internet.InternetAddress
+import jakarta.mail.internet.MimeMessage
+import spock.lang.Specification
+
+import java.time.Duration
+import java.util.concurrent.atomic.AtomicInteger
+
+class TransportPoolSpec extends Specification {
+
+    void "transport pool is disabled by default"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run()
+
+        expect:
+        !applicationContext.containsBean(TransportPool)
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "transport pool is configured via configuration"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run([
+                'javamail.pool.enabled': true,
+                'javamail.pool.max-size': 2,
+                'javamail.pool.max-messages-per-connection': 10,
+                'javamail.pool.idle-timeout': '5s',
+                'javamail.pool.acquire-timeout': '1s',
+        ])
+
+        when:
+        TransportPoolConfiguration configuration = applicationContext.getBean(TransportPoolConfiguration)
+
+        then:
+        applicationContext.containsBean(TransportPool)
+        configuration.enabled
+        2 == configuration.maxSize
+        10 == configuration.maxMessagesPerConnection
+        Duration.ofSeconds(5) == configuration.idleTimeout
+        Duration.ofSeconds(1) == configuration.acquireTimeout
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "connections are reused until they reach the maximum number of messages"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run([
+                'javamail.pool.enabled': true,
+                'javamail.pool.max-messages-per-connection': 2,
+        ])
+        TransportPool transportPool = applicationContext.getBean(TransportPool)
+        FakeTransport.CONNECTIONS.set(0)
+        FakeTransport.MESSAGES.set(0)
+        Session session = Session.getInstance(['mail.transport.protocol': 'fake'] as Properties)
+        session.addProvider(new Provider(Provider.Type.TRANSPORT, 'fake', FakeTransport.name, 'micronaut', '1.0'))
+
+        when:
+        3.times {
+            Message message = new MimeMessage(session)
+            message.setFrom('sender@example.com')
+            message.setRecipient(Message.RecipientType.TO, new InternetAddress('receiver@example.com'))
+            message.setSubject('Hello')
+            message.setText('Hello world')
+            transportPool.send(message)
+        }
+
+        then:
+        3 == FakeTransport.MESSAGES.get()
+        2 == FakeTransport.CONNECTIONS.get()
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    static class FakeTransport extends Transport {
+        static final AtomicInteger CONNECTIONS = new AtomicInteger()
+        static final AtomicInteger MESSAGES = new AtomicInteger()
+
+        FakeTransport(Session session, URLName urlname) {
+            super(session, urlname)
+        }
+
+        @Override
+        protected boolean protocolConnect(String host, int port, String user, String password) throws MessagingException {
+            CONNECTIONS.incrementAndGet()
+            true
+        }
+
+        @Override
+        void sendMessage(Message msg, Address[] addresses) throws MessagingException {
+            MESSAGES.incrementAndGet()
+        }
+    }
+}
@@ -18,6 +18,7 @@ package io.micronaut.email.mailjet;
 import com.mailjet.client.MailjetRequest;
 import com.mailjet.client.resource.Emailv31;
 import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.util.CollectionUtils;
 import io.micronaut.email.Attachment;
 import io.micronaut.email.Body;
@@ -26,6 +27,11 @@ import io.micronaut.email.Contact;
 import io.micronaut.email.Email;
 import io.micronaut.email.EmailComposer;
 import io.micronaut.email.EmailException;
+import io.micronaut.email.EmailPrototype;
+import io.micronaut.email.encoding.AttachmentEncodingCache;
+import io.micronaut.email.size.EmailSizeLimits;
+import io.micronaut.email.validation.EmailAddresses;
+import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import org.json.JSONArray;
 import org.json.JSONObject;
@@ -34,7 +40,10 @@ import org.slf4j.LoggerFactory;
 
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
-import java.util.Base64;
+import java.io.IOException;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -47,9 +56,96 @@ public class MailjetEmailComposer implements EmailComposer<MailjetRequest> {
 
     private static final Logger LOG = LoggerFactory.getLogger(MailjetEmailComposer.class);
 
+    @Nullable
+    private final AttachmentEncodingCache attachmentEncodingCache;
+
+    @Nullable
+    private final EmailSizeLimits emailSizeLimits;
+
+    /**
+     * @deprecated Use {@link #MailjetEmailComposer(AttachmentEncodingCache, EmailSizeLimits)} instead.
+     */
+    @Deprecated(since = "2.8.0", forRemoval = true)
+    public MailjetEmailComposer() {
+        this(null, null);
+    }
+
+    /**
+     *
+     * @param attachmentEncodingCache Attachment encoding cache. If present, the Base64 content of attachments is cached.
+     * @param emailSizeLimits Email size limits. If present, emails which exceed them are rejected before they are composed.
+     * @since 2.8.0
+     */
+    @Inject
+    public MailjetEmailComposer(@Nullable AttachmentEncodingCache attachmentEncodingCache,
+                                @Nullable EmailSizeLimits emailSizeLimits) {
+        this.attachmentEncodingCache = attachmentEncodingCache;
+        this.emailSizeLimits = emailSizeLimits;
+    }
+
     @Override
     @NonNull
     public MailjetRequest compose(@NonNull @NotNull @Valid Email email) throws EmailException {
+        JSONArray messages = new JSONArray();
+        messages.put(message(email));
+        return request(messages);
+    }
+
+    /**
+     * Composes a single request which sends every email.
+     * @param emails Emails
+     * @return Mailjet request with a message for each email
+     * @throws EmailException if any email cannot be composed
+     * @since 2.8.0
+     */
+    @NonNull
+    public MailjetRequest compose(@NonNull @NotNull List<@Valid Email> emails) throws EmailException {
+        JSONArray messages = new JSONArray();
+        Map<EmailPrototype, JSONObject> shared = new IdentityHashMap<>();
+        for (Email email : emails) {
+            messages.put(batchMessage(email, shared));
+        }
+        return request(messages);
+    }
+
+    /**
+     * Composes the message of an email sent together with other emails in a single request.
+     * @param email Email
+     * @param shared Attachments of the prototypes of the emails already composed for the same request
+     * @return Mailjet message
+     * @throws EmailException if the email cannot be composed
+     */
+    @NonNull
+    JSONObject batchMessage(@NonNull Email email, @NonNull Map<EmailPrototype, JSONObject> shared) {
+        // emails derived from the same prototype share the attachments, thus they are encoded once
+        EmailPrototype prototype = email.getPrototype();
+        return message(email, prototype == null ? null : shared.computeIfAbsent(prototype, p -> attachments(p.getEmail())));
+    }
+
+    /**
+     * @param messages Mailjet messages
+     * @return Mailjet request which sends every message
+     */
+    @NonNull
+    static MailjetRequest request(@NonNull JSONArray messages) {
+        return new MailjetRequest(Emailv31.resource)
+                .property(Emailv31.MESSAGES, messages);
+    }
+
+    @NonNull
+    private JSONObject message(@NonNull Email email) {
+        return message(email, null);
+    }
+
+    /**
+     * @param email Email
+     * @param attachments Attachments shared with other messages or null to compose the email's attachments
+     * @return Mailjet message
+     */
+    @NonNull
+    private JSONObject message(@NonNull Email email, @Nullable JSONObject attachments) {
+        EmailAddresses.validate(email);
+        EmailSizeLimits.check(emailSizeLimits, MailjetEmailSender.NAME, email);
         JSONObject message = new JSONObject();
         message.put(Emailv31.Message.FROM, createJsonObject(email.getFrom()));
         if (CollectionUtils.isNotEmpty(email.getReplyToCollection())) {
@@ -65,16 +161,23 @@ public class MailjetEmailComposer implements EmailComposer<MailjetRequest> {
             body.get(BodyType.HTML).ifPresent(html -> message.put(Emailv31.Message.HTMLPART, html));
             body.get(BodyType.TEXT).ifPresent(text -> message.put(Emailv31.Message.TEXTPART, text));
         }
-        attachmentsAsJsonArray(email, false).ifPresent(arr -> message.put(Emailv31.Message.ATTACHMENTS, arr));
-        attachmentsAsJsonArray(email, true).ifPresent(arr -> message.put(Emailv31.Message.INLINEDATTACHMENTS, arr));
-        JSONArray messages = new JSONArray();
-        messages.put(message);
-        return new MailjetRequest(Emailv31.resource)
-                .property(Emailv31.MESSAGES, messages);
+        JSONObject emailAttachments = attachments != null ? attachments : attachments(email);
+        for (String key : emailAttachments.keySet()) {
+            message.put(key, emailAttachments.get(key));
+        }
+        return message;
     }
 
     @NonNull
-    private static Optional<JSONArray> attachmentsAsJsonArray(@NonNull Email email, boolean inline) {
+    private JSONObject attachments(@NonNull Email email) {
+        JSONObject attachments = new JSONObject();
+        attachmentsAsJsonArray(email, false).ifPresent(arr -> attachments.put(Emailv31.Message.ATTACHMENTS, arr));
+        attachmentsAsJsonArray(email, true).ifPresent(arr -> attachments.put(Emailv31.Message.INLINEDATTACHMENTS, arr));
+        return attachments;
+    }
+
+    @NonNull
+    private Optional<JSONArray> attachmentsAsJsonArray(@NonNull Email email, boolean inline) {
         if (CollectionUtils.isEmpty(email.getAttachments())) {
             return Optional.empty();
         }
@@ -85,11 +188,15 @@ public class MailjetEmailComposer implements EmailComposer<MailjetRequest> {
     }
 
     @NonNull
-    private static JSONObject attachmentAsJsonObject(@NonNull Attachment attachment) {
-        return new JSONObject().put("ContentType", attachment.getContentType())
-                .put("ContentID", attachment.getId())
-                .put("Filename", attachment.getFilename())
-                .put("Base64Content", Base64.getEncoder().encodeToString(attachment.getContent()));
+    private JSONObject attachmentAsJsonObject(@NonNull Attachment attachment) {
+        try {
+            return new JSONObject().put("ContentType", attachment.getContentType())
+                    .put("ContentID", attachment.getId())
+                    .put("Filename", attachment.getFilename())
+                    .put("Base64Content", AttachmentEncodingCache.base64(attachmentEncodingCache, attachment.getAttachmentContent()));
+        } catch (IOException e) {
+            throw new EmailException(e);
+        }
     }
 
     @NonNull
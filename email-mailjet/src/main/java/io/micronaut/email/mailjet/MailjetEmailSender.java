@@ -22,12 +22,22 @@ import com.mailjet.client.MailjetResponse;
 import com.mailjet.client.errors.MailjetException;
 import io.micronaut.context.annotation.Requires;
 import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.email.AsyncTransactionalEmailSender;
+import io.micronaut.email.BulkSendResult;
+import io.micronaut.email.BulkTransactionalEmailSender;
 import io.micronaut.email.Email;
+import io.micronaut.email.EmailErrorType;
 import io.micronaut.email.EmailException;
+import io.micronaut.email.EmailPrototype;
 import io.micronaut.email.TransactionalEmailSender;
+import io.micronaut.email.metrics.EmailMetrics;
+import jakarta.inject.Inject;
 import jakarta.inject.Named;
 import jakarta.inject.Singleton;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
 import org.reactivestreams.Publisher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -35,10 +45,19 @@ import reactor.core.publisher.Mono;
 
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 
 /**
- * <a href="https://www.mailjet.com">Mailjet</a> implementation of {@link io.micronaut.email.TransactionalEmailSender} and {@link io.micronaut.email.AsyncTransactionalEmailSender}.
+ * <a href="https://www.mailjet.com">Mailjet</a> implementation of {@link io.micronaut.email.TransactionalEmailSender}, {@link io.micronaut.email.AsyncTransactionalEmailSender} and {@link BulkTransactionalEmailSender}.
+ * Bulk results hold the entry of the response's {@code Messages} array for each email.
  * @author Sergio del Amo
  * @since 1.0.0
  */
@@ -46,30 +65,73 @@ import java.util.function.Consumer;
 @Requires(beans = { MailjetConfiguration.class, MailjetEmailComposer.class })
 @Singleton
 public class MailjetEmailSender implements TransactionalEmailSender<MailjetRequest, MailjetResponse>,
-        AsyncTransactionalEmailSender<MailjetRequest, MailjetResponse> {
+        AsyncTransactionalEmailSender<MailjetRequest, MailjetResponse>,
+        BulkTransactionalEmailSender<JSONObject> {
     /**
      * {@link MailjetEmailSender} name.
      */
     @SuppressWarnings("WeakerAccess")
     public static final String NAME = "mailjet";
 
+    /**
+     * Maximum number of messages accepted by a single Send API v3.1 request.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final int MAX_BATCH_SIZE = 50;
+
+    private static final String KEY_MESSAGES = "Messages";
+    private static final String KEY_STATUS = "Status";
+    private static final String KEY_ERRORS = "Errors";
+    private static final String STATUS_SUCCESS = "success";
+
     private static final Logger LOG = LoggerFactory.getLogger(MailjetEmailSender.class);
 
     private final MailjetClient mailjetClient;
     private final MailjetEmailComposer mailjetEmailComposer;
 
+    @Nullable
+    private final EmailMetrics emailMetrics;
+
     /**
      * @param mailjetConfiguration Mailjet Configuration.
      * @param mailjetEmailComposer Mailjet Request Composer
+     * @deprecated Use {@link MailjetEmailSender#MailjetEmailSender(MailjetConfiguration, MailjetEmailComposer, EmailMetrics)}
      */
+    @Deprecated(since = "2.8.0", forRemoval = true)
     public MailjetEmailSender(MailjetConfiguration mailjetConfiguration,
                               MailjetEmailComposer mailjetEmailComposer) {
+        this(mailjetConfiguration, mailjetEmailComposer, null);
+    }
+
+    /**
+     * @param mailjetConfiguration Mailjet Configuration.
+     * @param mailjetEmailComposer Mailjet Request Composer
+     * @param emailMetrics Email metrics. If null, nothing is recorded.
+     * @since 2.8.0
+     */
+    @Inject
+    public MailjetEmailSender(MailjetConfiguration mailjetConfiguration,
+                              MailjetEmailComposer mailjetEmailComposer,
+                              @Nullable EmailMetrics emailMetrics) {
+        this(new MailjetClient(ClientOptions.builder()
+                        .apiKey(mailjetConfiguration.getApiKey())
+                        .apiSecretKey(mailjetConfiguration.getApiSecret())
+                        .build()),
+                mailjetEmailComposer,
+                emailMetrics);
+    }
+
+    /**
+     * @param mailjetClient Mailjet client
+     * @param mailjetEmailComposer Mailjet Request Composer
+     * @param emailMetrics Email metrics. If null, nothing is recorded.
+     */
+    MailjetEmailSender(MailjetClient mailjetClient,
+                       MailjetEmailComposer mailjetEmailComposer,
+                       @Nullable EmailMetrics emailMetrics) {
+        this.mailjetClient = mailjetClient;
         this.mailjetEmailComposer = mailjetEmailComposer;
-        ClientOptions clientOptions = ClientOptions.builder()
-                .apiKey(mailjetConfiguration.getApiKey())
-                .apiSecretKey(mailjetConfiguration.getApiSecret())
-                .build();
-        this.mailjetClient = new MailjetClient(clientOptions);
+        this.emailMetrics = emailMetrics;
     }
 
     @Override
@@ -82,7 +144,7 @@ public class MailjetEmailSender implements TransactionalEmailSender<MailjetReque
     @NonNull
     public MailjetResponse send(@NonNull @NotNull @Valid Email email,
                                 @NonNull @NotNull Consumer<MailjetRequest> emailRequest) throws EmailException {
-        MailjetRequest request = mailjetEmailComposer.compose(email, emailRequest);
+        MailjetRequest request = EmailMetrics.compose(emailMetrics, NAME, mailjetEmailComposer, email, emailRequest);
         try {
             MailjetResponse response = mailjetClient.post(request);
             if (LOG.isTraceEnabled()) {
@@ -99,7 +161,90 @@ public class MailjetEmailSender implements TransactionalEmailSender<MailjetReque
     @NonNull
     public Publisher<MailjetResponse> sendAsync(@NonNull @NotNull @Valid Email email,
                                                 @NonNull @NotNull Consumer<MailjetRequest> emailRequest) throws EmailException {
-        MailjetRequest request = mailjetEmailComposer.compose(email, emailRequest);
+        MailjetRequest request = EmailMetrics.compose(emailMetrics, NAME, mailjetEmailComposer, email, emailRequest);
         return Mono.fromFuture(mailjetClient.postAsync(request));
     }
+
+    @Override
+    @NonNull
+    public CompletionStage<MailjetResponse> sendStage(@NonNull @NotNull @Valid Email email,
+                                                      @NonNull @NotNull Consumer<MailjetRequest> emailRequest) {
+        try {
+            return mailjetClient.postAsync(EmailMetrics.compose(emailMetrics, NAME, mailjetEmailComposer, email, emailRequest));
+        } catch (EmailException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    @Override
+    @NonNull
+    public List<BulkSendResult<JSONObject>> sendAll(@NonNull @NotNull Collection<@Valid Email> emails) throws EmailException {
+        List<BulkSendResult<JSONObject>> results = new ArrayList<>(Collections.nCopies(emails.size(), null));
+        List<Integer> indexes = new ArrayList<>(Math.min(emails.size(), MAX_BATCH_SIZE));
+        List<Email> batch = new ArrayList<>(Math.min(emails.size(), MAX_BATCH_SIZE));
+        JSONArray messages = new JSONArray();
+        Map<EmailPrototype, JSONObject> shared = new IdentityHashMap<>();
+        int index = 0;
+        for (Email email : emails) {
+            // an email which cannot be composed fails on its own instead of failing its batch
+            try {
+                messages.put(mailjetEmailComposer.batchMessage(email, shared));
+                batch.add(email);
+                indexes.add(index);
+            } catch (EmailException e) {
+                results.set(index, BulkSendResult.failure(email, e));
+            }
+            index++;
+            if (batch.size() == MAX_BATCH_SIZE) {
+                sendBatch(batch, messages, indexes, results);
+                messages = new JSONArray();
+            }
+        }
+        if (!batch.isEmpty()) {
+            sendBatch(batch, messages, indexes, results);
+        }
+        return results;
+    }
+
+    private void sendBatch(@NonNull List<Email> batch,
+                           @NonNull JSONArray messages,
+                           @NonNull List<Integer> indexes,
+                           @NonNull List<BulkSendResult<JSONObject>> results) {
+        try {
+            MailjetResponse response = mailjetClient.post(MailjetEmailComposer.request(messages));
+            if (LOG.isTraceEnabled()) {
+                LOG.trace("response status: {}", response.getStatus());
+            }
+            JSONArray responseMessages = new JSONObject(response.getRawResponseContent()).optJSONArray(KEY_MESSAGES);
+            for (int i = 0; i < batch.size(); i++) {
+                JSONObject message = responseMessages != null ? responseMessages.optJSONObject(i) : null;
+                results.set(indexes.get(i), result(batch.get(i), message));
+            }
+        } catch (MailjetException | JSONException e) {
+            failBatch(batch, indexes, new EmailException(e), results);
+        } finally {
+            batch.clear();
+            indexes.clear();
+        }
+    }
+
+    private static void failBatch(@NonNull List<Email> batch,
+                                  @NonNull List<Integer> indexes,
+                                  @NonNull EmailException exception,
+                                  @NonNull List<BulkSendResult<JSONObject>> results) {
+        for (int i = 0; i < batch.size(); i++) {
+            results.set(indexes.get(i), BulkSendResult.failure(batch.get(i), exception));
+        }
+    }
+
+    @NonNull
+    private static BulkSendResult<JSONObject> result(@NonNull Email email, @Nullable JSONObject message) {
+        if (message == null) {
+            return BulkSendResult.failure(email, new EmailException("Mailjet response did not include every message"));
+        }
+        if (!STATUS_SUCCESS.equals(message.optString(KEY_STATUS))) {
+            return new BulkSendResult<>(email, message, new EmailException("Mailjet message status " + message.optString(KEY_STATUS) + ": " + message.opt(KEY_ERRORS), EmailErrorType.PERMANENT));
+        }
+        return BulkSendResult.success(email, message);
+    }
 }
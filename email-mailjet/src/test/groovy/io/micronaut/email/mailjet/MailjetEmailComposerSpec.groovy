@@ -84,4 +84,27 @@ class MailjetEmailComposerSpec extends Specification {
         null          | "inline"     | "InlinedAttachments"
         null          | "attachment" | "Attachments"
     }
+
+    void "several emails are composed into a single request"() {
+        given:
+        List<Email> emails = ["alice", "bob"].collect {
+            Email.builder()
+                    .from("sender@example.com")
+                    .to("${it}@example.com")
+                    .subject("Hello ${it}")
+                    .body("Lore ipsum body")
+                    .build()
+        }
+
+        when:
+        MailjetRequest request = mailjetEmailComposer.compose(emails)
+        Map map = jsonMapper.readValue(request.body, Map)
+
+        then:
+        map["Messages"].size() == 2
+        map["Messages"][0]["To"][0]["Email"] == "alice@example.com"
+        map["Messages"][0]["Subject"] == "Hello alice"
+        map["Messages"][1]["To"][0]["Email"] == "bob@example.com"
+        map["Messages"][1]["Subject"] == "Hello bob"
+    }
 }
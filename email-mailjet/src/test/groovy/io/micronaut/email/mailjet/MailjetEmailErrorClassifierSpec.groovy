@@ -0,0 +1,30 @@
+package io.micronaut.email.mailjet
+
+import com.mailjet.client.errors.MailjetClientCommunicationException
+import com.mailjet.client.errors.MailjetClientRequestException
+import com.mailjet.client.errors.MailjetException
+import com.mailjet.client.errors.MailjetRateLimitException
+import com.mailjet.client.errors.MailjetServerException
+import com.mailjet.client.errors.MailjetUnauthorizedException
+import io.micronaut.email.EmailErrorType
+import spock.lang.Specification
+import spock.lang.Unroll
+
+class MailjetEmailErrorClassifierSpec extends Specification {
+
+    @Unroll
+    void "#throwable is classified as #errorType"(Throwable throwable, EmailErrorType errorType) {
+        expect:
+        errorType == new MailjetEmailErrorClassifier().classify(throwable)
+
+        where:
+        throwable                                                || errorType
+        new MailjetRateLimitException('Too many')                || EmailErrorType.THROTTLED
+        new MailjetServerException('Down')                       || EmailErrorType.TRANSIENT
+        new MailjetClientCommunicationException('Timeout')       || EmailErrorType.TRANSIENT
+        new MailjetUnauthorizedException('Unauthorized')         || EmailErrorType.PERMANENT
+        new MailjetClientRequestException('Bad request', 400)    || EmailErrorType.PERMANENT
+        new MailjetClientRequestException('Bad gateway', 502)    || EmailErrorType.TRANSIENT
+        new MailjetException('Other')                            || EmailErrorType.UNKNOWN
+    }
+}
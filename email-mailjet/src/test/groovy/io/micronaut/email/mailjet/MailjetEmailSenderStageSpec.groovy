@@ -0,0 +1,95 @@
+package io.micronaut.email.mailjet
+
+import com.mailjet.client.ClientOptions
+import com.mailjet.client.MailjetClient
+import com.mailjet.client.MailjetResponse
+import com.sun.net.httpserver.HttpServer
+import io.micronaut.email.BulkSendResult
+import io.micronaut.email.Email
+import org.json.JSONObject
+import spock.lang.Specification
+
+import java.nio.charset.StandardCharsets
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.TimeUnit
+
+class MailjetEmailSenderStageSpec extends Specification {
+
+    HttpServer server
+    int status
+    String requestBody
+    String responseBody = '{"Messages":[{"Status":"success"}]}'
+
+    void setup() {
+        server = HttpServer.create(new InetSocketAddress('localhost', 0), 0)
+        server.createContext('/v3.1/send') { exchange ->
+            requestBody = new String(exchange.requestBody.readAllBytes(), StandardCharsets.UTF_8)
+            byte[] response = responseBody.getBytes(StandardCharsets.UTF_8)
+            exchange.responseHeaders.add('Content-Type', 'application/json')
+            exchange.sendResponseHeaders(status, response.length)
+            exchange.responseBody.write(response)
+            exchange.close()
+        }
+        server.start()
+    }
+
+    void cleanup() {
+        server.stop(0)
+    }
+
+    void "the completion stage completes with the response of the client future"() {
+        given:
+        status = 200
+
+        when:
+        Email email = Email.builder().from('sender@example.com').to('receiver@example.com').subject('Hello').body('Hello world').build()
+        MailjetResponse response = sender().sendStage(email).toCompletableFuture().get(5, TimeUnit.SECONDS)
+
+        then:
+        200 == response.status
+        requestBody.contains('"Subject":"Hello"')
+    }
+
+    void "a server error completes the stage exceptionally"() {
+        given:
+        status = 500
+
+        when:
+        Email email = Email.builder().from('sender@example.com').to('receiver@example.com').subject('Hello').body('Hello world').build()
+        sender().sendStage(email).toCompletableFuture().get(5, TimeUnit.SECONDS)
+
+        then:
+        thrown(ExecutionException)
+    }
+
+    void "an email which cannot be composed fails on its own and the rest of the batch is sent"() {
+        given:
+        status = 200
+        responseBody = '{"Messages":[{"Status":"success"},{"Status":"success"}]}'
+        List<Email> emails = ['alice@example.com', 'not an address', 'bob@example.com'].collect {
+            Email.builder().from('sender@example.com').to(it).subject('Hello').body('Hello world').build()
+        }
+
+        when:
+        List<BulkSendResult<JSONObject>> results = sender().sendAll(emails)
+
+        then:
+        3 == results.size()
+        results[0].success
+        !results[1].success
+        results[1].email.is(emails[1])
+        results[2].success
+        requestBody.contains('alice@example.com')
+        requestBody.contains('bob@example.com')
+        !requestBody.contains('not an address')
+    }
+
+    private MailjetEmailSender sender() {
+        MailjetClient client = new MailjetClient(ClientOptions.builder()
+                .baseUrl("http://localhost:${server.address.port}")
+                .apiKey('api-key')
+                .apiSecretKey('api-secret')
+                .build())
+        new MailjetEmailSender(client, new MailjetEmailComposer(null, null), null)
+    }
+}
@@ -17,6 +17,7 @@ package io.micronaut.email.postmark;
 
 import com.postmarkapp.postmark.client.data.model.message.Message;
 import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.util.CollectionUtils;
 import io.micronaut.email.Attachment;
 import io.micronaut.email.BodyType;
@@ -25,12 +26,19 @@ import io.micronaut.email.Email;
 import io.micronaut.email.EmailComposer;
 import io.micronaut.email.EmailException;
 import io.micronaut.email.TrackLinks;
+import io.micronaut.email.encoding.AttachmentEncodingCache;
+import io.micronaut.email.size.EmailSizeLimits;
+import io.micronaut.email.validation.EmailAddresses;
+import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
+import java.io.IOException;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Consumer;
 import org.slf4j.Logger;
@@ -48,16 +56,41 @@ public class PostmarkEmailComposer implements EmailComposer<Message> {
 
     private final PostmarkConfiguration postmarkConfiguration;
 
+    @Nullable
+    private final AttachmentEncodingCache attachmentEncodingCache;
+
+    @Nullable
+    private final EmailSizeLimits emailSizeLimits;
+
     /**
      * @param postmarkConfiguration Postmark configuration
+     * @deprecated Use {@link #PostmarkEmailComposer(PostmarkConfiguration, AttachmentEncodingCache, EmailSizeLimits)} instead.
      */
+    @Deprecated(since = "2.8.0", forRemoval = true)
     public PostmarkEmailComposer(PostmarkConfiguration postmarkConfiguration) {
+        this(postmarkConfiguration, null, null);
+    }
+
+    /**
+     * @param postmarkConfiguration Postmark configuration
+     * @param attachmentEncodingCache Attachment encoding cache. If present, the Base64 content of attachments is cached.
+     * @param emailSizeLimits Email size limits. If present, emails which exceed them are rejected before they are composed.
+     * @since 2.8.0
+     */
+    @Inject
+    public PostmarkEmailComposer(PostmarkConfiguration postmarkConfiguration,
+                                 @Nullable AttachmentEncodingCache attachmentEncodingCache,
+                                 @Nullable EmailSizeLimits emailSizeLimits) {
         this.postmarkConfiguration = postmarkConfiguration;
+        this.attachmentEncodingCache = attachmentEncodingCache;
+        this.emailSizeLimits = emailSizeLimits;
     }
 
     @Override
     @NonNull
     public Message compose(@NonNull @NotNull @Valid Email email) throws EmailException {
+        EmailAddresses.validate(email);
+        EmailSizeLimits.check(emailSizeLimits, PostmarkEmailSender.NAME, email);
         final Message message = new Message();
         ifNotNullOrElse(email.getFrom().getName(),
             name -> message.setFrom(name, email.getFrom().getEmail()),
@@ -79,10 +112,29 @@ public class PostmarkEmailComposer implements EmailComposer<Message> {
         trackLinks(postmarkConfiguration.getTrackLinks()).ifPresent(message::setTrackLinks);
 
         ifNotNull(email.getAttachments(), validateAttachments().andThen(
-            list -> list.forEach(att -> message.addAttachment(att.getFilename(), att.getContent(), att.getContentType(), att.getId()))));
+            list -> list.forEach(att -> message.addAttachment(attachment(att)))));
         return message;
     }
 
+    /**
+     * Builds the attachment as {@link Message#addAttachment(String, byte[], String, String)} does but encoding the content with the {@link AttachmentEncodingCache}, if any, or {@link io.micronaut.email.AttachmentContent#toBase64()}.
+     * @param attachment Attachment
+     * @return Postmark attachment
+     */
+    @NonNull
+    private Map<String, String> attachment(@NonNull Attachment attachment) {
+        Map<String, String> result = new HashMap<>(6);
+        result.put("Name", attachment.getFilename());
+        try {
+            result.put("Content", AttachmentEncodingCache.base64(attachmentEncodingCache, attachment.getAttachmentContent()));
+        } catch (IOException e) {
+            throw new EmailException(e);
+        }
+        result.put("ContentType", attachment.getContentType());
+        result.put("ContentId", attachment.getId());
+        return result;
+    }
+
     @NonNull
     private Optional<Message.TRACK_LINKS> trackLinks(@NonNull TrackLinks trackLinks) {
         switch (trackLinks) {
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.postmark;
+
+import com.postmarkapp.postmark.client.exception.PostmarkHttpException;
+import com.postmarkapp.postmark.client.exception.TimeoutException;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.email.EmailErrorClassifier;
+import io.micronaut.email.EmailErrorType;
+import jakarta.inject.Singleton;
+
+import java.io.IOException;
+
+/**
+ * {@link EmailErrorClassifier} for the Postmark client, based on the HTTP status of {@link PostmarkHttpException}.
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+@Singleton
+public class PostmarkEmailErrorClassifier implements EmailErrorClassifier {
+    private static final int STATUS_TOO_MANY_REQUESTS = 429;
+    private static final int STATUS_INTERNAL_SERVER_ERROR = 500;
+
+    @Override
+    @NonNull
+    public EmailErrorType classify(@NonNull Throwable throwable) {
+        if (throwable instanceof TimeoutException || throwable instanceof IOException) {
+            return EmailErrorType.TRANSIENT;
+        }
+        if (throwable instanceof PostmarkHttpException httpException && httpException.getStatusCode() != null) {
+            int status = httpException.getStatusCode();
+            if (status == STATUS_TOO_MANY_REQUESTS) {
+                return EmailErrorType.THROTTLED;
+            }
+            return status >= STATUS_INTERNAL_SERVER_ERROR ? EmailErrorType.TRANSIENT : EmailErrorType.PERMANENT;
+        }
+        return EmailErrorType.UNKNOWN;
+    }
+}
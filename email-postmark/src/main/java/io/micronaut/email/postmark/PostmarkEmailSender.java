@@ -22,10 +22,17 @@ import com.postmarkapp.postmark.client.data.model.message.MessageResponse;
 import com.postmarkapp.postmark.client.exception.PostmarkException;
 import io.micronaut.context.annotation.Requires;
 import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.email.AbstractTransactionalEmailSender;
+import io.micronaut.email.BulkSendResult;
+import io.micronaut.email.BulkTransactionalEmailSender;
 import io.micronaut.email.Email;
+import io.micronaut.email.EmailErrorType;
 import io.micronaut.email.EmailException;
+import io.micronaut.email.execution.SenderExecutors;
+import io.micronaut.email.metrics.EmailMetrics;
 import io.micronaut.scheduling.TaskExecutors;
+import jakarta.inject.Inject;
 import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 import org.slf4j.Logger;
@@ -34,11 +41,15 @@ import org.slf4j.LoggerFactory;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.function.Consumer;
 
 /**
- * <a href="https://postmarkapp.com">Postmark</a> implementation of {@link io.micronaut.email.TransactionalEmailSender} and {@link io.micronaut.email.AsyncTransactionalEmailSender}.
+ * <a href="https://postmarkapp.com">Postmark</a> implementation of {@link io.micronaut.email.TransactionalEmailSender}, {@link io.micronaut.email.AsyncTransactionalEmailSender} and {@link BulkTransactionalEmailSender}.
  *
  * @author Sergio del Amo
  * @since 1.0.0
@@ -46,27 +57,57 @@ import java.util.function.Consumer;
 @Named(PostmarkEmailSender.NAME)
 @Requires(beans = { PostmarkConfiguration.class, PostmarkEmailComposer.class })
 @Singleton
-public class PostmarkEmailSender extends AbstractTransactionalEmailSender<Message, MessageResponse> {
+public class PostmarkEmailSender extends AbstractTransactionalEmailSender<Message, MessageResponse>
+        implements BulkTransactionalEmailSender<MessageResponse> {
     /**
      * {@link PostmarkEmailSender} name.
      */
     @SuppressWarnings("WeakerAccess")
     public static final String NAME = "postmark";
+
+    /**
+     * Maximum number of messages accepted by the Postmark batch endpoint.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final int MAX_BATCH_SIZE = 500;
     private static final Logger LOG = LoggerFactory.getLogger(PostmarkEmailSender.class);
     private final ApiClient client;
     private final PostmarkEmailComposer postmarkEmailComposer;
 
+    @Nullable
+    private final EmailMetrics emailMetrics;
+
     /**
      * @param executorService Executor service
      * @param postmarkConfiguration Postmark configuration
      * @param postmarkEmailComposer Postmark Email Composer
+     * @param emailMetrics Email metrics. If null, nothing is recorded.
+     * @param senderExecutors Sender executors. If null, asynchronous sends run on the executor service.
+     * @since 2.8.0
      */
+    @Inject
     public PostmarkEmailSender(@Named(TaskExecutors.IO) ExecutorService executorService,
                                PostmarkConfiguration postmarkConfiguration,
-                               PostmarkEmailComposer postmarkEmailComposer) {
-        super(executorService);
+                               PostmarkEmailComposer postmarkEmailComposer,
+                               @Nullable EmailMetrics emailMetrics,
+                               @Nullable SenderExecutors senderExecutors) {
+        super(executorService, senderExecutors);
         client = Postmark.getApiClient(postmarkConfiguration.getApiToken());
         this.postmarkEmailComposer = postmarkEmailComposer;
+        this.emailMetrics = emailMetrics;
+    }
+
+    /**
+     * @param executorService Executor service
+     * @param postmarkConfiguration Postmark configuration
+     * @param postmarkEmailComposer Postmark Email Composer
+     * @deprecated Use {@link PostmarkEmailSender#PostmarkEmailSender(ExecutorService, PostmarkConfiguration, PostmarkEmailComposer, EmailMetrics, SenderExecutors)}
+     */
+    @Deprecated(since = "2.8.0", forRemoval = true)
+    public PostmarkEmailSender(ExecutorService executorService,
+                               PostmarkConfiguration postmarkConfiguration,
+                               PostmarkEmailComposer postmarkEmailComposer) {
+        this(executorService, postmarkConfiguration, postmarkEmailComposer, null, null);
     }
 
     @Override
@@ -79,7 +120,7 @@ public class PostmarkEmailSender extends AbstractTransactionalEmailSender<Messag
     @NonNull
     public MessageResponse send(@NonNull @NotNull @Valid Email email,
                                 @NonNull @NotNull Consumer<Message> emailRequest) throws EmailException {
-        Message message = postmarkEmailComposer.compose(email, emailRequest);
+        Message message = EmailMetrics.compose(emailMetrics, NAME, postmarkEmailComposer, email, emailRequest);
         try {
             MessageResponse response = client.deliverMessage(message);
             if (LOG.isTraceEnabled()) {
@@ -91,4 +132,64 @@ public class PostmarkEmailSender extends AbstractTransactionalEmailSender<Messag
             throw new EmailException(e);
         }
     }
+
+    @Override
+    @NonNull
+    public List<BulkSendResult<MessageResponse>> sendAll(@NonNull @NotNull Collection<@Valid Email> emails) throws EmailException {
+        List<BulkSendResult<MessageResponse>> results = new ArrayList<>(Collections.nCopies(emails.size(), null));
+        List<Integer> indexes = new ArrayList<>(Math.min(emails.size(), MAX_BATCH_SIZE));
+        List<Message> messages = new ArrayList<>(Math.min(emails.size(), MAX_BATCH_SIZE));
+        List<Email> batch = new ArrayList<>(Math.min(emails.size(), MAX_BATCH_SIZE));
+        int index = 0;
+        for (Email email : emails) {
+            try {
+                messages.add(postmarkEmailComposer.compose(email));
+                batch.add(email);
+                indexes.add(index);
+            } catch (EmailException e) {
+                results.set(index, BulkSendResult.failure(email, e));
+            }
+            index++;
+            if (messages.size() == MAX_BATCH_SIZE) {
+                sendBatch(batch, messages, indexes, results);
+            }
+        }
+        if (!messages.isEmpty()) {
+            sendBatch(batch, messages, indexes, results);
+        }
+        return results;
+    }
+
+    private void sendBatch(@NonNull List<Email> batch,
+                           @NonNull List<Message> messages,
+                           @NonNull List<Integer> indexes,
+                           @NonNull List<BulkSendResult<MessageResponse>> results) {
+        try {
+            List<MessageResponse> responses = client.deliverMessage(messages);
+            for (int i = 0; i < batch.size(); i++) {
+                MessageResponse response = i < responses.size() ? responses.get(i) : null;
+                results.set(indexes.get(i), result(batch.get(i), response));
+            }
+        } catch (PostmarkException | IOException e) {
+            EmailException exception = new EmailException(e);
+            for (int i = 0; i < batch.size(); i++) {
+                results.set(indexes.get(i), BulkSendResult.failure(batch.get(i), exception));
+            }
+        } finally {
+            batch.clear();
+            messages.clear();
+            indexes.clear();
+        }
+    }
+
+    @NonNull
+    private static BulkSendResult<MessageResponse> result(@NonNull Email email, @Nullable MessageResponse response) {
+        if (response == null) {
+            return BulkSendResult.failure(email, new EmailException("Postmark batch response did not include every message"));
+        }
+        if (response.getErrorCode() != null && response.getErrorCode() != 0) {
+            return new BulkSendResult<>(email, response, new EmailException("Postmark error code " + response.getErrorCode() + ": " + response.getMessage(), EmailErrorType.PERMANENT));
+        }
+        return BulkSendResult.success(email, response);
+    }
 }
@@ -0,0 +1,27 @@
+package io.micronaut.email.postmark
+
+import com.postmarkapp.postmark.client.exception.InternalServerException
+import com.postmarkapp.postmark.client.exception.PostmarkException
+import com.postmarkapp.postmark.client.exception.PostmarkHttpException
+import com.postmarkapp.postmark.client.exception.TimeoutException
+import io.micronaut.email.EmailErrorType
+import spock.lang.Specification
+import spock.lang.Unroll
+
+class PostmarkEmailErrorClassifierSpec extends Specification {
+
+    @Unroll
+    void "#throwable is classified as #errorType"(Throwable throwable, EmailErrorType errorType) {
+        expect:
+        errorType == new PostmarkEmailErrorClassifier().classify(throwable)
+
+        where:
+        throwable                                        || errorType
+        new PostmarkHttpException('Too many', 429)       || EmailErrorType.THROTTLED
+        new InternalServerException('Down', 500)         || EmailErrorType.TRANSIENT
+        new TimeoutException('Timeout', 504)             || EmailErrorType.TRANSIENT
+        new PostmarkHttpException('Inactive', 422)       || EmailErrorType.PERMANENT
+        new IOException()                                || EmailErrorType.TRANSIENT
+        new PostmarkException('Unparseable')             || EmailErrorType.UNKNOWN
+    }
+}
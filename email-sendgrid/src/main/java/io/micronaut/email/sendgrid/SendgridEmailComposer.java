@@ -22,6 +22,7 @@ import com.sendgrid.helpers.mail.objects.Attachments;
 import com.sendgrid.helpers.mail.objects.Content;
 import com.sendgrid.helpers.mail.objects.Personalization;
 import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.util.CollectionUtils;
 import io.micronaut.email.Attachment;
 import io.micronaut.email.Body;
@@ -30,12 +31,17 @@ import io.micronaut.email.Contact;
 import io.micronaut.email.Email;
 import io.micronaut.email.EmailComposer;
 import io.micronaut.email.EmailException;
+import io.micronaut.email.encoding.AttachmentEncodingCache;
+import io.micronaut.email.size.EmailSizeLimits;
+import io.micronaut.email.validation.EmailAddresses;
+import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -52,24 +58,130 @@ public class SendgridEmailComposer implements EmailComposer<Request> {
     private static final String CONTENT_TYPE_TEXT_HTML = "text/html";
     private static final String CONTENT_TYPE_TEXT_PLAIN = "text/plain";
 
+    @Nullable
+    private final AttachmentEncodingCache attachmentEncodingCache;
+
+    @Nullable
+    private final EmailSizeLimits emailSizeLimits;
+
+    /**
+     * @deprecated Use {@link #SendgridEmailComposer(AttachmentEncodingCache, EmailSizeLimits)} instead.
+     */
+    @Deprecated(since = "2.8.0", forRemoval = true)
+    public SendgridEmailComposer() {
+        this(null, null);
+    }
+
+    /**
+     *
+     * @param attachmentEncodingCache Attachment encoding cache. If present, the Base64 content of attachments is cached.
+     * @param emailSizeLimits Email size limits. If present, emails which exceed them are rejected before they are composed.
+     * @since 2.8.0
+     */
+    @Inject
+    public SendgridEmailComposer(@Nullable AttachmentEncodingCache attachmentEncodingCache,
+                                 @Nullable EmailSizeLimits emailSizeLimits) {
+        this.attachmentEncodingCache = attachmentEncodingCache;
+        this.emailSizeLimits = emailSizeLimits;
+    }
+
     @Override
     @NonNull
     public Request compose(@NonNull @NotNull @Valid Email email) throws EmailException {
         return createRequest(createMail(email));
     }
 
+    /**
+     * Composes a single request which sends the content of the first email with a personalization, holding the recipients and the subject, for every email.
+     * Emails must have equal {@link #composeContent(Email)} or be derived from the same {@link io.micronaut.email.EmailPrototype} with {@link io.micronaut.email.EmailPrototype#isSubstitutable(Map) substitutable} merge fields.
+     * The content of emails derived from a prototype is composed once from {@link io.micronaut.email.EmailPrototype#getEmail()} and their merge fields are sent as substitutions.
+     * SendGrid substitutes the same value into the HTML and the text parts, thus an email whose merge fields are not substitutable is composed from its own, merged, content.
+     * @param emails Emails
+     * @return SendGrid request
+     * @throws EmailException if the request cannot be composed
+     * @since 2.8.0
+     */
+    @NonNull
+    public Request compose(@NonNull @NotNull List<@Valid Email> emails) throws EmailException {
+        if (emails.isEmpty()) {
+            throw new EmailException("At least one email is required to compose a SendGrid request");
+        }
+        Email first = emails.get(0);
+        boolean substitute = isSubstitutable(first);
+        Mail mail = composeContent(substitute ? first.getPrototype().getEmail() : first);
+        for (Email email : emails) {
+            EmailAddresses.validate(email);
+            EmailSizeLimits.check(emailSizeLimits, SendgridEmailSender.NAME, email);
+            Personalization personalization = createPersonalization(email);
+            if (substitute && email.getMergeFields() != null) {
+                for (Map.Entry<String, String> field : email.getMergeFields().entrySet()) {
+                    personalization.addSubstitution("{{" + field.getKey() + "}}", field.getValue());
+                }
+            }
+            mail.addPersonalization(personalization);
+        }
+        return createRequest(mail);
+    }
+
+    /**
+     * @param email Email
+     * @return Whether the email is derived from a prototype whose content can be sent with the merge fields of the email as substitutions
+     * @since 2.8.0
+     */
+    public boolean isSubstitutable(@NonNull Email email) {
+        return email.getPrototype() != null && email.getPrototype().isSubstitutable(email.getMergeFields());
+    }
+
     @NonNull
     private Mail createMail(@NonNull Email email) {
+        EmailAddresses.validate(email);
+        EmailSizeLimits.check(emailSizeLimits, SendgridEmailSender.NAME, email);
+        Mail mail = composeContent(email);
+        mail.setSubject(email.getSubject());
+        mail.addPersonalization(createPersonalization(email));
+        return mail;
+    }
+
+    /**
+     * Returns a key which is equal for emails which can be sent in a single request with {@link #compose(List)}, without composing them.
+     * It is the prototype of emails derived from a prototype with {@link #isSubstitutable(Email) substitutable} merge fields. Otherwise, it holds
+     * the sender, the reply-to and the content of the email and the identity of its attachments, which are not encoded.
+     * Emails with equal attachments which are different instances have different keys.
+     * @param email Email
+     * @return A key for the parts of the email which are shared by all its recipients
+     * @since 2.8.0
+     */
+    @NonNull
+    public Object contentKey(@NonNull Email email) {
+        if (isSubstitutable(email)) {
+            return email.getPrototype();
+        }
+        Contact replyTo = CollectionUtils.isEmpty(email.getReplyToCollection()) ? null : CollectionUtils.last(email.getReplyToCollection());
+        Content content = contentOfEmail(email).orElse(null);
+        return new ContentKey(email.getFrom(),
+                replyTo,
+                content == null ? null : content.getType(),
+                content == null ? null : content.getValue(),
+                email.getAttachments());
+    }
+
+    /**
+     * Composes the parts of the email which are shared by all its recipients: sender, reply-to, content and attachments.
+     * Emails whose shared parts are equal can be sent in a single request with {@link #compose(List)}.
+     * @param email Email
+     * @return SendGrid mail without subject nor personalizations
+     * @since 2.8.0
+     */
+    @NonNull
+    public Mail composeContent(@NonNull Email email) {
         Mail mail = new Mail();
         mail.setFrom(createForm(email));
-        mail.setSubject(email.getSubject());
         createReplyTo(email).ifPresent(mail::setReplyTo);
-        mail.addPersonalization(createPersonalization(email));
         contentOfEmail(email).ifPresent(mail::addContent);
 
         if (email.getAttachments() != null) {
             for (Attachment att : email.getAttachments()) {
-                mail.addAttachments(new Attachments.Builder(att.getFilename(), new ByteArrayInputStream(att.getContent()))
+                mail.addAttachments(new Attachments.Builder(att.getFilename(), base64Content(att))
                         .withType(att.getContentType())
                         .withContentId(att.getId())
                         .withDisposition(att.getDisposition())
@@ -79,6 +191,15 @@ public class SendgridEmailComposer implements EmailComposer<Request> {
         return mail;
     }
 
+    @NonNull
+    private String base64Content(@NonNull Attachment attachment) {
+        try {
+            return AttachmentEncodingCache.base64(attachmentEncodingCache, attachment.getAttachmentContent());
+        } catch (IOException e) {
+            throw new EmailException(e);
+        }
+    }
+
     @NonNull
     private Optional<com.sendgrid.helpers.mail.objects.Email> createReplyTo(@NonNull Email email) {
         if (CollectionUtils.isEmpty(email.getReplyToCollection())) {
@@ -168,4 +289,19 @@ public class SendgridEmailComposer implements EmailComposer<Request> {
         str = body.get(BodyType.TEXT);
         return str.map(s -> new Content(CONTENT_TYPE_TEXT_PLAIN, s));
     }
+
+    /**
+     * Parts of an email which are shared by all its recipients. {@link Attachment} does not override {@link Object#equals(Object)}, thus attachments are compared by identity.
+     * @param from Sender
+     * @param replyTo The last reply-to, the only one sent to SendGrid
+     * @param contentType Content type of the body
+     * @param content Body
+     * @param attachments Attachments
+     */
+    private record ContentKey(@Nullable Contact from,
+                              @Nullable Contact replyTo,
+                              @Nullable String contentType,
+                              @Nullable String content,
+                              @Nullable List<Attachment> attachments) {
+    }
 }
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.sendgrid;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.email.EmailErrorClassifier;
+import io.micronaut.email.EmailErrorType;
+import jakarta.inject.Singleton;
+
+import java.io.IOException;
+
+/**
+ * {@link EmailErrorClassifier} for the SendGrid client. The client signals network failures with {@link IOException} and returns HTTP errors as responses,
+ * which {@link SendgridEmailSender} classifies with {@link #classify(int)}.
+ *
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+@Singleton
+public class SendgridEmailErrorClassifier implements EmailErrorClassifier {
+    private static final int STATUS_MULTIPLE_CHOICES = 300;
+    private static final int STATUS_TOO_MANY_REQUESTS = 429;
+    private static final int STATUS_INTERNAL_SERVER_ERROR = 500;
+
+    @Override
+    @NonNull
+    public EmailErrorType classify(@NonNull Throwable throwable) {
+        return throwable instanceof IOException ? EmailErrorType.TRANSIENT : EmailErrorType.UNKNOWN;
+    }
+
+    /**
+     * Classifies a SendGrid response status.
+     * @param statusCode HTTP status code
+     * @return The error type or {@link EmailErrorType#UNKNOWN} if the status is not an error
+     */
+    @NonNull
+    public static EmailErrorType classify(int statusCode) {
+        if (statusCode < STATUS_MULTIPLE_CHOICES) {
+            return EmailErrorType.UNKNOWN;
+        }
+        if (statusCode == STATUS_TOO_MANY_REQUESTS) {
+            return EmailErrorType.THROTTLED;
+        }
+        return statusCode >= STATUS_INTERNAL_SERVER_ERROR ? EmailErrorType.TRANSIENT : EmailErrorType.PERMANENT;
+    }
+}
@@ -21,10 +21,16 @@ import com.sendgrid.Response;
 import com.sendgrid.SendGrid;
 import io.micronaut.context.annotation.Requires;
 import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.email.AsyncTransactionalEmailSender;
+import io.micronaut.email.BulkSendResult;
+import io.micronaut.email.BulkTransactionalEmailSender;
 import io.micronaut.email.Email;
+import io.micronaut.email.EmailErrorType;
 import io.micronaut.email.EmailException;
 import io.micronaut.email.TransactionalEmailSender;
+import io.micronaut.email.metrics.EmailMetrics;
+import jakarta.inject.Inject;
 import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 import org.reactivestreams.Publisher;
@@ -35,11 +41,20 @@ import reactor.core.publisher.Mono;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
- * <a href="https://sendgrid.com">SendGrid</a> implementation of {@link io.micronaut.email.TransactionalEmailSender} and {@link io.micronaut.email.AsyncTransactionalEmailSender} .
+ * <a href="https://sendgrid.com">SendGrid</a> implementation of {@link io.micronaut.email.TransactionalEmailSender}, {@link io.micronaut.email.AsyncTransactionalEmailSender} and {@link BulkTransactionalEmailSender}.
+ * Bulk sends group the emails which only differ in recipients and subject into a single request with a personalization per email.
  * @author Sergio del Amo
  * @since 1.0.0
  */
@@ -47,25 +62,63 @@ import java.util.stream.Collectors;
 @Named(SendgridEmailSender.NAME)
 @Singleton
 public class SendgridEmailSender implements TransactionalEmailSender<Request, Response>,
-        AsyncTransactionalEmailSender<Request, Response> {
+        AsyncTransactionalEmailSender<Request, Response>,
+        BulkTransactionalEmailSender<Response> {
     /**
      * {@link SendgridEmailSender} name.
      */
     @SuppressWarnings("WeakerAccess")
     public static final String NAME = "sendgrid";
+
+    /**
+     * Maximum number of recipients, across every personalization, accepted by a single Mail Send request.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final int MAX_RECIPIENTS_PER_REQUEST = 1000;
+    private static final int STATUS_MULTIPLE_CHOICES = 300;
     private static final Logger LOG = LoggerFactory.getLogger(SendgridEmailSender.class);
 
     private final SendGrid sendGrid;
     private final SendgridEmailComposer sendgridEmailComposer;
 
+    @Nullable
+    private final EmailMetrics emailMetrics;
+
     /**
      * @param sendGridConfiguration SendGrid Configuration
      * @param sendgridEmailComposer SendGrid Email composer
+     * @param emailMetrics Email metrics. If null, nothing is recorded.
+     * @since 2.8.0
      */
+    @Inject
     public SendgridEmailSender(SendGridConfiguration sendGridConfiguration,
-                               SendgridEmailComposer sendgridEmailComposer) {
-        sendGrid = new SendGrid(sendGridConfiguration.getApiKey());
+                               SendgridEmailComposer sendgridEmailComposer,
+                               @Nullable EmailMetrics emailMetrics) {
+        this(new SendGrid(sendGridConfiguration.getApiKey()), sendgridEmailComposer, emailMetrics);
+    }
+
+    /**
+     * @param sendGrid SendGrid client
+     * @param sendgridEmailComposer SendGrid Email composer
+     * @param emailMetrics Email metrics. If null, nothing is recorded.
+     */
+    SendgridEmailSender(SendGrid sendGrid,
+                        SendgridEmailComposer sendgridEmailComposer,
+                        @Nullable EmailMetrics emailMetrics) {
+        this.sendGrid = sendGrid;
         this.sendgridEmailComposer = sendgridEmailComposer;
+        this.emailMetrics = emailMetrics;
+    }
+
+    /**
+     * @param sendGridConfiguration SendGrid Configuration
+     * @param sendgridEmailComposer SendGrid Email composer
+     * @deprecated Use {@link SendgridEmailSender#SendgridEmailSender(SendGridConfiguration, SendgridEmailComposer, EmailMetrics)}
+     */
+    @Deprecated(since = "2.8.0", forRemoval = true)
+    public SendgridEmailSender(SendGridConfiguration sendGridConfiguration,
+                               SendgridEmailComposer sendgridEmailComposer) {
+        this(sendGridConfiguration, sendgridEmailComposer, null);
     }
 
     @Override
@@ -82,9 +135,14 @@ public class SendgridEmailSender implements TransactionalEmailSender<Request, Re
             if (LOG.isTraceEnabled()) {
                 LOG.trace("Sending email to {}", email.getTo());
             }
-            return send(sendgridEmailComposer.compose(email, emailRequest));
+            Response response = send(EmailMetrics.compose(emailMetrics, NAME, sendgridEmailComposer, email, emailRequest));
+            EmailException exception = retryableFailure(response);
+            if (exception != null) {
+                throw exception;
+            }
+            return response;
         } catch (IOException ex) {
-            throw new EmailException(ex);
+            throw new EmailException(ex, EmailErrorType.TRANSIENT);
         }
     }
 
@@ -106,18 +164,123 @@ public class SendgridEmailSender implements TransactionalEmailSender<Request, Re
     @NonNull
     public Publisher<Response> sendAsync(@NonNull @NotNull @Valid Email email,
                                          @NonNull @NotNull Consumer<Request> emailRequest) throws EmailException {
-        return Mono.create(callback -> {
-            sendGrid.attempt(sendgridEmailComposer.compose(email, emailRequest), new APICallback() {
+        return Mono.fromCompletionStage(() -> sendStage(email, emailRequest));
+    }
+
+    @Override
+    @NonNull
+    public CompletionStage<Response> sendStage(@NonNull @NotNull @Valid Email email,
+                                               @NonNull @NotNull Consumer<Request> emailRequest) {
+        CompletableFuture<Response> future = new CompletableFuture<>();
+        try {
+            sendGrid.attempt(EmailMetrics.compose(emailMetrics, NAME, sendgridEmailComposer, email, emailRequest), new APICallback() {
                 @Override
                 public void error(Exception ex) {
-                    callback.error(ex);
+                    future.completeExceptionally(ex);
                 }
 
                 @Override
                 public void response(Response response) {
-                    callback.success(response);
+                    EmailException exception = retryableFailure(response);
+                    if (exception != null) {
+                        future.completeExceptionally(exception);
+                    } else {
+                        future.complete(response);
+                    }
                 }
             });
-        });
+        } catch (EmailException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    @Override
+    @NonNull
+    public List<BulkSendResult<Response>> sendAll(@NonNull @NotNull Collection<@Valid Email> emails) throws EmailException {
+        List<BulkSendResult<Response>> results = new ArrayList<>(Collections.nCopies(emails.size(), null));
+        // emails are grouped without composing them, the content of every group is composed once
+        Map<Object, List<Integer>> groups = new LinkedHashMap<>();
+        List<Email> emailList = new ArrayList<>(emails);
+        for (int i = 0; i < emailList.size(); i++) {
+            groups.computeIfAbsent(sendgridEmailComposer.contentKey(emailList.get(i)), k -> new ArrayList<>()).add(i);
+        }
+        for (List<Integer> group : groups.values()) {
+            List<Integer> batch = new ArrayList<>();
+            int recipients = 0;
+            for (Integer index : group) {
+                int emailRecipients = recipients(emailList.get(index));
+                if (!batch.isEmpty() && recipients + emailRecipients > MAX_RECIPIENTS_PER_REQUEST) {
+                    sendBatch(emailList, batch, results);
+                    recipients = 0;
+                }
+                batch.add(index);
+                recipients += emailRecipients;
+            }
+            sendBatch(emailList, batch, results);
+        }
+        return results;
+    }
+
+    private void sendBatch(@NonNull List<Email> emails,
+                           @NonNull List<Integer> batch,
+                           @NonNull List<BulkSendResult<Response>> results) {
+        List<Email> batchEmails = new ArrayList<>(batch.size());
+        for (Integer index : batch) {
+            batchEmails.add(emails.get(index));
+        }
+        try {
+            Response response = send(sendgridEmailComposer.compose(batchEmails));
+            EmailException exception = response.getStatusCode() >= STATUS_MULTIPLE_CHOICES ? failure(response) : null;
+            for (Integer index : batch) {
+                results.set(index, new BulkSendResult<>(emails.get(index), response, exception));
+            }
+        } catch (IOException e) {
+            failBatch(emails, batch, new EmailException(e, EmailErrorType.TRANSIENT), results);
+        } catch (EmailException e) {
+            failBatch(emails, batch, e, results);
+        } finally {
+            batch.clear();
+        }
+    }
+
+    /**
+     * SendGrid returns HTTP errors as responses. Throttling and server errors are surfaced as exceptions, so that they are not mistaken for sent emails,
+     * whereas other errors are returned to the caller as before.
+     * @param response SendGrid response
+     * @return An exception if the response status is retryable, otherwise null
+     */
+    @Nullable
+    private static EmailException retryableFailure(@NonNull Response response) {
+        return SendgridEmailErrorClassifier.classify(response.getStatusCode()).isRetryable() ? failure(response) : null;
+    }
+
+    @NonNull
+    private static EmailException failure(@NonNull Response response) {
+        return new EmailException("SendGrid status code " + response.getStatusCode() + ": " + response.getBody(),
+                SendgridEmailErrorClassifier.classify(response.getStatusCode()));
+    }
+
+    private static void failBatch(@NonNull List<Email> emails,
+                                  @NonNull List<Integer> batch,
+                                  @NonNull EmailException exception,
+                                  @NonNull List<BulkSendResult<Response>> results) {
+        for (Integer index : batch) {
+            results.set(index, BulkSendResult.failure(emails.get(index), exception));
+        }
+    }
+
+    private static int recipients(@NonNull Email email) {
+        int recipients = 0;
+        if (email.getTo() != null) {
+            recipients += email.getTo().size();
+        }
+        if (email.getCc() != null) {
+            recipients += email.getCc().size();
+        }
+        if (email.getBcc() != null) {
+            recipients += email.getBcc().size();
+        }
+        return Math.max(1, recipients);
     }
 }
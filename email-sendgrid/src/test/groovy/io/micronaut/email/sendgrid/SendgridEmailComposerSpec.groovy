@@ -2,7 +2,10 @@ package io.micronaut.email.sendgrid
 
 import com.sendgrid.Request
 import io.micronaut.json.JsonMapper
+import io.micronaut.email.Attachment
+import io.micronaut.email.Contact
 import io.micronaut.email.Email
+import io.micronaut.email.EmailPrototype
 import io.micronaut.test.extensions.spock.annotation.MicronautTest
 import jakarta.inject.Inject
 import spock.lang.Specification
@@ -90,4 +93,94 @@ class SendgridEmailComposerSpec extends Specification {
         null          | "inline"
         null          | "attachment"
     }
+
+    void "emails with the same content are composed into a single request with a personalization per email"() {
+        given:
+        List<Email> emails = ["alice", "bob"].collect {
+            Email.builder()
+                    .from("sender@example.com")
+                    .to("${it}@example.com")
+                    .subject("Hello ${it}")
+                    .body("Lore ipsum body")
+                    .build()
+        }
+
+        expect:
+        sendgridEmailComposer.composeContent(emails[0]) == sendgridEmailComposer.composeContent(emails[1])
+        sendgridEmailComposer.contentKey(emails[0]) == sendgridEmailComposer.contentKey(emails[1])
+
+        when:
+        Request request = sendgridEmailComposer.compose(emails)
+        Map map = jsonMapper.readValue(request.body, Map)
+
+        then:
+        !map["subject"]
+        map["personalizations"].size() == 2
+        map["personalizations"][0]["to"][0]["email"] == "alice@example.com"
+        map["personalizations"][0]["subject"] == "Hello alice"
+        map["personalizations"][1]["to"][0]["email"] == "bob@example.com"
+        map["personalizations"][1]["subject"] == "Hello bob"
+        map["content"][0]["value"] == "Lore ipsum body"
+    }
+
+    void "emails derived from a prototype share the content and send the merge fields as substitutions"() {
+        given:
+        EmailPrototype prototype = EmailPrototype.of(Email.builder()
+                .from("sender@example.com")
+                .subject("Hello {{name}}")
+                .body("Hi {{name}}, lore ipsum body"))
+        List<Email> emails = ["alice", "bob"].collect {
+            prototype.email(new Contact("${it}@example.com"), [name: it])
+        }
+
+        when:
+        Request request = sendgridEmailComposer.compose(emails)
+        Map map = jsonMapper.readValue(request.body, Map)
+
+        then:
+        map["personalizations"].size() == 2
+        map["personalizations"][0]["subject"] == "Hello alice"
+        map["personalizations"][0]["substitutions"] == ["{{name}}": "alice"]
+        map["personalizations"][1]["subject"] == "Hello bob"
+        map["personalizations"][1]["substitutions"] == ["{{name}}": "bob"]
+        map["content"][0]["value"] == "Hi {{name}}, lore ipsum body"
+    }
+
+    void "emails derived from a prototype whose merge fields are escaped in the HTML part are composed from their own content"() {
+        given:
+        EmailPrototype prototype = EmailPrototype.of(Email.builder()
+                .from("sender@example.com")
+                .subject("Hello {{name}}")
+                .body("<p>Hi {{name}}</p>", "Hi {{name}}"))
+        Email email = prototype.email(new Contact("mallory@example.com"), [name: "<b>Mallory</b>"])
+
+        when:
+        Request request = sendgridEmailComposer.compose([email])
+        Map map = jsonMapper.readValue(request.body, Map)
+
+        then:
+        !sendgridEmailComposer.isSubstitutable(email)
+        map["personalizations"][0]["substitutions"] == null
+        map["content"]*.value == ["<p>Hi &lt;b&gt;Mallory&lt;/b&gt;</p>"]
+    }
+
+    void "emails are grouped by content key without encoding their attachments"() {
+        given:
+        Attachment terms = Attachment.builder().filename("terms.txt").contentType("text/plain").content("terms".bytes).build()
+        Closure<Email> email = { String body, Attachment attachment ->
+            Email.builder()
+                    .from("sender@example.com")
+                    .to("receiver@example.com")
+                    .subject("Hello")
+                    .body(body)
+                    .attachment(attachment)
+                    .build()
+        }
+
+        expect:
+        sendgridEmailComposer.contentKey(email("Lore ipsum body", terms)) == sendgridEmailComposer.contentKey(email("Lore ipsum body", terms))
+        sendgridEmailComposer.contentKey(email("Lore ipsum body", terms)) != sendgridEmailComposer.contentKey(email("Other body", terms))
+        sendgridEmailComposer.contentKey(email("Lore ipsum body", terms)) != sendgridEmailComposer.contentKey(email("Lore ipsum body",
+                Attachment.builder().filename("terms.txt").contentType("text/plain").content("terms".bytes).build()))
+    }
 }
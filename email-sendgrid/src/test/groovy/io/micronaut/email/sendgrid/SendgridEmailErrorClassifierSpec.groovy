@@ -0,0 +1,27 @@
+package io.micronaut.email.sendgrid
+
+import io.micronaut.email.EmailErrorType
+import spock.lang.Specification
+import spock.lang.Unroll
+
+class SendgridEmailErrorClassifierSpec extends Specification {
+
+    @Unroll
+    void "status #status is classified as #errorType"(int status, EmailErrorType errorType) {
+        expect:
+        errorType == SendgridEmailErrorClassifier.classify(status)
+
+        where:
+        status || errorType
+        202    || EmailErrorType.UNKNOWN
+        400    || EmailErrorType.PERMANENT
+        429    || EmailErrorType.THROTTLED
+        503    || EmailErrorType.TRANSIENT
+    }
+
+    void "network failures are transient"() {
+        expect:
+        EmailErrorType.TRANSIENT == new SendgridEmailErrorClassifier().classify(new IOException())
+        EmailErrorType.UNKNOWN == new SendgridEmailErrorClassifier().classify(new IllegalStateException())
+    }
+}
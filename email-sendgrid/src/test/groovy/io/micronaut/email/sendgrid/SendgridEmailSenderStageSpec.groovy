@@ -0,0 +1,67 @@
+package io.micronaut.email.sendgrid
+
+import com.sendgrid.Response
+import com.sendgrid.SendGrid
+import com.sun.net.httpserver.HttpServer
+import io.micronaut.email.Email
+import io.micronaut.email.EmailErrorType
+import io.micronaut.email.EmailException
+import spock.lang.Specification
+
+import java.nio.charset.StandardCharsets
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.TimeUnit
+
+class SendgridEmailSenderStageSpec extends Specification {
+
+    HttpServer server
+    int status
+    String requestBody
+
+    void setup() {
+        server = HttpServer.create(new InetSocketAddress('localhost', 0), 0)
+        server.createContext('/v3/mail/send') { exchange ->
+            requestBody = new String(exchange.requestBody.readAllBytes(), StandardCharsets.UTF_8)
+            exchange.sendResponseHeaders(status, -1)
+            exchange.close()
+        }
+        server.start()
+    }
+
+    void cleanup() {
+        server.stop(0)
+    }
+
+    void "the completion stage completes with the response of the callback"() {
+        given:
+        status = 202
+
+        when:
+        Email email = Email.builder().from('sender@example.com').to('receiver@example.com').subject('Hello').body('Hello world').build()
+        Response response = sender().sendStage(email).toCompletableFuture().get(5, TimeUnit.SECONDS)
+
+        then:
+        202 == response.statusCode
+        requestBody.contains('"subject":"Hello"')
+    }
+
+    void "a retryable status completes the stage exceptionally"() {
+        given:
+        status = 503
+
+        when:
+        Email email = Email.builder().from('sender@example.com').to('receiver@example.com').subject('Hello').body('Hello world').build()
+        sender().sendStage(email).toCompletableFuture().get(5, TimeUnit.SECONDS)
+
+        then:
+        ExecutionException e = thrown()
+        e.cause instanceof EmailException
+        EmailErrorType.TRANSIENT == (e.cause as EmailException).errorType
+    }
+
+    private SendgridEmailSender sender() {
+        SendGrid sendGrid = new SendGrid('api-key', true)
+        sendGrid.host = "localhost:${server.address.port}"
+        new SendgridEmailSender(sendGrid, new SendgridEmailComposer(null, null), null)
+    }
+}
@@ -19,8 +19,11 @@ import io.micronaut.context.annotation.Requires;
 import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.annotation.Nullable;
 import io.micronaut.email.BodyType;
+import io.micronaut.email.metrics.EmailMetrics;
+import io.micronaut.email.metrics.EmailPhase;
 import io.micronaut.views.ViewsRenderer;
 import io.micronaut.views.ViewsRendererLocator;
+import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -28,6 +31,7 @@ import java.util.Optional;
 
 /**
  * {@link io.micronaut.context.annotation.DefaultImplementation} of {@link TemplateBodyDecorator}.
+ * If there is an {@link EmailMetrics} bean, the time spent rendering every template is recorded for the sender which sends the email.
  * @author Sergio del Amo
  * @since 1.0.0
  */
@@ -41,12 +45,30 @@ public class DefaultTemplateBodyDecorator implements TemplateBodyDecorator {
 
     private final ViewsRendererLocator viewsRendererLocator;
 
+    @Nullable
+    private final EmailMetrics emailMetrics;
+
     /**
      *
      * @param viewsRendererLocator ViewRendererLocator
+     * @param emailMetrics Email metrics. If null, nothing is recorded.
+     * @since 2.8.0
      */
-    public DefaultTemplateBodyDecorator(ViewsRendererLocator viewsRendererLocator) {
+    @Inject
+    public DefaultTemplateBodyDecorator(ViewsRendererLocator viewsRendererLocator,
+                                        @Nullable EmailMetrics emailMetrics) {
         this.viewsRendererLocator = viewsRendererLocator;
+        this.emailMetrics = emailMetrics;
+    }
+
+    /**
+     *
+     * @param viewsRendererLocator ViewRendererLocator
+     * @deprecated Use {@link DefaultTemplateBodyDecorator#DefaultTemplateBodyDecorator(ViewsRendererLocator, EmailMetrics)}
+     */
+    @Deprecated(since = "2.8.0", forRemoval = true)
+    public DefaultTemplateBodyDecorator(ViewsRendererLocator viewsRendererLocator) {
+        this(viewsRendererLocator, null);
     }
 
     @Override
@@ -54,6 +76,20 @@ public class DefaultTemplateBodyDecorator implements TemplateBodyDecorator {
         return LOG;
     }
 
+    @Override
+    public void renderBody(@NonNull TemplateBody<?> body, @NonNull BodyType bodyType, @Nullable String senderName) {
+        if (emailMetrics == null) {
+            renderBody(body, bodyType);
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            renderBody(body, bodyType);
+        } finally {
+            emailMetrics.recordPhase(senderName, EmailPhase.RENDER, System.nanoTime() - start);
+        }
+    }
+
     @Override
     @NonNull
     public Optional<ViewsRenderer> resolveViewsRenderer(@NonNull BodyType bodyType,
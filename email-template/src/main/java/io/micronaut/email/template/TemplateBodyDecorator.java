@@ -56,27 +56,48 @@ public interface TemplateBodyDecorator extends EmailDecorator {
 
     @Override
     default void decorate(@NonNull @NotNull Email.Builder emailBuilder) {
+        decorate(emailBuilder, null);
+    }
+
+    @Override
+    default void decorate(@NonNull @NotNull Email.Builder emailBuilder, @Nullable String senderName) {
         Optional<Body> optionalBody = emailBuilder.getBody();
         if (optionalBody.isPresent()) {
             Body body = optionalBody.get();
             if (body instanceof TemplateBody) {
                 if (body.get(BodyType.HTML).isPresent()) {
-                    renderBody((TemplateBody<?>) body, BodyType.HTML);
+                    renderBody((TemplateBody<?>) body, BodyType.HTML, senderName);
                 } else if (body.get(BodyType.TEXT).isPresent()) {
-                    renderBody((TemplateBody<?>) body, BodyType.TEXT);
+                    renderBody((TemplateBody<?>) body, BodyType.TEXT, senderName);
                 }
             } else if (body instanceof MultipartBody) {
                 MultipartBody multipartBody = (MultipartBody) body;
                 if (multipartBody.getHtml() instanceof TemplateBody) {
-                    renderBody((TemplateBody<?>) multipartBody.getHtml(), BodyType.HTML);
+                    renderBody((TemplateBody<?>) multipartBody.getHtml(), BodyType.HTML, senderName);
                 }
                 if (multipartBody.getText() instanceof TemplateBody) {
-                    renderBody((TemplateBody<?>) multipartBody.getText(), BodyType.TEXT);
+                    renderBody((TemplateBody<?>) multipartBody.getText(), BodyType.TEXT, senderName);
                 }
             }
         }
     }
 
+    @Override
+    default boolean decoratesBody() {
+        return true;
+    }
+
+    /**
+     * Renders a template of an email sent by the given sender. By default, it calls {@link #renderBody(TemplateBody, BodyType)}.
+     * @param body Template Body
+     * @param bodyType Body Type
+     * @param senderName Name of the sender which sends the email or null if unknown
+     * @since 2.8.0
+     */
+    default void renderBody(@NonNull TemplateBody<?> body, @NonNull BodyType bodyType, @Nullable String senderName) {
+        renderBody(body, bodyType);
+    }
+
     /**
      * @param body Template Body
      * @param bodyType Body Type
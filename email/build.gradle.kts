@@ -9,6 +9,9 @@ dependencies {
     api(mn.micronaut.context)
     api(mn.micronaut.core.reactive)
     implementation(mnReactor.micronaut.reactor)
+    compileOnly(mnMicrometer.micronaut.micrometer.core)
     testCompileOnly(mnValidation.micronaut.validation.processor)
     testImplementation(mnValidation.micronaut.validation)
+    testImplementation(mnMicrometer.micronaut.micrometer.core)
+    testImplementation(libs.h2)
 }
@@ -16,21 +16,25 @@
 package io.micronaut.email;
 
 import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.async.annotation.SingleResult;
+import io.micronaut.email.execution.SenderExecutor;
+import io.micronaut.email.execution.SenderExecutors;
 import io.micronaut.scheduling.TaskExecutors;
 import jakarta.inject.Named;
 import org.reactivestreams.Publisher;
-import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Scheduler;
-import reactor.core.scheduler.Schedulers;
 
 import jakarta.validation.constraints.NotNull;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutorService;
 import java.util.function.Consumer;
 
 /**
  * Abstract class which implements both {@link TransactionalEmailSender} and {@link AsyncTransactionalEmailSender}.
- * It provides an implemeentation of {@link AsyncTransactionalEmailSender#sendAsync(Email, Consumer)} by subscribing on an IO scheduler.
+ * It provides an implemeentation of {@link AsyncTransactionalEmailSender#sendAsync(Email, Consumer)} by subscribing on an IO scheduler,
+ * and of {@link AsyncTransactionalEmailSender#sendStage(Email, Consumer)} by submitting the send to the IO executor.
+ * If the sender has an {@link io.micronaut.email.execution.ExecutionConfiguration}, the blocking sends run on the configured executor instead,
+ * for example on virtual threads, with at most the configured number of sends in flight.
  *
  * @author Sergio del Amo
  * @since 1.0.0
@@ -39,14 +43,31 @@ import java.util.function.Consumer;
  */
 public abstract class AbstractTransactionalEmailSender<I, O> implements AsyncTransactionalEmailSender<I, O>, TransactionalEmailSender<I, O> {
 
-    private final Scheduler scheduler;
+    private final ExecutorService executorService;
+
+    @Nullable
+    private final SenderExecutors senderExecutors;
+
+    private volatile SenderExecutor senderExecutor;
 
     /**
      *
      * @param executorService Executor service
      */
     protected AbstractTransactionalEmailSender(@Named(TaskExecutors.IO) ExecutorService executorService) {
-        this.scheduler = Schedulers.fromExecutorService(executorService);
+        this(executorService, null);
+    }
+
+    /**
+     *
+     * @param executorService Executor service used unless the sender has an execution configuration
+     * @param senderExecutors Sender executors. If null, the blocking sends run on the executor service.
+     * @since 2.8.0
+     */
+    protected AbstractTransactionalEmailSender(@Named(TaskExecutors.IO) ExecutorService executorService,
+                                               @Nullable SenderExecutors senderExecutors) {
+        this.executorService = executorService;
+        this.senderExecutors = senderExecutors;
     }
 
     @Override
@@ -54,7 +75,26 @@ public abstract class AbstractTransactionalEmailSender<I, O> implements AsyncTra
     @SingleResult
     public Publisher<O> sendAsync(@NonNull @NotNull Email email,
                            @NonNull @NotNull Consumer<I> emailRequest) throws EmailException {
-        return Mono.fromCallable(() -> send(email, emailRequest))
-                .subscribeOn(scheduler);
+        return senderExecutor().execute(() -> send(email, emailRequest));
+    }
+
+    @Override
+    @NonNull
+    public CompletionStage<O> sendStage(@NonNull @NotNull Email email,
+                                        @NonNull @NotNull Consumer<I> emailRequest) {
+        return senderExecutor().submit(() -> send(email, emailRequest));
+    }
+
+    @NonNull
+    private SenderExecutor senderExecutor() {
+        SenderExecutor result = senderExecutor;
+        if (result == null) {
+            // resolved lazily because the sender name is not available while the subclass is constructed
+            result = senderExecutors != null
+                    ? senderExecutors.get(getName(), executorService)
+                    : new SenderExecutor(executorService, 0);
+            senderExecutor = result;
+        }
+        return result;
     }
 }
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.async.annotation.SingleResult;
+import io.micronaut.core.order.Ordered;
+import jakarta.validation.constraints.NotNull;
+import org.reactivestreams.Publisher;
+
+/**
+ * Decorates every Email send by an {@link EmailSender} or an {@link AsyncEmailSender} without blocking.
+ * Use it instead of an {@link EmailDecorator} when the decoration needs to look up data, for example the branding of a tenant or the locale of a user.
+ * An {@link AsyncEmailSender} subscribes to the returned {@link Publisher} without blocking; an {@link EmailSender} blocks until it completes.
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+@FunctionalInterface
+public interface AsyncEmailDecorator extends Ordered {
+
+    /**
+     * Populates an email.
+     * @param emailBuilder Email Builder
+     * @return A publisher which completes once the email builder has been populated.
+     */
+    @NonNull
+    @SingleResult
+    Publisher<Void> decorate(@NonNull @NotNull Email.Builder emailBuilder);
+
+    /**
+     * Whether this decorator applies to the email builder. Decorators which do not apply are skipped.
+     * @param emailBuilder Email Builder
+     * @return true if the decorator should decorate the email builder.
+     */
+    default boolean supports(@NonNull @NotNull Email.Builder emailBuilder) {
+        return true;
+    }
+}
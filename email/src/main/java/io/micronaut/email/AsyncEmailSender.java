@@ -19,8 +19,11 @@ import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.async.annotation.SingleResult;
 import io.micronaut.core.naming.Named;
 import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import jakarta.validation.constraints.NotNull;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 
 /**
@@ -54,4 +57,61 @@ public interface AsyncEmailSender<I, O> extends Named {
     @SingleResult
     Publisher<O> sendAsync(@NonNull @NotNull Email.Builder emailBuilder,
                            @NonNull @NotNull Consumer<I> emailRequest) throws EmailException;
+
+    /**
+     * Sends an email.
+     * @param emailBuilder Email Builder
+     * @return A stage which completes with the response once the email has been sent
+     * @since 2.8.0
+     */
+    @NonNull
+    default CompletionStage<O> sendStage(@NonNull @NotNull Email.Builder emailBuilder) {
+        return sendStage(emailBuilder, i -> { });
+    }
+
+    /**
+     * Sends an email without exposing Reactive Streams types. The default implementation subscribes to {@link #sendAsync(Email.Builder, Consumer)}.
+     * @param emailBuilder Email Builder
+     * @param emailRequest Email Request
+     * @return A stage which completes with the response once the email has been sent or exceptionally with an {@link EmailException}
+     * @since 2.8.0
+     */
+    @NonNull
+    default CompletionStage<O> sendStage(@NonNull @NotNull Email.Builder emailBuilder,
+                                         @NonNull @NotNull Consumer<I> emailRequest) {
+        return Mono.defer(() -> Mono.from(sendAsync(emailBuilder, emailRequest))).toFuture();
+    }
+
+    /**
+     * Sends every email of a stream with the {@link StreamingOptions#DEFAULT default options}.
+     * @param emailBuilders Email Builders
+     * @return a result for each email, in the order in which the emails are sent
+     * @since 2.8.0
+     */
+    @NonNull
+    default Publisher<BulkSendResult<O>> sendMany(@NonNull @NotNull Publisher<Email.Builder> emailBuilders) {
+        return sendMany(emailBuilders, StreamingOptions.DEFAULT);
+    }
+
+    /**
+     * Sends every email of a stream with at most {@link StreamingOptions#getConcurrency()} emails in flight.
+     * Email builders are requested from the source as the downstream requests results, at most {@link StreamingOptions#getPrefetch()} ahead.
+     * A failure to send an email is emitted as a failed result and does not cancel the stream.
+     * @param emailBuilders Email Builders
+     * @param options Streaming options
+     * @return a result for each email, in the order in which the emails are sent
+     * @since 2.8.0
+     */
+    @NonNull
+    default Publisher<BulkSendResult<O>> sendMany(@NonNull @NotNull Publisher<Email.Builder> emailBuilders,
+                                                  @NonNull @NotNull StreamingOptions options) {
+        return Flux.from(emailBuilders)
+                .limitRate(options.getPrefetch())
+                .flatMap(emailBuilder -> Mono.defer(() -> Mono.from(sendAsync(emailBuilder)))
+                        .map(response -> BulkSendResult.success(emailBuilder.build(), response))
+                        .switchIfEmpty(Mono.fromSupplier(() -> BulkSendResult.success(emailBuilder.build(), null)))
+                        .onErrorResume(e -> Mono.just(BulkSendResult.failure(emailBuilder.build(),
+                                e instanceof EmailException ? (EmailException) e : new EmailException(e)))),
+                        options.getConcurrency());
+    }
 }
@@ -19,14 +19,16 @@ import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.async.annotation.SingleResult;
 import io.micronaut.core.naming.Named;
 import org.reactivestreams.Publisher;
+import reactor.core.publisher.Mono;
 
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 
 /**
  * Contract to send emails Asynchronously.
- * Emails are validated.
+ * Emails are validated. Emails can be sent either as a {@link Publisher} or as a {@link CompletionStage}. Senders backed by a client which returns futures or takes callbacks should implement {@link #sendStage(Email, Consumer)} natively.
  * @author Sergio del Amo
  * @since 1.0.0
  * @param <I> Email Request
@@ -57,4 +59,27 @@ public interface AsyncTransactionalEmailSender<I, O> extends Named {
     Publisher<O> sendAsync(@NonNull @NotNull @Valid Email email,
                            @NonNull @NotNull Consumer<I> emailRequest) throws EmailException;
 
+    /**
+     * Sends an email.
+     * @param email Email
+     * @return A stage which completes with the response once the email has been sent
+     * @since 2.8.0
+     */
+    @NonNull
+    default CompletionStage<O> sendStage(@NonNull @NotNull @Valid Email email) {
+        return sendStage(email, i -> { });
+    }
+
+    /**
+     * Sends an email. The default implementation subscribes to {@link #sendAsync(Email, Consumer)}.
+     * @param email Email
+     * @param emailRequest Email Request Consumer
+     * @return A stage which completes with the response once the email has been sent or exceptionally with an {@link EmailException}
+     * @since 2.8.0
+     */
+    @NonNull
+    default CompletionStage<O> sendStage(@NonNull @NotNull @Valid Email email,
+                                         @NonNull @NotNull Consumer<I> emailRequest) {
+        return Mono.defer(() -> Mono.from(sendAsync(email, emailRequest))).toFuture();
+    }
 }
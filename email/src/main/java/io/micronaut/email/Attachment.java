@@ -22,13 +22,12 @@ import io.micronaut.core.annotation.Nullable;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
-import java.io.ByteArrayOutputStream;
-import java.io.DataInputStream;
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Objects;
 
 /**
@@ -45,7 +44,7 @@ public class Attachment {
 
     @NonNull
     @NotNull
-    private final byte[] content;
+    private final AttachmentContent attachmentContent;
 
     @NonNull
     @NotBlank
@@ -72,8 +71,25 @@ public class Attachment {
                       @NonNull byte[] content,
                       @Nullable String id,
                       @Nullable String disposition) {
+        this(filename, contentType, AttachmentContent.of(content), id, disposition);
+    }
+
+    /**
+     *
+     * @param filename filename to show up in email
+     * @param contentType file content type
+     * @param attachmentContent file content
+     * @param id content identifier
+     * @param disposition content disposition
+     * @since 2.8.0
+     */
+    public Attachment(@NonNull String filename,
+                      @NonNull String contentType,
+                      @NonNull AttachmentContent attachmentContent,
+                      @Nullable String id,
+                      @Nullable String disposition) {
         this.filename = filename;
-        this.content = content;
+        this.attachmentContent = attachmentContent;
         this.contentType = contentType;
         this.id = id;
         this.disposition = disposition;
@@ -123,12 +139,28 @@ public class Attachment {
     }
 
     /**
-     *
-     * @return file content type
+     * Returns the attachment content as a byte array. Content which is not backed by a byte array is read fully into memory.
+     * Prefer {@link #getAttachmentContent()} to stream the content.
+     * @return file content
+     * @throws EmailException if the content cannot be read
      */
     @NonNull
     public byte[] getContent() {
-        return this.content;
+        try {
+            return this.attachmentContent.getBytes();
+        } catch (IOException e) {
+            throw new EmailException(e);
+        }
+    }
+
+    /**
+     *
+     * @return file content
+     * @since 2.8.0
+     */
+    @NonNull
+    public AttachmentContent getAttachmentContent() {
+        return this.attachmentContent;
     }
 
     /**
@@ -155,7 +187,7 @@ public class Attachment {
      */
     public static class Builder {
         private String filename;
-        private byte[] content;
+        private AttachmentContent content;
         private String contentType;
         private String id;
         private String disposition;
@@ -189,54 +221,65 @@ public class Attachment {
          */
         @NonNull
         public Builder content(@NonNull byte[] content) {
+            return content(AttachmentContent.of(content));
+        }
+
+        /**
+         *
+         * @param content file content
+         * @return Attachment's builder
+         * @since 2.8.0
+         */
+        @NonNull
+        public Builder content(@NonNull AttachmentContent content) {
             this.content = content;
             return this;
         }
 
         /**
          *
-         * @param file file
+         * @param buffer file content
          * @return Attachment's builder
+         * @since 2.8.0
          */
         @NonNull
-        public Builder content(@NonNull File file) {
-            try {
-                if (file.length() == 0L) {
-                    return content(new FileInputStream(file));
-                }
-                byte[] bytes = new byte[(int) file.length()];
-                DataInputStream dis = new DataInputStream(new FileInputStream(file));
-                dis.readFully(bytes);
-                return content(bytes);
-            } catch (FileNotFoundException e) {
+        public Builder content(@NonNull ByteBuffer buffer) {
+            return content(AttachmentContent.of(buffer));
+        }
+
+        /**
+         * The file is read when the email is composed.
+         * @param path file
+         * @return Attachment's builder
+         * @since 2.8.0
+         */
+        @NonNull
+        public Builder content(@NonNull Path path) {
+            if (!Files.isReadable(path)) {
                 throw new IllegalArgumentException("Could not read attachment file to bytes");
-            } catch (IOException e) {
-                throw new IllegalArgumentException("IOException while reading attachment file to bytes");
             }
+            return content(AttachmentContent.of(path));
         }
 
         /**
-         *
+         * The file is read when the email is composed.
+         * @param file file
+         * @return Attachment's builder
+         */
+        @NonNull
+        public Builder content(@NonNull File file) {
+            return content(file.toPath());
+        }
+
+        /**
+         * The stream is read fully into memory because it cannot be read more than once. Use {@link #content(AttachmentContent)} to stream the content.
          * @param inputStream Content's inputStream
          * @return Attachment's builder
          */
         @NonNull
         public Builder content(@NonNull InputStream inputStream) {
             try {
-                //TODO use the following once JDK 11 is the minimum
-                //return content(inputStream.readAllBytes());
-                ByteArrayOutputStream buffer = new ByteArrayOutputStream();
-                int nRead;
-                byte[] data = new byte[4];
-                while ((nRead = inputStream.read(data, 0, data.length)) != -1) {
-                    buffer.write(data, 0, nRead);
-                }
-                buffer.flush();
-                byte[] result = buffer.toByteArray();
-                buffer.close();
-                return content(result);
-            } catch (FileNotFoundException e) {
-                throw new IllegalArgumentException("Could not read attachment file to bytes");
+                return content(inputStream.readAllBytes());
             } catch (IOException e) {
                 throw new IllegalArgumentException("IOException while reading attachment file to bytes");
             }
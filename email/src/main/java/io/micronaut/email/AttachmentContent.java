@@ -0,0 +1,135 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email;
+
+import io.micronaut.core.annotation.NonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * Content of an {@link Attachment}. Composers read it with {@link #openStream()} while they write the message instead
+ * of holding the whole attachment in memory. Implementations must support opening the stream more than once.
+ *
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+@FunctionalInterface
+public interface AttachmentContent {
+
+    /**
+     * Length used when the content length is not known in advance.
+     */
+    long UNKNOWN_LENGTH = -1L;
+
+    /**
+     * Size of the chunks read while encoding. Multiple of three so that every chunk but the last one encodes without padding.
+     */
+    int BASE64_CHUNK_SIZE = 3 * 1024 * 8;
+
+    /**
+     *
+     * @return a new stream positioned at the start of the content. The caller is responsible for closing it.
+     * @throws IOException if the content cannot be read
+     */
+    @NonNull
+    InputStream openStream() throws IOException;
+
+    /**
+     *
+     * @return the content length in bytes or {@link #UNKNOWN_LENGTH}
+     */
+    default long getLength() {
+        return UNKNOWN_LENGTH;
+    }
+
+    /**
+     * Whether the content never changes. Values derived from an immutable content, such as its digest, can be reused every time it is sent.
+     * @return true if the content never changes
+     */
+    default boolean isImmutable() {
+        return false;
+    }
+
+    /**
+     *
+     * @return the content as a byte array
+     * @throws IOException if the content cannot be read
+     */
+    @NonNull
+    default byte[] getBytes() throws IOException {
+        try (InputStream inputStream = openStream()) {
+            return inputStream.readAllBytes();
+        }
+    }
+
+    /**
+     * Encodes the content as Base64 reading it in chunks, thus the raw content is never fully loaded in memory.
+     * @return the content encoded as Base64
+     * @throws IOException if the content cannot be read
+     */
+    @NonNull
+    default String toBase64() throws IOException {
+        long length = getLength();
+        StringBuilder sb = new StringBuilder(length >= 0 ? (int) Math.min(Integer.MAX_VALUE - 8, 4 * ((length + 2) / 3)) : BASE64_CHUNK_SIZE);
+        Base64.Encoder encoder = Base64.getEncoder();
+        byte[] chunk = new byte[BASE64_CHUNK_SIZE];
+        byte[] encoded = new byte[4 * BASE64_CHUNK_SIZE / 3];
+        try (InputStream inputStream = openStream()) {
+            int read;
+            while ((read = inputStream.readNBytes(chunk, 0, chunk.length)) > 0) {
+                int encodedLength = encoder.encode(read == chunk.length ? chunk : Arrays.copyOf(chunk, read), encoded);
+                sb.append(new String(encoded, 0, encodedLength, StandardCharsets.ISO_8859_1));
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     *
+     * @param bytes content
+     * @return Attachment content backed by the supplied array, which is not copied
+     */
+    @NonNull
+    static AttachmentContent of(@NonNull byte[] bytes) {
+        return new ByteArrayAttachmentContent(bytes);
+    }
+
+    /**
+     *
+     * @param path file
+     * @return Attachment content read from the supplied file every time it is opened
+     */
+    @NonNull
+    static AttachmentContent of(@NonNull Path path) {
+        return new PathAttachmentContent(path);
+    }
+
+    /**
+     *
+     * @param buffer content. Its position and limit are not modified.
+     * @return Attachment content backed by the remaining bytes of the supplied buffer
+     */
+    @NonNull
+    static AttachmentContent of(@NonNull ByteBuffer buffer) {
+        return new ByteBufferAttachmentContent(buffer);
+    }
+}
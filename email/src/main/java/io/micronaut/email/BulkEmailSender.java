@@ -0,0 +1,112 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.naming.Named;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import jakarta.validation.constraints.NotNull;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * API to send several transactional emails synchronously in as few requests as possible.
+ * @author Sergio del Amo
+ * @since 2.8.0
+ * @param <O> Response for each email
+ */
+public interface BulkEmailSender<O> extends Named {
+
+    /**
+     * Sends several emails.
+     * @param emailBuilders Email Builders
+     * @return a result for each email in the order of the supplied collection
+     * @throws EmailException Wrapper of any exception thrown while composing the emails
+     */
+    @NonNull
+    List<BulkSendResult<O>> sendAll(@NonNull @NotNull Collection<Email.Builder> emailBuilders) throws EmailException;
+
+    /**
+     * Decorates an email builder once and creates a prototype with it.
+     * Derive an email for every recipient with {@link EmailPrototype#email(Contact)} and send them with {@link #sendDerived(Collection)}.
+     * @param emailBuilder Email Builder
+     * @return An email prototype
+     * @since 2.8.0
+     */
+    @NonNull
+    EmailPrototype prototype(@NonNull @NotNull Email.Builder emailBuilder);
+
+    /**
+     * Sends emails derived from prototypes created with {@link #prototype(Email.Builder)}.
+     * They are only decorated by the decorators which {@link EmailDecorator#decoratesRecipients() decorate the recipients}.
+     * An email rejected by such a decorator fails without preventing sending the remaining ones.
+     * @param emails Emails derived from a prototype
+     * @return a result for each email in the order of the supplied collection
+     * @throws EmailException Wrapper of any exception thrown while composing the emails
+     * @throws IllegalArgumentException if an email is not derived from a prototype
+     * @since 2.8.0
+     */
+    @NonNull
+    List<BulkSendResult<O>> sendDerived(@NonNull @NotNull Collection<Email> emails) throws EmailException;
+
+    /**
+     * Sends every email of a stream in batches with the {@link StreamingOptions#DEFAULT default options}.
+     * @param emailBuilders Email Builders
+     * @return a result for each email, in the order in which the batches are sent
+     * @since 2.8.0
+     */
+    @NonNull
+    default Publisher<BulkSendResult<O>> sendMany(@NonNull @NotNull Publisher<Email.Builder> emailBuilders) {
+        return sendMany(emailBuilders, StreamingOptions.DEFAULT);
+    }
+
+    /**
+     * Sends every email of a stream in batches of at most {@link StreamingOptions#getBatchSize()} emails.
+     * A batch is sent once it is full or {@link StreamingOptions#getBatchTimeout()} elapsed, with at most {@link StreamingOptions#getConcurrency()} batches in flight.
+     * Batches are sent on a scheduler for blocking tasks since {@link #sendAll(Collection)} blocks.
+     * Email builders are requested from the source as the downstream requests results, at most {@link StreamingOptions#getPrefetch()} ahead.
+     * @param emailBuilders Email Builders
+     * @param options Streaming options
+     * @return a result for each email, in the order in which the batches are sent
+     * @since 2.8.0
+     */
+    @NonNull
+    default Publisher<BulkSendResult<O>> sendMany(@NonNull @NotNull Publisher<Email.Builder> emailBuilders,
+                                                  @NonNull @NotNull StreamingOptions options) {
+        return Flux.from(emailBuilders)
+                .limitRate(options.getPrefetch())
+                .bufferTimeout(options.getBatchSize(), options.getBatchTimeout(), true)
+                .flatMap(batch -> Mono.fromCallable(() -> sendAll(batch))
+                        .subscribeOn(Schedulers.boundedElastic())
+                        .onErrorResume(e -> Mono.just(failures(batch, e instanceof EmailException ? (EmailException) e : new EmailException(e)))),
+                        options.getConcurrency())
+                .flatMapIterable(results -> results);
+    }
+
+    @NonNull
+    private static <O> List<BulkSendResult<O>> failures(@NonNull List<Email.Builder> batch, @NonNull EmailException exception) {
+        List<BulkSendResult<O>> results = new ArrayList<>(batch.size());
+        for (Email.Builder emailBuilder : batch) {
+            results.add(BulkSendResult.failure(emailBuilder.build(), exception));
+        }
+        return results;
+    }
+}
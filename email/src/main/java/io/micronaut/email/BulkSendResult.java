@@ -0,0 +1,111 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+
+/**
+ * Outcome of sending a single {@link Email} as part of a bulk send.
+ *
+ * @author Sergio del Amo
+ * @since 2.8.0
+ * @param <O> Email Response
+ */
+public final class BulkSendResult<O> {
+
+    @NonNull
+    private final Email email;
+
+    @Nullable
+    private final O response;
+
+    @Nullable
+    private final EmailException exception;
+
+    /**
+     *
+     * @param email Email
+     * @param response Provider response for the email, or for the request which sent it
+     * @param exception Exception if the email could not be sent
+     */
+    public BulkSendResult(@NonNull Email email,
+                          @Nullable O response,
+                          @Nullable EmailException exception) {
+        this.email = email;
+        this.response = response;
+        this.exception = exception;
+    }
+
+    /**
+     *
+     * @param email Email
+     * @param response Provider response
+     * @return a successful result
+     * @param <O> Email Response
+     */
+    @NonNull
+    public static <O> BulkSendResult<O> success(@NonNull Email email, @Nullable O response) {
+        return new BulkSendResult<>(email, response, null);
+    }
+
+    /**
+     *
+     * @param email Email
+     * @param exception Exception thrown while sending the email
+     * @return a failed result
+     * @param <O> Email Response
+     */
+    @NonNull
+    public static <O> BulkSendResult<O> failure(@NonNull Email email, @NonNull EmailException exception) {
+        return new BulkSendResult<>(email, null, exception);
+    }
+
+    /**
+     *
+     * @return Email
+     */
+    @NonNull
+    public Email getEmail() {
+        return email;
+    }
+
+    /**
+     *
+     * @return Provider response or null if the request failed before a response was received
+     */
+    @Nullable
+    public O getResponse() {
+        return response;
+    }
+
+    /**
+     *
+     * @return Exception if the email could not be sent
+     */
+    @Nullable
+    public EmailException getException() {
+        return exception;
+    }
+
+    /**
+     *
+     * @return whether the email was accepted by the provider
+     */
+    public boolean isSuccess() {
+        return exception == null;
+    }
+}
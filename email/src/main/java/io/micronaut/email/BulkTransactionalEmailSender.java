@@ -0,0 +1,44 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.naming.Named;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * API to be implemented by third party transactional email providers which accept several emails in a single request.
+ * Implementations split the emails into as few requests as the provider's limits allow.
+ * Emails are validated.
+ * @author Sergio del Amo
+ * @since 2.8.0
+ * @param <O> Response for each email
+ */
+public interface BulkTransactionalEmailSender<O> extends Named {
+
+    /**
+     * Sends several emails. A failed request does not prevent sending the remaining ones.
+     * @param emails Emails
+     * @return a result for each email in the order of the supplied collection
+     * @throws EmailException Wrapper of any exception thrown while composing the emails
+     */
+    @NonNull
+    List<BulkSendResult<O>> sendAll(@NonNull @NotNull Collection<@Valid Email> emails) throws EmailException;
+}
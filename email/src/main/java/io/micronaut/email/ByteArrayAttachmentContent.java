@@ -0,0 +1,67 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email;
+
+import io.micronaut.core.annotation.NonNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * {@link AttachmentContent} backed by a byte array.
+ *
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+final class ByteArrayAttachmentContent implements AttachmentContent {
+
+    private final byte[] bytes;
+
+    ByteArrayAttachmentContent(@NonNull byte[] bytes) {
+        this.bytes = Objects.requireNonNull(bytes);
+    }
+
+    @Override
+    @NonNull
+    public InputStream openStream() {
+        return new ByteArrayInputStream(bytes);
+    }
+
+    @Override
+    public long getLength() {
+        return bytes.length;
+    }
+
+    @Override
+    public boolean isImmutable() {
+        // the array is not copied, thus it must not be modified once it is attached
+        return true;
+    }
+
+    @Override
+    @NonNull
+    public byte[] getBytes() {
+        return bytes;
+    }
+
+    @Override
+    @NonNull
+    public String toBase64() {
+        return Base64.getEncoder().encodeToString(bytes);
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email;
+
+import io.micronaut.core.annotation.NonNull;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * {@link AttachmentContent} backed by the remaining bytes of a {@link ByteBuffer}.
+ *
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+final class ByteBufferAttachmentContent implements AttachmentContent {
+
+    private final ByteBuffer buffer;
+
+    ByteBufferAttachmentContent(@NonNull ByteBuffer buffer) {
+        this.buffer = buffer.asReadOnlyBuffer();
+    }
+
+    @Override
+    @NonNull
+    public InputStream openStream() {
+        ByteBuffer view = buffer.duplicate();
+        return new InputStream() {
+            @Override
+            public int read() {
+                return view.hasRemaining() ? view.get() & 0xFF : -1;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) {
+                if (len == 0) {
+                    return 0;
+                }
+                if (!view.hasRemaining()) {
+                    return -1;
+                }
+                int n = Math.min(len, view.remaining());
+                view.get(b, off, n);
+                return n;
+            }
+
+            @Override
+            public int available() {
+                return view.remaining();
+            }
+        };
+    }
+
+    @Override
+    public long getLength() {
+        return buffer.remaining();
+    }
+
+    @Override
+    public boolean isImmutable() {
+        // the buffer is not copied, thus it must not be modified once it is attached
+        return true;
+    }
+}
@@ -18,7 +18,7 @@ package io.micronaut.email;
 import io.micronaut.core.annotation.Introspected;
 import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.annotation.Nullable;
-import jakarta.validation.constraints.Email;
+import io.micronaut.email.validation.EmailAddress;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import io.micronaut.core.util.StringUtils;
@@ -33,7 +33,7 @@ import java.util.Objects;
 public class Contact {
     @NotNull
     @NotBlank
-    @Email
+    @EmailAddress
     private final String email;
 
     @Nullable
@@ -17,15 +17,39 @@ package io.micronaut.email;
 
 import io.micronaut.context.annotation.EachBean;
 import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.async.annotation.SingleResult;
+import io.micronaut.email.idempotency.IdempotencyStore;
+import io.micronaut.email.idempotency.IdempotentAsyncTransactionalEmailSender;
+import io.micronaut.email.metrics.EmailMetrics;
+import io.micronaut.email.metrics.EmailPhase;
+import io.micronaut.email.priority.PriorityScheduler;
+import io.micronaut.email.ratelimit.RateLimitedAsyncTransactionalEmailSender;
+import io.micronaut.email.ratelimit.RateLimiters;
+import io.micronaut.email.retry.RetryPolicies;
+import io.micronaut.email.retry.RetryingAsyncTransactionalEmailSender;
+import jakarta.inject.Inject;
 import org.reactivestreams.Publisher;
+import reactor.core.publisher.Mono;
 
 import jakarta.validation.constraints.NotNull;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 
 /**
- * Decorates with every {@link EmailDecorator} and send an email via a {@link AsyncTransactionalEmailSender}.
+ * Decorates with every {@link EmailDecorator} and {@link AsyncEmailDecorator} and send an email via a {@link AsyncTransactionalEmailSender}.
+ * The email is decorated once the returned {@link Publisher} is subscribed, without blocking on any {@link AsyncEmailDecorator}.
+ * {@link #sendStage(Email.Builder, Consumer)} calls the {@link AsyncTransactionalEmailSender#sendStage(Email, Consumer) completion stage} of the sender directly
+ * if there is neither an {@link AsyncEmailDecorator} nor a priority scheduler.
+ * If {@link io.micronaut.email.priority.PriorityConfiguration priority lanes} are enabled, the email waits in the lane of its {@link Email#getPriority()}.
+ * If the sender has a {@link io.micronaut.email.ratelimit.RateLimitConfiguration rate limit}, the email is sent once the returned {@link Publisher} is subscribed and a permit is available. Every attempt takes a permit, once the idempotency key is reserved.
+ * The sender is only decorated with a rate limiter if it has a rate limit, and with a retry policy if retries are enabled.
+ * Emails with an {@link Email#getIdempotencyKey()} are sent at most once if there is an {@link IdempotencyStore} bean.
+ * Failures are classified and, if {@link io.micronaut.email.retry.RetryConfiguration retries} are enabled, retried with backoff.
+ * If there is an {@link EmailMetrics} bean, the decorate and transmit phases and the outcome are recorded.
  *
  * @author Sergio del Amo
  * @since 1.0.0
@@ -36,27 +60,107 @@ import java.util.function.Consumer;
 public class DefaultAsyncEmailSender<I, O> implements AsyncEmailSender<I, O> {
 
     private final AsyncTransactionalEmailSender<I, O> transactionalEmailSender;
-    private final List<EmailDecorator> decorators;
+    private final EmailDecoratorPipeline decoratorPipeline;
+
+    @Nullable
+    private final EmailMetrics emailMetrics;
+
+    @Nullable
+    private final RetryPolicies failureClassifier;
+
+    @Nullable
+    private final PriorityScheduler priorityScheduler;
+
+    /**
+     *
+     * @param transactionalEmailSender Transactional Email Sender
+     * @param decoratorPipeline Email decorator pipeline
+     * @param rateLimiters Rate limiters. If null or the sender has no rate limit, emails are not rate limited.
+     * @param retryPolicies Retry policies. If null, failures are neither classified nor retried. If retries are disabled, failures are only classified.
+     * @param emailMetrics Email metrics. If null, nothing is recorded.
+     * @param idempotencyStore Idempotency store. If null, emails with an idempotency key may be sent more than once.
+     * @param priorityScheduler Priority scheduler. If null, emails are sent regardless of their priority.
+     * @since 2.8.0
+     */
+    @Inject
+    public DefaultAsyncEmailSender(AsyncTransactionalEmailSender<I, O> transactionalEmailSender,
+                                   EmailDecoratorPipeline decoratorPipeline,
+                                   @Nullable RateLimiters rateLimiters,
+                                   @Nullable RetryPolicies retryPolicies,
+                                   @Nullable EmailMetrics emailMetrics,
+                                   @Nullable IdempotencyStore idempotencyStore,
+                                   @Nullable PriorityScheduler priorityScheduler) {
+        AsyncTransactionalEmailSender<I, O> sender = RetryingAsyncTransactionalEmailSender.of(
+                RateLimitedAsyncTransactionalEmailSender.of(transactionalEmailSender, rateLimiters), retryPolicies);
+        this.transactionalEmailSender = idempotencyStore != null
+                ? new IdempotentAsyncTransactionalEmailSender<>(sender, idempotencyStore)
+                : sender;
+        this.decoratorPipeline = decoratorPipeline;
+        this.emailMetrics = emailMetrics;
+        this.priorityScheduler = priorityScheduler;
+        this.failureClassifier = retryPolicies != null && !retryPolicies.isEnabled() ? retryPolicies : null;
+    }
 
     /**
      *
      * @param transactionalEmailSender Transactional Email Sender
      * @param decorators Email decorators
+     * @deprecated Use {@link DefaultAsyncEmailSender#DefaultAsyncEmailSender(AsyncTransactionalEmailSender, EmailDecoratorPipeline, RateLimiters, RetryPolicies, EmailMetrics, IdempotencyStore, PriorityScheduler)}
      */
+    @Deprecated(since = "2.8.0", forRemoval = true)
     public DefaultAsyncEmailSender(AsyncTransactionalEmailSender<I, O> transactionalEmailSender,
                                    List<EmailDecorator> decorators) {
-        this.transactionalEmailSender = transactionalEmailSender;
-        this.decorators = decorators;
+        this(transactionalEmailSender, new EmailDecoratorPipeline(decorators), null, null, null, null, null);
     }
 
     @Override
     @NonNull
     @SingleResult
     public Publisher<O> sendAsync(@NonNull @NotNull Email.Builder emailBuilder, @NonNull @NotNull Consumer<I> emailRequest) throws EmailException {
-        for (EmailDecorator decorator : decorators) {
-            decorator.decorate(emailBuilder);
+        return Mono.defer(() -> {
+            long start = emailMetrics != null ? System.nanoTime() : 0L;
+            return Mono.from(decoratorPipeline.decorateAsync(emailBuilder, getName())).flatMap(builder -> {
+                Email email = builder.build();
+                if (emailMetrics != null) {
+                    emailMetrics.recordPhase(getName(), EmailPhase.DECORATE, System.nanoTime() - start);
+                }
+                if (priorityScheduler == null) {
+                    return Mono.from(transmit(email, emailRequest));
+                }
+                return Mono.from(priorityScheduler.schedule(email.getPriority(), () -> transmit(email, emailRequest)));
+            });
+        });
+    }
+
+    @Override
+    @NonNull
+    public CompletionStage<O> sendStage(@NonNull @NotNull Email.Builder emailBuilder, @NonNull @NotNull Consumer<I> emailRequest) {
+        if (decoratorPipeline.hasAsyncDecorators() || priorityScheduler != null) {
+            return AsyncEmailSender.super.sendStage(emailBuilder, emailRequest);
         }
-        return transactionalEmailSender.sendAsync(emailBuilder.build(), emailRequest);
+        Email email;
+        try {
+            long start = emailMetrics != null ? System.nanoTime() : 0L;
+            decoratorPipeline.decorate(emailBuilder, getName());
+            email = emailBuilder.build();
+            if (emailMetrics != null) {
+                emailMetrics.recordPhase(getName(), EmailPhase.DECORATE, System.nanoTime() - start);
+            }
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        if (emailMetrics == null) {
+            return transmitStage(email, emailRequest);
+        }
+        long start = System.nanoTime();
+        return transmitStage(email, emailRequest).whenComplete((response, e) -> {
+            emailMetrics.recordPhase(getName(), EmailPhase.TRANSMIT, System.nanoTime() - start);
+            if (e == null) {
+                emailMetrics.recordSuccess(getName(), email);
+            } else {
+                emailMetrics.recordFailure(getName(), email, e instanceof CompletionException ? e.getCause() : e);
+            }
+        });
     }
 
     @Override
@@ -64,4 +168,45 @@ public class DefaultAsyncEmailSender<I, O> implements AsyncEmailSender<I, O> {
     public String getName() {
         return transactionalEmailSender.getName();
     }
+
+    @NonNull
+    private Publisher<O> transmit(@NonNull Email email, @NonNull Consumer<I> emailRequest) {
+        if (emailMetrics == null) {
+            return classify(transactionalEmailSender.sendAsync(email, emailRequest));
+        }
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return Mono.from(classify(transactionalEmailSender.sendAsync(email, emailRequest)))
+                    .doOnSuccess(response -> {
+                        emailMetrics.recordPhase(getName(), EmailPhase.TRANSMIT, System.nanoTime() - start);
+                        emailMetrics.recordSuccess(getName(), email);
+                    })
+                    .doOnError(e -> {
+                        emailMetrics.recordPhase(getName(), EmailPhase.TRANSMIT, System.nanoTime() - start);
+                        emailMetrics.recordFailure(getName(), email, e);
+                    });
+        });
+    }
+
+    @NonNull
+    private Publisher<O> classify(@NonNull Publisher<O> publisher) {
+        return failureClassifier == null
+                ? publisher
+                : Mono.from(publisher).onErrorMap(e -> failureClassifier.toException(getName(), e));
+    }
+
+    @NonNull
+    private CompletionStage<O> transmitStage(@NonNull Email email, @NonNull Consumer<I> emailRequest) {
+        if (failureClassifier == null) {
+            return transactionalEmailSender.sendStage(email, emailRequest);
+        }
+        CompletionStage<O> stage;
+        try {
+            stage = transactionalEmailSender.sendStage(email, emailRequest);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(failureClassifier.toException(getName(), e));
+        }
+        return stage.exceptionallyCompose(e -> CompletableFuture.failedFuture(
+                failureClassifier.toException(getName(), e instanceof CompletionException ? e.getCause() : e)));
+    }
 }
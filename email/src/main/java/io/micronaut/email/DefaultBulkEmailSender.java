@@ -0,0 +1,272 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email;
+
+import io.micronaut.context.annotation.EachBean;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.email.idempotency.DuplicateEmailException;
+import io.micronaut.email.idempotency.IdempotencyRecord;
+import io.micronaut.email.idempotency.IdempotencyStore;
+import io.micronaut.email.metrics.EmailMetrics;
+import io.micronaut.email.metrics.EmailPhase;
+import io.micronaut.email.ratelimit.RateLimiters;
+import jakarta.inject.Inject;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Decorates with every {@link EmailDecorator} and {@link AsyncEmailDecorator} and sends the emails via a {@link BulkTransactionalEmailSender}.
+ * If the sender has a rate limit, every email takes a permit. The emails which got a permit without waiting are sent together before waiting for the next permit,
+ * and an email whose wait would exceed the maximum wait fails on its own.
+ * Emails with an {@link Email#getIdempotencyKey()} are sent at most once if there is an {@link IdempotencyStore} bean. An email whose key has already been sent is not sent again
+ * and its result holds the response of the first send.
+ * Failures are not retried. They are reported in the result of each email.
+ * If there is an {@link EmailMetrics} bean, the decorate and transmit phases and the outcome of every email are recorded.
+ *
+ * @author Sergio del Amo
+ * @since 2.8.0
+ * @param <O> Response for each email
+ */
+@EachBean(BulkTransactionalEmailSender.class)
+public class DefaultBulkEmailSender<O> implements BulkEmailSender<O> {
+
+    private final BulkTransactionalEmailSender<O> bulkTransactionalEmailSender;
+    private final EmailDecoratorPipeline decoratorPipeline;
+
+    @Nullable
+    private final EmailMetrics emailMetrics;
+
+    @Nullable
+    private final RateLimiters rateLimiters;
+
+    @Nullable
+    private final IdempotencyStore idempotencyStore;
+
+    /**
+     *
+     * @param bulkTransactionalEmailSender Bulk Transactional Email Sender
+     * @param decorators Email decorators
+     */
+    public DefaultBulkEmailSender(BulkTransactionalEmailSender<O> bulkTransactionalEmailSender,
+                                  List<EmailDecorator> decorators) {
+        this(bulkTransactionalEmailSender, new EmailDecoratorPipeline(decorators), null, null, null);
+    }
+
+    /**
+     *
+     * @param bulkTransactionalEmailSender Bulk Transactional Email Sender
+     * @param decoratorPipeline Email decorator pipeline
+     * @param emailMetrics Email metrics. If null, nothing is recorded.
+     * @param rateLimiters Rate limiters. If null or the sender has no rate limit, emails are not rate limited.
+     * @param idempotencyStore Idempotency store. If null, emails with an idempotency key may be sent more than once.
+     */
+    @Inject
+    public DefaultBulkEmailSender(BulkTransactionalEmailSender<O> bulkTransactionalEmailSender,
+                                  EmailDecoratorPipeline decoratorPipeline,
+                                  @Nullable EmailMetrics emailMetrics,
+                                  @Nullable RateLimiters rateLimiters,
+                                  @Nullable IdempotencyStore idempotencyStore) {
+        this.bulkTransactionalEmailSender = bulkTransactionalEmailSender;
+        this.decoratorPipeline = decoratorPipeline;
+        this.emailMetrics = emailMetrics;
+        this.rateLimiters = rateLimiters != null && rateLimiters.isLimited(bulkTransactionalEmailSender.getName()) ? rateLimiters : null;
+        this.idempotencyStore = idempotencyStore;
+    }
+
+    @Override
+    @NonNull
+    public List<BulkSendResult<O>> sendAll(@NonNull @NotNull Collection<Email.Builder> emailBuilders) throws EmailException {
+        long start = emailMetrics != null ? System.nanoTime() : 0L;
+        List<Email> emails = new ArrayList<>(emailBuilders.size());
+        for (Email.Builder emailBuilder : emailBuilders) {
+            decoratorPipeline.decorate(emailBuilder, getName());
+            emails.add(emailBuilder.build());
+        }
+        return transmit(emails, start);
+    }
+
+    @Override
+    @NonNull
+    public EmailPrototype prototype(@NonNull @NotNull Email.Builder emailBuilder) {
+        if (emailMetrics == null) {
+            return decoratorPipeline.prototype(emailBuilder, getName());
+        }
+        long start = System.nanoTime();
+        try {
+            return decoratorPipeline.prototype(emailBuilder, getName());
+        } finally {
+            emailMetrics.recordPhase(getName(), EmailPhase.DECORATE, System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    @NonNull
+    public List<BulkSendResult<O>> sendDerived(@NonNull @NotNull Collection<Email> emails) throws EmailException {
+        long start = emailMetrics != null ? System.nanoTime() : 0L;
+        List<Email> decorated = new ArrayList<>(emails.size());
+        Map<Integer, BulkSendResult<O>> rejected = null;
+        int index = 0;
+        for (Email email : emails) {
+            if (email.getPrototype() == null) {
+                throw new IllegalArgumentException("Email is not derived from an EmailPrototype");
+            }
+            try {
+                decorated.add(decoratorPipeline.decorateRecipients(email));
+            } catch (EmailException e) {
+                if (rejected == null) {
+                    rejected = new HashMap<>();
+                }
+                rejected.put(index, BulkSendResult.failure(email, e));
+                if (emailMetrics != null) {
+                    emailMetrics.recordFailure(getName(), email, e);
+                }
+            }
+            index++;
+        }
+        List<BulkSendResult<O>> results = decorated.isEmpty() ? new ArrayList<>() : transmit(decorated, start);
+        if (rejected == null) {
+            return results;
+        }
+        List<BulkSendResult<O>> merged = new ArrayList<>(emails.size());
+        Iterator<BulkSendResult<O>> sent = results.iterator();
+        for (int i = 0; i < emails.size(); i++) {
+            BulkSendResult<O> failure = rejected.get(i);
+            merged.add(failure != null ? failure : sent.next());
+        }
+        return merged;
+    }
+
+    @NonNull
+    private List<BulkSendResult<O>> transmit(@NonNull List<Email> emails, long start) {
+        if (emailMetrics == null) {
+            return send(emails);
+        }
+        long transmitStart = System.nanoTime();
+        emailMetrics.recordPhase(getName(), EmailPhase.DECORATE, transmitStart - start);
+        List<BulkSendResult<O>> results;
+        try {
+            results = send(emails);
+        } catch (RuntimeException e) {
+            for (Email email : emails) {
+                emailMetrics.recordFailure(getName(), email, e);
+            }
+            throw e;
+        } finally {
+            emailMetrics.recordPhase(getName(), EmailPhase.TRANSMIT, System.nanoTime() - transmitStart);
+        }
+        for (BulkSendResult<O> result : results) {
+            if (result.isSuccess()) {
+                emailMetrics.recordSuccess(getName(), result.getEmail());
+            } else {
+                emailMetrics.recordFailure(getName(), result.getEmail(), result.getException());
+            }
+        }
+        return results;
+    }
+
+    @NonNull
+    private List<BulkSendResult<O>> send(@NonNull List<Email> emails) {
+        if (rateLimiters == null && idempotencyStore == null) {
+            return bulkTransactionalEmailSender.sendAll(emails);
+        }
+        List<BulkSendResult<O>> results = new ArrayList<>(Collections.nCopies(emails.size(), null));
+        List<Email> batch = new ArrayList<>(emails.size());
+        List<Integer> indexes = new ArrayList<>(emails.size());
+        for (int i = 0; i < emails.size(); i++) {
+            Email email = emails.get(i);
+            String key = idempotencyStore != null ? email.getIdempotencyKey() : null;
+            if (key != null) {
+                Optional<IdempotencyRecord> idempotencyRecord = idempotencyStore.reserve(key);
+                if (idempotencyRecord.isPresent()) {
+                    results.set(i, duplicate(email, key, idempotencyRecord.get()));
+                    continue;
+                }
+            }
+            if (rateLimiters != null && !rateLimiters.tryAcquire(getName())) {
+                // the emails which got a permit are sent before waiting for the next permit
+                send(batch, indexes, results);
+                try {
+                    rateLimiters.acquire(getName());
+                } catch (EmailException e) {
+                    if (key != null) {
+                        idempotencyStore.release(key);
+                    }
+                    results.set(i, BulkSendResult.failure(email, e));
+                    continue;
+                }
+            }
+            batch.add(email);
+            indexes.add(i);
+        }
+        send(batch, indexes, results);
+        return results;
+    }
+
+    private void send(@NonNull List<Email> batch, @NonNull List<Integer> indexes, @NonNull List<BulkSendResult<O>> results) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<BulkSendResult<O>> sent;
+        try {
+            sent = bulkTransactionalEmailSender.sendAll(batch);
+        } catch (RuntimeException e) {
+            // the previous batches have been sent, thus the failure is reported for the emails of this batch only
+            EmailException exception = e instanceof EmailException emailException ? emailException : new EmailException(e);
+            sent = new ArrayList<>(batch.size());
+            for (Email email : batch) {
+                sent.add(BulkSendResult.failure(email, exception));
+            }
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            BulkSendResult<O> result = sent.get(i);
+            String key = idempotencyStore != null ? batch.get(i).getIdempotencyKey() : null;
+            if (key != null) {
+                if (result.isSuccess()) {
+                    idempotencyStore.complete(key, result.getResponse());
+                } else {
+                    idempotencyStore.release(key);
+                }
+            }
+            results.set(indexes.get(i), result);
+        }
+        batch.clear();
+        indexes.clear();
+    }
+
+    @SuppressWarnings("unchecked")
+    @NonNull
+    private static <O> BulkSendResult<O> duplicate(@NonNull Email email, @NonNull String key, @NonNull IdempotencyRecord idempotencyRecord) {
+        if (idempotencyRecord.isResponseStored()) {
+            return BulkSendResult.success(email, (O) idempotencyRecord.getResponse());
+        }
+        return BulkSendResult.failure(email, new DuplicateEmailException(key, idempotencyRecord.isCompleted()));
+    }
+
+    @Override
+    @NonNull
+    public String getName() {
+        return bulkTransactionalEmailSender.getName();
+    }
+}
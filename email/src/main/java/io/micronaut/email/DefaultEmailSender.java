@@ -17,12 +17,27 @@ package io.micronaut.email;
 
 import io.micronaut.context.annotation.EachBean;
 import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.email.idempotency.IdempotencyStore;
+import io.micronaut.email.idempotency.IdempotentTransactionalEmailSender;
+import io.micronaut.email.metrics.EmailMetrics;
+import io.micronaut.email.metrics.EmailPhase;
+import io.micronaut.email.ratelimit.RateLimitedTransactionalEmailSender;
+import io.micronaut.email.ratelimit.RateLimiters;
+import io.micronaut.email.retry.RetryPolicies;
+import io.micronaut.email.retry.RetryingTransactionalEmailSender;
+import jakarta.inject.Inject;
 import jakarta.validation.constraints.NotNull;
 import java.util.List;
 import java.util.function.Consumer;
 
 /**
- * Decorates with every {@link EmailDecorator} and send an email via a {@link TransactionalEmailSender}.
+ * Decorates with every {@link EmailDecorator} and {@link AsyncEmailDecorator} and send an email via a {@link TransactionalEmailSender}.
+ * If the sender has a {@link io.micronaut.email.ratelimit.RateLimitConfiguration rate limit}, it blocks until the email can be sent. Every attempt takes a permit, once the idempotency key is reserved.
+ * The sender is only decorated with a rate limiter if it has a rate limit, and with a retry policy if retries are enabled.
+ * Emails with an {@link Email#getIdempotencyKey()} are sent at most once if there is an {@link IdempotencyStore} bean.
+ * Failures are classified and, if {@link io.micronaut.email.retry.RetryConfiguration retries} are enabled, retried with backoff.
+ * If there is an {@link EmailMetrics} bean, the decorate and transmit phases and the outcome are recorded.
  *
  * @author Sergio del Amo
  * @since 1.0.0
@@ -33,26 +48,76 @@ import java.util.function.Consumer;
 public class DefaultEmailSender<I, O> implements EmailSender<I, O> {
 
     private final TransactionalEmailSender<I, O> transactionalEmailSender;
-    private final List<EmailDecorator> decorators;
+    private final EmailDecoratorPipeline decoratorPipeline;
+
+    @Nullable
+    private final EmailMetrics emailMetrics;
+
+    @Nullable
+    private final RetryPolicies failureClassifier;
+
+    /**
+     *
+     * @param transactionalEmailSender Transactional Email Sender
+     * @param decoratorPipeline Email decorator pipeline
+     * @param rateLimiters Rate limiters. If null or the sender has no rate limit, emails are not rate limited.
+     * @param retryPolicies Retry policies. If null, failures are neither classified nor retried. If retries are disabled, failures are only classified.
+     * @param emailMetrics Email metrics. If null, nothing is recorded.
+     * @param idempotencyStore Idempotency store. If null, emails with an idempotency key may be sent more than once.
+     * @since 2.8.0
+     */
+    @Inject
+    public DefaultEmailSender(TransactionalEmailSender<I, O> transactionalEmailSender,
+                              EmailDecoratorPipeline decoratorPipeline,
+                              @Nullable RateLimiters rateLimiters,
+                              @Nullable RetryPolicies retryPolicies,
+                              @Nullable EmailMetrics emailMetrics,
+                              @Nullable IdempotencyStore idempotencyStore) {
+        TransactionalEmailSender<I, O> sender = RetryingTransactionalEmailSender.of(
+                RateLimitedTransactionalEmailSender.of(transactionalEmailSender, rateLimiters), retryPolicies);
+        this.transactionalEmailSender = idempotencyStore != null
+                ? new IdempotentTransactionalEmailSender<>(sender, idempotencyStore)
+                : sender;
+        this.decoratorPipeline = decoratorPipeline;
+        this.emailMetrics = emailMetrics;
+        this.failureClassifier = retryPolicies != null && !retryPolicies.isEnabled() ? retryPolicies : null;
+    }
 
     /**
      *
      * @param transactionalEmailSender Transactional Email Sender
      * @param decorators Email decorators
+     * @deprecated Use {@link DefaultEmailSender#DefaultEmailSender(TransactionalEmailSender, EmailDecoratorPipeline, RateLimiters, RetryPolicies, EmailMetrics, IdempotencyStore)}
      */
+    @Deprecated(since = "2.8.0", forRemoval = true)
     public DefaultEmailSender(TransactionalEmailSender<I, O> transactionalEmailSender,
                               List<EmailDecorator> decorators) {
-        this.transactionalEmailSender = transactionalEmailSender;
-        this.decorators = decorators;
+        this(transactionalEmailSender, new EmailDecoratorPipeline(decorators), null, null, null, null);
     }
 
     @Override
     @NonNull
     public O send(@NonNull @NotNull Email.Builder emailBuilder, @NonNull @NotNull Consumer<I> emailRequest) throws EmailException {
-        for (EmailDecorator decorator : decorators) {
-            decorator.decorate(emailBuilder);
+        long start = emailMetrics != null ? System.nanoTime() : 0L;
+        decoratorPipeline.decorate(emailBuilder, getName());
+        Email email = emailBuilder.build();
+        if (emailMetrics != null) {
+            emailMetrics.recordPhase(getName(), EmailPhase.DECORATE, System.nanoTime() - start);
+        }
+        if (emailMetrics == null) {
+            return transmit(email, emailRequest);
+        }
+        long transmitStart = System.nanoTime();
+        try {
+            O response = transmit(email, emailRequest);
+            emailMetrics.recordSuccess(getName(), email);
+            return response;
+        } catch (RuntimeException e) {
+            emailMetrics.recordFailure(getName(), email, e);
+            throw e;
+        } finally {
+            emailMetrics.recordPhase(getName(), EmailPhase.TRANSMIT, System.nanoTime() - transmitStart);
         }
-        return transactionalEmailSender.send(emailBuilder.build(), emailRequest);
     }
 
     @Override
@@ -60,4 +125,16 @@ public class DefaultEmailSender<I, O> implements EmailSender<I, O> {
     public String getName() {
         return transactionalEmailSender.getName();
     }
+
+    @NonNull
+    private O transmit(@NonNull Email email, @NonNull Consumer<I> emailRequest) {
+        if (failureClassifier == null) {
+            return transactionalEmailSender.send(email, emailRequest);
+        }
+        try {
+            return transactionalEmailSender.send(email, emailRequest);
+        } catch (RuntimeException e) {
+            throw failureClassifier.toException(getName(), e);
+        }
+    }
 }
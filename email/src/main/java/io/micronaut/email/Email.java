@@ -28,6 +28,7 @@ import jakarta.validation.constraints.NotNull;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Consumer;
 
@@ -68,6 +69,18 @@ public final class Email implements Recipients {
     @NotNull
     private final Body body;
 
+    @Nullable
+    private final String idempotencyKey;
+
+    @NonNull
+    private final EmailPriority priority;
+
+    @Nullable
+    private final EmailPrototype prototype;
+
+    @Nullable
+    private final Map<String, String> mergeFields;
+
     /**
      *
      * @param from Sender of the Email
@@ -78,15 +91,23 @@ public final class Email implements Recipients {
      * @param subject Subject
      * @param attachments Email attachments
      * @param body Email Body
+     * @param idempotencyKey Key which identifies the email to be sent at most once
+     * @param priority Priority. If null, {@link EmailPriority#NORMAL}.
+     * @param prototype Prototype the email is derived from
+     * @param mergeFields Values of the placeholders of the prototype
      */
-    private Email(@NonNull Contact from,
-                 @Nullable List<Contact> replyTo,
-                 @Nullable List<Contact> to,
-                 @Nullable List<Contact> cc,
-                 @Nullable List<Contact> bcc,
-                 @NonNull String subject,
-                 @Nullable List<Attachment> attachments,
-                 @Nullable Body body) {
+    Email(@NonNull Contact from,
+          @Nullable List<Contact> replyTo,
+          @Nullable List<Contact> to,
+          @Nullable List<Contact> cc,
+          @Nullable List<Contact> bcc,
+          @NonNull String subject,
+          @Nullable List<Attachment> attachments,
+          @Nullable Body body,
+          @Nullable String idempotencyKey,
+          @Nullable EmailPriority priority,
+          @Nullable EmailPrototype prototype,
+          @Nullable Map<String, String> mergeFields) {
         this.from = from;
         this.replyTo = replyTo;
         this.to = to;
@@ -95,6 +116,10 @@ public final class Email implements Recipients {
         this.subject = subject;
         this.attachments = attachments;
         this.body = body;
+        this.idempotencyKey = idempotencyKey;
+        this.priority = priority != null ? priority : EmailPriority.NORMAL;
+        this.prototype = prototype;
+        this.mergeFields = mergeFields;
     }
 
     /**
@@ -192,6 +217,61 @@ public final class Email implements Recipients {
         return body;
     }
 
+    /**
+     * Returns the key which identifies this email. Emails with the same key are sent at most once.
+     *
+     * @return the key which identifies this email.
+     * @since 2.8.0
+     */
+    @Nullable
+    public String getIdempotencyKey() {
+        return idempotencyKey;
+    }
+
+    /**
+     * Returns this email's priority.
+     *
+     * @return this email's priority.
+     * @since 2.8.0
+     */
+    @NonNull
+    public EmailPriority getPriority() {
+        return priority;
+    }
+
+    /**
+     * Returns the prototype this email is derived from. Emails derived from the same prototype share its sender, reply-to, body and attachments.
+     *
+     * @return the prototype this email is derived from or null.
+     * @since 2.8.0
+     */
+    @Nullable
+    public EmailPrototype getPrototype() {
+        return prototype;
+    }
+
+    /**
+     * Returns the values which replaced the placeholders of the prototype's subject and body.
+     *
+     * @return the values of the placeholders keyed by name or null.
+     * @since 2.8.0
+     */
+    @Nullable
+    public Map<String, String> getMergeFields() {
+        return mergeFields;
+    }
+
+    /**
+     * @param to To recipients
+     * @param cc Carbon Copy recipients
+     * @param bcc Blind Carbon Copy recipients
+     * @return A copy of this email with other recipients
+     */
+    @NonNull
+    Email withRecipients(@Nullable List<Contact> to, @Nullable List<Contact> cc, @Nullable List<Contact> bcc) {
+        return new Email(from, (List<Contact>) replyTo, to, cc, bcc, subject, attachments, body, idempotencyKey, priority, prototype, mergeFields);
+    }
+
     /**
      *
      * @return Builder
@@ -229,6 +309,12 @@ public final class Email implements Recipients {
         @Nullable
         private Body body;
 
+        @Nullable
+        private String idempotencyKey;
+
+        @Nullable
+        private EmailPriority priority;
+
         /**
          *
          * @param from contact sending the email
@@ -413,6 +499,20 @@ public final class Email implements Recipients {
             return attachment(builder.build());
         }
 
+        /**
+         *
+         * @param attachment Email attachment to remove
+         * @return Email Builder
+         * @since 2.8.0
+         */
+        @NonNull
+        public Email.Builder removeAttachment(@NonNull Attachment attachment) {
+            if (attachments != null) {
+                attachments.remove(attachment);
+            }
+            return this;
+        }
+
 
 
         /**
@@ -458,6 +558,30 @@ public final class Email implements Recipients {
             return this;
         }
 
+        /**
+         * Identifies the email. If an {@link io.micronaut.email.idempotency.IdempotencyStore} is configured, emails with the same key are sent at most once
+         * and sending the email again returns the response of the first send.
+         * @param idempotencyKey Key which identifies the email, for example the id of the order it confirms
+         * @return The Email Builder
+         * @since 2.8.0
+         */
+        @NonNull
+        public Builder idempotencyKey(@NonNull String idempotencyKey) {
+            this.idempotencyKey = idempotencyKey;
+            return this;
+        }
+
+        /**
+         * @param priority Email priority
+         * @return The Email Builder
+         * @since 2.8.0
+         */
+        @NonNull
+        public Builder priority(@NonNull EmailPriority priority) {
+            this.priority = priority;
+            return this;
+        }
+
         /**
          * @return An email
          */
@@ -470,7 +594,11 @@ public final class Email implements Recipients {
                     bcc,
                     subject,
                     attachments,
-                    body);
+                    body,
+                    idempotencyKey,
+                    priority,
+                    null,
+                    null);
         }
 
         /**
@@ -552,5 +680,25 @@ public final class Email implements Recipients {
         public Optional<List<Attachment>> getAttachments() {
             return Optional.ofNullable(attachments);
         }
+
+        /**
+         *
+         * @return Key which identifies the email
+         * @since 2.8.0
+         */
+        @NonNull
+        public Optional<String> getIdempotencyKey() {
+            return Optional.ofNullable(idempotencyKey);
+        }
+
+        /**
+         *
+         * @return Email priority
+         * @since 2.8.0
+         */
+        @NonNull
+        public Optional<EmailPriority> getPriority() {
+            return Optional.ofNullable(priority);
+        }
     }
 }
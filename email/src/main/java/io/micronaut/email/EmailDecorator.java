@@ -16,6 +16,7 @@
 package io.micronaut.email;
 
 import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.order.Ordered;
 
 import jakarta.validation.constraints.NotNull;
@@ -34,4 +35,44 @@ public interface EmailDecorator extends Ordered {
      * @param emailBuilder Email Builder
      */
     void decorate(@NonNull @NotNull Email.Builder emailBuilder);
+
+    /**
+     * Populates an email which is sent by the given sender. By default, it calls {@link #decorate(Email.Builder)}.
+     * @param emailBuilder Email Builder
+     * @param senderName Name of the sender which sends the email or null if unknown
+     * @since 2.8.0
+     */
+    default void decorate(@NonNull @NotNull Email.Builder emailBuilder, @Nullable String senderName) {
+        decorate(emailBuilder);
+    }
+
+    /**
+     * Whether this decorator applies to the email builder. Decorators which do not apply are skipped.
+     * @param emailBuilder Email Builder
+     * @return true if the decorator should decorate the email builder.
+     * @since 2.8.0
+     */
+    default boolean supports(@NonNull @NotNull Email.Builder emailBuilder) {
+        return true;
+    }
+
+    /**
+     * Whether this decorator decorates the recipients only. Such decorators are not applied to an {@link EmailPrototype} but to every email derived from it,
+     * and they receive a builder which only has the "To", "Cc" and "Bcc" recipients of the derived email.
+     * @return true if the decorator decorates the recipients only.
+     * @since 2.8.0
+     */
+    default boolean decoratesRecipients() {
+        return false;
+    }
+
+    /**
+     * Whether this decorator only renders the body, for example a template. Such decorators are applied to every email held by an {@link io.micronaut.email.digest.EmailDigester}
+     * before the emails are merged, since merging reads the rendered bodies.
+     * @return true if the decorator renders the body only.
+     * @since 2.8.0
+     */
+    default boolean decoratesBody() {
+        return false;
+    }
 }
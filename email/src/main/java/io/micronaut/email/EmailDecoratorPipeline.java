@@ -0,0 +1,260 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.async.annotation.SingleResult;
+import io.micronaut.core.order.OrderUtil;
+import io.micronaut.core.order.Ordered;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import jakarta.validation.constraints.NotNull;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Applies every {@link EmailDecorator} and {@link AsyncEmailDecorator} to an email builder.
+ * The decorators are sorted by {@link Ordered#getOrder()} once, when the pipeline is created.
+ * Decorators whose {@code supports} method returns false for an email builder are skipped.
+ * An {@link EmailPrototype} is decorated once and the decorators which decorate the recipients are applied to every email derived from it.
+ *
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+@Singleton
+public class EmailDecoratorPipeline {
+
+    /**
+     * A pipeline without decorators.
+     */
+    public static final EmailDecoratorPipeline EMPTY = new EmailDecoratorPipeline(Collections.emptyList(), Collections.emptyList());
+
+    private final Ordered[] decorators;
+    private final EmailDecorator[] recipientDecorators;
+    private final EmailDecorator[] bodyDecorators;
+    private final boolean blocking;
+
+    /**
+     * @param decorators Email decorators
+     * @param asyncDecorators Asynchronous email decorators
+     */
+    @Inject
+    public EmailDecoratorPipeline(List<EmailDecorator> decorators,
+                                  List<AsyncEmailDecorator> asyncDecorators) {
+        List<Ordered> all = new ArrayList<>(decorators.size() + asyncDecorators.size());
+        all.addAll(decorators);
+        all.addAll(asyncDecorators);
+        OrderUtil.sort(all);
+        this.decorators = all.toArray(new Ordered[0]);
+        List<EmailDecorator> recipients = new ArrayList<>();
+        List<EmailDecorator> bodies = new ArrayList<>();
+        for (Ordered decorator : this.decorators) {
+            if (decorator instanceof EmailDecorator emailDecorator) {
+                if (emailDecorator.decoratesRecipients()) {
+                    recipients.add(emailDecorator);
+                }
+                if (emailDecorator.decoratesBody()) {
+                    bodies.add(emailDecorator);
+                }
+            }
+        }
+        this.recipientDecorators = recipients.toArray(new EmailDecorator[0]);
+        this.bodyDecorators = bodies.toArray(new EmailDecorator[0]);
+        this.blocking = asyncDecorators.isEmpty();
+    }
+
+    /**
+     * @param decorators Email decorators
+     */
+    public EmailDecoratorPipeline(List<EmailDecorator> decorators) {
+        this(decorators, Collections.emptyList());
+    }
+
+    /**
+     *
+     * @return Whether the pipeline contains an {@link AsyncEmailDecorator}. If not, {@link #decorate(Email.Builder)} never blocks on a decorator.
+     */
+    public boolean hasAsyncDecorators() {
+        return !blocking;
+    }
+
+    /**
+     * Decorates the email builder. It blocks until every {@link AsyncEmailDecorator} completes.
+     * @param emailBuilder Email Builder
+     */
+    public void decorate(@NonNull @NotNull Email.Builder emailBuilder) {
+        decorate(emailBuilder, null);
+    }
+
+    /**
+     * Decorates the email builder of an email sent by the given sender. It blocks until every {@link AsyncEmailDecorator} completes.
+     * @param emailBuilder Email Builder
+     * @param senderName Name of the sender which sends the email or null if unknown
+     * @since 2.8.0
+     */
+    public void decorate(@NonNull @NotNull Email.Builder emailBuilder, @Nullable String senderName) {
+        if (blocking) {
+            decorateFrom(emailBuilder, 0, false, senderName);
+            return;
+        }
+        Mono.from(decorateAsync(emailBuilder, senderName)).block();
+    }
+
+    /**
+     * Decorates the email builder, except with the decorators which {@link EmailDecorator#decoratesRecipients() decorate the recipients}, and creates a prototype with it.
+     * It blocks until every {@link AsyncEmailDecorator} completes.
+     * @param emailBuilder Email Builder
+     * @return An email prototype
+     * @since 2.8.0
+     */
+    @NonNull
+    public EmailPrototype prototype(@NonNull @NotNull Email.Builder emailBuilder) {
+        return prototype(emailBuilder, null);
+    }
+
+    /**
+     * Decorates the email builder of a prototype sent by the given sender, except with the decorators which {@link EmailDecorator#decoratesRecipients() decorate the recipients}, and creates a prototype with it.
+     * It blocks until every {@link AsyncEmailDecorator} completes.
+     * @param emailBuilder Email Builder
+     * @param senderName Name of the sender which sends the emails derived from the prototype or null if unknown
+     * @return An email prototype
+     * @since 2.8.0
+     */
+    @NonNull
+    public EmailPrototype prototype(@NonNull @NotNull Email.Builder emailBuilder, @Nullable String senderName) {
+        Mono<Email.Builder> decorated = decorateFrom(emailBuilder, 0, true, senderName);
+        if (!blocking) {
+            decorated.block();
+        }
+        return EmailPrototype.of(emailBuilder);
+    }
+
+    /**
+     * Decorates an email derived from an {@link EmailPrototype} with the decorators which {@link EmailDecorator#decoratesRecipients() decorate the recipients}.
+     * @param email Email derived from a prototype
+     * @return The decorated email, or the same email if there is no such decorator
+     * @since 2.8.0
+     */
+    @NonNull
+    public Email decorateRecipients(@NonNull @NotNull Email email) {
+        if (recipientDecorators.length == 0) {
+            return email;
+        }
+        Email.Builder recipients = Email.builder();
+        addAll(email.getTo(), recipients::to);
+        addAll(email.getCc(), recipients::cc);
+        addAll(email.getBcc(), recipients::bcc);
+        boolean decorated = false;
+        for (EmailDecorator decorator : recipientDecorators) {
+            if (decorator.supports(recipients)) {
+                decorator.decorate(recipients);
+                decorated = true;
+            }
+        }
+        return decorated ? email.withRecipients(recipients.getTo().orElse(null), recipients.getCc().orElse(null), recipients.getBcc().orElse(null)) : email;
+    }
+
+    /**
+     * Decorates the email builder with the decorators which {@link EmailDecorator#decoratesBody() render the body} only.
+     * @param emailBuilder Email Builder
+     * @since 2.8.0
+     */
+    public void decorateBody(@NonNull @NotNull Email.Builder emailBuilder) {
+        decorateBody(emailBuilder, null);
+    }
+
+    /**
+     * Decorates the email builder of an email sent by the given sender with the decorators which {@link EmailDecorator#decoratesBody() render the body} only.
+     * @param emailBuilder Email Builder
+     * @param senderName Name of the sender which sends the email or null if unknown
+     * @since 2.8.0
+     */
+    public void decorateBody(@NonNull @NotNull Email.Builder emailBuilder, @Nullable String senderName) {
+        for (EmailDecorator decorator : bodyDecorators) {
+            if (decorator.supports(emailBuilder)) {
+                decorator.decorate(emailBuilder, senderName);
+            }
+        }
+    }
+
+    private static void addAll(@Nullable Collection<Contact> contacts, @NonNull Consumer<Contact> builder) {
+        if (contacts != null) {
+            for (Contact contact : contacts) {
+                builder.accept(contact);
+            }
+        }
+    }
+
+    /**
+     * Decorates the email builder once the returned {@link Publisher} is subscribed. It never blocks on an {@link AsyncEmailDecorator}.
+     * @param emailBuilder Email Builder
+     * @return A publisher which emits the decorated email builder.
+     */
+    @NonNull
+    @SingleResult
+    public Publisher<Email.Builder> decorateAsync(@NonNull @NotNull Email.Builder emailBuilder) {
+        return decorateAsync(emailBuilder, null);
+    }
+
+    /**
+     * Decorates the email builder of an email sent by the given sender once the returned {@link Publisher} is subscribed. It never blocks on an {@link AsyncEmailDecorator}.
+     * @param emailBuilder Email Builder
+     * @param senderName Name of the sender which sends the email or null if unknown
+     * @return A publisher which emits the decorated email builder.
+     * @since 2.8.0
+     */
+    @NonNull
+    @SingleResult
+    public Publisher<Email.Builder> decorateAsync(@NonNull @NotNull Email.Builder emailBuilder, @Nullable String senderName) {
+        return Mono.defer(() -> decorateFrom(emailBuilder, 0, false, senderName));
+    }
+
+    /**
+     * Applies the decorators from the given index. Synchronous decorators are applied inline until an asynchronous decorator is reached,
+     * which continues the pipeline once it completes.
+     * @param emailBuilder Email Builder
+     * @param index Index of the first decorator to apply
+     * @param prototype Whether to skip the decorators which decorate the recipients
+     * @param senderName Name of the sender which sends the email or null if unknown
+     * @return A Mono which emits the decorated email builder.
+     */
+    @NonNull
+    private Mono<Email.Builder> decorateFrom(@NonNull Email.Builder emailBuilder, int index, boolean prototype, @Nullable String senderName) {
+        for (int i = index; i < decorators.length; i++) {
+            Ordered decorator = decorators[i];
+            if (decorator instanceof EmailDecorator emailDecorator) {
+                if (!(prototype && emailDecorator.decoratesRecipients()) && emailDecorator.supports(emailBuilder)) {
+                    emailDecorator.decorate(emailBuilder, senderName);
+                }
+            } else {
+                AsyncEmailDecorator asyncDecorator = (AsyncEmailDecorator) decorator;
+                if (asyncDecorator.supports(emailBuilder)) {
+                    int next = i + 1;
+                    return Mono.from(asyncDecorator.decorate(emailBuilder))
+                            .then(Mono.defer(() -> decorateFrom(emailBuilder, next, prototype, senderName)));
+                }
+            }
+        }
+        return Mono.just(emailBuilder);
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email;
+
+import io.micronaut.core.annotation.NonNull;
+
+/**
+ * Classifies the exceptions thrown by an email provider. Each provider module registers a classifier as a bean.
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+@FunctionalInterface
+public interface EmailErrorClassifier {
+
+    /**
+     * Classifies an exception. Implementations classify only the exception supplied, not its causes.
+     * @param throwable Exception thrown while sending an email
+     * @return The error type or {@link EmailErrorType#UNKNOWN} if the classifier does not recognize the exception
+     */
+    @NonNull
+    EmailErrorType classify(@NonNull Throwable throwable);
+}
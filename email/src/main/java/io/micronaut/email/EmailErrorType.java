@@ -0,0 +1,51 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email;
+
+/**
+ * Classifies why sending an email failed.
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+public enum EmailErrorType {
+    /**
+     * A temporary failure, such as a network error, a timeout, a provider 5xx response or an SMTP 4xx deferral. Sending the email again may succeed.
+     */
+    TRANSIENT,
+
+    /**
+     * The provider rejected the request because a rate limit or quota was exceeded, for example an HTTP 429 response. Sending the email again later may succeed.
+     */
+    THROTTLED,
+
+    /**
+     * The provider rejected the email, for example because of an invalid recipient, invalid credentials or an SMTP 5xx reply. Sending the same email again fails.
+     */
+    PERMANENT,
+
+    /**
+     * The failure was not classified.
+     */
+    UNKNOWN;
+
+    /**
+     *
+     * @return Whether sending the email again may succeed.
+     */
+    public boolean isRetryable() {
+        return this == TRANSIENT || this == THROTTLED;
+    }
+}
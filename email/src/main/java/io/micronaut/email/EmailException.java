@@ -15,6 +15,8 @@
  */
 package io.micronaut.email;
 
+import io.micronaut.core.annotation.NonNull;
+
 /**
  * Wraps exceptions being thrown while sending emails in a {@link RuntimeException}.
  * @author Sergio del Amo
@@ -22,12 +24,15 @@ package io.micronaut.email;
  */
 public class EmailException extends RuntimeException {
 
+    @NonNull
+    private final EmailErrorType errorType;
+
     /**
      *
      * @param e Exception thrown while sending email.
      */
     public EmailException(Throwable e) {
-        super(e);
+        this(e, EmailErrorType.UNKNOWN);
     }
 
     /**
@@ -35,6 +40,47 @@ public class EmailException extends RuntimeException {
      * @param message exception cause
      */
     public EmailException(String message) {
+        this(message, EmailErrorType.UNKNOWN);
+    }
+
+    /**
+     *
+     * @param e Exception thrown while sending email.
+     * @param errorType Error type
+     * @since 2.8.0
+     */
+    public EmailException(Throwable e, @NonNull EmailErrorType errorType) {
+        super(e);
+        this.errorType = errorType;
+    }
+
+    /**
+     *
+     * @param message exception cause
+     * @param errorType Error type
+     * @since 2.8.0
+     */
+    public EmailException(String message, @NonNull EmailErrorType errorType) {
         super(message);
+        this.errorType = errorType;
+    }
+
+    /**
+     *
+     * @return Why sending the email failed.
+     * @since 2.8.0
+     */
+    @NonNull
+    public EmailErrorType getErrorType() {
+        return errorType;
+    }
+
+    /**
+     *
+     * @return Whether sending the email again may succeed.
+     * @since 2.8.0
+     */
+    public boolean isRetryable() {
+        return errorType.isRetryable();
     }
 }
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email;
+
+/**
+ * Priority of an email. If {@link io.micronaut.email.priority.PriorityConfiguration priority lanes} are enabled, emails are sent through the lane of their priority.
+ * For example, give password resets a high priority and marketing campaigns a low one, so that a campaign does not delay time-critical emails.
+ *
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+public enum EmailPriority {
+    /**
+     * Time-critical emails, such as password resets or one-time codes.
+     */
+    HIGH,
+
+    /**
+     * The default priority.
+     */
+    NORMAL,
+
+    /**
+     * Bulk emails, such as newsletters or campaigns.
+     */
+    LOW
+}
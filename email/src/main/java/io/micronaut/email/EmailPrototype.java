@@ -0,0 +1,271 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * An email which is decorated and rendered once and then sent to many recipients.
+ * Emails derived from a prototype share its sender, reply-to, subject, body and attachments by reference. Only the recipients and, optionally, the merge fields differ.
+ * Merge fields replace the {@code {{name}}} placeholders of the subject and of the body. Their values are HTML-escaped when they replace placeholders of the HTML part.
+ * Composers detect the shared parts with {@link Email#getPrototype()} and compose them once.
+ * Create a prototype with {@link BulkEmailSender#prototype(Email.Builder)}, which applies the decorators to it.
+ *
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+public final class EmailPrototype {
+
+    private static final String PLACEHOLDER_START = "{{";
+    private static final String PLACEHOLDER_END = "}}";
+
+    private final Email email;
+
+    @Nullable
+    private final String html;
+
+    @Nullable
+    private final String text;
+
+    private final boolean mergeable;
+
+    private EmailPrototype(@NonNull Email.Builder emailBuilder) {
+        this.email = new Email(emailBuilder.getFrom().orElse(null),
+                copy(emailBuilder.getReplyToList()),
+                copy(emailBuilder.getTo()),
+                copy(emailBuilder.getCc()),
+                copy(emailBuilder.getBcc()),
+                emailBuilder.getSubject().orElse(null),
+                copy(emailBuilder.getAttachments()),
+                emailBuilder.getBody().orElse(null),
+                null,
+                emailBuilder.getPriority().orElse(null),
+                this,
+                null);
+        Body body = email.getBody();
+        this.html = body == null ? null : body.get(BodyType.HTML).orElse(null);
+        this.text = body == null ? null : body.get(BodyType.TEXT).orElse(null);
+        this.mergeable = hasPlaceholder(email.getSubject()) || hasPlaceholder(html) || hasPlaceholder(text);
+    }
+
+    /**
+     * Creates a prototype with the content of an email builder which is already decorated. Its recipients, if any, are recipients of every derived email.
+     * @param emailBuilder Decorated Email Builder
+     * @return An email prototype
+     */
+    @NonNull
+    public static EmailPrototype of(@NonNull Email.Builder emailBuilder) {
+        return new EmailPrototype(emailBuilder);
+    }
+
+    /**
+     * Returns the shared parts as an email without merge fields. Its recipients are the recipients of every derived email.
+     * Composers use it to compose the shared parts once.
+     * @return The prototype's email
+     */
+    @NonNull
+    public Email getEmail() {
+        return email;
+    }
+
+    /**
+     * @return Whether the subject or the body contain placeholders
+     */
+    public boolean isMergeable() {
+        return mergeable;
+    }
+
+    /**
+     * @param to Recipient
+     * @return An email to the recipient
+     */
+    @NonNull
+    public Email email(@NonNull Contact to) {
+        return email(Collections.singletonList(to), null, null, null);
+    }
+
+    /**
+     * @param to Recipient
+     * @param mergeFields Values of the placeholders keyed by name
+     * @return An email to the recipient with the placeholders replaced
+     */
+    @NonNull
+    public Email email(@NonNull Contact to, @Nullable Map<String, String> mergeFields) {
+        return email(Collections.singletonList(to), null, null, mergeFields);
+    }
+
+    /**
+     * Whether the merge fields replace the placeholders of every part of the body with the same values, as providers which substitute them in every part do.
+     * It is false if the prototype has an HTML part and a value is changed by HTML-escaping it.
+     * @param mergeFields Values of the placeholders keyed by name
+     * @return true if the merge fields are merged with the same values into every part of the body
+     */
+    public boolean isSubstitutable(@Nullable Map<String, String> mergeFields) {
+        if (html == null || mergeFields == null) {
+            return true;
+        }
+        for (String value : mergeFields.values()) {
+            if (value != null && escapeHtml(value) != value) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Derives an email. The subject, body and attachments are shared with the prototype unless merge fields replace placeholders of the subject or the body.
+     * The recipient lists are not copied.
+     * @param to To recipients
+     * @param cc Carbon Copy recipients
+     * @param bcc Blind Carbon Copy recipients
+     * @param mergeFields Values of the placeholders keyed by name
+     * @return A derived email
+     */
+    @NonNull
+    public Email email(@Nullable List<Contact> to,
+                       @Nullable List<Contact> cc,
+                       @Nullable List<Contact> bcc,
+                       @Nullable Map<String, String> mergeFields) {
+        String subject = email.getSubject();
+        Body body = email.getBody();
+        if (mergeable && mergeFields != null && !mergeFields.isEmpty()) {
+            subject = merge(subject, mergeFields, false);
+            body = mergeBody(mergeFields);
+        }
+        return new Email(email.getFrom(),
+                (List<Contact>) email.getReplyToCollection(),
+                concat((List<Contact>) email.getTo(), to),
+                concat((List<Contact>) email.getCc(), cc),
+                concat((List<Contact>) email.getBcc(), bcc),
+                subject,
+                email.getAttachments(),
+                body,
+                null,
+                email.getPriority(),
+                this,
+                mergeFields);
+    }
+
+    @Nullable
+    private Body mergeBody(@NonNull Map<String, String> mergeFields) {
+        String mergedHtml = merge(html, mergeFields, true);
+        String mergedText = merge(text, mergeFields, false);
+        if (mergedHtml == html && mergedText == text) {
+            return email.getBody();
+        }
+        if (mergedHtml != null && mergedText != null) {
+            return new MultipartBody(mergedHtml, mergedText);
+        }
+        return mergedHtml != null ? new StringBody(mergedHtml, BodyType.HTML) : new StringBody(mergedText, BodyType.TEXT);
+    }
+
+    /**
+     * Replaces the {@code {{name}}} placeholders whose name is a key of the merge fields. Other placeholders are kept.
+     * @param value Text with placeholders
+     * @param mergeFields Values of the placeholders keyed by name
+     * @param html Whether the text is HTML, thus the values are HTML-escaped
+     * @return The text with the placeholders replaced, or the same instance if no placeholder was replaced
+     */
+    @Nullable
+    static String merge(@Nullable String value, @NonNull Map<String, String> mergeFields, boolean html) {
+        if (value == null) {
+            return null;
+        }
+        StringBuilder result = null;
+        int copied = 0;
+        int start = value.indexOf(PLACEHOLDER_START);
+        while (start >= 0) {
+            int end = value.indexOf(PLACEHOLDER_END, start + PLACEHOLDER_START.length());
+            if (end < 0) {
+                break;
+            }
+            String field = mergeFields.get(value.substring(start + PLACEHOLDER_START.length(), end));
+            if (field != null) {
+                if (html) {
+                    field = escapeHtml(field);
+                }
+                if (result == null) {
+                    result = new StringBuilder(value.length() + field.length());
+                }
+                result.append(value, copied, start).append(field);
+                copied = end + PLACEHOLDER_END.length();
+                start = value.indexOf(PLACEHOLDER_START, copied);
+            } else {
+                start = value.indexOf(PLACEHOLDER_START, start + PLACEHOLDER_START.length());
+            }
+        }
+        return result == null ? value : result.append(value, copied, value.length()).toString();
+    }
+
+    /**
+     * @param value Value
+     * @return The value with the HTML special characters escaped, or the same instance if it has none
+     */
+    @NonNull
+    private static String escapeHtml(@NonNull String value) {
+        StringBuilder sb = null;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            String entity = switch (c) {
+                case '&' -> "&amp;";
+                case '<' -> "&lt;";
+                case '>' -> "&gt;";
+                case '"' -> "&quot;";
+                case '\'' -> "&#39;";
+                default -> null;
+            };
+            if (entity != null) {
+                if (sb == null) {
+                    sb = new StringBuilder(value.length() + entity.length()).append(value, 0, i);
+                }
+                sb.append(entity);
+            } else if (sb != null) {
+                sb.append(c);
+            }
+        }
+        return sb == null ? value : sb.toString();
+    }
+
+    private static boolean hasPlaceholder(@Nullable String value) {
+        return value != null && value.contains(PLACEHOLDER_START);
+    }
+
+    @Nullable
+    private static <T> List<T> copy(@NonNull Optional<List<T>> list) {
+        return list.filter(l -> !l.isEmpty()).map(l -> Collections.unmodifiableList(new ArrayList<>(l))).orElse(null);
+    }
+
+    @Nullable
+    private static List<Contact> concat(@Nullable List<Contact> shared, @Nullable List<Contact> recipients) {
+        if (shared == null) {
+            return recipients;
+        }
+        if (recipients == null || recipients.isEmpty()) {
+            return shared;
+        }
+        List<Contact> result = new ArrayList<>(shared.size() + recipients.size());
+        result.addAll(shared);
+        result.addAll(recipients);
+        return result;
+    }
+}
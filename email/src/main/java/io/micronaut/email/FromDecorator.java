@@ -46,4 +46,9 @@ public class FromDecorator implements EmailDecorator {
             emailBuilder.from(fromConfiguration.getFrom());
         }
     }
+
+    @Override
+    public boolean supports(@NonNull @NotNull Email.Builder emailBuilder) {
+        return !emailBuilder.getFrom().isPresent();
+    }
 }
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email;
+
+import io.micronaut.core.annotation.NonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+
+/**
+ * {@link AttachmentContent} read from a file.
+ *
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+final class PathAttachmentContent implements AttachmentContent {
+
+    private final Path path;
+
+    PathAttachmentContent(@NonNull Path path) {
+        this.path = Objects.requireNonNull(path);
+    }
+
+    @Override
+    @NonNull
+    public InputStream openStream() throws IOException {
+        return Files.newInputStream(path);
+    }
+
+    @Override
+    public long getLength() {
+        try {
+            return Files.size(path);
+        } catch (IOException e) {
+            return UNKNOWN_LENGTH;
+        }
+    }
+
+    @Override
+    @NonNull
+    public byte[] getBytes() throws IOException {
+        return Files.readAllBytes(path);
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email;
+
+import io.micronaut.core.annotation.NonNull;
+
+import java.time.Duration;
+
+/**
+ * Options of {@link AsyncEmailSender#sendMany(org.reactivestreams.Publisher, StreamingOptions)} and
+ * {@link BulkEmailSender#sendMany(org.reactivestreams.Publisher, StreamingOptions)}.
+ * At most {@link #getPrefetch()} email builders are requested from the source ahead of the emails being sent,
+ * thus a large send from a reactive cursor runs in constant memory.
+ *
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+public final class StreamingOptions {
+
+    /**
+     * The default number of emails, or batches, sent concurrently.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final int DEFAULT_CONCURRENCY = 8;
+
+    /**
+     * The default number of email builders requested from the source ahead of time.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final int DEFAULT_PREFETCH = 32;
+
+    /**
+     * The default maximum number of emails in a batch.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final int DEFAULT_BATCH_SIZE = 100;
+
+    /**
+     * The default maximum time in milliseconds to wait for a batch to fill up.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final long DEFAULT_BATCH_TIMEOUT_MILLIS = 1000;
+
+    /**
+     * Options with the default values.
+     */
+    public static final StreamingOptions DEFAULT = builder().build();
+
+    private final int concurrency;
+    private final int prefetch;
+    private final int batchSize;
+    private final Duration batchTimeout;
+
+    private StreamingOptions(int concurrency, int prefetch, int batchSize, @NonNull Duration batchTimeout) {
+        this.concurrency = concurrency;
+        this.prefetch = prefetch;
+        this.batchSize = batchSize;
+        this.batchTimeout = batchTimeout;
+    }
+
+    /**
+     *
+     * @return Streaming options builder
+     */
+    @NonNull
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     *
+     * @return Maximum number of emails, or batches for bulk senders, in flight.
+     */
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    /**
+     *
+     * @return Maximum number of email builders requested from the source ahead of the emails being sent.
+     */
+    public int getPrefetch() {
+        return prefetch;
+    }
+
+    /**
+     *
+     * @return Maximum number of emails in a batch. Only used by bulk senders.
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     *
+     * @return Maximum time to wait for a batch to fill up before sending it. Only used by bulk senders.
+     */
+    @NonNull
+    public Duration getBatchTimeout() {
+        return batchTimeout;
+    }
+
+    /**
+     * Streaming options builder.
+     */
+    public static final class Builder {
+        private int concurrency = DEFAULT_CONCURRENCY;
+        private int prefetch = DEFAULT_PREFETCH;
+        private int batchSize = DEFAULT_BATCH_SIZE;
+        private Duration batchTimeout = Duration.ofMillis(DEFAULT_BATCH_TIMEOUT_MILLIS);
+
+        private Builder() {
+        }
+
+        /**
+         *
+         * @param concurrency Maximum number of emails, or batches, in flight. Default value: `{@value StreamingOptions#DEFAULT_CONCURRENCY}`
+         * @return Streaming options builder
+         */
+        @NonNull
+        public Builder concurrency(int concurrency) {
+            this.concurrency = concurrency;
+            return this;
+        }
+
+        /**
+         *
+         * @param prefetch Maximum number of email builders requested ahead of time. Default value: `{@value StreamingOptions#DEFAULT_PREFETCH}`
+         * @return Streaming options builder
+         */
+        @NonNull
+        public Builder prefetch(int prefetch) {
+            this.prefetch = prefetch;
+            return this;
+        }
+
+        /**
+         *
+         * @param batchSize Maximum number of emails in a batch. Default value: `{@value StreamingOptions#DEFAULT_BATCH_SIZE}`
+         * @return Streaming options builder
+         */
+        @NonNull
+        public Builder batchSize(int batchSize) {
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         *
+         * @param batchTimeout Maximum time to wait for a batch to fill up. Default value: `{@value StreamingOptions#DEFAULT_BATCH_TIMEOUT_MILLIS}` milliseconds
+         * @return Streaming options builder
+         */
+        @NonNull
+        public Builder batchTimeout(@NonNull Duration batchTimeout) {
+            this.batchTimeout = batchTimeout;
+            return this;
+        }
+
+        /**
+         *
+         * @return Streaming options
+         * @throws IllegalArgumentException if the concurrency, the prefetch or the batch size are not positive
+         */
+        @NonNull
+        public StreamingOptions build() {
+            if (concurrency < 1 || prefetch < 1 || batchSize < 1) {
+                throw new IllegalArgumentException("concurrency, prefetch and batch size must be positive");
+            }
+            return new StreamingOptions(concurrency, prefetch, batchSize, batchTimeout);
+        }
+    }
+}
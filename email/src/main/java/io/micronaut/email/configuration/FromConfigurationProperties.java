@@ -20,8 +20,8 @@ import io.micronaut.context.annotation.Requires;
 import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.annotation.Nullable;
 import io.micronaut.email.Contact;
+import io.micronaut.email.validation.EmailAddress;
 
-import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 
 /**
@@ -41,7 +41,7 @@ public class FromConfigurationProperties implements FromConfiguration {
 
     @NonNull
     @NotBlank
-    @Email
+    @EmailAddress
     private String email;
 
     @Nullable
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.digest;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.email.Body;
+import io.micronaut.email.BodyType;
+import io.micronaut.email.Email;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+
+import jakarta.validation.constraints.NotEmpty;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * {@link DigestMerger} which sends a single email as it is and otherwise concatenates the bodies of the emails.
+ * The digest is sent from the sender of the first email, to its recipients, which are the recipients of every email, with its subject followed by the number of emails merged into the digest.
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+@Named(DefaultDigestMerger.NAME)
+@Singleton
+public class DefaultDigestMerger implements DigestMerger {
+
+    /**
+     * Name of the default merger.
+     */
+    public static final String NAME = "default";
+
+    private static final String HTML_SEPARATOR = "<hr>";
+    private static final String TEXT_SEPARATOR = "\n\n---\n\n";
+
+    @Override
+    @NonNull
+    public Email.Builder merge(@NonNull String category, @NonNull @NotEmpty List<Email.Builder> emails) {
+        Email.Builder first = emails.get(0);
+        if (emails.size() == 1) {
+            return first;
+        }
+        Email.Builder digest = Email.builder();
+        first.getFrom().ifPresent(digest::from);
+        first.getReplyTo().ifPresent(digest::replyTo);
+        // the digester only merges emails to the same recipients
+        first.getTo().ifPresent(to -> to.forEach(digest::to));
+        first.getCc().ifPresent(cc -> cc.forEach(digest::cc));
+        first.getBcc().ifPresent(bcc -> bcc.forEach(digest::bcc));
+        digest.subject(first.getSubject().orElse(category) + " (" + emails.size() + ")");
+        StringBuilder html = new StringBuilder();
+        StringBuilder text = new StringBuilder();
+        for (Email.Builder email : emails) {
+            Optional<Body> body = email.getBody();
+            append(html, body.flatMap(b -> b.get(BodyType.HTML)).orElse(null), HTML_SEPARATOR);
+            append(text, body.flatMap(b -> b.get(BodyType.TEXT)).orElse(null), TEXT_SEPARATOR);
+            email.getAttachments().ifPresent(attachments -> attachments.forEach(digest::attachment));
+        }
+        if (!html.isEmpty() && !text.isEmpty()) {
+            digest.body(html.toString(), text.toString());
+        } else if (!html.isEmpty()) {
+            digest.body(html.toString(), BodyType.HTML);
+        } else {
+            digest.body(text.toString());
+        }
+        return digest;
+    }
+
+    private static void append(@NonNull StringBuilder builder, String value, @NonNull String separator) {
+        if (value == null) {
+            return;
+        }
+        if (!builder.isEmpty()) {
+            builder.append(separator);
+        }
+        builder.append(value);
+    }
+}
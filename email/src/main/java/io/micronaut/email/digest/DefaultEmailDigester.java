@@ -0,0 +1,369 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.digest;
+
+import io.micronaut.context.BeanContext;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.email.Contact;
+import io.micronaut.email.Email;
+import io.micronaut.email.EmailDecoratorPipeline;
+import io.micronaut.email.EmailException;
+import io.micronaut.email.EmailSender;
+import io.micronaut.inject.qualifiers.Qualifiers;
+import io.micronaut.scheduling.TaskExecutors;
+import io.micronaut.scheduling.TaskScheduler;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Default implementation of {@link EmailDigester}. Emails are merged with the emails of the same category addressed to exactly the same "To", "Cc" and "Bcc" recipients.
+ * Digests are spread over {@link DigestConfiguration#getShards()} shards by recipients, each guarded by its own lock.
+ * A digest is sent when its category window closes, when it holds {@link DigestCategoryConfiguration#getMaxEmails()} emails or,
+ * if its shard holds more than its share of {@link DigestConfiguration#getMaxBufferedEmails()}, when it is the oldest digest of the shard.
+ * Windows are timed with the {@link TaskExecutors#SCHEDULED} scheduler and digests are merged and sent on the {@link TaskExecutors#IO} executor.
+ * A digest which fails to be sent is held again, together with the emails added to the same digest meanwhile, and sent after {@link DigestConfiguration#getRedeliveryDelay()},
+ * doubled with every failure up to {@link DigestConfiguration#getMaxRedeliveryDelay()}. It counts towards {@link DigestConfiguration#getMaxBufferedEmails()}.
+ * Adding an email to a category without configuration fails. Pending digests are sent when the digester is closed, and those which fail to be sent then are dropped.
+ *
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+@Requires(property = DigestConfigurationProperties.PREFIX + ".enabled", value = StringUtils.TRUE)
+@Singleton
+public class DefaultEmailDigester implements EmailDigester {
+    private static final Logger LOG = LoggerFactory.getLogger(DefaultEmailDigester.class);
+
+    private final BeanContext beanContext;
+    private final EmailDecoratorPipeline emailDecoratorPipeline;
+    private final TaskScheduler taskScheduler;
+    private final ExecutorService executorService;
+    private final Map<String, DigestCategoryConfiguration> categories = new HashMap<>();
+    private final Map<String, DigestMerger> mergers = new ConcurrentHashMap<>();
+    private final Map<String, EmailSender<?, ?>> senders = new ConcurrentHashMap<>();
+    private final Shard[] shards;
+    private final long redeliveryDelayMillis;
+    private final long maxRedeliveryDelayMillis;
+    private volatile boolean closed;
+
+    /**
+     * @param configuration Digest configuration
+     * @param categories Digest category configurations
+     * @param beanContext Bean Context
+     * @param emailDecoratorPipeline Email decorator pipeline, whose body decorators render the bodies before they are merged
+     * @param taskScheduler Task scheduler
+     * @param executorService Executor service
+     */
+    public DefaultEmailDigester(DigestConfiguration configuration,
+                                List<DigestCategoryConfiguration> categories,
+                                BeanContext beanContext,
+                                EmailDecoratorPipeline emailDecoratorPipeline,
+                                @Named(TaskExecutors.SCHEDULED) TaskScheduler taskScheduler,
+                                @Named(TaskExecutors.IO) ExecutorService executorService) {
+        this.beanContext = beanContext;
+        this.emailDecoratorPipeline = emailDecoratorPipeline;
+        this.taskScheduler = taskScheduler;
+        this.executorService = executorService;
+        for (DigestCategoryConfiguration category : categories) {
+            this.categories.put(category.getName(), category);
+        }
+        this.redeliveryDelayMillis = configuration.getRedeliveryDelay().toMillis();
+        this.maxRedeliveryDelayMillis = configuration.getMaxRedeliveryDelay().toMillis();
+        int count = Math.max(1, configuration.getShards());
+        int maxBufferedEmailsPerShard = Math.max(1, configuration.getMaxBufferedEmails() / count);
+        this.shards = new Shard[count];
+        for (int i = 0; i < count; i++) {
+            shards[i] = new Shard(maxBufferedEmailsPerShard);
+        }
+    }
+
+    @Override
+    public void add(@NonNull @NotBlank String category, @NonNull @NotNull Email.Builder emailBuilder) throws EmailException {
+        DigestCategoryConfiguration configuration = categories.get(category);
+        if (configuration == null) {
+            throw new EmailException("Unknown digest category " + category + ". Configure it under " + DigestCategoryConfigurationProperties.PREFIX + "." + category);
+        }
+        String recipient = recipients(emailBuilder);
+        if (recipient == null) {
+            sender(configuration).send(emailBuilder);
+            return;
+        }
+        DigestKey key = new DigestKey(recipient, category);
+        Shard shard = shard(key);
+        List<Digest> full = new ArrayList<>(2);
+        shard.lock.lock();
+        try {
+            Digest digest = shard.digests.get(key);
+            if (digest == null) {
+                digest = new Digest(key, configuration);
+                shard.digests.put(key, digest);
+                Digest scheduled = digest;
+                digest.future = taskScheduler.schedule(configuration.getWindow(), () -> flush(shard, scheduled));
+            }
+            digest.emails.add(emailBuilder);
+            shard.bufferedEmails++;
+            if (digest.emails.size() >= configuration.getMaxEmails()) {
+                full.add(shard.remove(digest));
+            }
+            if (shard.bufferedEmails > shard.maxBufferedEmails) {
+                // the oldest digest of the shard is sent early to keep the memory bounded
+                full.add(shard.remove(shard.digests.values().iterator().next()));
+            }
+        } finally {
+            shard.lock.unlock();
+        }
+        for (Digest digest : full) {
+            send(digest);
+        }
+    }
+
+    /**
+     * Every recipient of the email, by kind and in a canonical order, thus emails are only merged with emails to exactly the same recipients.
+     * @param emailBuilder Email builder
+     * @return The recipients or null if the email has none
+     */
+    @Nullable
+    private static String recipients(@NonNull Email.Builder emailBuilder) {
+        StringBuilder sb = new StringBuilder();
+        appendRecipients(sb, "to:", emailBuilder.getTo().orElse(null));
+        appendRecipients(sb, "cc:", emailBuilder.getCc().orElse(null));
+        appendRecipients(sb, "bcc:", emailBuilder.getBcc().orElse(null));
+        return sb.isEmpty() ? null : sb.toString();
+    }
+
+    private static void appendRecipients(@NonNull StringBuilder sb, @NonNull String kind, @Nullable List<Contact> contacts) {
+        if (contacts == null || contacts.isEmpty()) {
+            return;
+        }
+        List<String> addresses = new ArrayList<>(contacts.size());
+        for (Contact contact : contacts) {
+            addresses.add(contact.getEmail().toLowerCase(Locale.ROOT));
+        }
+        Collections.sort(addresses);
+        sb.append(kind);
+        for (String address : addresses) {
+            sb.append(address).append(',');
+        }
+    }
+
+    @Override
+    public void flush() {
+        for (Shard shard : shards) {
+            List<Digest> pending;
+            shard.lock.lock();
+            try {
+                pending = new ArrayList<>(shard.digests.values());
+                for (Digest digest : pending) {
+                    shard.remove(digest);
+                }
+            } finally {
+                shard.lock.unlock();
+            }
+            for (Digest digest : pending) {
+                deliver(digest);
+            }
+        }
+    }
+
+    /**
+     * Sends the pending digests.
+     */
+    @PreDestroy
+    public void close() {
+        closed = true;
+        flush();
+    }
+
+    @NonNull
+    private Shard shard(@NonNull DigestKey key) {
+        return shards[Math.floorMod(key.recipients.hashCode(), shards.length)];
+    }
+
+    private void flush(@NonNull Shard shard, @NonNull Digest digest) {
+        shard.lock.lock();
+        try {
+            if (shard.digests.get(digest.key) != digest) {
+                // already sent because it was full
+                return;
+            }
+            shard.remove(digest);
+        } finally {
+            shard.lock.unlock();
+        }
+        send(digest);
+    }
+
+    private void send(@NonNull Digest digest) {
+        try {
+            executorService.execute(() -> deliver(digest));
+        } catch (RejectedExecutionException e) {
+            deliver(digest);
+        }
+    }
+
+    private void deliver(@NonNull Digest digest) {
+        try {
+            EmailSender<?, ?> sender = sender(digest.configuration);
+            for (Email.Builder email : digest.emails) {
+                // template bodies are empty until they are rendered
+                emailDecoratorPipeline.decorateBody(email, sender.getName());
+            }
+            Email.Builder merged = merger(digest.key.category).merge(digest.key.category, digest.emails);
+            sender.send(merged);
+        } catch (RuntimeException e) {
+            redeliver(digest, e);
+        }
+    }
+
+    private void redeliver(@NonNull Digest failed, @NonNull RuntimeException failure) {
+        if (closed) {
+            LOG.error("Could not send the {} digest of {} emails to {}. The digester is closed, thus the emails are dropped", failed.key.category, failed.emails.size(), failed.key.recipients, failure);
+            return;
+        }
+        long delay = redeliveryDelayMillis;
+        for (int i = 0; i < failed.failures && delay < maxRedeliveryDelayMillis; i++) {
+            delay *= 2;
+        }
+        delay = Math.max(0, Math.min(delay, maxRedeliveryDelayMillis));
+        LOG.error("Could not send the {} digest of {} emails to {}. It will be sent again in {} ms", failed.key.category, failed.emails.size(), failed.key.recipients, delay, failure);
+        Shard shard = shard(failed.key);
+        shard.lock.lock();
+        try {
+            // the emails added to the same digest meanwhile are sent together with the failed ones
+            Digest digest = shard.digests.get(failed.key);
+            if (digest == null) {
+                digest = new Digest(failed.key, failed.configuration);
+                shard.digests.put(failed.key, digest);
+            } else if (digest.future != null) {
+                digest.future.cancel(false);
+            }
+            digest.emails.addAll(0, failed.emails);
+            digest.failures = failed.failures + 1;
+            shard.bufferedEmails += failed.emails.size();
+            Digest scheduled = digest;
+            digest.future = taskScheduler.schedule(Duration.ofMillis(delay), () -> flush(shard, scheduled));
+        } finally {
+            shard.lock.unlock();
+        }
+    }
+
+    @NonNull
+    private DigestMerger merger(@NonNull String category) {
+        return mergers.computeIfAbsent(category, name -> beanContext.findBean(DigestMerger.class, Qualifiers.byName(name))
+                .orElseGet(() -> beanContext.getBean(DigestMerger.class, Qualifiers.byName(DefaultDigestMerger.NAME))));
+    }
+
+    @NonNull
+    private EmailSender<?, ?> sender(@NonNull DigestCategoryConfiguration configuration) {
+        String name = configuration.getSender();
+        return senders.computeIfAbsent(name == null ? "" : name, n -> name == null
+                ? beanContext.getBean(EmailSender.class)
+                : beanContext.getBean(EmailSender.class, Qualifiers.byName(name)));
+    }
+
+    /**
+     * Digests of the recipients of a shard, in insertion order.
+     */
+    private static final class Shard {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Map<DigestKey, Digest> digests = new LinkedHashMap<>();
+        private final int maxBufferedEmails;
+        private int bufferedEmails;
+
+        private Shard(int maxBufferedEmails) {
+            this.maxBufferedEmails = maxBufferedEmails;
+        }
+
+        @NonNull
+        private Digest remove(@NonNull Digest digest) {
+            digests.remove(digest.key);
+            bufferedEmails -= digest.emails.size();
+            ScheduledFuture<?> future = digest.future;
+            if (future != null) {
+                future.cancel(false);
+            }
+            return digest;
+        }
+    }
+
+    /**
+     * Emails held for the same recipients and category.
+     */
+    private static final class Digest {
+        private final DigestKey key;
+        private final DigestCategoryConfiguration configuration;
+        private final List<Email.Builder> emails = new ArrayList<>();
+        @Nullable
+        private ScheduledFuture<?> future;
+        private int failures;
+
+        private Digest(DigestKey key, DigestCategoryConfiguration configuration) {
+            this.key = key;
+            this.configuration = configuration;
+        }
+    }
+
+    /**
+     * Recipients and category of a digest.
+     */
+    private static final class DigestKey {
+        private final String recipients;
+        private final String category;
+
+        private DigestKey(String recipients, String category) {
+            this.recipients = recipients;
+            this.category = category;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof DigestKey that)) {
+                return false;
+            }
+            return recipients.equals(that.recipients) && category.equals(that.category);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(recipients, category);
+        }
+    }
+}
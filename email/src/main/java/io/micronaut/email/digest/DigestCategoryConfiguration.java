@@ -0,0 +1,50 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.digest;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.naming.Named;
+
+import java.time.Duration;
+
+/**
+ * Digest configuration of the category whose name matches {@link #getName()}.
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+public interface DigestCategoryConfiguration extends Named {
+
+    /**
+     *
+     * @return How long emails are held, from the first email of a digest, before they are merged and sent.
+     */
+    @NonNull
+    Duration getWindow();
+
+    /**
+     *
+     * @return Maximum number of emails merged into a digest. A full digest is sent before its window closes.
+     */
+    int getMaxEmails();
+
+    /**
+     *
+     * @return Name of the {@link io.micronaut.email.EmailSender} which sends the digests. If null, the only sender is used.
+     */
+    @Nullable
+    String getSender();
+}
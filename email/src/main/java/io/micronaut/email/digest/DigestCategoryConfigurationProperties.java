@@ -0,0 +1,118 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.digest;
+
+import io.micronaut.context.annotation.EachProperty;
+import io.micronaut.context.annotation.Parameter;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+
+import java.time.Duration;
+
+/**
+ * {@link EachProperty} implementation of {@link DigestCategoryConfiguration}. The property name is the category, for example `micronaut.email.digest.categories.comments.window`.
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+@EachProperty(DigestCategoryConfigurationProperties.PREFIX)
+public class DigestCategoryConfigurationProperties implements DigestCategoryConfiguration {
+
+    /**
+     * Digest category configuration prefix.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final String PREFIX = DigestConfigurationProperties.PREFIX + ".categories";
+
+    /**
+     * The default window in seconds.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final long DEFAULT_WINDOW_SECONDS = 60;
+
+    /**
+     * The default maximum number of emails merged into a digest.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final int DEFAULT_MAX_EMAILS = 50;
+
+    private final String name;
+
+    @NonNull
+    private Duration window = Duration.ofSeconds(DEFAULT_WINDOW_SECONDS);
+
+    private int maxEmails = DEFAULT_MAX_EMAILS;
+
+    @Nullable
+    private String sender;
+
+    /**
+     *
+     * @param name Category
+     */
+    public DigestCategoryConfigurationProperties(@Parameter String name) {
+        this.name = name;
+    }
+
+    @Override
+    @NonNull
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    @NonNull
+    public Duration getWindow() {
+        return window;
+    }
+
+    /**
+     * How long emails are held, from the first email of a digest, before they are merged and sent. Default value: `{@value #DEFAULT_WINDOW_SECONDS}` seconds
+     *
+     * @param window Digest window
+     */
+    public void setWindow(@NonNull Duration window) {
+        this.window = window;
+    }
+
+    @Override
+    public int getMaxEmails() {
+        return maxEmails;
+    }
+
+    /**
+     * Maximum number of emails merged into a digest. A full digest is sent before its window closes. Default value: `{@value #DEFAULT_MAX_EMAILS}`
+     *
+     * @param maxEmails Maximum number of emails per digest
+     */
+    public void setMaxEmails(int maxEmails) {
+        this.maxEmails = maxEmails;
+    }
+
+    @Override
+    @Nullable
+    public String getSender() {
+        return sender;
+    }
+
+    /**
+     * Name of the email sender which sends the digests. If not set, the only sender is used.
+     *
+     * @param sender Sender name
+     */
+    public void setSender(@Nullable String sender) {
+        this.sender = sender;
+    }
+}
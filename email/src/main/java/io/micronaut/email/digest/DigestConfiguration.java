@@ -0,0 +1,55 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.digest;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.util.Toggleable;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the {@link EmailDigester}.
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+public interface DigestConfiguration extends Toggleable {
+
+    /**
+     *
+     * @return Maximum number of emails held by the digester. Once a shard is full, its oldest digest is sent early.
+     */
+    int getMaxBufferedEmails();
+
+    /**
+     *
+     * @return Number of independently locked shards. Recipients are spread over the shards.
+     */
+    int getShards();
+
+    /**
+     *
+     * @return Delay before a digest which failed to be sent is sent again. The delay doubles with every failure.
+     */
+    @NonNull
+    Duration getRedeliveryDelay();
+
+    /**
+     *
+     * @return Maximum delay before a digest which failed to be sent is sent again.
+     */
+    @NonNull
+    Duration getMaxRedeliveryDelay();
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.digest;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.annotation.NonNull;
+
+import java.time.Duration;
+
+/**
+ * {@link ConfigurationProperties} implementation of {@link DigestConfiguration}.
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+@ConfigurationProperties(DigestConfigurationProperties.PREFIX)
+public class DigestConfigurationProperties implements DigestConfiguration {
+
+    /**
+     * Digest configuration prefix.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final String PREFIX = "micronaut.email.digest";
+
+    /**
+     * The default enable value.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final boolean DEFAULT_ENABLED = false;
+
+    /**
+     * The default maximum number of buffered emails.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final int DEFAULT_MAX_BUFFERED_EMAILS = 10_000;
+
+    /**
+     * The default redelivery delay in seconds.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final long DEFAULT_REDELIVERY_DELAY_SECONDS = 30;
+
+    /**
+     * The default maximum redelivery delay in minutes.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final long DEFAULT_MAX_REDELIVERY_DELAY_MINUTES = 60;
+
+    private boolean enabled = DEFAULT_ENABLED;
+
+    private int maxBufferedEmails = DEFAULT_MAX_BUFFERED_EMAILS;
+
+    private int shards = Runtime.getRuntime().availableProcessors();
+
+    @NonNull
+    private Duration redeliveryDelay = Duration.ofSeconds(DEFAULT_REDELIVERY_DELAY_SECONDS);
+
+    @NonNull
+    private Duration maxRedeliveryDelay = Duration.ofMinutes(DEFAULT_MAX_REDELIVERY_DELAY_MINUTES);
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Whether emails added to the {@link EmailDigester} are merged per recipient and category. Default value: `{@value #DEFAULT_ENABLED}`
+     *
+     * @param enabled True if the digester is enabled
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    public int getMaxBufferedEmails() {
+        return maxBufferedEmails;
+    }
+
+    /**
+     * Maximum number of emails held by the digester. Once a shard is full, its oldest digest is sent early. Default value: `{@value #DEFAULT_MAX_BUFFERED_EMAILS}`
+     *
+     * @param maxBufferedEmails Maximum number of buffered emails
+     */
+    public void setMaxBufferedEmails(int maxBufferedEmails) {
+        this.maxBufferedEmails = maxBufferedEmails;
+    }
+
+    @Override
+    public int getShards() {
+        return shards;
+    }
+
+    /**
+     * Number of independently locked shards. Recipients are spread over the shards. Default value: the number of available processors
+     *
+     * @param shards Number of shards
+     */
+    public void setShards(int shards) {
+        this.shards = shards;
+    }
+
+    @Override
+    @NonNull
+    public Duration getRedeliveryDelay() {
+        return redeliveryDelay;
+    }
+
+    /**
+     * Delay before a digest which failed to be sent is held again and sent. The delay doubles with every failure. Default value: `{@value #DEFAULT_REDELIVERY_DELAY_SECONDS}` seconds
+     *
+     * @param redeliveryDelay Redelivery delay
+     */
+    public void setRedeliveryDelay(@NonNull Duration redeliveryDelay) {
+        this.redeliveryDelay = redeliveryDelay;
+    }
+
+    @Override
+    @NonNull
+    public Duration getMaxRedeliveryDelay() {
+        return maxRedeliveryDelay;
+    }
+
+    /**
+     * Maximum delay before a digest which failed to be sent is sent again. Default value: `{@value #DEFAULT_MAX_REDELIVERY_DELAY_MINUTES}` minutes
+     *
+     * @param maxRedeliveryDelay Maximum redelivery delay
+     */
+    public void setMaxRedeliveryDelay(@NonNull Duration maxRedeliveryDelay) {
+        this.maxRedeliveryDelay = maxRedeliveryDelay;
+    }
+}
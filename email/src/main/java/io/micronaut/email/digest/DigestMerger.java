@@ -0,0 +1,41 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.digest;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.email.Email;
+
+import jakarta.validation.constraints.NotEmpty;
+import java.util.List;
+
+/**
+ * Merges the emails held for a recipient and category into a digest.
+ * The {@link EmailDigester} uses the bean {@link jakarta.inject.Named named} after the category or, if there is none, {@link DefaultDigestMerger}.
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+@FunctionalInterface
+public interface DigestMerger {
+
+    /**
+     * Merges emails into a digest. For example, it can return an email whose body is a template rendered with the models of every email.
+     * @param category Category
+     * @param emails Emails in the order they were added
+     * @return The digest
+     */
+    @NonNull
+    Email.Builder merge(@NonNull String category, @NonNull @NotEmpty List<Email.Builder> emails);
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.digest;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.email.Email;
+import io.micronaut.email.EmailException;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Holds emails per recipients and category and, once the category window closes, merges them into a digest with a {@link DigestMerger} and sends it.
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+public interface EmailDigester {
+
+    /**
+     * Adds an email to the digest of its recipients and the category. Emails are only merged with emails to exactly the same "To", "Cc" and "Bcc" recipients.
+     * An email without recipients is sent immediately.
+     * @param category Category, for example the kind of notification. It must be configured.
+     * @param emailBuilder Email builder
+     * @throws EmailException if the category is not configured, or if the email is sent immediately and sending fails
+     */
+    void add(@NonNull @NotBlank String category, @NonNull @NotNull Email.Builder emailBuilder) throws EmailException;
+
+    /**
+     * Merges and sends every digest without waiting for their windows to close.
+     */
+    void flush();
+}
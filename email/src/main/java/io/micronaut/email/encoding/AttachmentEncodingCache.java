@@ -0,0 +1,82 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.encoding;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.email.AttachmentContent;
+
+import java.io.IOException;
+import java.util.Base64;
+
+/**
+ * Cache of the encoded representations of attachment contents, shared by every composer. Identical attachments are encoded once instead of once per email.
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+public interface AttachmentEncodingCache {
+
+    /**
+     *
+     * @param content Attachment content
+     * @return Whether the encodings of the content are cached. Composers which can stream an attachment should stream a content which is not cached instead of encoding it in memory.
+     */
+    default boolean isCacheable(@NonNull AttachmentContent content) {
+        return true;
+    }
+
+    /**
+     *
+     * @param content Attachment content
+     * @return The content encoded as Base64 without line breaks, as {@link AttachmentContent#toBase64()} does
+     * @throws IOException if the content cannot be read
+     */
+    @NonNull
+    String base64(@NonNull AttachmentContent content) throws IOException;
+
+    /**
+     *
+     * @param content Attachment content
+     * @return The content encoded as MIME Base64, in lines of 76 characters separated by CRLF, as the body of a MIME part
+     * @throws IOException if the content cannot be read
+     */
+    @NonNull
+    byte[] mimeBase64(@NonNull AttachmentContent content) throws IOException;
+
+    /**
+     *
+     * @param cache Attachment encoding cache. If null, the content is encoded every time.
+     * @param content Attachment content
+     * @return The content encoded as Base64 without line breaks
+     * @throws IOException if the content cannot be read
+     */
+    @NonNull
+    static String base64(@Nullable AttachmentEncodingCache cache, @NonNull AttachmentContent content) throws IOException {
+        return cache != null ? cache.base64(content) : content.toBase64();
+    }
+
+    /**
+     *
+     * @param cache Attachment encoding cache. If null, the content is encoded every time.
+     * @param content Attachment content
+     * @return The content encoded as MIME Base64
+     * @throws IOException if the content cannot be read
+     */
+    @NonNull
+    static byte[] mimeBase64(@Nullable AttachmentEncodingCache cache, @NonNull AttachmentContent content) throws IOException {
+        return cache != null ? cache.mimeBase64(content) : Base64.getMimeEncoder().encode(content.getBytes());
+    }
+}
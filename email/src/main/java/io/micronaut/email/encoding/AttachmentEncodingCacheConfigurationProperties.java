@@ -0,0 +1,99 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.encoding;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+
+/**
+ * {@link ConfigurationProperties} implementation of {@link AttachmentEncodingCacheConfiguration}.
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+@ConfigurationProperties(AttachmentEncodingCacheConfigurationProperties.PREFIX)
+public class AttachmentEncodingCacheConfigurationProperties implements AttachmentEncodingCacheConfiguration {
+
+    /**
+     * Attachment encoding cache configuration prefix.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final String PREFIX = "micronaut.email.attachment-cache";
+
+    /**
+     * The default enable value.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final boolean DEFAULT_ENABLED = true;
+
+    /**
+     * The default maximum total size in bytes.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final long DEFAULT_MAX_SIZE = 16L * 1024 * 1024;
+
+    /**
+     * The default minimum attachment size in bytes.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final long DEFAULT_MIN_ATTACHMENT_SIZE = 1024;
+
+    private boolean enabled = DEFAULT_ENABLED;
+
+    private long maxSize = DEFAULT_MAX_SIZE;
+
+    private long minAttachmentSize = DEFAULT_MIN_ATTACHMENT_SIZE;
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Whether the encodings of attachments are cached and shared by every email with the same attachment content. Default value: `{@value #DEFAULT_ENABLED}`
+     *
+     * @param enabled True if the cache is enabled
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    public long getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Maximum total size in bytes of the cached encodings. The least recently used encodings are evicted first. Default value: `{@value #DEFAULT_MAX_SIZE}`
+     *
+     * @param maxSize Maximum total size in bytes
+     */
+    public void setMaxSize(long maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    public long getMinAttachmentSize() {
+        return minAttachmentSize;
+    }
+
+    /**
+     * Minimum size in bytes of the attachments whose encodings are cached. Smaller attachments are encoded every time. Default value: `{@value #DEFAULT_MIN_ATTACHMENT_SIZE}`
+     *
+     * @param minAttachmentSize Minimum attachment size in bytes
+     */
+    public void setMinAttachmentSize(long minAttachmentSize) {
+        this.minAttachmentSize = minAttachmentSize;
+    }
+}
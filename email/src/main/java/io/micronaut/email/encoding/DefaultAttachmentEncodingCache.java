@@ -0,0 +1,183 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.encoding;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.email.AttachmentContent;
+import jakarta.inject.Singleton;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * {@link AttachmentEncodingCache} keyed by the SHA-256 digest and the length of the content, thus attachments with the same bytes share their encodings even if they are different instances.
+ * The cache is bounded by the total size of the encodings and evicts the least recently used ones first.
+ * The digest of an {@link AttachmentContent#isImmutable() immutable} content is computed once per instance, thus sending the same attachment again neither hashes nor encodes it.
+ *
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+@Requires(property = AttachmentEncodingCacheConfigurationProperties.PREFIX + ".enabled", notEquals = StringUtils.FALSE)
+@Singleton
+public class DefaultAttachmentEncodingCache implements AttachmentEncodingCache {
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    private static final int BUFFER_SIZE = 8192;
+    private static final char BASE64 = 'b';
+    private static final char MIME_BASE64 = 'm';
+
+    private final long maxSize;
+    private final long minAttachmentSize;
+    private final Map<AttachmentContent, String> digests = Collections.synchronizedMap(new WeakHashMap<>());
+    private final LinkedHashMap<String, Object> encodings = new LinkedHashMap<>(16, 0.75f, true);
+    private long size;
+
+    /**
+     *
+     * @param configuration Attachment encoding cache configuration
+     */
+    public DefaultAttachmentEncodingCache(AttachmentEncodingCacheConfiguration configuration) {
+        this.maxSize = configuration.getMaxSize();
+        this.minAttachmentSize = configuration.getMinAttachmentSize();
+    }
+
+    @Override
+    @NonNull
+    public String base64(@NonNull AttachmentContent content) throws IOException {
+        String key = key(BASE64, content);
+        if (key == null) {
+            return content.toBase64();
+        }
+        Object cached = get(key);
+        if (cached != null) {
+            return (String) cached;
+        }
+        String encoded = content.toBase64();
+        put(key, encoded, encoded.length());
+        return encoded;
+    }
+
+    @Override
+    @NonNull
+    public byte[] mimeBase64(@NonNull AttachmentContent content) throws IOException {
+        String key = key(MIME_BASE64, content);
+        if (key == null) {
+            return Base64.getMimeEncoder().encode(content.getBytes());
+        }
+        Object cached = get(key);
+        if (cached != null) {
+            return (byte[]) cached;
+        }
+        byte[] encoded = Base64.getMimeEncoder().encode(content.getBytes());
+        put(key, encoded, encoded.length);
+        return encoded;
+    }
+
+    @Override
+    public boolean isCacheable(@NonNull AttachmentContent content) {
+        long length = content.getLength();
+        // Base64 expands the content by 4/3
+        return length >= minAttachmentSize && length / 3 * 4 <= maxSize;
+    }
+
+    /**
+     *
+     * @return Total size in bytes of the cached encodings
+     */
+    public long size() {
+        synchronized (encodings) {
+            return size;
+        }
+    }
+
+    /**
+     *
+     * @param kind Kind of encoding
+     * @param content Attachment content
+     * @return Cache key or null if the content is not cached
+     * @throws IOException if the content cannot be read
+     */
+    @Nullable
+    private String key(char kind, @NonNull AttachmentContent content) throws IOException {
+        if (!isCacheable(content)) {
+            return null;
+        }
+        long length = content.getLength();
+        String digest = content.isImmutable() ? digests.get(content) : null;
+        if (digest == null) {
+            digest = digest(content) + ':' + length;
+            if (content.isImmutable()) {
+                digests.put(content, digest);
+            }
+        }
+        return kind + digest;
+    }
+
+    @NonNull
+    private static String digest(@NonNull AttachmentContent content) throws IOException {
+        MessageDigest messageDigest;
+        try {
+            messageDigest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        byte[] buffer = new byte[BUFFER_SIZE];
+        try (InputStream inputStream = content.openStream()) {
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                messageDigest.update(buffer, 0, read);
+            }
+        }
+        return new String(Base64.getEncoder().encode(messageDigest.digest()), StandardCharsets.ISO_8859_1);
+    }
+
+    @Nullable
+    private Object get(@NonNull String key) {
+        synchronized (encodings) {
+            return encodings.get(key);
+        }
+    }
+
+    private void put(@NonNull String key, @NonNull Object encoded, long encodedSize) {
+        if (encodedSize > maxSize) {
+            return;
+        }
+        synchronized (encodings) {
+            if (encodings.putIfAbsent(key, encoded) != null) {
+                return;
+            }
+            size += encodedSize;
+            Iterator<Map.Entry<String, Object>> eldest = encodings.entrySet().iterator();
+            while (size > maxSize && eldest.hasNext()) {
+                Object evicted = eldest.next().getValue();
+                eldest.remove();
+                size -= evicted instanceof String string ? string.length() : ((byte[]) evicted).length;
+            }
+        }
+    }
+}
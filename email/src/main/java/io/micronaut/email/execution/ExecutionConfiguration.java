@@ -0,0 +1,41 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.execution;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.naming.Named;
+
+/**
+ * Where the blocking sends of the sender whose {@link io.micronaut.email.TransactionalEmailSender#getName()} matches {@link #getName()} run
+ * when an email is sent asynchronously.
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+public interface ExecutionConfiguration extends Named {
+
+    /**
+     *
+     * @return Name of the {@link java.util.concurrent.ExecutorService} bean which runs the blocking sends.
+     */
+    @NonNull
+    String getExecutor();
+
+    /**
+     *
+     * @return Maximum number of blocking sends in flight. Zero or a negative value means unlimited.
+     */
+    int getMaxConcurrency();
+}
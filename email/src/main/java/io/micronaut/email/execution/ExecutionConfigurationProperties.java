@@ -0,0 +1,98 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.execution;
+
+import io.micronaut.context.annotation.EachProperty;
+import io.micronaut.context.annotation.Parameter;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.scheduling.TaskExecutors;
+
+/**
+ * {@link EachProperty} implementation of {@link ExecutionConfiguration}. The property name is the sender name, for example `micronaut.email.execution.javaxmail.executor`.
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+@EachProperty(ExecutionConfigurationProperties.PREFIX)
+public class ExecutionConfigurationProperties implements ExecutionConfiguration {
+
+    /**
+     * Execution configuration prefix.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final String PREFIX = "micronaut.email.execution";
+
+    /**
+     * The default executor. It uses virtual threads if they are available and the IO executor otherwise.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final String DEFAULT_EXECUTOR = TaskExecutors.BLOCKING;
+
+    /**
+     * The default maximum concurrency, unlimited.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final int DEFAULT_MAX_CONCURRENCY = 0;
+
+    private final String name;
+
+    @NonNull
+    private String executor = DEFAULT_EXECUTOR;
+
+    private int maxConcurrency = DEFAULT_MAX_CONCURRENCY;
+
+    /**
+     *
+     * @param name Sender name
+     */
+    public ExecutionConfigurationProperties(@Parameter String name) {
+        this.name = name;
+    }
+
+    @Override
+    @NonNull
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    @NonNull
+    public String getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Name of the executor which runs the blocking sends, for example `virtual` or an executor configured under `micronaut.executors`. Default value: `{@value #DEFAULT_EXECUTOR}`
+     *
+     * @param executor Executor name
+     */
+    public void setExecutor(@NonNull String executor) {
+        this.executor = executor;
+    }
+
+    @Override
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * Maximum number of blocking sends in flight. Further sends wait for one to complete. Zero means unlimited. Default value: `{@value #DEFAULT_MAX_CONCURRENCY}`
+     *
+     * @param maxConcurrency Maximum number of blocking sends in flight
+     */
+    public void setMaxConcurrency(int maxConcurrency) {
+        this.maxConcurrency = maxConcurrency;
+    }
+}
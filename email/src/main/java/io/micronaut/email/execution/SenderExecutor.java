@@ -0,0 +1,158 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.execution;
+
+import io.micronaut.core.annotation.NonNull;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Runs the blocking sends of a sender on an {@link ExecutorService}, with at most a maximum number of them in flight.
+ * A send is only handed to the executor once it holds a permit. Sends waiting for a permit are queued without occupying a thread,
+ * and a completed send hands its permit to the oldest one still waiting.
+ *
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+public final class SenderExecutor {
+
+    private final ExecutorService executorService;
+
+    private final Scheduler scheduler;
+
+    private final boolean bounded;
+
+    private final Deque<Pending<?>> waiting = new ArrayDeque<>();
+
+    private int available;
+
+    /**
+     *
+     * @param executorService Executor service
+     * @param maxConcurrency Maximum number of sends in flight. Zero or a negative value means unlimited.
+     */
+    public SenderExecutor(@NonNull ExecutorService executorService, int maxConcurrency) {
+        this.executorService = executorService;
+        this.scheduler = Schedulers.fromExecutorService(executorService);
+        this.bounded = maxConcurrency > 0;
+        this.available = maxConcurrency;
+    }
+
+    /**
+     *
+     * @param send Blocking send
+     * @param <O> Email Response
+     * @return A Mono which runs the send on the executor once subscribed
+     */
+    @NonNull
+    public <O> Mono<O> execute(@NonNull Callable<O> send) {
+        if (!bounded) {
+            return Mono.fromCallable(send).subscribeOn(scheduler);
+        }
+        // cancelling the Mono cancels the future, thus a send still waiting for a permit is skipped
+        return Mono.fromFuture(() -> submit(send));
+    }
+
+    /**
+     * Runs the send on the executor without going through a {@link Mono}.
+     * @param send Blocking send
+     * @param <O> Email Response
+     * @return A future which completes with the result of the send
+     */
+    @NonNull
+    public <O> CompletableFuture<O> submit(@NonNull Callable<O> send) {
+        Pending<O> pending = new Pending<>(send, new CompletableFuture<>());
+        if (bounded) {
+            synchronized (waiting) {
+                if (available == 0) {
+                    waiting.add(pending);
+                    return pending.future;
+                }
+                available--;
+            }
+        }
+        dispatch(pending);
+        return pending.future;
+    }
+
+    /**
+     *
+     * @return Number of sends which can start without waiting, or {@link Integer#MAX_VALUE} if the concurrency is unlimited.
+     */
+    public int availablePermits() {
+        if (!bounded) {
+            return Integer.MAX_VALUE;
+        }
+        synchronized (waiting) {
+            return available;
+        }
+    }
+
+    private void dispatch(@NonNull Pending<?> pending) {
+        try {
+            executorService.execute(() -> run(pending));
+        } catch (RejectedExecutionException e) {
+            pending.future.completeExceptionally(e);
+            release();
+        }
+    }
+
+    private <O> void run(@NonNull Pending<O> pending) {
+        try {
+            if (!pending.future.isDone()) {
+                pending.future.complete(pending.send.call());
+            }
+        } catch (Exception e) {
+            pending.future.completeExceptionally(e);
+        } finally {
+            release();
+        }
+    }
+
+    private void release() {
+        if (!bounded) {
+            return;
+        }
+        Pending<?> next;
+        synchronized (waiting) {
+            do {
+                next = waiting.poll();
+            } while (next != null && next.future.isDone());
+            if (next == null) {
+                available++;
+                return;
+            }
+        }
+        dispatch(next);
+    }
+
+    /**
+     * A send and the future completed with its result.
+     * @param send Blocking send
+     * @param future Result of the send
+     * @param <O> Email Response
+     */
+    private record Pending<O>(@NonNull Callable<O> send, @NonNull CompletableFuture<O> future) {
+    }
+}
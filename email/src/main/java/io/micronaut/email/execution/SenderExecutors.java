@@ -0,0 +1,73 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.execution;
+
+import io.micronaut.context.BeanContext;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.inject.qualifiers.Qualifiers;
+import jakarta.inject.Singleton;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Holds a {@link SenderExecutor} for every {@link ExecutionConfiguration}, keyed by sender name.
+ * The executors are looked up when a sender first sends an email asynchronously.
+ *
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+@Singleton
+public class SenderExecutors {
+
+    private final BeanContext beanContext;
+    private final Map<String, ExecutionConfiguration> configurations;
+    private final Map<String, SenderExecutor> executors = new ConcurrentHashMap<>();
+
+    /**
+     *
+     * @param beanContext Bean Context
+     * @param configurations Execution configurations
+     */
+    public SenderExecutors(BeanContext beanContext, List<ExecutionConfiguration> configurations) {
+        this.beanContext = beanContext;
+        Map<String, ExecutionConfiguration> map = new HashMap<>();
+        for (ExecutionConfiguration configuration : configurations) {
+            map.put(configuration.getName(), configuration);
+        }
+        this.configurations = map;
+    }
+
+    /**
+     *
+     * @param senderName Sender name
+     * @param defaultExecutorService Executor service used if the sender has no execution configuration
+     * @return The executor of the sender
+     */
+    @NonNull
+    public SenderExecutor get(@NonNull String senderName, @NonNull ExecutorService defaultExecutorService) {
+        ExecutionConfiguration configuration = configurations.get(senderName);
+        if (configuration == null) {
+            return new SenderExecutor(defaultExecutorService, 0);
+        }
+        return executors.computeIfAbsent(senderName, name -> new SenderExecutor(
+                beanContext.getBean(ExecutorService.class, Qualifiers.byName(configuration.getExecutor())),
+                configuration.getMaxConcurrency()));
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.failover;
+
+import io.micronaut.core.annotation.NonNull;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Lock-free circuit breaker. It opens after a number of consecutive failures. While open, it rejects calls until the open duration elapses
+ * and then lets a single call through to probe the sender. A success closes it. A failure keeps it open for another open duration.
+ *
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+public class CircuitBreaker {
+
+    private final int failureThreshold;
+    private final long openNanos;
+    private final LongSupplier clock;
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicLong nextProbeAt = new AtomicLong();
+
+    /**
+     *
+     * @param failureThreshold Number of consecutive failures after which the circuit opens
+     * @param openDuration Duration the circuit stays open before a probe
+     */
+    public CircuitBreaker(int failureThreshold, @NonNull Duration openDuration) {
+        this(failureThreshold, openDuration, System::nanoTime);
+    }
+
+    /**
+     *
+     * @param failureThreshold Number of consecutive failures after which the circuit opens
+     * @param openDuration Duration the circuit stays open before a probe
+     * @param clock Monotonic clock in nanoseconds
+     */
+    CircuitBreaker(int failureThreshold, @NonNull Duration openDuration, @NonNull LongSupplier clock) {
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openNanos = openDuration.toNanos();
+        this.clock = clock;
+    }
+
+    /**
+     *
+     * @return Whether a call is allowed. If the circuit is open and the open duration elapsed, only the first caller is allowed.
+     */
+    public boolean tryAcquire() {
+        if (consecutiveFailures.get() < failureThreshold) {
+            return true;
+        }
+        long now = clock.getAsLong();
+        long probeAt = nextProbeAt.get();
+        return now - probeAt >= 0 && nextProbeAt.compareAndSet(probeAt, now + openNanos);
+    }
+
+    /**
+     * Records a successful call and closes the circuit.
+     */
+    public void onSuccess() {
+        if (consecutiveFailures.get() != 0) {
+            consecutiveFailures.set(0);
+        }
+    }
+
+    /**
+     * Records a failed call.
+     */
+    public void onFailure() {
+        if (consecutiveFailures.incrementAndGet() == failureThreshold) {
+            nextProbeAt.set(clock.getAsLong() + openNanos);
+        }
+    }
+
+    /**
+     *
+     * @return Whether calls are being rejected.
+     */
+    public boolean isOpen() {
+        return consecutiveFailures.get() >= failureThreshold;
+    }
+}
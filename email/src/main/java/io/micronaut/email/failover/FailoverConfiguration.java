@@ -0,0 +1,50 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.failover;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.util.Toggleable;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Configuration of the {@link FailoverEmailSender}.
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+public interface FailoverConfiguration extends Toggleable {
+
+    /**
+     *
+     * @return Names of the senders, in the order in which they are tried.
+     */
+    @NonNull
+    List<String> getSenders();
+
+    /**
+     *
+     * @return Number of consecutive transient failures after which a sender is skipped.
+     */
+    int getFailureThreshold();
+
+    /**
+     *
+     * @return Duration a sender is skipped before a single email is sent through it to probe whether it recovered.
+     */
+    @NonNull
+    Duration getOpenDuration();
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.failover;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.annotation.NonNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link ConfigurationProperties} implementation of {@link FailoverConfiguration}.
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+@ConfigurationProperties(FailoverConfigurationProperties.PREFIX)
+public class FailoverConfigurationProperties implements FailoverConfiguration {
+
+    /**
+     * Failover configuration prefix.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final String PREFIX = "micronaut.email.failover";
+
+    /**
+     * The default enable value.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final boolean DEFAULT_ENABLED = false;
+
+    /**
+     * The default failure threshold.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final int DEFAULT_FAILURE_THRESHOLD = 5;
+
+    /**
+     * The default open duration in seconds.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final long DEFAULT_OPEN_DURATION_SECONDS = 30;
+
+    private boolean enabled = DEFAULT_ENABLED;
+
+    @NonNull
+    private List<String> senders = new ArrayList<>();
+
+    private int failureThreshold = DEFAULT_FAILURE_THRESHOLD;
+
+    @NonNull
+    private Duration openDuration = Duration.ofSeconds(DEFAULT_OPEN_DURATION_SECONDS);
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Whether a failover sender, named `failover`, is registered. Default value: `{@value #DEFAULT_ENABLED}`
+     *
+     * @param enabled True if the failover sender is enabled
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    @NonNull
+    public List<String> getSenders() {
+        return senders;
+    }
+
+    /**
+     * Names of the senders, for example `ses` and `postmark`, in the order in which they are tried.
+     *
+     * @param senders Sender names
+     */
+    public void setSenders(@NonNull List<String> senders) {
+        this.senders = senders;
+    }
+
+    @Override
+    public int getFailureThreshold() {
+        return failureThreshold;
+    }
+
+    /**
+     * Number of consecutive transient failures after which a sender is skipped. Default value: `{@value #DEFAULT_FAILURE_THRESHOLD}`
+     *
+     * @param failureThreshold Failure threshold
+     */
+    public void setFailureThreshold(int failureThreshold) {
+        this.failureThreshold = failureThreshold;
+    }
+
+    @Override
+    @NonNull
+    public Duration getOpenDuration() {
+        return openDuration;
+    }
+
+    /**
+     * Duration a sender is skipped before a single email is sent through it to probe whether it recovered. Default value: `{@value #DEFAULT_OPEN_DURATION_SECONDS}` seconds
+     *
+     * @param openDuration Open duration
+     */
+    public void setOpenDuration(@NonNull Duration openDuration) {
+        this.openDuration = openDuration;
+    }
+}
@@ -0,0 +1,241 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.failover;
+
+import io.micronaut.context.BeanContext;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.async.annotation.SingleResult;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.email.AsyncTransactionalEmailSender;
+import io.micronaut.email.Email;
+import io.micronaut.email.EmailErrorType;
+import io.micronaut.email.EmailException;
+import io.micronaut.email.TransactionalEmailSender;
+import io.micronaut.email.ratelimit.RateLimitedAsyncTransactionalEmailSender;
+import io.micronaut.email.ratelimit.RateLimitedTransactionalEmailSender;
+import io.micronaut.email.ratelimit.RateLimiters;
+import io.micronaut.email.retry.RetryPolicies;
+import io.micronaut.email.retry.RetryingAsyncTransactionalEmailSender;
+import io.micronaut.email.retry.RetryingTransactionalEmailSender;
+import io.micronaut.inject.qualifiers.Qualifiers;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Mono;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Sends an email through the first of {@link FailoverConfiguration#getSenders()} which accepts it.
+ * If a sender fails with a {@link EmailErrorType#isRetryable() retryable} error, the next sender is tried. Other errors are thrown immediately.
+ * Each sender is rate limited and retried with its own rate limit and retry policy before the next sender is tried.
+ * Each sender has a {@link CircuitBreaker}, thus a sender which keeps failing is skipped without waiting for it to fail again.
+ * The email request customizer receives the request of the sender which sends the email.
+ *
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+@Requires(property = FailoverConfigurationProperties.PREFIX + ".enabled", value = StringUtils.TRUE)
+@Named(FailoverEmailSender.NAME)
+@Singleton
+public class FailoverEmailSender implements TransactionalEmailSender<Object, Object>, AsyncTransactionalEmailSender<Object, Object> {
+    /**
+     * {@link FailoverEmailSender} name.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final String NAME = "failover";
+
+    private static final Logger LOG = LoggerFactory.getLogger(FailoverEmailSender.class);
+
+    private final BeanContext beanContext;
+    private final RateLimiters rateLimiters;
+    private final RetryPolicies retryPolicies;
+    private final List<Candidate> candidates;
+
+    /**
+     *
+     * @param configuration Failover configuration
+     * @param beanContext Bean Context
+     * @param rateLimiters Rate limiters of the senders
+     * @param retryPolicies Retry policies of the senders, also used to classify failures
+     */
+    public FailoverEmailSender(FailoverConfiguration configuration,
+                               BeanContext beanContext,
+                               RateLimiters rateLimiters,
+                               RetryPolicies retryPolicies) {
+        this.beanContext = beanContext;
+        this.rateLimiters = rateLimiters;
+        this.retryPolicies = retryPolicies;
+        List<Candidate> list = new ArrayList<>(configuration.getSenders().size());
+        for (String sender : configuration.getSenders()) {
+            list.add(new Candidate(sender, new CircuitBreaker(configuration.getFailureThreshold(), configuration.getOpenDuration())));
+        }
+        this.candidates = list;
+    }
+
+    @Override
+    @NonNull
+    public String getName() {
+        return NAME;
+    }
+
+    /**
+     *
+     * @param senderName Sender name
+     * @return The circuit breaker of the sender or null if the sender is not configured
+     */
+    @Nullable
+    public CircuitBreaker getCircuitBreaker(@NonNull String senderName) {
+        for (Candidate candidate : candidates) {
+            if (candidate.name.equals(senderName)) {
+                return candidate.circuitBreaker;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    @NonNull
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public Object send(@NonNull @NotNull @Valid Email email,
+                       @NonNull @NotNull Consumer<Object> emailRequest) throws EmailException {
+        RuntimeException failure = null;
+        for (Candidate candidate : candidates) {
+            String name = candidate.name;
+            CircuitBreaker circuitBreaker = candidate.circuitBreaker;
+            if (!circuitBreaker.tryAcquire()) {
+                continue;
+            }
+            try {
+                TransactionalEmailSender sender = sender(candidate);
+                Object response = sender.send(email, emailRequest);
+                circuitBreaker.onSuccess();
+                return response;
+            } catch (RuntimeException e) {
+                if (!failover(name, circuitBreaker, e)) {
+                    throw e;
+                }
+                failure = e;
+            }
+        }
+        throw unavailable(failure);
+    }
+
+    @Override
+    @NonNull
+    @SingleResult
+    public Publisher<Object> sendAsync(@NonNull @NotNull @Valid Email email,
+                                       @NonNull @NotNull Consumer<Object> emailRequest) throws EmailException {
+        return Mono.defer(() -> sendAsync(email, emailRequest, 0, null));
+    }
+
+    @NonNull
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Mono<Object> sendAsync(@NonNull Email email,
+                                   @NonNull Consumer<Object> emailRequest,
+                                   int index,
+                                   @Nullable Throwable failure) {
+        for (int i = index; i < candidates.size(); i++) {
+            Candidate candidate = candidates.get(i);
+            String name = candidate.name;
+            CircuitBreaker circuitBreaker = candidate.circuitBreaker;
+            if (!circuitBreaker.tryAcquire()) {
+                continue;
+            }
+            int next = i + 1;
+            return Mono.defer(() -> {
+                    AsyncTransactionalEmailSender sender = asyncSender(candidate);
+                    return Mono.from((Publisher<Object>) sender.sendAsync(email, emailRequest));
+                })
+                .doOnSuccess(response -> circuitBreaker.onSuccess())
+                .onErrorResume(e -> failover(name, circuitBreaker, e)
+                        ? sendAsync(email, emailRequest, next, e)
+                        : Mono.error(e));
+        }
+        return Mono.error(unavailable(failure));
+    }
+
+    @NonNull
+    private TransactionalEmailSender<?, ?> sender(@NonNull Candidate candidate) {
+        TransactionalEmailSender<?, ?> result = candidate.sender;
+        if (result == null) {
+            TransactionalEmailSender<?, ?> bean = beanContext.getBean(TransactionalEmailSender.class, Qualifiers.byName(candidate.name));
+            result = RetryingTransactionalEmailSender.of(RateLimitedTransactionalEmailSender.of(bean, rateLimiters), retryPolicies);
+            candidate.sender = result;
+        }
+        return result;
+    }
+
+    @NonNull
+    private AsyncTransactionalEmailSender<?, ?> asyncSender(@NonNull Candidate candidate) {
+        AsyncTransactionalEmailSender<?, ?> result = candidate.asyncSender;
+        if (result == null) {
+            AsyncTransactionalEmailSender<?, ?> bean = beanContext.getBean(AsyncTransactionalEmailSender.class, Qualifiers.byName(candidate.name));
+            result = RetryingAsyncTransactionalEmailSender.of(RateLimitedAsyncTransactionalEmailSender.of(bean, rateLimiters), retryPolicies);
+            candidate.asyncSender = result;
+        }
+        return result;
+    }
+
+    private boolean failover(@NonNull String name, @NonNull CircuitBreaker circuitBreaker, @NonNull Throwable failure) {
+        EmailErrorType errorType = retryPolicies.get(name).classify(failure);
+        if (!errorType.isRetryable()) {
+            if (errorType == EmailErrorType.PERMANENT) {
+                // the sender is up, it rejected this email
+                circuitBreaker.onSuccess();
+            }
+            return false;
+        }
+        circuitBreaker.onFailure();
+        if (LOG.isWarnEnabled()) {
+            LOG.warn("Sender {} failed with a {} error, trying the next sender", name, errorType);
+        }
+        return true;
+    }
+
+    @NonNull
+    private static EmailException unavailable(@Nullable Throwable failure) {
+        if (failure instanceof EmailException emailException) {
+            return emailException;
+        }
+        return failure != null
+                ? new EmailException(failure, EmailErrorType.TRANSIENT)
+                : new EmailException("No email sender available, every circuit breaker is open", EmailErrorType.TRANSIENT);
+    }
+
+    /**
+     * A sender name, its circuit breaker and the sender decorated with its rate limit and retry policy.
+     */
+    private static final class Candidate {
+        private final String name;
+        private final CircuitBreaker circuitBreaker;
+        private volatile TransactionalEmailSender<?, ?> sender;
+        private volatile AsyncTransactionalEmailSender<?, ?> asyncSender;
+
+        private Candidate(String name, CircuitBreaker circuitBreaker) {
+            this.name = name;
+            this.circuitBreaker = circuitBreaker;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.idempotency;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.email.EmailErrorType;
+import io.micronaut.email.EmailException;
+
+/**
+ * Thrown when an email with the same idempotency key is being sent, or was sent but the {@link IdempotencyStore} did not keep its response.
+ * The email is not sent again.
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+public class DuplicateEmailException extends EmailException {
+
+    @NonNull
+    private final String idempotencyKey;
+
+    private final boolean completed;
+
+    /**
+     *
+     * @param idempotencyKey Idempotency key
+     * @param completed Whether the email with the same key has been sent
+     */
+    public DuplicateEmailException(@NonNull String idempotencyKey, boolean completed) {
+        super((completed ? "An email with idempotency key " + idempotencyKey + " has already been sent"
+                : "An email with idempotency key " + idempotencyKey + " is being sent"), EmailErrorType.PERMANENT);
+        this.idempotencyKey = idempotencyKey;
+        this.completed = completed;
+    }
+
+    /**
+     *
+     * @return Idempotency key
+     */
+    @NonNull
+    public String getIdempotencyKey() {
+        return idempotencyKey;
+    }
+
+    /**
+     *
+     * @return Whether the email with the same key has been sent. If false, it is being sent.
+     */
+    public boolean isCompleted() {
+        return completed;
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.idempotency;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.util.Toggleable;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the {@link IdempotencyStore}.
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+public interface IdempotencyConfiguration extends Toggleable {
+
+    /**
+     *
+     * @return How long an idempotency key is remembered after the email is sent.
+     */
+    @NonNull
+    Duration getTtl();
+
+    /**
+     *
+     * @return Maximum number of idempotency keys kept in memory.
+     */
+    int getMaxSize();
+
+    /**
+     *
+     * @return Number of independently locked stripes of the in-memory store.
+     */
+    int getStripes();
+}
@@ -0,0 +1,257 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.idempotency;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.annotation.NonNull;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * {@link ConfigurationProperties} implementation of {@link IdempotencyConfiguration}.
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+@ConfigurationProperties(IdempotencyConfigurationProperties.PREFIX)
+public class IdempotencyConfigurationProperties implements IdempotencyConfiguration {
+
+    /**
+     * Idempotency configuration prefix.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final String PREFIX = "micronaut.email.idempotency";
+
+    /**
+     * The default enable value.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final boolean DEFAULT_ENABLED = false;
+
+    /**
+     * The default time to live in hours.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final long DEFAULT_TTL_HOURS = 24;
+
+    /**
+     * The default maximum number of keys kept in memory.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final int DEFAULT_MAX_SIZE = 10_000;
+
+    /**
+     * The default number of stripes.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final int DEFAULT_STRIPES = 16;
+
+    private boolean enabled = DEFAULT_ENABLED;
+
+    @NonNull
+    private Duration ttl = Duration.ofHours(DEFAULT_TTL_HOURS);
+
+    private int maxSize = DEFAULT_MAX_SIZE;
+
+    private int stripes = DEFAULT_STRIPES;
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Whether emails with an idempotency key are sent at most once. Default value: `{@value #DEFAULT_ENABLED}`
+     *
+     * @param enabled True if idempotency keys are checked
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    @NonNull
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    /**
+     * How long an idempotency key is remembered after the email is sent. Default value: `{@value #DEFAULT_TTL_HOURS}` hours
+     *
+     * @param ttl Time to live of an idempotency key
+     */
+    public void setTtl(@NonNull Duration ttl) {
+        this.ttl = ttl;
+    }
+
+    @Override
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Maximum number of idempotency keys kept in memory. The oldest keys are evicted first. Default value: `{@value #DEFAULT_MAX_SIZE}`
+     *
+     * @param maxSize Maximum number of keys
+     */
+    public void setMaxSize(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    public int getStripes() {
+        return stripes;
+    }
+
+    /**
+     * Number of independently locked stripes of the in-memory store. More stripes reduce contention between concurrent sends. Default value: `{@value #DEFAULT_STRIPES}`
+     *
+     * @param stripes Number of stripes
+     */
+    public void setStripes(int stripes) {
+        this.stripes = stripes;
+    }
+
+    /**
+     * {@link ConfigurationProperties} implementation of {@link JdbcIdempotencyStoreConfiguration}.
+     */
+    @ConfigurationProperties("jdbc")
+    public static class JdbcIdempotencyStoreConfigurationProperties implements JdbcIdempotencyStoreConfiguration {
+
+        /**
+         * JDBC idempotency store prefix.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final String PREFIX = IdempotencyConfigurationProperties.PREFIX + ".jdbc";
+
+        /**
+         * The default enable value.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final boolean DEFAULT_ENABLED = false;
+
+        /**
+         * The default data source name.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final String DEFAULT_DATASOURCE = "default";
+
+        /**
+         * The default table name.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final String DEFAULT_TABLE_NAME = "email_idempotency";
+
+        /**
+         * The default create table value.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final boolean DEFAULT_CREATE_TABLE = true;
+
+        /**
+         * The default allowed response classes.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final List<String> DEFAULT_ALLOWED_RESPONSE_CLASSES = Collections.emptyList();
+
+        private boolean enabled = DEFAULT_ENABLED;
+
+        @NonNull
+        private String datasource = DEFAULT_DATASOURCE;
+
+        @NonNull
+        private String tableName = DEFAULT_TABLE_NAME;
+
+        private boolean createTable = DEFAULT_CREATE_TABLE;
+
+        @NonNull
+        private List<String> allowedResponseClasses = DEFAULT_ALLOWED_RESPONSE_CLASSES;
+
+        @Override
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * Whether idempotency keys are stored in a database instead of in memory. Default value: `{@value #DEFAULT_ENABLED}`
+         *
+         * @param enabled True if idempotency keys are stored in a database
+         */
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        @Override
+        @NonNull
+        public String getDatasource() {
+            return datasource;
+        }
+
+        /**
+         * Name of the data source where idempotency keys are stored. Default value: `{@value #DEFAULT_DATASOURCE}`
+         *
+         * @param datasource Data source name
+         */
+        public void setDatasource(@NonNull String datasource) {
+            this.datasource = datasource;
+        }
+
+        @Override
+        @NonNull
+        public String getTableName() {
+            return tableName;
+        }
+
+        /**
+         * Name of the table where idempotency keys are stored. Default value: `{@value #DEFAULT_TABLE_NAME}`
+         *
+         * @param tableName Table name
+         */
+        public void setTableName(@NonNull String tableName) {
+            this.tableName = tableName;
+        }
+
+        @Override
+        public boolean isCreateTable() {
+            return createTable;
+        }
+
+        /**
+         * Whether the table is created on startup if it does not exist. Default value: `{@value #DEFAULT_CREATE_TABLE}`
+         *
+         * @param createTable True if the table should be created
+         */
+        public void setCreateTable(boolean createTable) {
+            this.createTable = createTable;
+        }
+
+        @Override
+        @NonNull
+        public List<String> getAllowedResponseClasses() {
+            return allowedResponseClasses;
+        }
+
+        /**
+         * Patterns of the classes, besides the `java.lang`, `java.util`, `java.time` and `java.math` ones, which stored responses may be deserialized into, for example `com.example.mail.*`. Stored responses of other classes are rejected. Default value: empty
+         *
+         * @param allowedResponseClasses Class name patterns
+         */
+        public void setAllowedResponseClasses(@NonNull List<String> allowedResponseClasses) {
+            this.allowedResponseClasses = allowedResponseClasses;
+        }
+    }
+}
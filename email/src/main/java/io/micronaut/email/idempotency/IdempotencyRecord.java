@@ -0,0 +1,92 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.idempotency;
+
+import io.micronaut.core.annotation.Nullable;
+
+/**
+ * Record of an email in an {@link IdempotencyStore}.
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+public final class IdempotencyRecord {
+
+    private static final IdempotencyRecord PENDING = new IdempotencyRecord(false, false, null);
+    private static final IdempotencyRecord COMPLETED_WITHOUT_RESPONSE = new IdempotencyRecord(true, false, null);
+
+    private final boolean completed;
+
+    private final boolean responseStored;
+
+    @Nullable
+    private final Object response;
+
+    private IdempotencyRecord(boolean completed, boolean responseStored, @Nullable Object response) {
+        this.completed = completed;
+        this.responseStored = responseStored;
+        this.response = response;
+    }
+
+    /**
+     *
+     * @return Record of an email being sent.
+     */
+    public static IdempotencyRecord pending() {
+        return PENDING;
+    }
+
+    /**
+     *
+     * @param response Response of the email provider. Null if the provider returned no response.
+     * @return Record of an email already sent whose response the store keeps.
+     */
+    public static IdempotencyRecord completed(@Nullable Object response) {
+        return new IdempotencyRecord(true, true, response);
+    }
+
+    /**
+     *
+     * @return Record of an email already sent whose response the store did not keep.
+     */
+    public static IdempotencyRecord completedWithoutResponse() {
+        return COMPLETED_WITHOUT_RESPONSE;
+    }
+
+    /**
+     *
+     * @return Whether the email has been sent.
+     */
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    /**
+     *
+     * @return Whether the email has been sent and the store kept its response, even if the provider returned no response.
+     */
+    public boolean isResponseStored() {
+        return responseStored;
+    }
+
+    /**
+     *
+     * @return Response of the email provider. Null if the email is being sent, the provider returned no response or the store did not keep the response.
+     */
+    @Nullable
+    public Object getResponse() {
+        return response;
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.idempotency;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+
+import java.util.Optional;
+
+/**
+ * Stores the idempotency keys of the emails being sent or already sent, see {@link io.micronaut.email.Email#getIdempotencyKey()}.
+ * It is consulted before the provider is called. Keys are reserved before sending an email, completed with the response once it is sent
+ * and released if sending fails, so that the email can be sent again.
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+public interface IdempotencyStore {
+
+    /**
+     * Reserves the key for an email about to be sent.
+     * @param key Idempotency key
+     * @return Empty if the key has been reserved by this invocation. Otherwise, the record of the email with the same key.
+     */
+    @NonNull
+    Optional<IdempotencyRecord> reserve(@NonNull String key);
+
+    /**
+     * Marks the email as sent.
+     * @param key Idempotency key
+     * @param response Response of the email provider
+     */
+    void complete(@NonNull String key, @Nullable Object response);
+
+    /**
+     * Releases a reserved key because the email could not be sent.
+     * @param key Idempotency key
+     */
+    void release(@NonNull String key);
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.idempotency;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.async.annotation.SingleResult;
+import io.micronaut.email.AsyncTransactionalEmailSender;
+import io.micronaut.email.Email;
+import io.micronaut.email.EmailException;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Mono;
+
+import jakarta.validation.constraints.NotNull;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
+
+/**
+ * {@link AsyncTransactionalEmailSender} decorator which sends emails with an {@link Email#getIdempotencyKey()} at most once.
+ * The key is reserved when the returned {@link Publisher} is subscribed, or when {@link #sendStage(Email, Consumer)} is called. Sending an email whose key has already been sent emits the response of the first send without calling the provider.
+ * If the subscription is cancelled once the provider has been called, the email may have been sent, thus the key is not released and stays reserved until it expires.
+ * @author Sergio del Amo
+ * @since 2.8.0
+ * @param <I> Email Request
+ * @param <O> Email Response
+ */
+public class IdempotentAsyncTransactionalEmailSender<I, O> implements AsyncTransactionalEmailSender<I, O> {
+
+    private final AsyncTransactionalEmailSender<I, O> transactionalEmailSender;
+    private final IdempotencyStore idempotencyStore;
+
+    /**
+     *
+     * @param transactionalEmailSender Transactional Email Sender
+     * @param idempotencyStore Idempotency store
+     */
+    public IdempotentAsyncTransactionalEmailSender(@NonNull AsyncTransactionalEmailSender<I, O> transactionalEmailSender,
+                                                   @NonNull IdempotencyStore idempotencyStore) {
+        this.transactionalEmailSender = transactionalEmailSender;
+        this.idempotencyStore = idempotencyStore;
+    }
+
+    @Override
+    @NonNull
+    public String getName() {
+        return transactionalEmailSender.getName();
+    }
+
+    @Override
+    @NonNull
+    @SingleResult
+    public Publisher<O> sendAsync(@NonNull @NotNull Email email, @NonNull @NotNull Consumer<I> emailRequest) throws EmailException {
+        String key = email.getIdempotencyKey();
+        if (key == null) {
+            return transactionalEmailSender.sendAsync(email, emailRequest);
+        }
+        return Mono.defer(() -> {
+            Optional<IdempotencyRecord> idempotencyRecord = idempotencyStore.reserve(key);
+            if (idempotencyRecord.isPresent()) {
+                return Mono.fromCallable(() -> IdempotentTransactionalEmailSender.<O>duplicate(key, idempotencyRecord.get()));
+            }
+            return Mono.from(transactionalEmailSender.sendAsync(email, emailRequest))
+                    .doOnSuccess(response -> idempotencyStore.complete(key, response))
+                    .doOnError(e -> idempotencyStore.release(key));
+        });
+    }
+
+    @Override
+    @NonNull
+    public CompletionStage<O> sendStage(@NonNull @NotNull Email email, @NonNull @NotNull Consumer<I> emailRequest) {
+        String key = email.getIdempotencyKey();
+        if (key == null) {
+            return transactionalEmailSender.sendStage(email, emailRequest);
+        }
+        try {
+            Optional<IdempotencyRecord> idempotencyRecord = idempotencyStore.reserve(key);
+            if (idempotencyRecord.isPresent()) {
+                return CompletableFuture.completedFuture(IdempotentTransactionalEmailSender.<O>duplicate(key, idempotencyRecord.get()));
+            }
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        CompletionStage<O> stage;
+        try {
+            stage = transactionalEmailSender.sendStage(email, emailRequest);
+        } catch (RuntimeException e) {
+            idempotencyStore.release(key);
+            return CompletableFuture.failedFuture(e);
+        }
+        return stage.whenComplete((response, e) -> {
+            if (e == null) {
+                idempotencyStore.complete(key, response);
+            } else {
+                idempotencyStore.release(key);
+            }
+        });
+    }
+}
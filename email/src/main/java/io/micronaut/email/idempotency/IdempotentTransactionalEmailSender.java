@@ -0,0 +1,96 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.idempotency;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.email.Email;
+import io.micronaut.email.EmailException;
+import io.micronaut.email.TransactionalEmailSender;
+
+import jakarta.validation.constraints.NotNull;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * {@link TransactionalEmailSender} decorator which sends emails with an {@link Email#getIdempotencyKey()} at most once.
+ * Sending an email whose key has already been sent returns the response of the first send without calling the provider.
+ * @author Sergio del Amo
+ * @since 2.8.0
+ * @param <I> Email Request
+ * @param <O> Email Response
+ */
+public class IdempotentTransactionalEmailSender<I, O> implements TransactionalEmailSender<I, O> {
+
+    private final TransactionalEmailSender<I, O> transactionalEmailSender;
+    private final IdempotencyStore idempotencyStore;
+
+    /**
+     *
+     * @param transactionalEmailSender Transactional Email Sender
+     * @param idempotencyStore Idempotency store
+     */
+    public IdempotentTransactionalEmailSender(@NonNull TransactionalEmailSender<I, O> transactionalEmailSender,
+                                              @NonNull IdempotencyStore idempotencyStore) {
+        this.transactionalEmailSender = transactionalEmailSender;
+        this.idempotencyStore = idempotencyStore;
+    }
+
+    @Override
+    @NonNull
+    public String getName() {
+        return transactionalEmailSender.getName();
+    }
+
+    @Override
+    @NonNull
+    public O send(@NonNull @NotNull Email email, @NonNull @NotNull Consumer<I> emailRequest) throws EmailException {
+        String key = email.getIdempotencyKey();
+        if (key == null) {
+            return transactionalEmailSender.send(email, emailRequest);
+        }
+        Optional<IdempotencyRecord> idempotencyRecord = idempotencyStore.reserve(key);
+        if (idempotencyRecord.isPresent()) {
+            return duplicate(key, idempotencyRecord.get());
+        }
+        O response;
+        try {
+            response = transactionalEmailSender.send(email, emailRequest);
+        } catch (RuntimeException e) {
+            idempotencyStore.release(key);
+            throw e;
+        }
+        idempotencyStore.complete(key, response);
+        return response;
+    }
+
+    /**
+     *
+     * @param key Idempotency key
+     * @param idempotencyRecord Record of the email with the same key
+     * @return The response of the email with the same key. Null if the provider returned no response.
+     * @param <O> Email Response
+     * @throws DuplicateEmailException if the email is being sent or its response was not stored
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable
+    static <O> O duplicate(@NonNull String key, @NonNull IdempotencyRecord idempotencyRecord) {
+        if (idempotencyRecord.isResponseStored()) {
+            return (O) idempotencyRecord.getResponse();
+        }
+        throw new DuplicateEmailException(key, idempotencyRecord.isCompleted());
+    }
+}
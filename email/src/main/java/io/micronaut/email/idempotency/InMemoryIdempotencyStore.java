@@ -0,0 +1,153 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.idempotency;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.util.StringUtils;
+import jakarta.inject.Singleton;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * {@link IdempotencyStore} which keeps the idempotency keys in memory, thus it only prevents duplicates sent by the same application instance.
+ * Keys are spread over {@link IdempotencyConfiguration#getStripes()} stripes, each guarded by its own lock, and each stripe keeps its keys in insertion order.
+ * Expired keys are evicted when a stripe is accessed and, once a stripe is full, its oldest key is evicted.
+ * Enabled if {@value IdempotencyConfigurationProperties#PREFIX}.enabled is true.
+ *
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+@Requires(property = IdempotencyConfigurationProperties.PREFIX + ".enabled", value = StringUtils.TRUE)
+@Singleton
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+    private final Stripe[] stripes;
+    private final long ttlNanos;
+
+    /**
+     * @param configuration Idempotency configuration
+     */
+    public InMemoryIdempotencyStore(IdempotencyConfiguration configuration) {
+        int count = Integer.highestOneBit(Math.max(1, configuration.getStripes()) * 2 - 1);
+        int maxSizePerStripe = Math.max(1, (configuration.getMaxSize() + count - 1) / count);
+        this.stripes = new Stripe[count];
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new Stripe(maxSizePerStripe);
+        }
+        this.ttlNanos = configuration.getTtl().toNanos();
+    }
+
+    @Override
+    @NonNull
+    public Optional<IdempotencyRecord> reserve(@NonNull String key) {
+        Stripe stripe = stripe(key);
+        long now = System.nanoTime();
+        stripe.lock.lock();
+        try {
+            stripe.evictExpired(now);
+            Entry entry = stripe.entries.get(key);
+            if (entry != null) {
+                return Optional.of(entry.idempotencyRecord);
+            }
+            stripe.put(key, new Entry(IdempotencyRecord.pending(), now + ttlNanos));
+            return Optional.empty();
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    @Override
+    public void complete(@NonNull String key, @Nullable Object response) {
+        Stripe stripe = stripe(key);
+        long now = System.nanoTime();
+        stripe.lock.lock();
+        try {
+            // removed first so that the key moves to the end of the insertion order with its new expiration
+            stripe.entries.remove(key);
+            stripe.put(key, new Entry(IdempotencyRecord.completed(response), now + ttlNanos));
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    @Override
+    public void release(@NonNull String key) {
+        Stripe stripe = stripe(key);
+        stripe.lock.lock();
+        try {
+            Entry entry = stripe.entries.get(key);
+            if (entry != null && !entry.idempotencyRecord.isCompleted()) {
+                stripe.entries.remove(key);
+            }
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    @NonNull
+    private Stripe stripe(@NonNull String key) {
+        int h = key.hashCode();
+        return stripes[(h ^ (h >>> 16)) & (stripes.length - 1)];
+    }
+
+    /**
+     * Keys of a stripe in insertion order, which is also expiration order because every key lives for the same duration.
+     */
+    private static final class Stripe {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Map<String, Entry> entries = new LinkedHashMap<>();
+        private final int maxSize;
+
+        private Stripe(int maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        private void put(@NonNull String key, @NonNull Entry entry) {
+            entries.put(key, entry);
+            if (entries.size() > maxSize) {
+                Iterator<Entry> it = entries.values().iterator();
+                it.next();
+                it.remove();
+            }
+        }
+
+        private void evictExpired(long now) {
+            Iterator<Entry> it = entries.values().iterator();
+            while (it.hasNext() && it.next().expiresAt - now <= 0) {
+                it.remove();
+            }
+        }
+    }
+
+    /**
+     * An idempotency record and the time when it expires.
+     */
+    private static final class Entry {
+        private final IdempotencyRecord idempotencyRecord;
+        private final long expiresAt;
+
+        private Entry(IdempotencyRecord idempotencyRecord, long expiresAt) {
+            this.idempotencyRecord = idempotencyRecord;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
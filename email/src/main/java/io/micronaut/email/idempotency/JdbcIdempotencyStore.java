@@ -0,0 +1,256 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.idempotency;
+
+import io.micronaut.context.BeanContext;
+import io.micronaut.context.annotation.Replaces;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.email.EmailException;
+import io.micronaut.inject.qualifiers.Qualifiers;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * {@link IdempotencyStore} which keeps the idempotency keys in a database table, thus it prevents duplicates sent by any application instance sharing the database.
+ * A key is reserved by inserting a row, whose primary key is the idempotency key, and expired rows are deleted when the same key is reserved again.
+ * Responses which implement {@link Serializable} are stored with Java serialization, and null responses, such as the ones of the JavaMail sender, are stored as well; other responses are not stored,
+ * and sending an email with the key of a sent email fails with a {@link DuplicateEmailException}.
+ * Stored responses are only deserialized into classes of the {@code java.lang}, {@code java.util}, {@code java.time} and {@code java.math} packages
+ * and of the {@link JdbcIdempotencyStoreConfiguration#getAllowedResponseClasses() allowed response classes}; responses of other classes are treated as not stored.
+ * The store blocks the calling thread while it accesses the database.
+ *
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+@Requires(property = IdempotencyConfigurationProperties.JdbcIdempotencyStoreConfigurationProperties.PREFIX + ".enabled", value = StringUtils.TRUE)
+@Replaces(InMemoryIdempotencyStore.class)
+@Singleton
+public class JdbcIdempotencyStore implements IdempotencyStore {
+    private static final Logger LOG = LoggerFactory.getLogger(JdbcIdempotencyStore.class);
+    private static final int PENDING = 0;
+    private static final int COMPLETED = 1;
+    private static final int COMPLETED_WITHOUT_RESPONSE = 2;
+    private static final String SQL_STATE_INTEGRITY_CONSTRAINT_VIOLATION = "23";
+    private static final String RESPONSE_FILTER_LIMITS = "maxdepth=32;maxrefs=100000;maxarray=10000000";
+    private static final String RESPONSE_FILTER_ALLOWED = "java.lang.*;java.util.*;java.time.*;java.math.*";
+
+    private final DataSource dataSource;
+    private final long ttlMillis;
+    private final String deleteExpiredSql;
+    private final String insertSql;
+    private final String selectSql;
+    private final String completeSql;
+    private final String releaseSql;
+    private final int binaryType;
+    private final ObjectInputFilter responseFilter;
+
+    /**
+     * @param configuration Idempotency configuration
+     * @param jdbcConfiguration JDBC idempotency store configuration
+     * @param beanContext Bean Context
+     */
+    @Inject
+    public JdbcIdempotencyStore(IdempotencyConfiguration configuration,
+                                JdbcIdempotencyStoreConfiguration jdbcConfiguration,
+                                BeanContext beanContext) {
+        this(configuration, jdbcConfiguration, beanContext.getBean(DataSource.class, Qualifiers.byName(jdbcConfiguration.getDatasource())));
+    }
+
+    /**
+     * @param configuration Idempotency configuration
+     * @param jdbcConfiguration JDBC idempotency store configuration
+     * @param dataSource Data source
+     */
+    public JdbcIdempotencyStore(IdempotencyConfiguration configuration,
+                                JdbcIdempotencyStoreConfiguration jdbcConfiguration,
+                                DataSource dataSource) {
+        this.dataSource = dataSource;
+        this.ttlMillis = configuration.getTtl().toMillis();
+        String table = jdbcConfiguration.getTableName();
+        this.deleteExpiredSql = "DELETE FROM " + table + " WHERE idempotency_key = ? AND expires_at < ?";
+        this.insertSql = "INSERT INTO " + table + " (idempotency_key, status, expires_at) VALUES (?, " + PENDING + ", ?)";
+        this.selectSql = "SELECT status, response FROM " + table + " WHERE idempotency_key = ?";
+        this.completeSql = "UPDATE " + table + " SET status = ?, response = ?, expires_at = ? WHERE idempotency_key = ?";
+        this.releaseSql = "DELETE FROM " + table + " WHERE idempotency_key = ? AND status = " + PENDING;
+        this.responseFilter = responseFilter(jdbcConfiguration.getAllowedResponseClasses());
+        try (Connection connection = dataSource.getConnection()) {
+            boolean postgres = "PostgreSQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName());
+            this.binaryType = postgres ? Types.BINARY : Types.BLOB;
+            if (jdbcConfiguration.isCreateTable() && !tableExists(connection, table)) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("CREATE TABLE " + table + " (idempotency_key VARCHAR(255) NOT NULL PRIMARY KEY, status INTEGER NOT NULL, response "
+                            + (postgres ? "BYTEA" : "BLOB") + ", expires_at BIGINT NOT NULL)");
+                }
+            }
+        } catch (SQLException e) {
+            throw new EmailException(e);
+        }
+    }
+
+    @Override
+    @NonNull
+    public Optional<IdempotencyRecord> reserve(@NonNull String key) {
+        long now = System.currentTimeMillis();
+        try (Connection connection = dataSource.getConnection()) {
+            try (PreparedStatement delete = connection.prepareStatement(deleteExpiredSql)) {
+                delete.setString(1, key);
+                delete.setLong(2, now);
+                delete.executeUpdate();
+            }
+            try (PreparedStatement insert = connection.prepareStatement(insertSql)) {
+                insert.setString(1, key);
+                insert.setLong(2, now + ttlMillis);
+                insert.executeUpdate();
+                return Optional.empty();
+            } catch (SQLException e) {
+                if (!isDuplicateKey(e)) {
+                    throw e;
+                }
+            }
+            try (PreparedStatement select = connection.prepareStatement(selectSql)) {
+                select.setString(1, key);
+                try (ResultSet resultSet = select.executeQuery()) {
+                    if (!resultSet.next()) {
+                        // deleted since the insert failed, treat it as being sent
+                        return Optional.of(IdempotencyRecord.pending());
+                    }
+                    int status = resultSet.getInt(1);
+                    if (status == COMPLETED) {
+                        return Optional.of(completed(resultSet.getBytes(2)));
+                    }
+                    return Optional.of(status == COMPLETED_WITHOUT_RESPONSE ? IdempotencyRecord.completedWithoutResponse() : IdempotencyRecord.pending());
+                }
+            }
+        } catch (SQLException e) {
+            throw new EmailException(e);
+        }
+    }
+
+    @Override
+    public void complete(@NonNull String key, @Nullable Object response) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement update = connection.prepareStatement(completeSql)) {
+            byte[] bytes = response != null ? serialize(response) : null;
+            update.setInt(1, response != null && bytes == null ? COMPLETED_WITHOUT_RESPONSE : COMPLETED);
+            if (bytes == null) {
+                update.setNull(2, binaryType);
+            } else {
+                update.setBytes(2, bytes);
+            }
+            update.setLong(3, System.currentTimeMillis() + ttlMillis);
+            update.setString(4, key);
+            update.executeUpdate();
+        } catch (SQLException e) {
+            throw new EmailException(e);
+        }
+    }
+
+    @Override
+    public void release(@NonNull String key) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement delete = connection.prepareStatement(releaseSql)) {
+            delete.setString(1, key);
+            delete.executeUpdate();
+        } catch (SQLException e) {
+            throw new EmailException(e);
+        }
+    }
+
+    private static boolean tableExists(@NonNull Connection connection, @NonNull String table) {
+        try (Statement statement = connection.createStatement()) {
+            statement.executeQuery("SELECT 1 FROM " + table + " WHERE 1 = 0").close();
+            return true;
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private static boolean isDuplicateKey(@NonNull SQLException e) {
+        return e instanceof SQLIntegrityConstraintViolationException
+                || (e.getSQLState() != null && e.getSQLState().startsWith(SQL_STATE_INTEGRITY_CONSTRAINT_VIOLATION));
+    }
+
+    @NonNull
+    private IdempotencyRecord completed(@Nullable byte[] bytes) {
+        if (bytes == null) {
+            return IdempotencyRecord.completed(null);
+        }
+        Object response = deserialize(bytes);
+        return response != null ? IdempotencyRecord.completed(response) : IdempotencyRecord.completedWithoutResponse();
+    }
+
+    @Nullable
+    private static byte[] serialize(@NonNull Object response) {
+        if (!(response instanceof Serializable)) {
+            return null;
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(response);
+        } catch (IOException e) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Could not serialize the response of type {}, it is not stored", response.getClass().getName(), e);
+            }
+            return null;
+        }
+        return bytes.toByteArray();
+    }
+
+    @NonNull
+    private static ObjectInputFilter responseFilter(@NonNull List<String> allowedResponseClasses) {
+        StringBuilder pattern = new StringBuilder(RESPONSE_FILTER_LIMITS).append(';').append(RESPONSE_FILTER_ALLOWED);
+        for (String allowed : allowedResponseClasses) {
+            pattern.append(';').append(allowed);
+        }
+        return ObjectInputFilter.Config.createFilter(pattern.append(";!*").toString());
+    }
+
+    @Nullable
+    private Object deserialize(@NonNull byte[] bytes) {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            in.setObjectInputFilter(responseFilter);
+            return in.readObject();
+        } catch (IOException | ClassNotFoundException e) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Could not deserialize a stored response", e);
+            }
+            return null;
+        }
+    }
+}
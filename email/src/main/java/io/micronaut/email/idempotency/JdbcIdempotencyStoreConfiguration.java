@@ -0,0 +1,56 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.idempotency;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.util.Toggleable;
+
+import java.util.List;
+
+/**
+ * Configuration of the {@link JdbcIdempotencyStore}.
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+public interface JdbcIdempotencyStoreConfiguration extends Toggleable {
+
+    /**
+     *
+     * @return Name of the {@link javax.sql.DataSource} bean.
+     */
+    @NonNull
+    String getDatasource();
+
+    /**
+     *
+     * @return Name of the table where the idempotency keys are stored.
+     */
+    @NonNull
+    String getTableName();
+
+    /**
+     *
+     * @return Whether the table is created on startup if it does not exist.
+     */
+    boolean isCreateTable();
+
+    /**
+     *
+     * @return Patterns, in the format of {@link java.io.ObjectInputFilter.Config#createFilter(String)}, of the classes besides the {@code java.lang}, {@code java.util}, {@code java.time} and {@code java.math} ones which stored responses may be deserialized into.
+     */
+    @NonNull
+    List<String> getAllowedResponseClasses();
+}
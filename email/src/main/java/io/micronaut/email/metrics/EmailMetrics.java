@@ -0,0 +1,86 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.metrics;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.email.Email;
+import io.micronaut.email.EmailComposer;
+import io.micronaut.email.EmailException;
+
+import java.util.function.Consumer;
+
+/**
+ * Records how long every {@link EmailPhase} takes and the outcome of every email.
+ * There is no bean of this type unless metrics are enabled, and callers skip reading the clock when it is absent,
+ * thus sending an email without metrics allocates nothing for them.
+ *
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+public interface EmailMetrics {
+
+    /**
+     * Records the duration of a phase.
+     * @param senderName Sender name or null if the phase is not bound to a sender, as a template rendered outside of a sender
+     * @param phase Phase
+     * @param durationNanos Duration in nanoseconds
+     */
+    void recordPhase(@Nullable String senderName, @NonNull EmailPhase phase, long durationNanos);
+
+    /**
+     * Records an email which was sent.
+     * @param senderName Sender name
+     * @param email Email
+     */
+    void recordSuccess(@NonNull String senderName, @NonNull Email email);
+
+    /**
+     * Records an email which could not be sent.
+     * @param senderName Sender name
+     * @param email Email
+     * @param error Failure
+     */
+    void recordFailure(@NonNull String senderName, @NonNull Email email, @NonNull Throwable error);
+
+    /**
+     * Composes the request of the provider and records the {@link EmailPhase#COMPOSE} phase.
+     * @param emailMetrics Email metrics. If null, the request is composed without reading the clock.
+     * @param senderName Sender name
+     * @param emailComposer Email composer
+     * @param email Email
+     * @param emailRequest Email request consumer
+     * @param <I> Email Request
+     * @return The request of the provider
+     * @throws EmailException if the request cannot be composed
+     */
+    @NonNull
+    static <I> I compose(@Nullable EmailMetrics emailMetrics,
+                         @NonNull String senderName,
+                         @NonNull EmailComposer<I> emailComposer,
+                         @NonNull Email email,
+                         @NonNull Consumer<I> emailRequest) throws EmailException {
+        if (emailMetrics == null) {
+            return emailComposer.compose(email, emailRequest);
+        }
+        long start = System.nanoTime();
+        try {
+            return emailComposer.compose(email, emailRequest);
+        } finally {
+            emailMetrics.recordPhase(senderName, EmailPhase.COMPOSE, System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.metrics;
+
+/**
+ * Phases of sending an email which are timed by {@link EmailMetrics}.
+ *
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+public enum EmailPhase {
+    /**
+     * Every {@link io.micronaut.email.EmailDecorator} applied to the email, thus it includes {@link #RENDER}.
+     */
+    DECORATE,
+
+    /**
+     * An {@link io.micronaut.email.EmailComposer} creating the request of the provider.
+     */
+    COMPOSE,
+
+    /**
+     * A template rendered into the body of the email.
+     */
+    RENDER,
+
+    /**
+     * The provider call, retries included. Providers compose the request as part of the call, thus it includes {@link #COMPOSE}.
+     */
+    TRANSMIT;
+
+    private final String tag = name().toLowerCase();
+
+    /**
+     *
+     * @return The lower case name of the phase
+     */
+    public String getTag() {
+        return tag;
+    }
+}
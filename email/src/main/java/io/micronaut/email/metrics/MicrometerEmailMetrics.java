@@ -0,0 +1,215 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.email.Attachment;
+import io.micronaut.email.Body;
+import io.micronaut.email.BodyType;
+import io.micronaut.email.Email;
+import io.micronaut.email.EmailErrorType;
+import io.micronaut.email.EmailException;
+import jakarta.inject.Singleton;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link EmailMetrics} backed by a Micrometer {@link MeterRegistry}. Enabled when a registry is present unless {@value #ENABLED} is false.
+ * The meters of every sender are registered once and looked up by sender name afterwards.
+ * <ul>
+ *     <li>{@value #PHASE_TIMER}: timer tagged with {@value #SENDER_TAG} and {@value #PHASE_TAG}.</li>
+ *     <li>{@value #SENT_COUNTER}: counter tagged with {@value #SENDER_TAG}, {@value #RESULT_TAG}, {@value #ERROR_TAG} and {@value #EXCEPTION_TAG}.</li>
+ *     <li>{@value #PAYLOAD_SUMMARY}: histogram of the approximate size of the bodies and attachments in bytes, tagged with {@value #SENDER_TAG}.</li>
+ * </ul>
+ *
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+@Requires(classes = MeterRegistry.class)
+@Requires(beans = MeterRegistry.class)
+@Requires(property = MicrometerEmailMetrics.ENABLED, notEquals = StringUtils.FALSE)
+@Singleton
+public class MicrometerEmailMetrics implements EmailMetrics {
+    /**
+     * Property to disable email metrics.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final String ENABLED = "micronaut.email.metrics.enabled";
+
+    /**
+     * Timer of every {@link EmailPhase}.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final String PHASE_TIMER = "micronaut.email.phase";
+
+    /**
+     * Counter of the emails sent or failed.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final String SENT_COUNTER = "micronaut.email.sent";
+
+    /**
+     * Distribution of the payload size of the emails.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final String PAYLOAD_SUMMARY = "micronaut.email.payload.size";
+
+    /**
+     * Sender name tag.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final String SENDER_TAG = "sender";
+
+    /**
+     * Phase tag.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final String PHASE_TAG = "phase";
+
+    /**
+     * Result tag, either {@value #SUCCESS} or {@value #FAILURE}.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final String RESULT_TAG = "result";
+
+    /**
+     * {@link EmailErrorType} tag.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final String ERROR_TAG = "error";
+
+    /**
+     * Exception class tag.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final String EXCEPTION_TAG = "exception";
+
+    private static final String SUCCESS = "success";
+    private static final String FAILURE = "failure";
+    private static final String NONE = "none";
+    private static final BodyType[] BODY_TYPES = BodyType.values();
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, SenderMeters> meters = new ConcurrentHashMap<>();
+
+    /**
+     *
+     * @param meterRegistry Meter Registry
+     */
+    public MicrometerEmailMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void recordPhase(@Nullable String senderName, @NonNull EmailPhase phase, long durationNanos) {
+        meters(senderName).phases.get(phase).record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordSuccess(@NonNull String senderName, @NonNull Email email) {
+        SenderMeters senderMeters = meters(senderName);
+        senderMeters.sent.increment();
+        senderMeters.payload.record(payloadSize(email));
+    }
+
+    @Override
+    public void recordFailure(@NonNull String senderName, @NonNull Email email, @NonNull Throwable error) {
+        SenderMeters senderMeters = meters(senderName);
+        EmailErrorType errorType = error instanceof EmailException ? ((EmailException) error).getErrorType() : EmailErrorType.UNKNOWN;
+        Throwable cause = error instanceof EmailException && error.getCause() != null ? error.getCause() : error;
+        senderMeters.failures.get(errorType)
+                .computeIfAbsent(cause.getClass(), exceptionClass -> Counter.builder(SENT_COUNTER)
+                        .tag(SENDER_TAG, senderMeters.senderName)
+                        .tag(RESULT_TAG, FAILURE)
+                        .tag(ERROR_TAG, errorType.name().toLowerCase())
+                        .tag(EXCEPTION_TAG, exceptionClass.getSimpleName())
+                        .register(meterRegistry))
+                .increment();
+        senderMeters.payload.record(payloadSize(email));
+    }
+
+    @NonNull
+    private SenderMeters meters(@Nullable String senderName) {
+        String name = senderName != null ? senderName : NONE;
+        SenderMeters result = meters.get(name);
+        return result != null ? result : meters.computeIfAbsent(name, SenderMeters::new);
+    }
+
+    private static long payloadSize(@NonNull Email email) {
+        long size = 0;
+        Body body = email.getBody();
+        if (body != null) {
+            for (BodyType bodyType : BODY_TYPES) {
+                Optional<String> content = body.get(bodyType);
+                if (content.isPresent()) {
+                    size += content.get().length();
+                }
+            }
+        }
+        if (email.getAttachments() != null) {
+            for (Attachment attachment : email.getAttachments()) {
+                size += Math.max(0, attachment.getAttachmentContent().getLength());
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Meters of a sender.
+     */
+    private final class SenderMeters {
+        private final String senderName;
+        private final Map<EmailPhase, Timer> phases = new EnumMap<>(EmailPhase.class);
+        private final Map<EmailErrorType, Map<Class<?>, Counter>> failures = new EnumMap<>(EmailErrorType.class);
+        private final Counter sent;
+        private final DistributionSummary payload;
+
+        private SenderMeters(String senderName) {
+            this.senderName = senderName;
+            for (EmailPhase phase : EmailPhase.values()) {
+                phases.put(phase, Timer.builder(PHASE_TIMER)
+                        .tag(SENDER_TAG, senderName)
+                        .tag(PHASE_TAG, phase.getTag())
+                        .register(meterRegistry));
+            }
+            for (EmailErrorType errorType : EmailErrorType.values()) {
+                failures.put(errorType, new ConcurrentHashMap<>());
+            }
+            sent = Counter.builder(SENT_COUNTER)
+                    .tag(SENDER_TAG, senderName)
+                    .tag(RESULT_TAG, SUCCESS)
+                    .tag(ERROR_TAG, NONE)
+                    .tag(EXCEPTION_TAG, NONE)
+                    .register(meterRegistry);
+            payload = DistributionSummary.builder(PAYLOAD_SUMMARY)
+                    .baseUnit("bytes")
+                    .tag(SENDER_TAG, senderName)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.offload;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.util.Toggleable;
+
+import java.nio.file.Path;
+
+/**
+ * Configuration of the {@link AttachmentOffloadDecorator}.
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+public interface AttachmentOffloadConfiguration extends Toggleable {
+
+    /**
+     *
+     * @return Size in bytes above which attachments are moved to the {@link BlobStore} and replaced by a download link.
+     */
+    long getThreshold();
+
+    /**
+     *
+     * @return Directory where {@link LocalBlobStore} stores the attachments.
+     */
+    @NonNull
+    Path getDirectory();
+
+    /**
+     *
+     * @return URL the download links start with. The key and the filename of the attachment are appended to it.
+     */
+    @Nullable
+    String getBaseUrl();
+}
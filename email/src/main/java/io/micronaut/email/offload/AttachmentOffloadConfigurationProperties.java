@@ -0,0 +1,123 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.offload;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+
+import java.nio.file.Path;
+
+/**
+ * {@link ConfigurationProperties} implementation of {@link AttachmentOffloadConfiguration}.
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+@ConfigurationProperties(AttachmentOffloadConfigurationProperties.PREFIX)
+public class AttachmentOffloadConfigurationProperties implements AttachmentOffloadConfiguration {
+
+    /**
+     * Attachment offload configuration prefix.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final String PREFIX = "micronaut.email.attachment-offload";
+
+    /**
+     * The default enable value.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final boolean DEFAULT_ENABLED = false;
+
+    /**
+     * The default threshold in bytes.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final long DEFAULT_THRESHOLD = 10L * 1024 * 1024;
+
+    /**
+     * The default blob store directory.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final String DEFAULT_DIRECTORY = "email-attachments";
+
+    private boolean enabled = DEFAULT_ENABLED;
+
+    private long threshold = DEFAULT_THRESHOLD;
+
+    @NonNull
+    private Path directory = Path.of(DEFAULT_DIRECTORY);
+
+    @Nullable
+    private String baseUrl;
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Whether large attachments are moved to a blob store and replaced by a download link. Default value: `{@value #DEFAULT_ENABLED}`
+     *
+     * @param enabled True if large attachments are offloaded
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    public long getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * Size in bytes above which attachments are moved to the blob store and replaced by a download link. Default value: `{@value #DEFAULT_THRESHOLD}`
+     *
+     * @param threshold Threshold in bytes
+     */
+    public void setThreshold(long threshold) {
+        this.threshold = threshold;
+    }
+
+    @Override
+    @NonNull
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Directory where the local blob store stores the attachments. Default value: `{@value #DEFAULT_DIRECTORY}`
+     *
+     * @param directory Blob store directory
+     */
+    public void setDirectory(@NonNull Path directory) {
+        this.directory = directory;
+    }
+
+    @Override
+    @Nullable
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    /**
+     * URL the download links start with, for example `https://files.example.com/attachments/`. The key and the filename of the attachment are appended to it. Required if enabled.
+     *
+     * @param baseUrl Base URL of the download links
+     */
+    public void setBaseUrl(@Nullable String baseUrl) {
+        this.baseUrl = baseUrl;
+    }
+}
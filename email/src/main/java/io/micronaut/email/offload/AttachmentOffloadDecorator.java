@@ -0,0 +1,114 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.offload;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.exceptions.ConfigurationException;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.email.Attachment;
+import io.micronaut.email.Email;
+import io.micronaut.email.EmailDecorator;
+import io.micronaut.email.EmailException;
+import jakarta.inject.Singleton;
+import jakarta.validation.constraints.NotNull;
+
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Moves the attachments larger than {@link AttachmentOffloadConfiguration#getThreshold()} to the {@link BlobStore}, removes them from the email and appends a download link for each of them to the body.
+ * Links are {@link AttachmentOffloadConfiguration#getBaseUrl()} followed by the key of the content and the filename, for example `https://files.example.com/attachments/{key}/report.pdf`.
+ * Serving the content of a key with {@link BlobStore#get(String)} is up to the application.
+ * Inline attachments and attachments of unknown length are kept, since the body references inline attachments by their content ID.
+ * The decorator runs after every other decorator, thus attachments added by them are offloaded too.
+ *
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+@Requires(property = AttachmentOffloadConfigurationProperties.PREFIX + ".enabled", value = StringUtils.TRUE)
+@Singleton
+public class AttachmentOffloadDecorator implements EmailDecorator {
+
+    private static final String DISPOSITION_INLINE = "inline";
+
+    private final BlobStore blobStore;
+    private final long threshold;
+    private final String baseUrl;
+
+    /**
+     *
+     * @param configuration Attachment offload configuration
+     * @param blobStore Blob store
+     */
+    public AttachmentOffloadDecorator(AttachmentOffloadConfiguration configuration, BlobStore blobStore) {
+        if (StringUtils.isEmpty(configuration.getBaseUrl())) {
+            throw new ConfigurationException(AttachmentOffloadConfigurationProperties.PREFIX + ".base-url is required to offload attachments");
+        }
+        this.blobStore = blobStore;
+        this.threshold = configuration.getThreshold();
+        this.baseUrl = configuration.getBaseUrl().endsWith("/") ? configuration.getBaseUrl() : configuration.getBaseUrl() + "/";
+    }
+
+    @Override
+    public void decorate(@NonNull @NotNull Email.Builder emailBuilder) {
+        List<Attachment> attachments = emailBuilder.getAttachments().orElse(null);
+        if (attachments == null) {
+            return;
+        }
+        List<OffloadedAttachmentsBody.Link> links = new ArrayList<>();
+        for (Attachment attachment : new ArrayList<>(attachments)) {
+            if (offloads(attachment)) {
+                String key;
+                try {
+                    key = blobStore.put(attachment.getAttachmentContent());
+                } catch (IOException e) {
+                    throw new EmailException(e);
+                }
+                links.add(new OffloadedAttachmentsBody.Link(attachment.getFilename(), url(key, attachment.getFilename())));
+                emailBuilder.removeAttachment(attachment);
+            }
+        }
+        if (!links.isEmpty()) {
+            emailBuilder.body(new OffloadedAttachmentsBody(emailBuilder.getBody().orElse(null), links));
+        }
+    }
+
+    @Override
+    public boolean supports(@NonNull @NotNull Email.Builder emailBuilder) {
+        return emailBuilder.getAttachments()
+                .map(attachments -> attachments.stream().anyMatch(this::offloads))
+                .orElse(false);
+    }
+
+    @Override
+    public int getOrder() {
+        return LOWEST_PRECEDENCE;
+    }
+
+    private boolean offloads(@NonNull Attachment attachment) {
+        return !DISPOSITION_INLINE.equals(attachment.getDisposition())
+                && attachment.getAttachmentContent().getLength() > threshold;
+    }
+
+    @NonNull
+    private String url(@NonNull String key, @NonNull String filename) {
+        return baseUrl + key + "/" + URLEncoder.encode(filename, StandardCharsets.UTF_8).replace("+", "%20");
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.offload;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.email.AttachmentContent;
+
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * Stores the content of attachments which are too large to be sent with the email, see {@link AttachmentOffloadDecorator}.
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+public interface BlobStore {
+
+    /**
+     * Stores the content. Storing the same content again returns the same key.
+     * @param content Attachment content
+     * @return Key which identifies the stored content
+     * @throws IOException if the content cannot be read or stored
+     */
+    @NonNull
+    String put(@NonNull AttachmentContent content) throws IOException;
+
+    /**
+     *
+     * @param key Key returned by {@link #put(AttachmentContent)}
+     * @return The stored content or an empty optional if there is no content for the key
+     */
+    @NonNull
+    Optional<AttachmentContent> get(@NonNull String key);
+}
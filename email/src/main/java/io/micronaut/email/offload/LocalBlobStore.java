@@ -0,0 +1,146 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.offload;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.annotation.Secondary;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.email.AttachmentContent;
+import jakarta.inject.Singleton;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+
+/**
+ * Content-addressed {@link BlobStore} in a local directory. The key of a content is the hex-encoded SHA-256 digest of its bytes,
+ * thus identical attachments are stored once. Contents are streamed to a temporary file while they are hashed and then moved atomically to their final location,
+ * so they are never loaded in memory and readers never see a partially written file.
+ * The key of an {@link AttachmentContent#isImmutable() immutable} content is computed once per instance.
+ * Provide your own {@link BlobStore} bean to store the attachments elsewhere, for example in object storage.
+ *
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+@Requires(property = AttachmentOffloadConfigurationProperties.PREFIX + ".enabled", value = StringUtils.TRUE)
+@Secondary
+@Singleton
+public class LocalBlobStore implements BlobStore {
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    private static final int BUFFER_SIZE = 8192;
+    private static final int KEY_LENGTH = 64;
+    private static final int PREFIX_LENGTH = 2;
+
+    private final Path directory;
+    private final Map<AttachmentContent, String> keys = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     *
+     * @param configuration Attachment offload configuration
+     */
+    public LocalBlobStore(AttachmentOffloadConfiguration configuration) {
+        this.directory = configuration.getDirectory();
+    }
+
+    @Override
+    @NonNull
+    public String put(@NonNull AttachmentContent content) throws IOException {
+        String key = content.isImmutable() ? keys.get(content) : null;
+        if (key != null && Files.exists(path(key))) {
+            return key;
+        }
+        Files.createDirectories(directory);
+        Path temporary = Files.createTempFile(directory, "upload", ".tmp");
+        try {
+            MessageDigest messageDigest = messageDigest();
+            byte[] buffer = new byte[BUFFER_SIZE];
+            try (InputStream inputStream = content.openStream(); OutputStream outputStream = Files.newOutputStream(temporary)) {
+                int read;
+                while ((read = inputStream.read(buffer)) != -1) {
+                    messageDigest.update(buffer, 0, read);
+                    outputStream.write(buffer, 0, read);
+                }
+            }
+            key = HexFormat.of().formatHex(messageDigest.digest());
+            Path target = path(key);
+            if (!Files.exists(target)) {
+                Files.createDirectories(target.getParent());
+                try {
+                    Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE);
+                } catch (FileAlreadyExistsException e) {
+                    // stored concurrently by another thread
+                }
+            }
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+        if (content.isImmutable()) {
+            keys.put(content, key);
+        }
+        return key;
+    }
+
+    @Override
+    @NonNull
+    public Optional<AttachmentContent> get(@NonNull String key) {
+        if (!isKey(key)) {
+            return Optional.empty();
+        }
+        Path path = path(key);
+        return Files.isRegularFile(path) ? Optional.of(AttachmentContent.of(path)) : Optional.empty();
+    }
+
+    @NonNull
+    private Path path(@NonNull String key) {
+        // a level of subdirectories keeps the number of files per directory low
+        return directory.resolve(key.substring(0, PREFIX_LENGTH)).resolve(key);
+    }
+
+    private static boolean isKey(@NonNull String key) {
+        if (key.length() != KEY_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < KEY_LENGTH; i++) {
+            char c = key.charAt(i);
+            if (!(c >= '0' && c <= '9') && !(c >= 'a' && c <= 'f')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @NonNull
+    private static MessageDigest messageDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.offload;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.email.Body;
+import io.micronaut.email.BodyType;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Body which appends the download links of the offloaded attachments to the body it decorates. The decorated body is read every time, thus template bodies are still rendered lazily.
+ * If the decorated body is missing, the links are sent as a text body.
+ *
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+class OffloadedAttachmentsBody implements Body {
+
+    private static final String HEADING = "Attachments:";
+    private static final String HTML_BODY_END = "</body>";
+
+    @Nullable
+    private final Body body;
+    private final List<Link> links;
+
+    /**
+     *
+     * @param body Decorated body
+     * @param links Download links of the offloaded attachments
+     */
+    OffloadedAttachmentsBody(@Nullable Body body, @NonNull List<Link> links) {
+        this.body = body;
+        this.links = links;
+    }
+
+    @Override
+    @NonNull
+    public Optional<String> get(@NonNull BodyType bodyType) {
+        if (body == null) {
+            return bodyType == BodyType.TEXT ? Optional.of(text("")) : Optional.empty();
+        }
+        return body.get(bodyType).map(content -> bodyType == BodyType.HTML ? html(content) : text(content));
+    }
+
+    @NonNull
+    private String text(@NonNull String content) {
+        StringBuilder sb = new StringBuilder(content);
+        if (!content.isEmpty()) {
+            sb.append("\n\n");
+        }
+        sb.append(HEADING);
+        for (Link link : links) {
+            sb.append('\n').append(link.filename()).append(": ").append(link.url());
+        }
+        return sb.toString();
+    }
+
+    @NonNull
+    private String html(@NonNull String content) {
+        StringBuilder sb = new StringBuilder("<p>").append(HEADING).append("</p><ul>");
+        for (Link link : links) {
+            sb.append("<li><a href=\"").append(escape(link.url())).append("\">").append(escape(link.filename())).append("</a></li>");
+        }
+        sb.append("</ul>");
+        int end = lastIndexOfBodyEnd(content);
+        return end == -1 ? content + sb : content.substring(0, end) + sb + content.substring(end);
+    }
+
+    /**
+     * Searches the original content, since lower-casing it may change its length and thus the offsets.
+     * @param content HTML
+     * @return the index of the last closing body tag, in any case, or -1 if there is none
+     */
+    private static int lastIndexOfBodyEnd(@NonNull String content) {
+        for (int i = content.length() - HTML_BODY_END.length(); i >= 0; i--) {
+            if (content.regionMatches(true, i, HTML_BODY_END, 0, HTML_BODY_END.length())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @NonNull
+    private static String escape(@NonNull String value) {
+        StringBuilder sb = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '&' -> sb.append("&amp;");
+                case '<' -> sb.append("&lt;");
+                case '>' -> sb.append("&gt;");
+                case '"' -> sb.append("&quot;");
+                case '\'' -> sb.append("&#39;");
+                default -> sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Download link of an offloaded attachment.
+     * @param filename Attachment filename
+     * @param url Download URL
+     */
+    record Link(@NonNull String filename, @NonNull String url) {
+    }
+}
@@ -0,0 +1,312 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.outbox;
+
+import io.micronaut.context.BeanContext;
+import io.micronaut.context.annotation.Context;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.email.Email;
+import io.micronaut.email.EmailDecoratorPipeline;
+import io.micronaut.email.EmailException;
+import io.micronaut.email.TransactionalEmailSender;
+import io.micronaut.email.idempotency.DuplicateEmailException;
+import io.micronaut.email.idempotency.IdempotencyStore;
+import io.micronaut.email.idempotency.IdempotentTransactionalEmailSender;
+import io.micronaut.email.ratelimit.RateLimitedTransactionalEmailSender;
+import io.micronaut.email.ratelimit.RateLimiters;
+import io.micronaut.email.retry.RetryPolicies;
+import io.micronaut.email.retry.RetryingTransactionalEmailSender;
+import io.micronaut.inject.qualifiers.Qualifiers;
+import io.micronaut.scheduling.TaskExecutors;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Named;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import java.io.IOException;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link EmailOutbox} backed by a {@link SegmentJournal} in {@link OutboxConfiguration#getDirectory()}.
+ * A dispatcher thread reads the journal from the consumer offset and delivers up to {@link OutboxConfiguration#getConcurrency()} emails at a time
+ * through a {@link TransactionalEmailSender} on the IO executor, honouring the sender's rate limit and retry policy. The consumer offset advances past an email once it has been delivered
+ * or, if it failed, once it has been appended to the dead letter journal in the {@value #DEAD_LETTER_DIRECTORY} subdirectory. Emails which were being delivered when the application stopped,
+ * or which could not be appended to the dead letter journal, are delivered again on the next start.
+ *
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+@Requires(property = OutboxConfigurationProperties.PREFIX + ".enabled", value = StringUtils.TRUE)
+@Context
+public class DefaultEmailOutbox implements EmailOutbox {
+    private static final Logger LOG = LoggerFactory.getLogger(DefaultEmailOutbox.class);
+    private static final long POLL_TIMEOUT_MILLIS = 500;
+    private static final String DEAD_LETTER_DIRECTORY = "dead-letter";
+
+    private final OutboxConfiguration configuration;
+    private final BeanContext beanContext;
+    private final EmailDecoratorPipeline decoratorPipeline;
+    private final RateLimiters rateLimiters;
+    private final RetryPolicies retryPolicies;
+    @Nullable
+    private final IdempotencyStore idempotencyStore;
+    private final ExecutorService executorService;
+    private final SegmentJournal journal;
+    private final SegmentJournal deadLetters;
+    private final Semaphore permits;
+    private final NavigableSet<Long> inFlight = new ConcurrentSkipListSet<>();
+    private volatile long dispatchedOffset;
+    private volatile boolean running;
+    private volatile TransactionalEmailSender<?, ?> sender;
+
+    /**
+     * @param configuration Outbox configuration
+     * @param beanContext Bean Context
+     * @param decoratorPipeline Email decorator pipeline
+     * @param rateLimiters Rate limiters
+     * @param retryPolicies Retry policies
+     * @param executorService Executor service
+     * @param idempotencyStore Idempotency store. If null, emails with an idempotency key may be delivered more than once.
+     */
+    public DefaultEmailOutbox(OutboxConfiguration configuration,
+                              BeanContext beanContext,
+                              EmailDecoratorPipeline decoratorPipeline,
+                              RateLimiters rateLimiters,
+                              RetryPolicies retryPolicies,
+                              @Named(TaskExecutors.IO) ExecutorService executorService,
+                              @Nullable IdempotencyStore idempotencyStore) {
+        this.configuration = configuration;
+        this.beanContext = beanContext;
+        this.decoratorPipeline = decoratorPipeline;
+        this.rateLimiters = rateLimiters;
+        this.retryPolicies = retryPolicies;
+        this.executorService = executorService;
+        this.idempotencyStore = idempotencyStore;
+        this.permits = new Semaphore(Math.max(1, configuration.getConcurrency()));
+        try {
+            this.journal = new SegmentJournal(configuration.getDirectory(), configuration.getSegmentSize());
+            this.deadLetters = new SegmentJournal(configuration.getDirectory().resolve(DEAD_LETTER_DIRECTORY), configuration.getSegmentSize());
+        } catch (IOException e) {
+            throw new EmailException(e);
+        }
+    }
+
+    /**
+     * Starts delivering the emails stored in the outbox, beginning with those left over by a previous run.
+     */
+    @PostConstruct
+    public void start() {
+        dispatchedOffset = journal.getCommittedOffset();
+        running = true;
+        Thread dispatcher = new Thread(this::dispatch, "email-outbox-dispatcher");
+        dispatcher.setDaemon(true);
+        dispatcher.start();
+    }
+
+    @Override
+    public long enqueue(@NonNull @NotNull Email.Builder emailBuilder) throws EmailException {
+        decoratorPipeline.decorate(emailBuilder, sender().getName());
+        return enqueue(emailBuilder.build());
+    }
+
+    @Override
+    public long enqueue(@NonNull @NotNull @Valid Email email) throws EmailException {
+        try {
+            return journal.append(OutboxEmailCodec.encode(email));
+        } catch (IOException e) {
+            throw new EmailException(e);
+        }
+    }
+
+    @Override
+    public synchronized int redeliverDeadLetters() throws EmailException {
+        int count = 0;
+        try {
+            long offset = deadLetters.getCommittedOffset();
+            SegmentJournal.Record record;
+            while ((record = deadLetters.read(offset)) != null) {
+                byte[] payload = record.getPayload();
+                if (payload != null) {
+                    journal.append(payload);
+                    count++;
+                }
+                offset = record.getNextOffset();
+                deadLetters.commit(offset);
+            }
+        } catch (IOException e) {
+            throw new EmailException(e);
+        }
+        return count;
+    }
+
+    /**
+     * Stops the dispatcher, waits up to {@link OutboxConfiguration#getShutdownTimeout()} for the emails being delivered and closes the journals.
+     */
+    @PreDestroy
+    public void close() {
+        // the dispatcher is not interrupted because interrupting a thread reading a FileChannel closes the channel
+        running = false;
+        int concurrency = Math.max(1, configuration.getConcurrency());
+        try {
+            if (!permits.tryAcquire(concurrency, configuration.getShutdownTimeout().toNanos(), TimeUnit.NANOSECONDS) && LOG.isWarnEnabled()) {
+                LOG.warn("Closing the email outbox while emails are being delivered. They will be delivered again on the next start");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            journal.close();
+            deadLetters.close();
+        } catch (IOException e) {
+            if (LOG.isWarnEnabled()) {
+                LOG.warn("IOException closing the email outbox", e);
+            }
+        }
+    }
+
+    private void dispatch() {
+        long offset = dispatchedOffset;
+        while (running) {
+            try {
+                if (!permits.tryAcquire(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                    continue;
+                }
+                SegmentJournal.Record record = running ? next(offset) : null;
+                if (record == null) {
+                    permits.release();
+                    return;
+                }
+                offset = record.getNextOffset();
+                inFlight.add(record.getOffset());
+                dispatchedOffset = offset;
+                try {
+                    executorService.execute(() -> deliver(record));
+                } catch (RejectedExecutionException e) {
+                    deliver(record);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (IOException e) {
+                permits.release();
+                if (running) {
+                    LOG.error("IOException reading the email outbox at offset {}", offset, e);
+                    sleepBeforeRetry();
+                }
+            }
+        }
+    }
+
+    private SegmentJournal.Record next(long offset) throws IOException, InterruptedException {
+        SegmentJournal.Record record;
+        while ((record = journal.read(offset)) == null) {
+            if (!running) {
+                return null;
+            }
+            journal.awaitRecords(offset, POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        }
+        return record;
+    }
+
+    private void deliver(@NonNull SegmentJournal.Record record) {
+        boolean done = true;
+        try {
+            byte[] payload = record.getPayload();
+            if (payload != null) {
+                done = deliver(record, payload);
+            }
+        } finally {
+            if (done) {
+                complete(record);
+            }
+            permits.release();
+        }
+    }
+
+    // returns whether the consumer offset may advance past the email, because it was delivered or appended to the dead letter journal
+    private boolean deliver(@NonNull SegmentJournal.Record record, @NonNull byte[] payload) {
+        try {
+            sender().send(OutboxEmailCodec.decode(payload));
+            return true;
+        } catch (DuplicateEmailException e) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Skipping the email at outbox offset {}: {}", record.getOffset(), e.getMessage());
+            }
+            return true;
+        } catch (IOException | RuntimeException e) {
+            try {
+                deadLetters.append(payload);
+                LOG.error("Could not deliver the email at outbox offset {}. It was moved to the dead letter journal", record.getOffset(), e);
+                return true;
+            } catch (IOException ex) {
+                e.addSuppressed(ex);
+                LOG.error("Could not deliver the email at outbox offset {} nor move it to the dead letter journal. It will be delivered again on the next start", record.getOffset(), e);
+                return false;
+            }
+        }
+    }
+
+    private void complete(@NonNull SegmentJournal.Record record) {
+        inFlight.remove(record.getOffset());
+        try {
+            // dispatch adds a record to inFlight before it advances dispatchedOffset, thus reading dispatchedOffset first guarantees
+            // that every record before it is either in flight or done. The records before the first one being delivered are done.
+            long dispatched = dispatchedOffset;
+            Long first = inFlight.ceiling(Long.MIN_VALUE);
+            journal.commit(first != null ? Math.min(first, dispatched) : dispatched);
+        } catch (IOException e) {
+            if (LOG.isWarnEnabled()) {
+                LOG.warn("IOException storing the email outbox consumer offset", e);
+            }
+        }
+    }
+
+    @NonNull
+    private TransactionalEmailSender<?, ?> sender() {
+        TransactionalEmailSender<?, ?> result = sender;
+        if (result == null) {
+            String name = configuration.getSender();
+            TransactionalEmailSender<?, ?> bean = name == null
+                    ? beanContext.getBean(TransactionalEmailSender.class)
+                    : beanContext.getBean(TransactionalEmailSender.class, Qualifiers.byName(name));
+            result = RetryingTransactionalEmailSender.of(RateLimitedTransactionalEmailSender.of(bean, rateLimiters), retryPolicies);
+            if (idempotencyStore != null) {
+                result = new IdempotentTransactionalEmailSender<>(result, idempotencyStore);
+            }
+            sender = result;
+        }
+        return result;
+    }
+
+    private void sleepBeforeRetry() {
+        try {
+            Thread.sleep(POLL_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
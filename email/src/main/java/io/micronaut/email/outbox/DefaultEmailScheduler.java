@@ -0,0 +1,543 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.outbox;
+
+import io.micronaut.context.BeanContext;
+import io.micronaut.context.annotation.Context;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.exceptions.NoSuchBeanException;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.email.AsyncTransactionalEmailSender;
+import io.micronaut.email.Email;
+import io.micronaut.email.EmailDecoratorPipeline;
+import io.micronaut.email.EmailErrorType;
+import io.micronaut.email.EmailException;
+import io.micronaut.email.idempotency.DuplicateEmailException;
+import io.micronaut.email.idempotency.IdempotencyStore;
+import io.micronaut.email.idempotency.IdempotentAsyncTransactionalEmailSender;
+import io.micronaut.email.ratelimit.RateLimitedAsyncTransactionalEmailSender;
+import io.micronaut.email.ratelimit.RateLimiters;
+import io.micronaut.email.retry.RetryPolicies;
+import io.micronaut.email.retry.RetryingAsyncTransactionalEmailSender;
+import io.micronaut.inject.qualifiers.Qualifiers;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import jakarta.validation.constraints.NotNull;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * {@link EmailScheduler} backed by a {@link SegmentJournal} in {@link SchedulerConfiguration#getDirectory()} and a {@link HierarchicalTimerWheel}.
+ * Scheduling appends the email to the journal and adds it to the wheel, cancelling appends a tombstone and unlinks it from the wheel, thus both are O(1) however many emails are pending.
+ * The wheel holds only the position of each email in the journal, and the email is read back once it is due.
+ * A scheduler thread advances the wheel every {@link SchedulerConfiguration#getTickDuration()} and moves the due emails to a ready queue.
+ * Up to {@link SchedulerConfiguration#getConcurrency()} ready emails at a time are sent asynchronously through the named {@link AsyncTransactionalEmailSender},
+ * honouring its rate limit and retry policy, thus the wheel keeps advancing while a large batch of due emails drains, and a ready email can be cancelled until it is sent.
+ * An email is only marked as completed once it has been sent or found to be a duplicate. An email which failed to be sent is added to the wheel again after {@link SchedulerConfiguration#getRedeliveryDelay()},
+ * doubled with every failure up to {@link SchedulerConfiguration#getMaxRedeliveryDelay()}, until it is sent or cancelled.
+ * When the application starts, the emails which were neither sent nor cancelled are read from the journal and added to the wheel again.
+ * Segments are deleted once they contain no pending email, thus an email scheduled far ahead keeps the segments after it on disk.
+ *
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+@Requires(property = SchedulerConfigurationProperties.PREFIX + ".enabled", value = StringUtils.TRUE)
+@Context
+public class DefaultEmailScheduler implements EmailScheduler {
+    private static final Logger LOG = LoggerFactory.getLogger(DefaultEmailScheduler.class);
+    private static final byte SCHEDULED = 1;
+    private static final byte COMPLETED = 2;
+    private static final long CHECKPOINT_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final SchedulerConfiguration configuration;
+    private final BeanContext beanContext;
+    private final EmailDecoratorPipeline decoratorPipeline;
+    private final RateLimiters rateLimiters;
+    private final RetryPolicies retryPolicies;
+    @Nullable
+    private final IdempotencyStore idempotencyStore;
+    private final SegmentJournal journal;
+    private final long tickMillis;
+    private final HierarchicalTimerWheel wheel;
+    private final Map<Long, Pending> pending = new HashMap<>();
+    private final Set<Pending> ready = new LinkedHashSet<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition wakeUp = lock.newCondition();
+    private final ReadWriteLock checkpointLock = new ReentrantReadWriteLock();
+    private final Map<String, AsyncTransactionalEmailSender<?, ?>> senders = new ConcurrentHashMap<>();
+    private int inFlight;
+    private volatile boolean running;
+    private volatile Thread scheduler;
+
+    /**
+     * @param configuration Scheduler configuration
+     * @param beanContext Bean Context
+     * @param decoratorPipeline Email decorator pipeline
+     * @param rateLimiters Rate limiters
+     * @param retryPolicies Retry policies
+     * @param idempotencyStore Idempotency store. If null, emails with an idempotency key may be sent more than once.
+     */
+    public DefaultEmailScheduler(SchedulerConfiguration configuration,
+                                 BeanContext beanContext,
+                                 EmailDecoratorPipeline decoratorPipeline,
+                                 RateLimiters rateLimiters,
+                                 RetryPolicies retryPolicies,
+                                 @Nullable IdempotencyStore idempotencyStore) {
+        this.configuration = configuration;
+        this.beanContext = beanContext;
+        this.decoratorPipeline = decoratorPipeline;
+        this.rateLimiters = rateLimiters;
+        this.retryPolicies = retryPolicies;
+        this.idempotencyStore = idempotencyStore;
+        this.tickMillis = Math.max(1, configuration.getTickDuration().toMillis());
+        this.wheel = new HierarchicalTimerWheel(configuration.getWheelSize(), Math.floorDiv(System.currentTimeMillis(), tickMillis));
+        try {
+            this.journal = new SegmentJournal(configuration.getDirectory(), configuration.getSegmentSize());
+        } catch (IOException e) {
+            throw new EmailException(e);
+        }
+    }
+
+    /**
+     * Adds the emails left pending by a previous run to the timer wheel and starts the scheduler thread.
+     */
+    @PostConstruct
+    public void start() {
+        try {
+            recover();
+        } catch (IOException e) {
+            throw new EmailException(e);
+        }
+        running = true;
+        Thread thread = new Thread(this::run, "email-scheduler");
+        thread.setDaemon(true);
+        scheduler = thread;
+        thread.start();
+    }
+
+    @Override
+    @NonNull
+    public ScheduledEmail sendAt(@NonNull @NotNull Email.Builder emailBuilder,
+                                 @NonNull @NotNull Instant sendAt,
+                                 @Nullable String senderName) throws EmailException {
+        decoratorPipeline.decorate(emailBuilder, sender(senderName).getName());
+        Email email = emailBuilder.build();
+        long sendAtMillis = sendAt.toEpochMilli();
+        checkpointLock.readLock().lock();
+        try {
+            long id = journal.append(scheduledRecord(sendAtMillis, senderName, OutboxEmailCodec.encode(email)));
+            Pending entry = new Pending(id, sendAtMillis, senderName);
+            lock.lock();
+            try {
+                pending.put(id, entry);
+                schedule(entry);
+            } finally {
+                lock.unlock();
+            }
+            return entry;
+        } catch (IOException e) {
+            throw new EmailException(e);
+        } finally {
+            checkpointLock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean cancel(long id) throws EmailException {
+        lock.lock();
+        try {
+            Pending entry = pending.get(id);
+            if (entry == null || entry.due) {
+                return false;
+            }
+            pending.remove(id);
+            if (!wheel.remove(entry)) {
+                ready.remove(entry);
+            }
+        } finally {
+            lock.unlock();
+        }
+        try {
+            journal.append(completedRecord(id));
+        } catch (IOException e) {
+            throw new EmailException(e);
+        }
+        return true;
+    }
+
+    /**
+     * Stops the scheduler thread, waits up to {@link SchedulerConfiguration#getShutdownTimeout()} for the emails being sent and closes the journal.
+     * Ready emails which have not started to be sent are sent on the next start.
+     */
+    @PreDestroy
+    public void close() {
+        running = false;
+        long deadline = System.nanoTime() + configuration.getShutdownTimeout().toNanos();
+        lock.lock();
+        try {
+            wakeUp.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        Thread thread = scheduler;
+        if (thread != null) {
+            try {
+                thread.join(Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())));
+                awaitInFlight(deadline);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        try {
+            checkpoint();
+            journal.close();
+        } catch (IOException e) {
+            if (LOG.isWarnEnabled()) {
+                LOG.warn("IOException closing the email scheduler", e);
+            }
+        }
+    }
+
+    private void recover() throws IOException {
+        long offset = journal.getCommittedOffset();
+        long end = journal.getDurableOffset();
+        while (offset < end) {
+            SegmentJournal.Record record = journal.read(offset);
+            if (record == null) {
+                break;
+            }
+            byte[] payload = record.getPayload();
+            if (payload != null) {
+                try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+                    if (in.readByte() == SCHEDULED) {
+                        long sendAtMillis = in.readLong();
+                        String senderName = in.readUTF();
+                        pending.put(offset, new Pending(offset, sendAtMillis, senderName.isEmpty() ? null : senderName));
+                    } else {
+                        pending.remove(in.readLong());
+                    }
+                }
+            }
+            offset = record.getNextOffset();
+        }
+        lock.lock();
+        try {
+            for (Pending entry : pending.values()) {
+                schedule(entry);
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Recovered {} scheduled emails", pending.size());
+        }
+    }
+
+    private void schedule(@NonNull Pending entry) {
+        if (!wheel.add(entry)) {
+            ready.add(entry);
+            wakeUp.signal();
+        }
+    }
+
+    private void run() {
+        int concurrency = Math.max(1, configuration.getConcurrency());
+        List<Pending> due = new ArrayList<>();
+        long lastCheckpoint = System.nanoTime();
+        while (running) {
+            lock.lock();
+            try {
+                long now = System.currentTimeMillis();
+                wheel.advance(Math.floorDiv(now, tickMillis), timeout -> ready.add((Pending) timeout));
+                Iterator<Pending> readyEntries = ready.iterator();
+                while (inFlight < concurrency && readyEntries.hasNext()) {
+                    Pending entry = readyEntries.next();
+                    readyEntries.remove();
+                    entry.due = true;
+                    inFlight++;
+                    due.add(entry);
+                }
+                if (due.isEmpty()) {
+                    // woken up by a send which completes or an email which is already due
+                    long untilNextTick = (Math.floorDiv(now, tickMillis) + 1) * tickMillis - now;
+                    wakeUp.await(untilNextTick, TimeUnit.MILLISECONDS);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                lock.unlock();
+            }
+            for (Pending entry : due) {
+                // the email is read from the journal and composed off the scheduler thread
+                deliver(entry).subscribeOn(Schedulers.boundedElastic()).subscribe();
+            }
+            due.clear();
+            if (System.nanoTime() - lastCheckpoint >= CHECKPOINT_INTERVAL_NANOS) {
+                lastCheckpoint = System.nanoTime();
+                try {
+                    checkpoint();
+                } catch (IOException e) {
+                    if (LOG.isWarnEnabled()) {
+                        LOG.warn("IOException storing the email scheduler consumer offset", e);
+                    }
+                }
+            }
+        }
+    }
+
+    @NonNull
+    private Mono<Void> deliver(@NonNull Pending entry) {
+        return Mono.defer(() -> {
+            Email email;
+            try {
+                SegmentJournal.Record record = journal.read(entry.id);
+                byte[] payload = record != null ? record.getPayload() : null;
+                if (payload == null) {
+                    throw new IOException("The scheduled email at offset " + entry.id + " cannot be read");
+                }
+                email = OutboxEmailCodec.decode(emailPayload(payload));
+            } catch (IOException e) {
+                // the email cannot be read again either, thus it is not redelivered
+                LOG.error("Could not read the scheduled email at offset {}", entry.id, e);
+                complete(entry);
+                return Mono.empty();
+            }
+            return Mono.from(sender(entry.senderName).sendAsync(email)).then(Mono.fromRunnable(() -> complete(entry)));
+        }).onErrorResume(e -> {
+            if (e instanceof DuplicateEmailException) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Skipping the scheduled email at offset {}: {}", entry.id, e.getMessage());
+                }
+                complete(entry);
+            } else {
+                redeliver(entry, e);
+            }
+            return Mono.empty();
+        }).then();
+    }
+
+    private void complete(@NonNull Pending entry) {
+        try {
+            journal.append(completedRecord(entry.id));
+        } catch (IOException e) {
+            if (LOG.isWarnEnabled()) {
+                LOG.warn("IOException marking the scheduled email at offset {} as sent. It will be sent again on the next start", entry.id, e);
+            }
+        }
+        lock.lock();
+        try {
+            pending.remove(entry.id);
+            inFlight--;
+            wakeUp.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void redeliver(@NonNull Pending entry, @NonNull Throwable failure) {
+        long delay = redeliveryDelayMillis(entry.failures);
+        LOG.error("Could not send the scheduled email at offset {}. It will be sent again in {} ms", entry.id, delay, failure);
+        lock.lock();
+        try {
+            inFlight--;
+            if (running && pending.containsKey(entry.id)) {
+                Pending retry = new Pending(entry, System.currentTimeMillis() + delay);
+                pending.put(entry.id, retry);
+                schedule(retry);
+            }
+            wakeUp.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long redeliveryDelayMillis(int failures) {
+        long max = configuration.getMaxRedeliveryDelay().toMillis();
+        long delay = configuration.getRedeliveryDelay().toMillis();
+        for (int i = 0; i < failures && delay < max; i++) {
+            delay *= 2;
+        }
+        return Math.max(0, Math.min(delay, max));
+    }
+
+    private void awaitInFlight(long deadline) throws InterruptedException {
+        lock.lock();
+        try {
+            long remaining = deadline - System.nanoTime();
+            while (inFlight > 0 && remaining > 0) {
+                remaining = wakeUp.awaitNanos(remaining);
+            }
+            if (inFlight > 0 && LOG.isWarnEnabled()) {
+                LOG.warn("Closing the email scheduler while emails are being sent. They will be sent again on the next start");
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Commits the offset of the oldest pending email, which deletes the segments before it.
+     * @throws IOException if the offset cannot be stored
+     */
+    private void checkpoint() throws IOException {
+        long end;
+        // no email is being appended, thus every email before the end is in the pending map
+        checkpointLock.writeLock().lock();
+        try {
+            end = journal.getDurableOffset();
+        } finally {
+            checkpointLock.writeLock().unlock();
+        }
+        long oldest = end;
+        lock.lock();
+        try {
+            for (Long id : pending.keySet()) {
+                oldest = Math.min(oldest, id);
+            }
+        } finally {
+            lock.unlock();
+        }
+        journal.commit(oldest);
+    }
+
+    @NonNull
+    private AsyncTransactionalEmailSender<?, ?> sender(@Nullable String senderName) {
+        String name = senderName != null ? senderName : configuration.getSender();
+        return senders.computeIfAbsent(name != null ? name : "", key -> {
+            AsyncTransactionalEmailSender<?, ?> bean;
+            try {
+                bean = name == null
+                        ? beanContext.getBean(AsyncTransactionalEmailSender.class)
+                        : beanContext.getBean(AsyncTransactionalEmailSender.class, Qualifiers.byName(name));
+            } catch (NoSuchBeanException e) {
+                throw new EmailException("No asynchronous email sender named " + name, EmailErrorType.PERMANENT);
+            }
+            AsyncTransactionalEmailSender<?, ?> result = RetryingAsyncTransactionalEmailSender.of(RateLimitedAsyncTransactionalEmailSender.of(bean, rateLimiters), retryPolicies);
+            if (idempotencyStore != null) {
+                result = new IdempotentAsyncTransactionalEmailSender<>(result, idempotencyStore);
+            }
+            return result;
+        });
+    }
+
+    @NonNull
+    private static byte[] scheduledRecord(long sendAtMillis, @Nullable String senderName, @NonNull byte[] email) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(email.length + 32);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(SCHEDULED);
+            out.writeLong(sendAtMillis);
+            out.writeUTF(senderName != null ? senderName : "");
+            out.write(email);
+        }
+        return bytes.toByteArray();
+    }
+
+    @NonNull
+    private static byte[] completedRecord(long id) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(Byte.BYTES + Long.BYTES);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(COMPLETED);
+            out.writeLong(id);
+        }
+        return bytes.toByteArray();
+    }
+
+    @NonNull
+    private static byte[] emailPayload(@NonNull byte[] scheduledRecord) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(scheduledRecord))) {
+            in.readByte();
+            in.readLong();
+            in.readUTF();
+            return in.readAllBytes();
+        }
+    }
+
+    /**
+     * A scheduled email which has been neither sent nor cancelled. The id is the offset of the email in the journal.
+     */
+    private final class Pending extends HierarchicalTimerWheel.Timeout implements ScheduledEmail {
+        private final long id;
+        private final long sendAtMillis;
+        @Nullable
+        private final String senderName;
+        private final int failures;
+        private boolean due;
+
+        private Pending(long id, long sendAtMillis, @Nullable String senderName) {
+            // rounded up, thus the email is never sent before its send time
+            super(-Math.floorDiv(-sendAtMillis, tickMillis));
+            this.id = id;
+            this.sendAtMillis = sendAtMillis;
+            this.senderName = senderName;
+            this.failures = 0;
+        }
+
+        private Pending(@NonNull Pending failed, long redeliverAtMillis) {
+            super(-Math.floorDiv(-redeliverAtMillis, tickMillis));
+            this.id = failed.id;
+            this.sendAtMillis = failed.sendAtMillis;
+            this.senderName = failed.senderName;
+            this.failures = failed.failures + 1;
+        }
+
+        @Override
+        public long getId() {
+            return id;
+        }
+
+        @Override
+        @NonNull
+        public Instant getSendAt() {
+            return Instant.ofEpochMilli(sendAtMillis);
+        }
+
+        @Override
+        @Nullable
+        public String getSenderName() {
+            return senderName;
+        }
+
+        @Override
+        public boolean cancel() throws EmailException {
+            return DefaultEmailScheduler.this.cancel(id);
+        }
+    }
+}
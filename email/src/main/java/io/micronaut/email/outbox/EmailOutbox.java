@@ -0,0 +1,55 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.outbox;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.email.Email;
+import io.micronaut.email.EmailException;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Stores emails durably and delivers them in the background. Emails are delivered at least once, even if the application restarts before they are sent.
+ * Emails which fail to be delivered are kept in a dead letter journal until they are {@link #redeliverDeadLetters() redelivered}.
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+public interface EmailOutbox {
+
+    /**
+     * Decorates the email with every {@link io.micronaut.email.EmailDecorator} and {@link io.micronaut.email.AsyncEmailDecorator} and stores it in the outbox.
+     * @param emailBuilder Email Builder
+     * @return Position of the email in the outbox
+     * @throws EmailException if the email could not be stored
+     */
+    long enqueue(@NonNull @NotNull Email.Builder emailBuilder) throws EmailException;
+
+    /**
+     * Stores the email in the outbox. The method returns once the email has been written to disk.
+     * @param email Email
+     * @return Position of the email in the outbox
+     * @throws EmailException if the email could not be stored
+     */
+    long enqueue(@NonNull @NotNull @Valid Email email) throws EmailException;
+
+    /**
+     * Moves the emails which failed to be delivered from the dead letter journal back to the outbox, thus they are delivered again.
+     * @return Number of emails moved back to the outbox
+     * @throws EmailException if the emails could not be moved
+     */
+    int redeliverDeadLetters() throws EmailException;
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.outbox;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.email.Email;
+import io.micronaut.email.EmailException;
+
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Stores emails durably and sends them once their send time is reached, even if the application restarts in between.
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+public interface EmailScheduler {
+
+    /**
+     * Decorates the email with every {@link io.micronaut.email.EmailDecorator} and {@link io.micronaut.email.AsyncEmailDecorator} and schedules it through the default sender.
+     * @param emailBuilder Email Builder
+     * @param sendAt Time at which the email is sent. Times in the past are sent immediately.
+     * @return Handle of the scheduled email
+     * @throws EmailException if the email could not be stored
+     */
+    @NonNull
+    default ScheduledEmail sendAt(@NonNull @NotNull Email.Builder emailBuilder, @NonNull @NotNull Instant sendAt) throws EmailException {
+        return sendAt(emailBuilder, sendAt, null);
+    }
+
+    /**
+     * Decorates the email with every {@link io.micronaut.email.EmailDecorator} and {@link io.micronaut.email.AsyncEmailDecorator} and schedules it.
+     * @param emailBuilder Email Builder
+     * @param sendAt Time at which the email is sent. Times in the past are sent immediately.
+     * @param senderName Name of the {@link io.micronaut.email.AsyncTransactionalEmailSender} which sends the email. If null, the default sender is used.
+     * @return Handle of the scheduled email
+     * @throws EmailException if the email could not be stored or there is no sender with the name
+     */
+    @NonNull
+    ScheduledEmail sendAt(@NonNull @NotNull Email.Builder emailBuilder, @NonNull @NotNull Instant sendAt, @Nullable String senderName) throws EmailException;
+
+    /**
+     * Schedules the email to be sent after a delay through the default sender.
+     * @param emailBuilder Email Builder
+     * @param delay Delay after which the email is sent
+     * @return Handle of the scheduled email
+     * @throws EmailException if the email could not be stored
+     */
+    @NonNull
+    default ScheduledEmail sendAfter(@NonNull @NotNull Email.Builder emailBuilder, @NonNull @NotNull Duration delay) throws EmailException {
+        return sendAt(emailBuilder, Instant.now().plus(delay));
+    }
+
+    /**
+     * Cancels a scheduled email. The identifier survives restarts, thus it can be stored to cancel the email later.
+     * @param id Identifier of the scheduled email, see {@link ScheduledEmail#getId()}
+     * @return true if the email was pending and will not be sent, false if it has already been sent, is being sent or does not exist
+     * @throws EmailException if the cancellation could not be stored
+     */
+    boolean cancel(long id) throws EmailException;
+}
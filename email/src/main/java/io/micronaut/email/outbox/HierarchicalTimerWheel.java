@@ -0,0 +1,201 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.outbox;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timer wheel, as described by Varghese and Lauck. Level zero has a slot per tick, and each slot of the next level spans a whole rotation of the previous one.
+ * A timeout is stored in the lowest level whose rotation covers its deadline, thus adding and removing a timeout is O(1) regardless of the number of pending timeouts.
+ * When a level completes a rotation, the current slot of the level above is cascaded, i.e. its timeouts are moved to the lower levels.
+ * Slots are intrusive doubly linked lists of {@link Timeout}. The wheel is not thread-safe.
+ *
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+final class HierarchicalTimerWheel {
+
+    private final int bits;
+    private final int mask;
+    private final Timeout[][] slots;
+    private long currentTick;
+    private int size;
+
+    /**
+     *
+     * @param wheelSize Number of slots per level. Rounded up to a power of two.
+     * @param startTick First tick to be processed
+     */
+    HierarchicalTimerWheel(int wheelSize, long startTick) {
+        int slotsPerLevel = Integer.highestOneBit(Math.max(2, wheelSize) - 1) << 1;
+        this.bits = Integer.numberOfTrailingZeros(slotsPerLevel);
+        this.mask = slotsPerLevel - 1;
+        int levels = (Long.SIZE - 1 + bits - 1) / bits;
+        this.slots = new Timeout[levels][slotsPerLevel];
+        this.currentTick = startTick;
+    }
+
+    /**
+     * Adds a timeout to the slot of its deadline.
+     * @param timeout Timeout
+     * @return false if the deadline has already been processed and the timeout was not added
+     */
+    boolean add(@NonNull Timeout timeout) {
+        long delta = timeout.deadline - currentTick;
+        if (delta < 0) {
+            return false;
+        }
+        int level = 0;
+        while (level < slots.length - 1 && delta >= 1L << (bits * (level + 1))) {
+            level++;
+        }
+        int slot = (int) (timeout.deadline >>> (bits * level)) & mask;
+        Timeout head = slots[level][slot];
+        timeout.level = level;
+        timeout.slot = slot;
+        timeout.previous = null;
+        timeout.next = head;
+        if (head != null) {
+            head.previous = timeout;
+        }
+        slots[level][slot] = timeout;
+        size++;
+        return true;
+    }
+
+    /**
+     * Removes a timeout from the wheel.
+     * @param timeout Timeout
+     * @return false if the timeout was not in the wheel
+     */
+    boolean remove(@NonNull Timeout timeout) {
+        if (timeout.level < 0) {
+            return false;
+        }
+        if (timeout.previous != null) {
+            timeout.previous.next = timeout.next;
+        } else {
+            slots[timeout.level][timeout.slot] = timeout.next;
+        }
+        if (timeout.next != null) {
+            timeout.next.previous = timeout.previous;
+        }
+        timeout.level = -1;
+        timeout.previous = null;
+        timeout.next = null;
+        size--;
+        return true;
+    }
+
+    /**
+     * Processes every tick up to the supplied one, inclusive.
+     * @param tick Current tick
+     * @param expired Receives the timeouts whose deadline has been reached. They are no longer in the wheel.
+     */
+    void advance(long tick, @NonNull Consumer<Timeout> expired) {
+        while (currentTick <= tick) {
+            if (size == 0) {
+                currentTick = tick + 1;
+                return;
+            }
+            int index = (int) currentTick & mask;
+            if (index == 0) {
+                for (int level = 1; level < slots.length; level++) {
+                    int slot = (int) (currentTick >>> (bits * level)) & mask;
+                    cascade(level, slot);
+                    if (slot != 0) {
+                        break;
+                    }
+                }
+            }
+            Timeout timeout = detach(0, index);
+            currentTick++;
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                timeout.next = null;
+                expired.accept(timeout);
+                timeout = next;
+            }
+        }
+    }
+
+    /**
+     *
+     * @return Number of timeouts in the wheel
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     *
+     * @return Next tick to be processed
+     */
+    long getCurrentTick() {
+        return currentTick;
+    }
+
+    private void cascade(int level, int slot) {
+        Timeout timeout = detach(level, slot);
+        while (timeout != null) {
+            Timeout next = timeout.next;
+            add(timeout);
+            timeout = next;
+        }
+    }
+
+    @Nullable
+    private Timeout detach(int level, int slot) {
+        Timeout head = slots[level][slot];
+        slots[level][slot] = null;
+        for (Timeout timeout = head; timeout != null; timeout = timeout.next) {
+            timeout.level = -1;
+            timeout.previous = null;
+            size--;
+        }
+        return head;
+    }
+
+    /**
+     * An entry of the wheel. Subclasses carry the payload.
+     */
+    static class Timeout {
+        private final long deadline;
+        private Timeout previous;
+        private Timeout next;
+        private int level = -1;
+        private int slot;
+
+        /**
+         *
+         * @param deadline Tick at which the timeout expires
+         */
+        Timeout(long deadline) {
+            this.deadline = deadline;
+        }
+
+        /**
+         *
+         * @return Tick at which the timeout expires
+         */
+        long getDeadline() {
+            return deadline;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.outbox;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.util.Toggleable;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Configuration of the {@link EmailOutbox}.
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+public interface OutboxConfiguration extends Toggleable {
+
+    /**
+     *
+     * @return Directory where the outbox segments and the consumer offset are stored.
+     */
+    @NonNull
+    Path getDirectory();
+
+    /**
+     *
+     * @return Size in bytes after which a new segment is started.
+     */
+    long getSegmentSize();
+
+    /**
+     *
+     * @return Maximum number of emails delivered concurrently.
+     */
+    int getConcurrency();
+
+    /**
+     *
+     * @return Name of the {@link io.micronaut.email.TransactionalEmailSender} which delivers the emails. If null, the only sender is used.
+     */
+    @Nullable
+    String getSender();
+
+    /**
+     *
+     * @return Maximum duration to wait for emails being delivered when the outbox is closed.
+     */
+    @NonNull
+    Duration getShutdownTimeout();
+}
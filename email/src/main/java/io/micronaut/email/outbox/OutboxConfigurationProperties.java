@@ -0,0 +1,170 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.outbox;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * {@link ConfigurationProperties} implementation of {@link OutboxConfiguration}.
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+@ConfigurationProperties(OutboxConfigurationProperties.PREFIX)
+public class OutboxConfigurationProperties implements OutboxConfiguration {
+
+    /**
+     * Outbox configuration prefix.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final String PREFIX = "micronaut.email.outbox";
+
+    /**
+     * The default enable value.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final boolean DEFAULT_ENABLED = false;
+
+    /**
+     * The default outbox directory.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final String DEFAULT_DIRECTORY = "email-outbox";
+
+    /**
+     * The default segment size in bytes.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final long DEFAULT_SEGMENT_SIZE = 64L * 1024 * 1024;
+
+    /**
+     * The default number of emails delivered concurrently.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final int DEFAULT_CONCURRENCY = 4;
+
+    /**
+     * The default shutdown timeout in seconds.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final long DEFAULT_SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    private boolean enabled = DEFAULT_ENABLED;
+
+    @NonNull
+    private Path directory = Path.of(DEFAULT_DIRECTORY);
+
+    private long segmentSize = DEFAULT_SEGMENT_SIZE;
+
+    private int concurrency = DEFAULT_CONCURRENCY;
+
+    @Nullable
+    private String sender;
+
+    @NonNull
+    private Duration shutdownTimeout = Duration.ofSeconds(DEFAULT_SHUTDOWN_TIMEOUT_SECONDS);
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Whether emails can be enqueued in a durable outbox and delivered in the background. Default value: `{@value #DEFAULT_ENABLED}`
+     *
+     * @param enabled True if the outbox is enabled
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    @NonNull
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Directory where the outbox segments and the consumer offset are stored. Default value: `{@value #DEFAULT_DIRECTORY}`
+     *
+     * @param directory Outbox directory
+     */
+    public void setDirectory(@NonNull Path directory) {
+        this.directory = directory;
+    }
+
+    @Override
+    public long getSegmentSize() {
+        return segmentSize;
+    }
+
+    /**
+     * Size in bytes after which a new segment is started. Fully delivered segments are deleted. Default value: `{@value #DEFAULT_SEGMENT_SIZE}`
+     *
+     * @param segmentSize Segment size in bytes
+     */
+    public void setSegmentSize(long segmentSize) {
+        this.segmentSize = segmentSize;
+    }
+
+    @Override
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    /**
+     * Maximum number of emails delivered concurrently. Default value: `{@value #DEFAULT_CONCURRENCY}`
+     *
+     * @param concurrency Maximum number of emails delivered concurrently
+     */
+    public void setConcurrency(int concurrency) {
+        this.concurrency = concurrency;
+    }
+
+    @Override
+    @Nullable
+    public String getSender() {
+        return sender;
+    }
+
+    /**
+     * Name of the transactional email sender, for example `ses` or `postmark`, which delivers the emails. Required if several senders are registered.
+     *
+     * @param sender Transactional email sender name
+     */
+    public void setSender(@Nullable String sender) {
+        this.sender = sender;
+    }
+
+    @Override
+    @NonNull
+    public Duration getShutdownTimeout() {
+        return shutdownTimeout;
+    }
+
+    /**
+     * Maximum duration to wait for emails being delivered when the application stops. Emails which are not delivered in time are delivered again on the next start. Default value: `{@value #DEFAULT_SHUTDOWN_TIMEOUT_SECONDS}` seconds
+     *
+     * @param shutdownTimeout Shutdown timeout
+     */
+    public void setShutdownTimeout(@NonNull Duration shutdownTimeout) {
+        this.shutdownTimeout = shutdownTimeout;
+    }
+}
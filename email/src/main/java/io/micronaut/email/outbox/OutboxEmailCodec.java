@@ -0,0 +1,194 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.outbox;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.email.Attachment;
+import io.micronaut.email.Body;
+import io.micronaut.email.BodyType;
+import io.micronaut.email.Contact;
+import io.micronaut.email.Email;
+import io.micronaut.email.EmailPriority;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.function.Consumer;
+
+/**
+ * Binary representation of an {@link Email} stored in the outbox. Bodies are stored rendered, thus any {@link Body} implementation is supported,
+ * and attachments are stored with their content.
+ *
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+final class OutboxEmailCodec {
+
+    private static final byte VERSION = 1;
+    private static final int NULL_LENGTH = -1;
+
+    private OutboxEmailCodec() {
+    }
+
+    @NonNull
+    static byte[] encode(@NonNull Email email) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            writeContact(out, email.getFrom());
+            writeContacts(out, email.getReplyToCollection());
+            writeContacts(out, email.getTo());
+            writeContacts(out, email.getCc());
+            writeContacts(out, email.getBcc());
+            writeString(out, email.getSubject());
+            Body body = email.getBody();
+            writeString(out, body == null ? null : body.get(BodyType.HTML).orElse(null));
+            writeString(out, body == null ? null : body.get(BodyType.TEXT).orElse(null));
+            if (email.getAttachments() == null) {
+                out.writeInt(NULL_LENGTH);
+            } else {
+                out.writeInt(email.getAttachments().size());
+                for (Attachment attachment : email.getAttachments()) {
+                    writeString(out, attachment.getFilename());
+                    writeString(out, attachment.getContentType());
+                    writeBytes(out, attachment.getContent());
+                    writeString(out, attachment.getId());
+                    writeString(out, attachment.getDisposition());
+                }
+            }
+            // appended after the attachments, records written without them are still decoded
+            writeString(out, email.getIdempotencyKey());
+            out.writeByte(email.getPriority().ordinal());
+        }
+        return bytes.toByteArray();
+    }
+
+    @NonNull
+    static Email decode(@NonNull byte[] payload) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+        byte version = in.readByte();
+        if (version != VERSION) {
+            throw new IOException("Unsupported outbox record version " + version);
+        }
+        Email.Builder builder = Email.builder();
+        Contact from = readContact(in);
+        if (from != null) {
+            builder.from(from);
+        }
+        readContacts(in, builder::replyTo);
+        readContacts(in, builder::to);
+        readContacts(in, builder::cc);
+        readContacts(in, builder::bcc);
+        String subject = readString(in);
+        if (subject != null) {
+            builder.subject(subject);
+        }
+        String html = readString(in);
+        String text = readString(in);
+        if (html != null && text != null) {
+            builder.body(html, text);
+        } else if (html != null) {
+            builder.body(html, BodyType.HTML);
+        } else if (text != null) {
+            builder.body(text);
+        }
+        int attachments = in.readInt();
+        for (int i = 0; i < attachments; i++) {
+            builder.attachment(new Attachment(readString(in), readString(in), readBytes(in), readString(in), readString(in)));
+        }
+        if (in.available() > 0) {
+            String idempotencyKey = readString(in);
+            if (idempotencyKey != null) {
+                builder.idempotencyKey(idempotencyKey);
+            }
+        }
+        if (in.available() > 0) {
+            builder.priority(EmailPriority.values()[in.readByte()]);
+        }
+        return builder.build();
+    }
+
+    private static void writeContacts(@NonNull DataOutputStream out, @Nullable Collection<Contact> contacts) throws IOException {
+        if (contacts == null) {
+            out.writeInt(NULL_LENGTH);
+            return;
+        }
+        out.writeInt(contacts.size());
+        for (Contact contact : contacts) {
+            writeContact(out, contact);
+        }
+    }
+
+    private static void readContacts(@NonNull DataInputStream in, @NonNull Consumer<Contact> consumer) throws IOException {
+        int size = in.readInt();
+        for (int i = 0; i < size; i++) {
+            Contact contact = readContact(in);
+            if (contact != null) {
+                consumer.accept(contact);
+            }
+        }
+    }
+
+    private static void writeContact(@NonNull DataOutputStream out, @Nullable Contact contact) throws IOException {
+        writeString(out, contact == null ? null : contact.getEmail());
+        writeString(out, contact == null ? null : contact.getName());
+    }
+
+    @Nullable
+    private static Contact readContact(@NonNull DataInputStream in) throws IOException {
+        String email = readString(in);
+        String name = readString(in);
+        return email == null ? null : new Contact(email, name);
+    }
+
+    private static void writeString(@NonNull DataOutputStream out, @Nullable String value) throws IOException {
+        writeBytes(out, value == null ? null : value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Nullable
+    private static String readString(@NonNull DataInputStream in) throws IOException {
+        byte[] bytes = readBytes(in);
+        return bytes == null ? null : new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeBytes(@NonNull DataOutputStream out, @Nullable byte[] value) throws IOException {
+        if (value == null) {
+            out.writeInt(NULL_LENGTH);
+        } else {
+            out.writeInt(value.length);
+            out.write(value);
+        }
+    }
+
+    @Nullable
+    private static byte[] readBytes(@NonNull DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        if (length < 0 || length > in.available()) {
+            throw new IOException("Invalid outbox record field length " + length);
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.outbox;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.email.EmailException;
+
+import java.time.Instant;
+
+/**
+ * Handle of an email scheduled with an {@link EmailScheduler}.
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+public interface ScheduledEmail {
+
+    /**
+     *
+     * @return Identifier of the scheduled email, which can be passed to {@link EmailScheduler#cancel(long)}
+     */
+    long getId();
+
+    /**
+     *
+     * @return Time at which the email is sent
+     */
+    @NonNull
+    Instant getSendAt();
+
+    /**
+     *
+     * @return Name of the sender which sends the email or null for the default sender
+     */
+    @Nullable
+    String getSenderName();
+
+    /**
+     * Cancels the email.
+     * @return true if the email was pending and will not be sent
+     * @throws EmailException if the cancellation could not be stored
+     */
+    boolean cancel() throws EmailException;
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.outbox;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.util.Toggleable;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Configuration of the {@link EmailScheduler}.
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+public interface SchedulerConfiguration extends Toggleable {
+
+    /**
+     *
+     * @return Directory where the scheduled emails are stored.
+     */
+    @NonNull
+    Path getDirectory();
+
+    /**
+     *
+     * @return Size in bytes after which a new segment is started.
+     */
+    long getSegmentSize();
+
+    /**
+     *
+     * @return Resolution of the timer wheel. Emails are sent at most one tick after their send time.
+     */
+    @NonNull
+    Duration getTickDuration();
+
+    /**
+     *
+     * @return Number of slots of each level of the timer wheel.
+     */
+    int getWheelSize();
+
+    /**
+     *
+     * @return Maximum number of due emails sent concurrently.
+     */
+    int getConcurrency();
+
+    /**
+     *
+     * @return Name of the {@link io.micronaut.email.AsyncTransactionalEmailSender} which sends the emails scheduled without a sender name. If null, the only sender is used.
+     */
+    @Nullable
+    String getSender();
+
+    /**
+     *
+     * @return Maximum duration to wait for due emails being sent when the scheduler is closed.
+     */
+    @NonNull
+    Duration getShutdownTimeout();
+
+    /**
+     *
+     * @return Delay before an email which failed to be sent is sent again. The delay doubles with every failure.
+     */
+    @NonNull
+    Duration getRedeliveryDelay();
+
+    /**
+     *
+     * @return Maximum delay before an email which failed to be sent is sent again.
+     */
+    @NonNull
+    Duration getMaxRedeliveryDelay();
+}
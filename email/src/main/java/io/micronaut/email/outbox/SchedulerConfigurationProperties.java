@@ -0,0 +1,264 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.outbox;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * {@link ConfigurationProperties} implementation of {@link SchedulerConfiguration}.
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+@ConfigurationProperties(SchedulerConfigurationProperties.PREFIX)
+public class SchedulerConfigurationProperties implements SchedulerConfiguration {
+
+    /**
+     * Scheduler configuration prefix.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final String PREFIX = "micronaut.email.scheduler";
+
+    /**
+     * The default enable value.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final boolean DEFAULT_ENABLED = false;
+
+    /**
+     * The default scheduler directory.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final String DEFAULT_DIRECTORY = "email-scheduler";
+
+    /**
+     * The default segment size in bytes.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final long DEFAULT_SEGMENT_SIZE = 64L * 1024 * 1024;
+
+    /**
+     * The default tick duration in milliseconds.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final long DEFAULT_TICK_DURATION_MILLIS = 1000;
+
+    /**
+     * The default number of slots of each level of the timer wheel.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final int DEFAULT_WHEEL_SIZE = 256;
+
+    /**
+     * The default number of due emails sent concurrently.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final int DEFAULT_CONCURRENCY = 16;
+
+    /**
+     * The default shutdown timeout in seconds.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final long DEFAULT_SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    /**
+     * The default redelivery delay in seconds.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final long DEFAULT_REDELIVERY_DELAY_SECONDS = 30;
+
+    /**
+     * The default maximum redelivery delay in minutes.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final long DEFAULT_MAX_REDELIVERY_DELAY_MINUTES = 60;
+
+    private boolean enabled = DEFAULT_ENABLED;
+
+    @NonNull
+    private Path directory = Path.of(DEFAULT_DIRECTORY);
+
+    private long segmentSize = DEFAULT_SEGMENT_SIZE;
+
+    @NonNull
+    private Duration tickDuration = Duration.ofMillis(DEFAULT_TICK_DURATION_MILLIS);
+
+    private int wheelSize = DEFAULT_WHEEL_SIZE;
+
+    private int concurrency = DEFAULT_CONCURRENCY;
+
+    @Nullable
+    private String sender;
+
+    @NonNull
+    private Duration shutdownTimeout = Duration.ofSeconds(DEFAULT_SHUTDOWN_TIMEOUT_SECONDS);
+
+    @NonNull
+    private Duration redeliveryDelay = Duration.ofSeconds(DEFAULT_REDELIVERY_DELAY_SECONDS);
+
+    @NonNull
+    private Duration maxRedeliveryDelay = Duration.ofMinutes(DEFAULT_MAX_REDELIVERY_DELAY_MINUTES);
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Whether emails can be scheduled to be sent at a later time. Default value: `{@value #DEFAULT_ENABLED}`
+     *
+     * @param enabled True if the scheduler is enabled
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    @NonNull
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Directory where the scheduled emails and the consumer offset are stored. Default value: `{@value #DEFAULT_DIRECTORY}`
+     *
+     * @param directory Scheduler directory
+     */
+    public void setDirectory(@NonNull Path directory) {
+        this.directory = directory;
+    }
+
+    @Override
+    public long getSegmentSize() {
+        return segmentSize;
+    }
+
+    /**
+     * Size in bytes after which a new segment is started. Segments are deleted once every email in them has been sent or cancelled. Default value: `{@value #DEFAULT_SEGMENT_SIZE}`
+     *
+     * @param segmentSize Segment size in bytes
+     */
+    public void setSegmentSize(long segmentSize) {
+        this.segmentSize = segmentSize;
+    }
+
+    @Override
+    @NonNull
+    public Duration getTickDuration() {
+        return tickDuration;
+    }
+
+    /**
+     * Resolution of the timer wheel. Emails are sent at most one tick after their send time. Default value: `{@value #DEFAULT_TICK_DURATION_MILLIS}` milliseconds
+     *
+     * @param tickDuration Tick duration
+     */
+    public void setTickDuration(@NonNull Duration tickDuration) {
+        this.tickDuration = tickDuration;
+    }
+
+    @Override
+    public int getWheelSize() {
+        return wheelSize;
+    }
+
+    /**
+     * Number of slots of each level of the timer wheel. Rounded up to a power of two. Default value: `{@value #DEFAULT_WHEEL_SIZE}`
+     *
+     * @param wheelSize Number of slots per level
+     */
+    public void setWheelSize(int wheelSize) {
+        this.wheelSize = wheelSize;
+    }
+
+    @Override
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    /**
+     * Maximum number of due emails sent concurrently. Default value: `{@value #DEFAULT_CONCURRENCY}`
+     *
+     * @param concurrency Maximum number of emails sent concurrently
+     */
+    public void setConcurrency(int concurrency) {
+        this.concurrency = concurrency;
+    }
+
+    @Override
+    @Nullable
+    public String getSender() {
+        return sender;
+    }
+
+    /**
+     * Name of the asynchronous transactional email sender, for example `ses` or `postmark`, which sends the emails scheduled without a sender name. Required if several senders are registered.
+     *
+     * @param sender Asynchronous transactional email sender name
+     */
+    public void setSender(@Nullable String sender) {
+        this.sender = sender;
+    }
+
+    @Override
+    @NonNull
+    public Duration getShutdownTimeout() {
+        return shutdownTimeout;
+    }
+
+    /**
+     * Maximum duration to wait for due emails being sent when the application stops. Emails which are not sent in time are sent again on the next start. Default value: `{@value #DEFAULT_SHUTDOWN_TIMEOUT_SECONDS}` seconds
+     *
+     * @param shutdownTimeout Shutdown timeout
+     */
+    public void setShutdownTimeout(@NonNull Duration shutdownTimeout) {
+        this.shutdownTimeout = shutdownTimeout;
+    }
+
+    @Override
+    @NonNull
+    public Duration getRedeliveryDelay() {
+        return redeliveryDelay;
+    }
+
+    /**
+     * Delay before an email which failed to be sent, once the sender's retries are exhausted, is sent again. The delay doubles with every failure. Default value: `{@value #DEFAULT_REDELIVERY_DELAY_SECONDS}` seconds
+     *
+     * @param redeliveryDelay Redelivery delay
+     */
+    public void setRedeliveryDelay(@NonNull Duration redeliveryDelay) {
+        this.redeliveryDelay = redeliveryDelay;
+    }
+
+    @Override
+    @NonNull
+    public Duration getMaxRedeliveryDelay() {
+        return maxRedeliveryDelay;
+    }
+
+    /**
+     * Maximum delay before an email which failed to be sent is sent again. Default value: `{@value #DEFAULT_MAX_REDELIVERY_DELAY_MINUTES}` minutes
+     *
+     * @param maxRedeliveryDelay Maximum redelivery delay
+     */
+    public void setMaxRedeliveryDelay(@NonNull Duration maxRedeliveryDelay) {
+        this.maxRedeliveryDelay = maxRedeliveryDelay;
+    }
+}
@@ -0,0 +1,455 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.outbox;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only journal split into segment files. Offsets are byte positions across every segment, and each segment file is named after the offset of its first record.
+ * Each record is stored as its length, the CRC32 of its payload and the payload.
+ * <p>
+ * Appending writes the record and then waits until it is flushed to disk. Concurrent appenders share a single {@link FileChannel#force(boolean)},
+ * thus the number of flushes does not grow with the number of appended records.
+ * The consumer offset is stored in a separate file. Segments whose records are all before the consumer offset are deleted.
+ * When the journal is opened, records after the last complete record are discarded.
+ *
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+final class SegmentJournal implements Closeable {
+    private static final Logger LOG = LoggerFactory.getLogger(SegmentJournal.class);
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String OFFSET_FILE = "consumer.offset";
+    private static final int HEADER_SIZE = Integer.BYTES * 2;
+    private static final int OFFSET_NAME_LENGTH = 20;
+    private static final Pattern SEGMENT_NAME = Pattern.compile("\\d{" + OFFSET_NAME_LENGTH + "}" + Pattern.quote(SEGMENT_SUFFIX));
+
+    private final Path directory;
+    private final long segmentSize;
+    private final NavigableMap<Long, Segment> segments = new ConcurrentSkipListMap<>();
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final Object flushLock = new Object();
+    private final Object durableSignal = new Object();
+    private final FileChannel offsetChannel;
+    private final ByteBuffer offsetBuffer = ByteBuffer.allocate(Long.BYTES);
+
+    private Segment active;
+    private long writeOffset;
+    private volatile long durableOffset;
+    private volatile long committedOffset;
+    private volatile boolean closed;
+
+    /**
+     * Opens the journal stored in the directory, creating it if it does not exist.
+     * @param directory Directory
+     * @param segmentSize Size in bytes after which a new segment is started
+     * @throws IOException if the journal cannot be opened
+     */
+    SegmentJournal(@NonNull Path directory, long segmentSize) throws IOException {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        Files.createDirectories(directory);
+        this.offsetChannel = FileChannel.open(directory.resolve(OFFSET_FILE), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long storedOffset = readCommittedOffset();
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path path : (Iterable<Path>) files.filter(p -> SEGMENT_NAME.matcher(p.getFileName().toString()).matches())::iterator) {
+                long base = Long.parseLong(path.getFileName().toString().substring(0, OFFSET_NAME_LENGTH));
+                segments.put(base, new Segment(base, path));
+            }
+        }
+        if (segments.isEmpty()) {
+            active = createSegment(Math.max(0, storedOffset));
+        } else {
+            active = segments.lastEntry().getValue();
+        }
+        long validSize = recover(active);
+        writeOffset = active.base + validSize;
+        durableOffset = writeOffset;
+        committedOffset = Math.min(Math.max(storedOffset, segments.firstKey()), writeOffset);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Opened outbox journal {} with {} segments, consumer offset {} and end offset {}", directory, segments.size(), committedOffset, writeOffset);
+        }
+    }
+
+    /**
+     * Appends a record and waits until it is flushed to disk.
+     * @param payload Record payload
+     * @return Offset of the record
+     * @throws IOException if the record cannot be written
+     */
+    long append(@NonNull byte[] payload) throws IOException {
+        int recordSize = HEADER_SIZE + payload.length;
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        ByteBuffer buffer = ByteBuffer.allocate(recordSize);
+        buffer.putInt(payload.length).putInt((int) crc.getValue()).put(payload).flip();
+        long start;
+        appendLock.lock();
+        try {
+            ensureOpen();
+            long activeSize = writeOffset - active.base;
+            if (activeSize > 0 && activeSize + recordSize > segmentSize) {
+                rotate();
+                activeSize = 0;
+            }
+            while (buffer.hasRemaining()) {
+                activeSize += active.channel.write(buffer, activeSize);
+            }
+            start = writeOffset;
+            writeOffset += recordSize;
+        } finally {
+            appendLock.unlock();
+        }
+        awaitDurable(start + recordSize);
+        return start;
+    }
+
+    /**
+     *
+     * @param offset Offset of the record
+     * @return The record at the offset or null if there is no flushed record at the offset yet
+     * @throws IOException if the record cannot be read
+     */
+    @Nullable
+    Record read(long offset) throws IOException {
+        if (offset >= durableOffset) {
+            return null;
+        }
+        Map.Entry<Long, Segment> entry = segments.floorEntry(offset);
+        if (entry == null) {
+            throw new IOException("No outbox segment contains offset " + offset);
+        }
+        Segment segment = entry.getValue();
+        long position = offset - segment.base;
+        long segmentEnd = segmentEnd(segment);
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        readFully(segment.channel, header, position);
+        header.flip();
+        int length = header.getInt();
+        int checksum = header.getInt();
+        if (length < 0 || position + HEADER_SIZE + length > segmentEnd) {
+            LOG.error("Outbox record at offset {} has an invalid length {}. Skipping the rest of segment {}", offset, length, segment.path);
+            return new Record(offset, segment.base + segmentEnd, null);
+        }
+        ByteBuffer payload = ByteBuffer.allocate(length);
+        readFully(segment.channel, payload, position + HEADER_SIZE);
+        CRC32 crc = new CRC32();
+        crc.update(payload.array());
+        long next = offset + HEADER_SIZE + length;
+        if ((int) crc.getValue() != checksum) {
+            LOG.error("Outbox record at offset {} is corrupted. Skipping it", offset);
+            return new Record(offset, next, null);
+        }
+        return new Record(offset, next, payload.array());
+    }
+
+    /**
+     * Waits until a record is flushed after the supplied offset or the journal is closed.
+     * @param offset Offset
+     * @param timeout Maximum time to wait
+     * @param unit Timeout unit
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    void awaitRecords(long offset, long timeout, @NonNull TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        synchronized (durableSignal) {
+            long remaining;
+            while (!closed && durableOffset <= offset && (remaining = deadline - System.nanoTime()) > 0) {
+                TimeUnit.NANOSECONDS.timedWait(durableSignal, remaining);
+            }
+        }
+    }
+
+    /**
+     * Stores the consumer offset and deletes the segments before it.
+     * @param offset Offset of the first record which has not been consumed
+     * @throws IOException if the offset cannot be stored
+     */
+    synchronized void commit(long offset) throws IOException {
+        if (offset <= committedOffset || closed) {
+            return;
+        }
+        offsetBuffer.clear();
+        offsetBuffer.putLong(offset).flip();
+        while (offsetBuffer.hasRemaining()) {
+            offsetChannel.write(offsetBuffer, offsetBuffer.position());
+        }
+        committedOffset = offset;
+        deleteConsumedSegments(offset);
+    }
+
+    /**
+     *
+     * @return Offset of the first record which has not been consumed
+     */
+    long getCommittedOffset() {
+        return committedOffset;
+    }
+
+    /**
+     *
+     * @return Offset after the last flushed record
+     */
+    long getDurableOffset() {
+        return durableOffset;
+    }
+
+    @Override
+    public void close() throws IOException {
+        appendLock.lock();
+        try {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                for (Segment segment : segments.values()) {
+                    segment.channel.close();
+                }
+                offsetChannel.close();
+            }
+        } finally {
+            appendLock.unlock();
+        }
+        synchronized (durableSignal) {
+            durableSignal.notifyAll();
+        }
+    }
+
+    private void awaitDurable(long end) throws IOException {
+        synchronized (flushLock) {
+            if (durableOffset >= end) {
+                return;
+            }
+            long target;
+            FileChannel channel;
+            appendLock.lock();
+            try {
+                ensureOpen();
+                target = writeOffset;
+                channel = active.channel;
+            } finally {
+                appendLock.unlock();
+            }
+            // every record up to target is either in the active segment or in a segment flushed when it was rotated
+            channel.force(false);
+            markDurable(target);
+        }
+    }
+
+    private void markDurable(long offset) {
+        if (offset > durableOffset) {
+            durableOffset = offset;
+            synchronized (durableSignal) {
+                durableSignal.notifyAll();
+            }
+        }
+    }
+
+    private void rotate() throws IOException {
+        active.channel.force(false);
+        markDurable(writeOffset);
+        active = createSegment(writeOffset);
+    }
+
+    @NonNull
+    private Segment createSegment(long base) throws IOException {
+        Path path = directory.resolve(String.format("%0" + OFFSET_NAME_LENGTH + "d", base) + SEGMENT_SUFFIX);
+        Segment segment = new Segment(base, path);
+        segments.put(base, segment);
+        syncDirectory();
+        return segment;
+    }
+
+    private void syncDirectory() {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // not every platform allows opening a directory
+            if (LOG.isTraceEnabled()) {
+                LOG.trace("Could not flush outbox directory {}", directory, e);
+            }
+        }
+    }
+
+    private long segmentEnd(@NonNull Segment segment) throws IOException {
+        Map.Entry<Long, Segment> next = segments.higherEntry(segment.base);
+        if (next != null) {
+            return next.getKey() - segment.base;
+        }
+        return Math.min(segment.channel.size(), durableOffset - segment.base);
+    }
+
+    /**
+     * Scans the segment and truncates it after its last complete record.
+     * @param segment Segment
+     * @return Size of the complete records
+     */
+    private long recover(@NonNull Segment segment) throws IOException {
+        long size = segment.channel.size();
+        long position = 0;
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        while (position + HEADER_SIZE <= size) {
+            header.clear();
+            readFully(segment.channel, header, position);
+            header.flip();
+            int length = header.getInt();
+            int checksum = header.getInt();
+            if (length < 0 || position + HEADER_SIZE + length > size) {
+                break;
+            }
+            ByteBuffer payload = ByteBuffer.allocate(length);
+            readFully(segment.channel, payload, position + HEADER_SIZE);
+            CRC32 crc = new CRC32();
+            crc.update(payload.array());
+            if ((int) crc.getValue() != checksum) {
+                break;
+            }
+            position += HEADER_SIZE + length;
+        }
+        if (position < size) {
+            if (LOG.isWarnEnabled()) {
+                LOG.warn("Discarding {} bytes of incomplete records at the end of outbox segment {}", size - position, segment.path);
+            }
+            segment.channel.truncate(position);
+            segment.channel.force(true);
+        }
+        return position;
+    }
+
+    private void deleteConsumedSegments(long offset) throws IOException {
+        List<Segment> consumed = new ArrayList<>();
+        Iterator<Map.Entry<Long, Segment>> it = segments.headMap(offset, true).entrySet().iterator();
+        while (it.hasNext()) {
+            Segment segment = it.next().getValue();
+            Long next = segments.higherKey(segment.base);
+            if (segment == active || next == null || next > offset) {
+                break;
+            }
+            consumed.add(segment);
+        }
+        if (consumed.isEmpty()) {
+            // losing an offset which is not forced only delivers emails again
+            return;
+        }
+        // the offset must be durable before the segments it skips are deleted
+        offsetChannel.force(false);
+        for (Segment segment : consumed) {
+            segments.remove(segment.base);
+            segment.channel.close();
+            Files.deleteIfExists(segment.path);
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Deleted consumed outbox segment {}", segment.path);
+            }
+        }
+    }
+
+    private long readCommittedOffset() throws IOException {
+        if (offsetChannel.size() < Long.BYTES) {
+            return 0;
+        }
+        readFully(offsetChannel, offsetBuffer, 0);
+        offsetBuffer.flip();
+        return offsetBuffer.getLong();
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Outbox journal is closed");
+        }
+    }
+
+    private static void readFully(@NonNull FileChannel channel, @NonNull ByteBuffer buffer, long position) throws IOException {
+        long current = position;
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, current);
+            if (read < 0) {
+                throw new IOException("Unexpected end of outbox file");
+            }
+            current += read;
+        }
+    }
+
+    /**
+     * A record read from the journal.
+     */
+    static final class Record {
+        private final long offset;
+        private final long nextOffset;
+        @Nullable
+        private final byte[] payload;
+
+        private Record(long offset, long nextOffset, @Nullable byte[] payload) {
+            this.offset = offset;
+            this.nextOffset = nextOffset;
+            this.payload = payload;
+        }
+
+        long getOffset() {
+            return offset;
+        }
+
+        long getNextOffset() {
+            return nextOffset;
+        }
+
+        /**
+         *
+         * @return Payload or null if the record is corrupted
+         */
+        @Nullable
+        byte[] getPayload() {
+            return payload;
+        }
+    }
+
+    /**
+     * A segment file.
+     */
+    private static final class Segment {
+        private final long base;
+        private final Path path;
+        private final FileChannel channel;
+
+        private Segment(long base, Path path) throws IOException {
+            this.base = base;
+            this.path = path;
+            this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.priority;
+
+import io.micronaut.core.util.Toggleable;
+
+/**
+ * Configuration of the {@link PriorityScheduler}, which sends emails through a lane for each {@link io.micronaut.email.EmailPriority}.
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+public interface PriorityConfiguration extends Toggleable {
+
+    /**
+     *
+     * @return Maximum number of emails in flight across every lane.
+     */
+    int getMaxConcurrency();
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.priority;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+
+/**
+ * {@link ConfigurationProperties} implementation of {@link PriorityConfiguration}.
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+@ConfigurationProperties(PriorityConfigurationProperties.PREFIX)
+public class PriorityConfigurationProperties implements PriorityConfiguration {
+
+    /**
+     * Priority configuration prefix.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final String PREFIX = "micronaut.email.priority";
+
+    /**
+     * The default enable value.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final boolean DEFAULT_ENABLED = false;
+
+    /**
+     * The default maximum number of emails in flight across every lane.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final int DEFAULT_MAX_CONCURRENCY = 64;
+
+    private boolean enabled = DEFAULT_ENABLED;
+
+    private int maxConcurrency = DEFAULT_MAX_CONCURRENCY;
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Whether emails sent asynchronously go through a lane for their priority. Default value: `{@value #DEFAULT_ENABLED}`
+     *
+     * @param enabled True if priority lanes are enabled
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * Maximum number of emails in flight across every lane. Default value: `{@value #DEFAULT_MAX_CONCURRENCY}`
+     *
+     * @param maxConcurrency Maximum number of emails in flight
+     */
+    public void setMaxConcurrency(int maxConcurrency) {
+        this.maxConcurrency = maxConcurrency;
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.priority;
+
+import io.micronaut.core.naming.Named;
+
+/**
+ * Configuration of the lane of the {@link io.micronaut.email.EmailPriority} whose lower-case name matches {@link #getName()}, for example `high`.
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+public interface PriorityLaneConfiguration extends Named {
+
+    /**
+     *
+     * @return Share of the dequeued emails, relative to the weight of the other lanes with queued emails.
+     */
+    int getWeight();
+
+    /**
+     *
+     * @return Maximum number of emails of the lane in flight. Zero means only the global maximum applies.
+     */
+    int getMaxConcurrency();
+
+    /**
+     *
+     * @return Number of the global concurrency slots which the other lanes cannot use.
+     */
+    int getReservedConcurrency();
+
+    /**
+     *
+     * @return Maximum number of emails waiting in the lane. Further emails are rejected.
+     */
+    int getMaxQueueSize();
+
+    /**
+     *
+     * @return Number of emails of the lane which can be sent per second. Zero means unlimited.
+     */
+    double getPermitsPerSecond();
+
+    /**
+     *
+     * @return Number of emails of the lane which can be sent at once after the lane has been idle.
+     */
+    int getBurst();
+}
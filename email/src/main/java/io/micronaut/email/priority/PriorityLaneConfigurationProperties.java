@@ -0,0 +1,204 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.priority;
+
+import io.micronaut.context.annotation.EachProperty;
+import io.micronaut.context.annotation.Parameter;
+import io.micronaut.core.annotation.NonNull;
+
+/**
+ * {@link EachProperty} implementation of {@link PriorityLaneConfiguration}. The property name is the lower-case priority, for example `micronaut.email.priority.lanes.low.max-concurrency`.
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+@EachProperty(PriorityLaneConfigurationProperties.PREFIX)
+public class PriorityLaneConfigurationProperties implements PriorityLaneConfiguration {
+
+    /**
+     * Priority lane configuration prefix.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final String PREFIX = PriorityConfigurationProperties.PREFIX + ".lanes";
+
+    /**
+     * The default weight of the `high` lane.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final int DEFAULT_HIGH_WEIGHT = 16;
+
+    /**
+     * The default weight of the `normal` lane.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final int DEFAULT_NORMAL_WEIGHT = 4;
+
+    /**
+     * The default weight of the `low` lane.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final int DEFAULT_LOW_WEIGHT = 1;
+
+    /**
+     * The default reserved concurrency of the `high` lane.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final int DEFAULT_HIGH_RESERVED_CONCURRENCY = 8;
+
+    /**
+     * The default maximum concurrency, only limited by the global maximum.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final int DEFAULT_MAX_CONCURRENCY = 0;
+
+    /**
+     * The default maximum number of waiting emails.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final int DEFAULT_MAX_QUEUE_SIZE = 10_000;
+
+    /**
+     * The default rate, unlimited.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final double DEFAULT_PERMITS_PER_SECOND = 0;
+
+    /**
+     * The default burst.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final int DEFAULT_BURST = 1;
+
+    private static final String HIGH = "high";
+    private static final String NORMAL = "normal";
+
+    private final String name;
+
+    private int weight;
+
+    private int maxConcurrency = DEFAULT_MAX_CONCURRENCY;
+
+    private int reservedConcurrency;
+
+    private int maxQueueSize = DEFAULT_MAX_QUEUE_SIZE;
+
+    private double permitsPerSecond = DEFAULT_PERMITS_PER_SECOND;
+
+    private int burst = DEFAULT_BURST;
+
+    /**
+     *
+     * @param name Lower-case priority
+     */
+    public PriorityLaneConfigurationProperties(@Parameter String name) {
+        this.name = name;
+        this.weight = switch (name) {
+            case HIGH -> DEFAULT_HIGH_WEIGHT;
+            case NORMAL -> DEFAULT_NORMAL_WEIGHT;
+            default -> DEFAULT_LOW_WEIGHT;
+        };
+        this.reservedConcurrency = HIGH.equals(name) ? DEFAULT_HIGH_RESERVED_CONCURRENCY : 0;
+    }
+
+    @Override
+    @NonNull
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public int getWeight() {
+        return weight;
+    }
+
+    /**
+     * Share of the dequeued emails, relative to the weight of the other lanes with queued emails. Default value: `{@value #DEFAULT_HIGH_WEIGHT}` for `high`, `{@value #DEFAULT_NORMAL_WEIGHT}` for `normal` and `{@value #DEFAULT_LOW_WEIGHT}` for `low`
+     *
+     * @param weight Weight
+     */
+    public void setWeight(int weight) {
+        this.weight = weight;
+    }
+
+    @Override
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * Maximum number of emails of the lane in flight. Zero means only the global maximum applies. Default value: `{@value #DEFAULT_MAX_CONCURRENCY}`
+     *
+     * @param maxConcurrency Maximum number of emails in flight
+     */
+    public void setMaxConcurrency(int maxConcurrency) {
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    @Override
+    public int getReservedConcurrency() {
+        return reservedConcurrency;
+    }
+
+    /**
+     * Number of the global concurrency slots which the other lanes cannot use. Default value: `{@value #DEFAULT_HIGH_RESERVED_CONCURRENCY}` for `high` and `0` otherwise
+     *
+     * @param reservedConcurrency Reserved concurrency
+     */
+    public void setReservedConcurrency(int reservedConcurrency) {
+        this.reservedConcurrency = reservedConcurrency;
+    }
+
+    @Override
+    public int getMaxQueueSize() {
+        return maxQueueSize;
+    }
+
+    /**
+     * Maximum number of emails waiting in the lane. Further emails fail with a throttled {@link io.micronaut.email.EmailException}. Default value: `{@value #DEFAULT_MAX_QUEUE_SIZE}`
+     *
+     * @param maxQueueSize Maximum number of waiting emails
+     */
+    public void setMaxQueueSize(int maxQueueSize) {
+        this.maxQueueSize = maxQueueSize;
+    }
+
+    @Override
+    public double getPermitsPerSecond() {
+        return permitsPerSecond;
+    }
+
+    /**
+     * Number of emails of the lane which can be sent per second. Zero means unlimited. Default value: `{@value #DEFAULT_PERMITS_PER_SECOND}`
+     *
+     * @param permitsPerSecond Number of emails which can be sent per second
+     */
+    public void setPermitsPerSecond(double permitsPerSecond) {
+        this.permitsPerSecond = permitsPerSecond;
+    }
+
+    @Override
+    public int getBurst() {
+        return burst;
+    }
+
+    /**
+     * Number of emails of the lane which can be sent at once after the lane has been idle. Default value: `{@value #DEFAULT_BURST}`
+     *
+     * @param burst Burst
+     */
+    public void setBurst(int burst) {
+        this.burst = burst;
+    }
+}
@@ -0,0 +1,339 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.priority;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.exceptions.ConfigurationException;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.email.EmailErrorType;
+import io.micronaut.email.EmailException;
+import io.micronaut.email.EmailPriority;
+import io.micronaut.email.ratelimit.RateLimiter;
+import io.micronaut.email.ratelimit.TokenBucketRateLimiter;
+import jakarta.inject.Singleton;
+import org.reactivestreams.Publisher;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Sends emails through a lane for each {@link EmailPriority}. Every lane has its own queue bound, concurrency and rate limit.
+ * Lanes are dequeued with smooth weighted round robin, thus each lane with queued emails gets a share proportional to its {@link PriorityLaneConfiguration#getWeight()} without long runs of a single lane.
+ * A lane's {@link PriorityLaneConfiguration#getReservedConcurrency()} is kept free for it, so high-priority mail always has capacity while bulk mail uses whatever is left.
+ *
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+@Requires(property = PriorityConfigurationProperties.PREFIX + ".enabled", value = StringUtils.TRUE)
+@Singleton
+public class PriorityScheduler {
+
+    private final Lane[] lanes;
+    private final int maxConcurrency;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final AtomicInteger wip = new AtomicInteger();
+    private int inFlight;
+    private boolean retryScheduled;
+    private long retryAt;
+
+    /**
+     *
+     * @param configuration Priority configuration
+     * @param laneConfigurations Lane configurations. Lanes without configuration use the defaults of {@link PriorityLaneConfigurationProperties}.
+     */
+    public PriorityScheduler(PriorityConfiguration configuration, List<PriorityLaneConfiguration> laneConfigurations) {
+        EmailPriority[] priorities = EmailPriority.values();
+        PriorityLaneConfiguration[] configurations = new PriorityLaneConfiguration[priorities.length];
+        for (PriorityLaneConfiguration laneConfiguration : laneConfigurations) {
+            configurations[priority(laneConfiguration.getName()).ordinal()] = laneConfiguration;
+        }
+        this.lanes = new Lane[priorities.length];
+        for (EmailPriority priority : priorities) {
+            PriorityLaneConfiguration laneConfiguration = configurations[priority.ordinal()];
+            lanes[priority.ordinal()] = new Lane(priority, laneConfiguration != null
+                    ? laneConfiguration
+                    : new PriorityLaneConfigurationProperties(priority.name().toLowerCase(Locale.ENGLISH)));
+        }
+        this.maxConcurrency = configuration.getMaxConcurrency() > 0 ? configuration.getMaxConcurrency() : Integer.MAX_VALUE;
+        long reserved = 0;
+        for (Lane lane : lanes) {
+            reserved += lane.reservedConcurrency;
+        }
+        if (reserved >= maxConcurrency) {
+            throw new ConfigurationException("The reserved concurrency of the priority lanes (" + reserved + ") must be lower than the maximum concurrency (" + maxConcurrency + ")");
+        }
+    }
+
+    /**
+     * Queues the supplied publisher in the lane of the priority. The publisher is supplied and subscribed once the lane is dequeued.
+     * @param priority Email priority
+     * @param publisher Supplies the publisher which sends the email
+     * @return Publisher which signals the result of the supplied one, or an {@link EmailException} if the lane is full. Cancelling it removes the email from the lane.
+     * @param <T> Response type
+     */
+    @NonNull
+    public <T> Publisher<T> schedule(@NonNull EmailPriority priority, @NonNull Supplier<Publisher<T>> publisher) {
+        Lane lane = lanes[priority.ordinal()];
+        return Mono.create(sink -> {
+            Task<T> task = new Task<>(lane, publisher, sink);
+            boolean accepted;
+            lock.lock();
+            try {
+                accepted = lane.queue.size() < lane.maxQueueSize;
+                if (accepted) {
+                    lane.queue.addLast(task);
+                }
+            } finally {
+                lock.unlock();
+            }
+            if (!accepted) {
+                sink.error(new EmailException("Priority lane " + lane.priority + " is full", EmailErrorType.THROTTLED));
+                return;
+            }
+            sink.onDispose(task::cancel);
+            drain();
+        });
+    }
+
+    /**
+     *
+     * @param priority Email priority
+     * @return Number of emails waiting in the lane
+     */
+    public int queued(@NonNull EmailPriority priority) {
+        lock.lock();
+        try {
+            return lanes[priority.ordinal()].queue.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     *
+     * @param priority Email priority
+     * @return Number of emails of the lane in flight
+     */
+    public int inFlight(@NonNull EmailPriority priority) {
+        lock.lock();
+        try {
+            return lanes[priority.ordinal()].inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @NonNull
+    private static EmailPriority priority(@NonNull String laneName) {
+        for (EmailPriority priority : EmailPriority.values()) {
+            if (priority.name().equalsIgnoreCase(laneName)) {
+                return priority;
+            }
+        }
+        throw new ConfigurationException("Unknown priority lane " + laneName);
+    }
+
+    /**
+     * Starts queued emails while there is capacity. Only one thread drains at a time, the others ask it to loop again.
+     */
+    private void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        do {
+            Task<?> task;
+            while ((task = next()) != null) {
+                task.start();
+            }
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private Task<?> next() {
+        lock.lock();
+        try {
+            while (true) {
+                long now = System.nanoTime();
+                Lane selected = null;
+                int totalWeight = 0;
+                for (Lane lane : lanes) {
+                    if (isEligible(lane, now)) {
+                        lane.currentWeight += lane.weight;
+                        totalWeight += lane.weight;
+                        if (selected == null || lane.currentWeight > selected.currentWeight) {
+                            selected = lane;
+                        }
+                    }
+                }
+                if (selected == null) {
+                    return null;
+                }
+                selected.currentWeight -= totalWeight;
+                if (selected.rateLimiter != null && selected.rateLimiter.reserve(0) < 0) {
+                    // undo the whole round, thus the current weights still sum to zero, and leave the lane out until its next permit.
+                    // Nothing changed since the round, thus the same lanes are eligible.
+                    selected.currentWeight += totalWeight;
+                    for (Lane lane : lanes) {
+                        if (isEligible(lane, now)) {
+                            lane.currentWeight -= lane.weight;
+                        }
+                    }
+                    selected.throttledUntil = now + selected.intervalNanos;
+                    scheduleRetry(selected.throttledUntil);
+                    continue;
+                }
+                selected.inFlight++;
+                inFlight++;
+                return selected.queue.pollFirst();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean isEligible(@NonNull Lane lane, long now) {
+        if (lane.queue.isEmpty() || lane.throttledUntil - now > 0) {
+            return false;
+        }
+        if (lane.maxConcurrency > 0 && lane.inFlight >= lane.maxConcurrency) {
+            return false;
+        }
+        int reservedByOthers = 0;
+        for (Lane other : lanes) {
+            if (other != lane) {
+                reservedByOthers += Math.max(0, other.reservedConcurrency - other.inFlight);
+            }
+        }
+        return (long) inFlight + reservedByOthers < maxConcurrency;
+    }
+
+    private void scheduleRetry(long at) {
+        if (retryScheduled && retryAt - at <= 0) {
+            return;
+        }
+        retryScheduled = true;
+        retryAt = at;
+        Schedulers.parallel().schedule(() -> {
+            lock.lock();
+            try {
+                if (retryAt == at) {
+                    retryScheduled = false;
+                }
+            } finally {
+                lock.unlock();
+            }
+            drain();
+        }, Math.max(0, at - System.nanoTime()), TimeUnit.NANOSECONDS);
+    }
+
+    private void release(@NonNull Lane lane) {
+        lock.lock();
+        try {
+            lane.inFlight--;
+            inFlight--;
+        } finally {
+            lock.unlock();
+        }
+        drain();
+    }
+
+    /**
+     * Queue, counters and rate limiter of a priority. Guarded by the scheduler lock.
+     */
+    private static final class Lane {
+        private final EmailPriority priority;
+        private final ArrayDeque<Task<?>> queue = new ArrayDeque<>();
+        private final int weight;
+        private final int maxConcurrency;
+        private final int reservedConcurrency;
+        private final int maxQueueSize;
+        private final RateLimiter rateLimiter;
+        private final long intervalNanos;
+        private int currentWeight;
+        private int inFlight;
+        private long throttledUntil;
+
+        private Lane(@NonNull EmailPriority priority, @NonNull PriorityLaneConfiguration configuration) {
+            this.priority = priority;
+            this.weight = Math.max(1, configuration.getWeight());
+            this.maxConcurrency = configuration.getMaxConcurrency();
+            this.reservedConcurrency = Math.max(0, configuration.getReservedConcurrency());
+            this.maxQueueSize = configuration.getMaxQueueSize();
+            if (configuration.getPermitsPerSecond() > 0) {
+                this.rateLimiter = new TokenBucketRateLimiter(configuration.getPermitsPerSecond(), configuration.getBurst());
+                this.intervalNanos = Math.max(1, Math.round(TimeUnit.SECONDS.toNanos(1) / configuration.getPermitsPerSecond()));
+            } else {
+                this.rateLimiter = null;
+                this.intervalNanos = 0;
+            }
+            this.throttledUntil = System.nanoTime();
+        }
+    }
+
+    /**
+     * An email waiting in a lane or in flight.
+     * @param <T> Response type
+     */
+    private final class Task<T> {
+        private final Lane lane;
+        private final Supplier<Publisher<T>> publisher;
+        private final MonoSink<T> sink;
+        private volatile Disposable subscription;
+        private volatile boolean cancelled;
+
+        private Task(Lane lane, Supplier<Publisher<T>> publisher, MonoSink<T> sink) {
+            this.lane = lane;
+            this.publisher = publisher;
+            this.sink = sink;
+        }
+
+        private void start() {
+            Disposable disposable = Mono.defer(() -> Mono.from(publisher.get()))
+                    .doFinally(signal -> release(lane))
+                    .subscribe(sink::success, sink::error, sink::success);
+            subscription = disposable;
+            if (cancelled) {
+                disposable.dispose();
+            }
+        }
+
+        private void cancel() {
+            cancelled = true;
+            boolean removed;
+            lock.lock();
+            try {
+                removed = lane.queue.remove(this);
+            } finally {
+                lock.unlock();
+            }
+            Disposable disposable = subscription;
+            if (!removed && disposable != null) {
+                disposable.dispose();
+            }
+        }
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.ratelimit;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.naming.Named;
+
+import java.time.Duration;
+
+/**
+ * Rate limit of the sender whose {@link io.micronaut.email.TransactionalEmailSender#getName()} matches {@link #getName()}.
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+public interface RateLimitConfiguration extends Named {
+
+    /**
+     *
+     * @return Number of emails which can be sent per second.
+     */
+    double getPermitsPerSecond();
+
+    /**
+     *
+     * @return Number of emails which can be sent at once after the sender has been idle.
+     */
+    int getBurst();
+
+    /**
+     *
+     * @return Maximum duration to wait for a permit before failing.
+     */
+    @NonNull
+    Duration getMaxWait();
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.ratelimit;
+
+import io.micronaut.context.annotation.EachProperty;
+import io.micronaut.context.annotation.Parameter;
+import io.micronaut.core.annotation.NonNull;
+
+import java.time.Duration;
+
+/**
+ * {@link EachProperty} implementation of {@link RateLimitConfiguration}. The property name is the sender name, for example `micronaut.email.rate-limit.ses.permits-per-second`.
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+@EachProperty(RateLimitConfigurationProperties.PREFIX)
+public class RateLimitConfigurationProperties implements RateLimitConfiguration {
+
+    /**
+     * Rate limit configuration prefix.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final String PREFIX = "micronaut.email.rate-limit";
+
+    /**
+     * The default number of emails sent per second.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final double DEFAULT_PERMITS_PER_SECOND = 1;
+
+    /**
+     * The default burst.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final int DEFAULT_BURST = 1;
+
+    /**
+     * The default maximum wait in seconds.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final long DEFAULT_MAX_WAIT_SECONDS = 30;
+
+    private final String name;
+
+    private double permitsPerSecond = DEFAULT_PERMITS_PER_SECOND;
+
+    private int burst = DEFAULT_BURST;
+
+    @NonNull
+    private Duration maxWait = Duration.ofSeconds(DEFAULT_MAX_WAIT_SECONDS);
+
+    /**
+     *
+     * @param name Sender name
+     */
+    public RateLimitConfigurationProperties(@Parameter String name) {
+        this.name = name;
+    }
+
+    @Override
+    @NonNull
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public double getPermitsPerSecond() {
+        return permitsPerSecond;
+    }
+
+    /**
+     * Number of emails which can be sent per second, for example the SES maximum send rate. Default value: `{@value #DEFAULT_PERMITS_PER_SECOND}`
+     *
+     * @param permitsPerSecond Number of emails which can be sent per second
+     */
+    public void setPermitsPerSecond(double permitsPerSecond) {
+        this.permitsPerSecond = permitsPerSecond;
+    }
+
+    @Override
+    public int getBurst() {
+        return burst;
+    }
+
+    /**
+     * Number of emails which can be sent at once after the sender has been idle. Default value: `{@value #DEFAULT_BURST}`
+     *
+     * @param burst Burst
+     */
+    public void setBurst(int burst) {
+        this.burst = burst;
+    }
+
+    @Override
+    @NonNull
+    public Duration getMaxWait() {
+        return maxWait;
+    }
+
+    /**
+     * Maximum duration to wait for a permit. If the wait would be longer, sending fails with an {@link io.micronaut.email.EmailException}. Default value: `{@value #DEFAULT_MAX_WAIT_SECONDS}` seconds
+     *
+     * @param maxWait Maximum wait
+     */
+    public void setMaxWait(@NonNull Duration maxWait) {
+        this.maxWait = maxWait;
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.ratelimit;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.async.annotation.SingleResult;
+import io.micronaut.email.AsyncTransactionalEmailSender;
+import io.micronaut.email.Email;
+import io.micronaut.email.EmailException;
+import org.reactivestreams.Publisher;
+
+import jakarta.validation.constraints.NotNull;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
+
+/**
+ * {@link AsyncTransactionalEmailSender} decorator which subscribes to the sender once its rate limit allows it, without blocking.
+ * A permit is taken on every subscription, or every call to {@link #sendStage(Email, Consumer)}, thus every attempt of a {@link io.micronaut.email.retry.RetryingAsyncTransactionalEmailSender} which wraps it is rate limited.
+ * @author Sergio del Amo
+ * @since 2.8.0
+ * @param <I> Email Request
+ * @param <O> Email Response
+ */
+public class RateLimitedAsyncTransactionalEmailSender<I, O> implements AsyncTransactionalEmailSender<I, O> {
+
+    private final AsyncTransactionalEmailSender<I, O> transactionalEmailSender;
+    private final RateLimiters rateLimiters;
+
+    /**
+     *
+     * @param transactionalEmailSender Transactional Email Sender
+     * @param rateLimiters Rate limiters
+     */
+    public RateLimitedAsyncTransactionalEmailSender(@NonNull AsyncTransactionalEmailSender<I, O> transactionalEmailSender,
+                                                    @NonNull RateLimiters rateLimiters) {
+        this.transactionalEmailSender = transactionalEmailSender;
+        this.rateLimiters = rateLimiters;
+    }
+
+    /**
+     * Decorates the sender if it has a {@link RateLimitConfiguration rate limit}, otherwise emails are sent without looking up a rate limiter.
+     * @param transactionalEmailSender Transactional Email Sender
+     * @param rateLimiters Rate limiters. If null, the sender is not rate limited.
+     * @return The decorated sender or the sender itself if it has no rate limit
+     * @param <I> Email Request
+     * @param <O> Email Response
+     */
+    @NonNull
+    public static <I, O> AsyncTransactionalEmailSender<I, O> of(@NonNull AsyncTransactionalEmailSender<I, O> transactionalEmailSender,
+                                              @Nullable RateLimiters rateLimiters) {
+        return rateLimiters != null && rateLimiters.isLimited(transactionalEmailSender.getName())
+                ? new RateLimitedAsyncTransactionalEmailSender<>(transactionalEmailSender, rateLimiters)
+                : transactionalEmailSender;
+    }
+
+    @Override
+    @NonNull
+    public String getName() {
+        return transactionalEmailSender.getName();
+    }
+
+    @Override
+    @NonNull
+    @SingleResult
+    public Publisher<O> sendAsync(@NonNull @NotNull Email email, @NonNull @NotNull Consumer<I> emailRequest) throws EmailException {
+        return rateLimiters.defer(getName(), () -> transactionalEmailSender.sendAsync(email, emailRequest));
+    }
+
+    @Override
+    @NonNull
+    public CompletionStage<O> sendStage(@NonNull @NotNull Email email, @NonNull @NotNull Consumer<I> emailRequest) {
+        return rateLimiters.deferStage(getName(), () -> transactionalEmailSender.sendStage(email, emailRequest));
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.ratelimit;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.email.Email;
+import io.micronaut.email.EmailException;
+import io.micronaut.email.TransactionalEmailSender;
+
+import jakarta.validation.constraints.NotNull;
+import java.util.function.Consumer;
+
+/**
+ * {@link TransactionalEmailSender} decorator which blocks until the sender's rate limit allows calling it.
+ * A permit is taken for every call, thus every attempt of a {@link io.micronaut.email.retry.RetryingTransactionalEmailSender} which wraps it is rate limited.
+ * @author Sergio del Amo
+ * @since 2.8.0
+ * @param <I> Email Request
+ * @param <O> Email Response
+ */
+public class RateLimitedTransactionalEmailSender<I, O> implements TransactionalEmailSender<I, O> {
+
+    private final TransactionalEmailSender<I, O> transactionalEmailSender;
+    private final RateLimiters rateLimiters;
+
+    /**
+     *
+     * @param transactionalEmailSender Transactional Email Sender
+     * @param rateLimiters Rate limiters
+     */
+    public RateLimitedTransactionalEmailSender(@NonNull TransactionalEmailSender<I, O> transactionalEmailSender,
+                                               @NonNull RateLimiters rateLimiters) {
+        this.transactionalEmailSender = transactionalEmailSender;
+        this.rateLimiters = rateLimiters;
+    }
+
+    /**
+     * Decorates the sender if it has a {@link RateLimitConfiguration rate limit}, otherwise emails are sent without looking up a rate limiter.
+     * @param transactionalEmailSender Transactional Email Sender
+     * @param rateLimiters Rate limiters. If null, the sender is not rate limited.
+     * @return The decorated sender or the sender itself if it has no rate limit
+     * @param <I> Email Request
+     * @param <O> Email Response
+     */
+    @NonNull
+    public static <I, O> TransactionalEmailSender<I, O> of(@NonNull TransactionalEmailSender<I, O> transactionalEmailSender,
+                                              @Nullable RateLimiters rateLimiters) {
+        return rateLimiters != null && rateLimiters.isLimited(transactionalEmailSender.getName())
+                ? new RateLimitedTransactionalEmailSender<>(transactionalEmailSender, rateLimiters)
+                : transactionalEmailSender;
+    }
+
+    @Override
+    @NonNull
+    public String getName() {
+        return transactionalEmailSender.getName();
+    }
+
+    @Override
+    @NonNull
+    public O send(@NonNull @NotNull Email email, @NonNull @NotNull Consumer<I> emailRequest) throws EmailException {
+        rateLimiters.acquire(getName());
+        return transactionalEmailSender.send(email, emailRequest);
+    }
+}
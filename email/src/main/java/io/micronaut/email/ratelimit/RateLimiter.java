@@ -0,0 +1,32 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.ratelimit;
+
+/**
+ * Limits the rate at which emails are sent.
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+@FunctionalInterface
+public interface RateLimiter {
+
+    /**
+     * Reserves a permit if it becomes available within the supplied wait.
+     * @param maxWaitNanos Maximum time in nanoseconds the caller is willing to wait for the permit
+     * @return Time in nanoseconds the caller must wait before using the permit, or a negative value if no permit was reserved because the wait would exceed {@code maxWaitNanos}
+     */
+    long reserve(long maxWaitNanos);
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.ratelimit;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.email.EmailErrorType;
+import io.micronaut.email.EmailException;
+import jakarta.inject.Singleton;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Holds a {@link TokenBucketRateLimiter} for every {@link RateLimitConfiguration}, keyed by sender name.
+ * Senders without a rate limit configuration are not limited.
+ *
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+@Singleton
+public class RateLimiters {
+
+    private final Map<String, LimitedSender> limiters;
+
+    /**
+     *
+     * @param configurations Rate limit configurations
+     */
+    public RateLimiters(List<RateLimitConfiguration> configurations) {
+        Map<String, LimitedSender> map = new HashMap<>();
+        for (RateLimitConfiguration configuration : configurations) {
+            map.put(configuration.getName(), new LimitedSender(
+                    new TokenBucketRateLimiter(configuration.getPermitsPerSecond(), configuration.getBurst()),
+                    configuration.getMaxWait().toNanos()));
+        }
+        this.limiters = map;
+    }
+
+    /**
+     *
+     * @param senderName Sender name
+     * @return Whether the sender has a rate limit
+     */
+    public boolean isLimited(@NonNull String senderName) {
+        return limiters.containsKey(senderName);
+    }
+
+    /**
+     * Blocks until the sender may send an email.
+     * @param senderName Sender name
+     * @throws EmailException if the wait would exceed {@link RateLimitConfiguration#getMaxWait()} or the thread is interrupted
+     */
+    public void acquire(@NonNull String senderName) throws EmailException {
+        LimitedSender limited = limiters.get(senderName);
+        if (limited == null) {
+            return;
+        }
+        long wait = reserve(senderName, limited);
+        if (wait > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(wait);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new EmailException(e);
+            }
+        }
+    }
+
+    /**
+     * Takes a permit if the sender may send an email without waiting.
+     * @param senderName Sender name
+     * @return Whether a permit was taken. Always true if the sender is not limited.
+     */
+    public boolean tryAcquire(@NonNull String senderName) {
+        LimitedSender limited = limiters.get(senderName);
+        return limited == null || limited.rateLimiter.reserve(0) >= 0;
+    }
+
+    /**
+     * Defers the supplied publisher until the sender may send an email. The permit is reserved when the returned publisher is subscribed.
+     * @param senderName Sender name
+     * @param publisher Supplies the publisher which sends the email
+     * @return Publisher which subscribes to the supplied one once a permit is available, or signals an {@link EmailException} if the wait would exceed {@link RateLimitConfiguration#getMaxWait()}
+     * @param <T> Response type
+     */
+    @NonNull
+    public <T> Publisher<T> defer(@NonNull String senderName, @NonNull Supplier<Publisher<T>> publisher) {
+        LimitedSender limited = limiters.get(senderName);
+        if (limited == null) {
+            return publisher.get();
+        }
+        return Mono.defer(() -> {
+            long wait = reserve(senderName, limited);
+            Mono<T> send = Mono.defer(() -> Mono.from(publisher.get()));
+            return wait > 0 ? Mono.delay(Duration.ofNanos(wait)).then(send) : send;
+        });
+    }
+
+    /**
+     * Defers the supplied stage until the sender may send an email, without blocking. The permit is reserved when this method is called.
+     * @param senderName Sender name
+     * @param stage Supplies the stage which sends the email
+     * @return Stage which completes as the supplied one once a permit is available, or exceptionally with an {@link EmailException} if the wait would exceed {@link RateLimitConfiguration#getMaxWait()}
+     * @param <T> Response type
+     */
+    @NonNull
+    public <T> CompletionStage<T> deferStage(@NonNull String senderName, @NonNull Supplier<CompletionStage<T>> stage) {
+        LimitedSender limited = limiters.get(senderName);
+        if (limited == null) {
+            return stage.get();
+        }
+        long wait;
+        try {
+            wait = reserve(senderName, limited);
+        } catch (EmailException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        if (wait <= 0) {
+            return stage.get();
+        }
+        return CompletableFuture.runAsync(() -> { }, CompletableFuture.delayedExecutor(wait, TimeUnit.NANOSECONDS))
+                .thenCompose(ignored -> stage.get());
+    }
+
+    /**
+     *
+     * @param senderName Sender name
+     * @return The rate limiter of the sender or null if the sender is not limited
+     */
+    @Nullable
+    public RateLimiter get(@NonNull String senderName) {
+        LimitedSender limited = limiters.get(senderName);
+        return limited == null ? null : limited.rateLimiter;
+    }
+
+    private static long reserve(@NonNull String senderName, @NonNull LimitedSender limited) {
+        long wait = limited.rateLimiter.reserve(limited.maxWaitNanos);
+        if (wait < 0) {
+            throw new EmailException("Rate limit of sender " + senderName + " exceeded", EmailErrorType.THROTTLED);
+        }
+        return wait;
+    }
+
+    /**
+     * A sender's rate limiter and its maximum wait.
+     */
+    private static final class LimitedSender {
+        private final RateLimiter rateLimiter;
+        private final long maxWaitNanos;
+
+        private LimitedSender(RateLimiter rateLimiter, long maxWaitNanos) {
+            this.rateLimiter = rateLimiter;
+            this.maxWaitNanos = maxWaitNanos;
+        }
+    }
+}
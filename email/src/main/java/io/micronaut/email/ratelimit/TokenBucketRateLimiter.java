@@ -0,0 +1,79 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.ratelimit;
+
+import io.micronaut.core.annotation.NonNull;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Lock-free token bucket {@link RateLimiter}. The bucket holds up to {@code burst} permits and refills at {@code permitsPerSecond}.
+ * Instead of a token count, the state is the time at which the bucket would be full again, as in the generic cell rate algorithm,
+ * thus a permit is reserved with a single compare-and-set and no background refill is needed.
+ *
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+public class TokenBucketRateLimiter implements RateLimiter {
+
+    private final long intervalNanos;
+    private final long toleranceNanos;
+    private final LongSupplier clock;
+    private final AtomicLong theoreticalArrival;
+
+    /**
+     *
+     * @param permitsPerSecond Rate at which permits are added to the bucket
+     * @param burst Maximum number of permits which can be reserved without waiting
+     */
+    public TokenBucketRateLimiter(double permitsPerSecond, int burst) {
+        this(permitsPerSecond, burst, System::nanoTime);
+    }
+
+    /**
+     *
+     * @param permitsPerSecond Rate at which permits are added to the bucket
+     * @param burst Maximum number of permits which can be reserved without waiting
+     * @param clock Monotonic clock in nanoseconds
+     */
+    TokenBucketRateLimiter(double permitsPerSecond, int burst, @NonNull LongSupplier clock) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond must be greater than zero");
+        }
+        this.intervalNanos = Math.max(1, Math.round(TimeUnit.SECONDS.toNanos(1) / permitsPerSecond));
+        this.toleranceNanos = Math.max(0, burst - 1) * intervalNanos;
+        this.clock = clock;
+        this.theoreticalArrival = new AtomicLong(clock.getAsLong());
+    }
+
+    @Override
+    public long reserve(long maxWaitNanos) {
+        while (true) {
+            long now = clock.getAsLong();
+            long arrival = theoreticalArrival.get();
+            long start = arrival - now > 0 ? arrival : now;
+            long wait = Math.max(0, start - toleranceNanos - now);
+            if (wait > maxWaitNanos) {
+                return -1;
+            }
+            if (theoreticalArrival.compareAndSet(arrival, start + intervalNanos)) {
+                return wait;
+            }
+        }
+    }
+}
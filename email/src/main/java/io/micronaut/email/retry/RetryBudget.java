@@ -0,0 +1,89 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.retry;
+
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.email.ratelimit.RateLimiter;
+import io.micronaut.email.ratelimit.TokenBucketRateLimiter;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Limits retries to a ratio of the emails sent plus a minimum number of retries per second.
+ * Every email sent deposits {@code ratio} into the budget and every retry withdraws one, thus retries stop when a provider fails most requests.
+ *
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+public class RetryBudget {
+
+    private static final long RETRY_COST = 1000;
+    private static final long MAX_STORED_RETRIES = 100;
+
+    private final long deposit;
+    private final long maxBalance;
+    private final AtomicLong balance = new AtomicLong();
+
+    @Nullable
+    private final RateLimiter minRetries;
+
+    /**
+     *
+     * @param ratio Maximum number of retries per email sent
+     * @param minRetriesPerSecond Number of retries per second allowed regardless of the ratio
+     */
+    public RetryBudget(double ratio, double minRetriesPerSecond) {
+        this.deposit = Math.max(0, Math.round(ratio * RETRY_COST));
+        this.maxBalance = RETRY_COST * MAX_STORED_RETRIES;
+        this.minRetries = minRetriesPerSecond > 0
+                ? new TokenBucketRateLimiter(minRetriesPerSecond, (int) Math.ceil(minRetriesPerSecond))
+                : null;
+    }
+
+    /**
+     * Records an email sent for the first time.
+     */
+    public void deposit() {
+        if (deposit == 0) {
+            return;
+        }
+        long current;
+        do {
+            current = balance.get();
+            if (current >= maxBalance) {
+                return;
+            }
+        } while (!balance.compareAndSet(current, Math.min(maxBalance, current + deposit)));
+    }
+
+    /**
+     * Withdraws a retry from the budget.
+     * @return Whether the retry is allowed
+     */
+    public boolean tryWithdraw() {
+        if (minRetries != null && minRetries.reserve(0) >= 0) {
+            return true;
+        }
+        long current;
+        do {
+            current = balance.get();
+            if (current < RETRY_COST) {
+                return false;
+            }
+        } while (!balance.compareAndSet(current, current - RETRY_COST));
+        return true;
+    }
+}
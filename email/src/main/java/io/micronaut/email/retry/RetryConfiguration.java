@@ -0,0 +1,67 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.retry;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.util.Toggleable;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the retries of emails which failed with a {@link io.micronaut.email.EmailErrorType#isRetryable() retryable} error.
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+public interface RetryConfiguration extends Toggleable {
+
+    /**
+     *
+     * @return Maximum number of attempts to send an email, including the first one.
+     */
+    int getMaxAttempts();
+
+    /**
+     *
+     * @return Delay before the first retry.
+     */
+    @NonNull
+    Duration getInitialDelay();
+
+    /**
+     *
+     * @return Maximum delay between attempts.
+     */
+    @NonNull
+    Duration getMaxDelay();
+
+    /**
+     *
+     * @return Factor by which the delay grows after every attempt.
+     */
+    double getMultiplier();
+
+    /**
+     *
+     * @return Maximum number of retries per email sent, averaged over every email sent through a sender.
+     */
+    double getBudgetRatio();
+
+    /**
+     *
+     * @return Number of retries per second allowed regardless of {@link #getBudgetRatio()}.
+     */
+    double getMinRetriesPerSecond();
+}
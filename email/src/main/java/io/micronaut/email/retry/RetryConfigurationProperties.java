@@ -0,0 +1,194 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.retry;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.annotation.NonNull;
+
+import java.time.Duration;
+
+/**
+ * {@link ConfigurationProperties} implementation of {@link RetryConfiguration}.
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+@ConfigurationProperties(RetryConfigurationProperties.PREFIX)
+public class RetryConfigurationProperties implements RetryConfiguration {
+
+    /**
+     * Retry configuration prefix.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final String PREFIX = "micronaut.email.retry";
+
+    /**
+     * The default enable value.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final boolean DEFAULT_ENABLED = false;
+
+    /**
+     * The default maximum number of attempts.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final int DEFAULT_MAX_ATTEMPTS = 3;
+
+    /**
+     * The default initial delay in milliseconds.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final long DEFAULT_INITIAL_DELAY_MILLIS = 200;
+
+    /**
+     * The default maximum delay in seconds.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final long DEFAULT_MAX_DELAY_SECONDS = 10;
+
+    /**
+     * The default multiplier.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final double DEFAULT_MULTIPLIER = 2;
+
+    /**
+     * The default budget ratio.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final double DEFAULT_BUDGET_RATIO = 0.2;
+
+    /**
+     * The default minimum number of retries per second.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final double DEFAULT_MIN_RETRIES_PER_SECOND = 1;
+
+    private boolean enabled = DEFAULT_ENABLED;
+
+    private int maxAttempts = DEFAULT_MAX_ATTEMPTS;
+
+    @NonNull
+    private Duration initialDelay = Duration.ofMillis(DEFAULT_INITIAL_DELAY_MILLIS);
+
+    @NonNull
+    private Duration maxDelay = Duration.ofSeconds(DEFAULT_MAX_DELAY_SECONDS);
+
+    private double multiplier = DEFAULT_MULTIPLIER;
+
+    private double budgetRatio = DEFAULT_BUDGET_RATIO;
+
+    private double minRetriesPerSecond = DEFAULT_MIN_RETRIES_PER_SECOND;
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Whether emails which fail with a transient or throttling error are sent again. Default value: `{@value #DEFAULT_ENABLED}`
+     *
+     * @param enabled True if retries are enabled
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * Maximum number of attempts to send an email, including the first one. Default value: `{@value #DEFAULT_MAX_ATTEMPTS}`
+     *
+     * @param maxAttempts Maximum number of attempts
+     */
+    public void setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+
+    @Override
+    @NonNull
+    public Duration getInitialDelay() {
+        return initialDelay;
+    }
+
+    /**
+     * Delay before the first retry. Default value: `{@value #DEFAULT_INITIAL_DELAY_MILLIS}` milliseconds
+     *
+     * @param initialDelay Initial delay
+     */
+    public void setInitialDelay(@NonNull Duration initialDelay) {
+        this.initialDelay = initialDelay;
+    }
+
+    @Override
+    @NonNull
+    public Duration getMaxDelay() {
+        return maxDelay;
+    }
+
+    /**
+     * Maximum delay between attempts. Default value: `{@value #DEFAULT_MAX_DELAY_SECONDS}` seconds
+     *
+     * @param maxDelay Maximum delay
+     */
+    public void setMaxDelay(@NonNull Duration maxDelay) {
+        this.maxDelay = maxDelay;
+    }
+
+    @Override
+    public double getMultiplier() {
+        return multiplier;
+    }
+
+    /**
+     * Factor by which the delay grows after every attempt. Default value: `{@value #DEFAULT_MULTIPLIER}`
+     *
+     * @param multiplier Multiplier
+     */
+    public void setMultiplier(double multiplier) {
+        this.multiplier = multiplier;
+    }
+
+    @Override
+    public double getBudgetRatio() {
+        return budgetRatio;
+    }
+
+    /**
+     * Maximum number of retries per email sent, averaged over every email sent through a sender. It stops retries from multiplying the load on a provider which is down. Default value: `{@value #DEFAULT_BUDGET_RATIO}`
+     *
+     * @param budgetRatio Budget ratio
+     */
+    public void setBudgetRatio(double budgetRatio) {
+        this.budgetRatio = budgetRatio;
+    }
+
+    @Override
+    public double getMinRetriesPerSecond() {
+        return minRetriesPerSecond;
+    }
+
+    /**
+     * Number of retries per second allowed regardless of the budget ratio, so that senders with little traffic can retry. Default value: `{@value #DEFAULT_MIN_RETRIES_PER_SECOND}`
+     *
+     * @param minRetriesPerSecond Minimum number of retries per second
+     */
+    public void setMinRetriesPerSecond(double minRetriesPerSecond) {
+        this.minRetriesPerSecond = minRetriesPerSecond;
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.retry;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.email.EmailErrorClassifier;
+import jakarta.inject.Singleton;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds a {@link RetryPolicy}, and thus a retry budget, per sender name.
+ * If retries are disabled, the policies still classify failures but never retry them.
+ *
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+@Singleton
+public class RetryPolicies {
+
+    private final RetryConfiguration configuration;
+    private final List<EmailErrorClassifier> classifiers;
+    private final Map<String, RetryPolicy> policies = new ConcurrentHashMap<>();
+
+    /**
+     *
+     * @param configuration Retry configuration
+     * @param classifiers Email error classifiers
+     */
+    public RetryPolicies(RetryConfiguration configuration,
+                         List<EmailErrorClassifier> classifiers) {
+        this.configuration = configuration;
+        this.classifiers = classifiers;
+    }
+
+    /**
+     *
+     * @return Whether failures are retried. If not, senders need not be decorated with a retry policy.
+     */
+    public boolean isEnabled() {
+        return configuration.isEnabled() && configuration.getMaxAttempts() > 1;
+    }
+
+    /**
+     *
+     * @param senderName Sender name
+     * @return The retry policy of the sender
+     */
+    @NonNull
+    public RetryPolicy get(@NonNull String senderName) {
+        return policies.computeIfAbsent(senderName, name -> new RetryPolicy(configuration, classifiers));
+    }
+
+    /**
+     * Classifies a failure of a sender whose failures are not retried.
+     * @param senderName Sender name
+     * @param throwable Exception thrown while sending an email
+     * @return An {@link io.micronaut.email.EmailException} with the error type, or the exception itself if it was not classified
+     */
+    @NonNull
+    public RuntimeException toException(@NonNull String senderName, @NonNull Throwable throwable) {
+        RetryPolicy policy = get(senderName);
+        return policy.toException(throwable, policy.classify(throwable));
+    }
+}
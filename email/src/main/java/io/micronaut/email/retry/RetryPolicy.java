@@ -0,0 +1,123 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.retry;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.email.EmailErrorClassifier;
+import io.micronaut.email.EmailErrorType;
+import io.micronaut.email.EmailException;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Classifies the failures of a sender and decides whether and when to retry them.
+ * The delay grows exponentially from {@link RetryConfiguration#getInitialDelay()} up to {@link RetryConfiguration#getMaxDelay()} and is
+ * randomized between half and the whole of it, so that emails which failed together are not retried together.
+ *
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+public class RetryPolicy {
+
+    private static final int MAX_CAUSES = 16;
+
+    private final List<EmailErrorClassifier> classifiers;
+    private final int maxAttempts;
+    private final long initialDelayNanos;
+    private final long maxDelayNanos;
+    private final double multiplier;
+    private final RetryBudget budget;
+
+    /**
+     *
+     * @param configuration Retry configuration
+     * @param classifiers Email error classifiers
+     */
+    public RetryPolicy(@NonNull RetryConfiguration configuration,
+                       @NonNull List<EmailErrorClassifier> classifiers) {
+        this.classifiers = classifiers;
+        this.maxAttempts = configuration.isEnabled() ? Math.max(1, configuration.getMaxAttempts()) : 1;
+        this.initialDelayNanos = configuration.getInitialDelay().toNanos();
+        this.maxDelayNanos = Math.max(initialDelayNanos, configuration.getMaxDelay().toNanos());
+        this.multiplier = Math.max(1, configuration.getMultiplier());
+        this.budget = new RetryBudget(configuration.getBudgetRatio(), configuration.getMinRetriesPerSecond());
+    }
+
+    /**
+     * Records an email about to be sent for the first time.
+     */
+    public void onFirstAttempt() {
+        budget.deposit();
+    }
+
+    /**
+     * Classifies a failure. An {@link EmailException} keeps its error type. Otherwise, the exception and its causes are classified with the {@link EmailErrorClassifier} beans.
+     * @param throwable Exception thrown while sending an email
+     * @return The error type
+     */
+    @NonNull
+    public EmailErrorType classify(@NonNull Throwable throwable) {
+        Throwable current = throwable;
+        for (int i = 0; current != null && i < MAX_CAUSES; i++) {
+            if (current instanceof EmailException emailException && emailException.getErrorType() != EmailErrorType.UNKNOWN) {
+                return emailException.getErrorType();
+            }
+            for (EmailErrorClassifier classifier : classifiers) {
+                EmailErrorType errorType = classifier.classify(current);
+                if (errorType != EmailErrorType.UNKNOWN) {
+                    return errorType;
+                }
+            }
+            current = current.getCause() == current ? null : current.getCause();
+        }
+        return EmailErrorType.UNKNOWN;
+    }
+
+    /**
+     * Returns the delay before the next attempt and withdraws it from the retry budget.
+     * @param attempt Number of the attempt which failed, starting at 1
+     * @param errorType Error type of the failure
+     * @return Delay in nanoseconds before the next attempt, or a negative value if the email should not be retried
+     */
+    public long nextDelayNanos(int attempt, @NonNull EmailErrorType errorType) {
+        if (!errorType.isRetryable() || attempt >= maxAttempts || !budget.tryWithdraw()) {
+            return -1;
+        }
+        double delay = initialDelayNanos * Math.pow(multiplier, attempt - 1d);
+        long cap = delay >= maxDelayNanos ? maxDelayNanos : (long) delay;
+        long half = cap / 2;
+        return half + ThreadLocalRandom.current().nextLong(cap - half + 1);
+    }
+
+    /**
+     * Returns the exception to surface once an email is not retried.
+     * @param throwable Last exception thrown while sending the email
+     * @param errorType Error type of the exception
+     * @return The exception itself if it is already classified or unknown to the classifiers, otherwise an {@link EmailException} with the error type
+     */
+    @NonNull
+    public RuntimeException toException(@NonNull Throwable throwable, @NonNull EmailErrorType errorType) {
+        if (throwable instanceof EmailException emailException && emailException.getErrorType() == errorType) {
+            return emailException;
+        }
+        if (errorType == EmailErrorType.UNKNOWN) {
+            return throwable instanceof RuntimeException runtimeException ? runtimeException : new EmailException(throwable);
+        }
+        Throwable cause = throwable instanceof EmailException && throwable.getCause() != null ? throwable.getCause() : throwable;
+        return new EmailException(cause, errorType);
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.retry;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.async.annotation.SingleResult;
+import io.micronaut.email.AsyncTransactionalEmailSender;
+import io.micronaut.email.Email;
+import io.micronaut.email.EmailErrorType;
+import io.micronaut.email.EmailException;
+import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Mono;
+
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * {@link AsyncTransactionalEmailSender} decorator which subscribes again to the sender, after a non-blocking delay, as long as the {@link RetryPolicy} allows it.
+ * {@link #sendStage(Email, Consumer)} calls the stage of the sender again instead, thus it does not subscribe to any {@link Publisher}.
+ * @author Sergio del Amo
+ * @since 2.8.0
+ * @param <I> Email Request
+ * @param <O> Email Response
+ */
+public class RetryingAsyncTransactionalEmailSender<I, O> implements AsyncTransactionalEmailSender<I, O> {
+    private static final Logger LOG = LoggerFactory.getLogger(RetryingAsyncTransactionalEmailSender.class);
+
+    private final AsyncTransactionalEmailSender<I, O> transactionalEmailSender;
+    private final RetryPolicy retryPolicy;
+
+    /**
+     *
+     * @param transactionalEmailSender Transactional Email Sender
+     * @param retryPolicy Retry policy
+     */
+    public RetryingAsyncTransactionalEmailSender(@NonNull AsyncTransactionalEmailSender<I, O> transactionalEmailSender,
+                                                 @NonNull RetryPolicy retryPolicy) {
+        this.transactionalEmailSender = transactionalEmailSender;
+        this.retryPolicy = retryPolicy;
+    }
+
+    /**
+     * Decorates the sender if {@link RetryConfiguration retries} are enabled, otherwise failures are signalled as the sender signals them.
+     * @param transactionalEmailSender Transactional Email Sender
+     * @param retryPolicies Retry policies. If null, the sender is not retried.
+     * @return The decorated sender or the sender itself if retries are disabled
+     * @param <I> Email Request
+     * @param <O> Email Response
+     */
+    @NonNull
+    public static <I, O> AsyncTransactionalEmailSender<I, O> of(@NonNull AsyncTransactionalEmailSender<I, O> transactionalEmailSender,
+                                              @Nullable RetryPolicies retryPolicies) {
+        return retryPolicies != null && retryPolicies.isEnabled()
+                ? new RetryingAsyncTransactionalEmailSender<>(transactionalEmailSender, retryPolicies.get(transactionalEmailSender.getName()))
+                : transactionalEmailSender;
+    }
+
+    @Override
+    @NonNull
+    public String getName() {
+        return transactionalEmailSender.getName();
+    }
+
+    @Override
+    @NonNull
+    @SingleResult
+    public Publisher<O> sendAsync(@NonNull @NotNull Email email, @NonNull @NotNull Consumer<I> emailRequest) throws EmailException {
+        return Mono.defer(() -> {
+            retryPolicy.onFirstAttempt();
+            return attempt(email, emailRequest, 1);
+        });
+    }
+
+    @Override
+    @NonNull
+    public CompletionStage<O> sendStage(@NonNull @NotNull Email email, @NonNull @NotNull Consumer<I> emailRequest) {
+        retryPolicy.onFirstAttempt();
+        CompletableFuture<O> result = new CompletableFuture<>();
+        attemptStage(email, emailRequest, 1, result);
+        return result;
+    }
+
+    private void attemptStage(@NonNull Email email, @NonNull Consumer<I> emailRequest, int attempt, @NonNull CompletableFuture<O> result) {
+        CompletionStage<O> stage;
+        try {
+            stage = transactionalEmailSender.sendStage(email, emailRequest);
+        } catch (RuntimeException e) {
+            stage = CompletableFuture.failedFuture(e);
+        }
+        stage.whenComplete((response, throwable) -> {
+            if (throwable == null) {
+                result.complete(response);
+                return;
+            }
+            Throwable e = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+            EmailErrorType errorType = retryPolicy.classify(e);
+            long delay = retryPolicy.nextDelayNanos(attempt, errorType);
+            if (delay < 0) {
+                result.completeExceptionally(retryPolicy.toException(e, errorType));
+                return;
+            }
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Attempt {} to send email with {} failed with a {} error, retrying in {} ms", attempt, getName(), errorType, TimeUnit.NANOSECONDS.toMillis(delay));
+            }
+            CompletableFuture.delayedExecutor(delay, TimeUnit.NANOSECONDS).execute(() -> attemptStage(email, emailRequest, attempt + 1, result));
+        });
+    }
+
+    @NonNull
+    private Mono<O> attempt(@NonNull Email email, @NonNull Consumer<I> emailRequest, int attempt) {
+        return Mono.defer(() -> Mono.from(transactionalEmailSender.sendAsync(email, emailRequest)))
+                .onErrorResume(e -> {
+                    EmailErrorType errorType = retryPolicy.classify(e);
+                    long delay = retryPolicy.nextDelayNanos(attempt, errorType);
+                    if (delay < 0) {
+                        return Mono.error(retryPolicy.toException(e, errorType));
+                    }
+                    if (LOG.isDebugEnabled()) {
+                        LOG.debug("Attempt {} to send email with {} failed with a {} error, retrying in {} ms", attempt, getName(), errorType, TimeUnit.NANOSECONDS.toMillis(delay));
+                    }
+                    return Mono.delay(Duration.ofNanos(delay)).then(attempt(email, emailRequest, attempt + 1));
+                });
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.retry;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.email.Email;
+import io.micronaut.email.EmailErrorType;
+import io.micronaut.email.EmailException;
+import io.micronaut.email.TransactionalEmailSender;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jakarta.validation.constraints.NotNull;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * {@link TransactionalEmailSender} decorator which sends an email again, blocking the calling thread between attempts, as long as the {@link RetryPolicy} allows it.
+ * @author Sergio del Amo
+ * @since 2.8.0
+ * @param <I> Email Request
+ * @param <O> Email Response
+ */
+public class RetryingTransactionalEmailSender<I, O> implements TransactionalEmailSender<I, O> {
+    private static final Logger LOG = LoggerFactory.getLogger(RetryingTransactionalEmailSender.class);
+
+    private final TransactionalEmailSender<I, O> transactionalEmailSender;
+    private final RetryPolicy retryPolicy;
+
+    /**
+     *
+     * @param transactionalEmailSender Transactional Email Sender
+     * @param retryPolicy Retry policy
+     */
+    public RetryingTransactionalEmailSender(@NonNull TransactionalEmailSender<I, O> transactionalEmailSender,
+                                            @NonNull RetryPolicy retryPolicy) {
+        this.transactionalEmailSender = transactionalEmailSender;
+        this.retryPolicy = retryPolicy;
+    }
+
+    /**
+     * Decorates the sender if {@link RetryConfiguration retries} are enabled, otherwise failures are thrown as the sender throws them.
+     * @param transactionalEmailSender Transactional Email Sender
+     * @param retryPolicies Retry policies. If null, the sender is not retried.
+     * @return The decorated sender or the sender itself if retries are disabled
+     * @param <I> Email Request
+     * @param <O> Email Response
+     */
+    @NonNull
+    public static <I, O> TransactionalEmailSender<I, O> of(@NonNull TransactionalEmailSender<I, O> transactionalEmailSender,
+                                              @Nullable RetryPolicies retryPolicies) {
+        return retryPolicies != null && retryPolicies.isEnabled()
+                ? new RetryingTransactionalEmailSender<>(transactionalEmailSender, retryPolicies.get(transactionalEmailSender.getName()))
+                : transactionalEmailSender;
+    }
+
+    @Override
+    @NonNull
+    public String getName() {
+        return transactionalEmailSender.getName();
+    }
+
+    @Override
+    @NonNull
+    public O send(@NonNull @NotNull Email email, @NonNull @NotNull Consumer<I> emailRequest) throws EmailException {
+        retryPolicy.onFirstAttempt();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionalEmailSender.send(email, emailRequest);
+            } catch (RuntimeException e) {
+                EmailErrorType errorType = retryPolicy.classify(e);
+                long delay = retryPolicy.nextDelayNanos(attempt, errorType);
+                if (delay < 0) {
+                    throw retryPolicy.toException(e, errorType);
+                }
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Attempt {} to send email with {} failed with a {} error, retrying in {} ms", attempt, getName(), errorType, TimeUnit.NANOSECONDS.toMillis(delay));
+                }
+                try {
+                    TimeUnit.NANOSECONDS.sleep(delay);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    throw retryPolicy.toException(e, errorType);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.routing;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.util.Toggleable;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Configuration of the {@link RoutingEmailSender}.
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+public interface RoutingConfiguration extends Toggleable {
+
+    /**
+     *
+     * @return Names of the senders between which emails are routed.
+     */
+    @NonNull
+    List<String> getSenders();
+
+    /**
+     *
+     * @return Static weight per sender name. Senders without a weight have a weight of 1.
+     */
+    @NonNull
+    Map<String, Double> getWeights();
+
+    /**
+     *
+     * @return Time constant of the moving averages. A sample loses two thirds of its weight over this duration.
+     */
+    @NonNull
+    Duration getDecayTime();
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.routing;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.annotation.NonNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link ConfigurationProperties} implementation of {@link RoutingConfiguration}.
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+@ConfigurationProperties(RoutingConfigurationProperties.PREFIX)
+public class RoutingConfigurationProperties implements RoutingConfiguration {
+
+    /**
+     * Routing configuration prefix.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final String PREFIX = "micronaut.email.routing";
+
+    /**
+     * The default enable value.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final boolean DEFAULT_ENABLED = false;
+
+    /**
+     * The default decay time in seconds.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final long DEFAULT_DECAY_TIME_SECONDS = 10;
+
+    private boolean enabled = DEFAULT_ENABLED;
+
+    @NonNull
+    private List<String> senders = new ArrayList<>();
+
+    @NonNull
+    private Map<String, Double> weights = new HashMap<>();
+
+    @NonNull
+    private Duration decayTime = Duration.ofSeconds(DEFAULT_DECAY_TIME_SECONDS);
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Whether a routing sender, named `routing`, is registered. Default value: `{@value #DEFAULT_ENABLED}`
+     *
+     * @param enabled True if the routing sender is enabled
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    @NonNull
+    public List<String> getSenders() {
+        return senders;
+    }
+
+    /**
+     * Names of the senders, for example `ses` and `postmark`, between which emails are routed.
+     *
+     * @param senders Sender names
+     */
+    public void setSenders(@NonNull List<String> senders) {
+        this.senders = senders;
+    }
+
+    @Override
+    @NonNull
+    public Map<String, Double> getWeights() {
+        return weights;
+    }
+
+    /**
+     * Static weight per sender name, for example to favour the cheapest provider. A sender with weight 2 receives about twice the emails of a sender with weight 1 and the same latency. Senders without a weight have a weight of 1.
+     *
+     * @param weights Weights by sender name
+     */
+    public void setWeights(@NonNull Map<String, Double> weights) {
+        this.weights = weights;
+    }
+
+    @Override
+    @NonNull
+    public Duration getDecayTime() {
+        return decayTime;
+    }
+
+    /**
+     * Time constant of the latency and error rate moving averages. Shorter values react faster to changes. Default value: `{@value #DEFAULT_DECAY_TIME_SECONDS}` seconds
+     *
+     * @param decayTime Decay time
+     */
+    public void setDecayTime(@NonNull Duration decayTime) {
+        this.decayTime = decayTime;
+    }
+}
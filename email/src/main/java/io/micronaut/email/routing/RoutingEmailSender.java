@@ -0,0 +1,193 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.routing;
+
+import io.micronaut.context.BeanContext;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.async.annotation.SingleResult;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.email.AsyncTransactionalEmailSender;
+import io.micronaut.email.Email;
+import io.micronaut.email.EmailErrorType;
+import io.micronaut.email.EmailException;
+import io.micronaut.email.ratelimit.RateLimitedAsyncTransactionalEmailSender;
+import io.micronaut.email.ratelimit.RateLimiters;
+import io.micronaut.email.retry.RetryPolicies;
+import io.micronaut.email.retry.RetryingAsyncTransactionalEmailSender;
+import io.micronaut.inject.qualifiers.Qualifiers;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Mono;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Routes every email to one of {@link RoutingConfiguration#getSenders()} with the power of two choices: two senders are picked at random and
+ * the email is sent through the one with the lowest {@link SenderStatistics#cost(double) cost}, which accounts for its latency, error rate,
+ * emails in flight and static weight. Traffic thus shifts towards the fastest healthy sender without every instance herding onto the same one.
+ * Permanent failures do not count as errors, since the sender is up and rejected the email.
+ * Each sender is rate limited and retried with its own rate limit and retry policy.
+ *
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+@Requires(property = RoutingConfigurationProperties.PREFIX + ".enabled", value = StringUtils.TRUE)
+@Named(RoutingEmailSender.NAME)
+@Singleton
+public class RoutingEmailSender implements AsyncTransactionalEmailSender<Object, Object> {
+    /**
+     * {@link RoutingEmailSender} name.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final String NAME = "routing";
+
+    private static final double DEFAULT_WEIGHT = 1;
+
+    private final BeanContext beanContext;
+    private final RateLimiters rateLimiters;
+    private final RetryPolicies retryPolicies;
+    private final Route[] routes;
+
+    /**
+     *
+     * @param configuration Routing configuration
+     * @param beanContext Bean Context
+     * @param rateLimiters Rate limiters of the senders
+     * @param retryPolicies Retry policies of the senders, also used to classify failures
+     */
+    public RoutingEmailSender(RoutingConfiguration configuration,
+                              BeanContext beanContext,
+                              RateLimiters rateLimiters,
+                              RetryPolicies retryPolicies) {
+        this.beanContext = beanContext;
+        this.rateLimiters = rateLimiters;
+        this.retryPolicies = retryPolicies;
+        List<Route> list = new ArrayList<>(configuration.getSenders().size());
+        for (String sender : configuration.getSenders()) {
+            double weight = configuration.getWeights().getOrDefault(sender, DEFAULT_WEIGHT);
+            list.add(new Route(sender, weight > 0 ? weight : DEFAULT_WEIGHT, new SenderStatistics(configuration.getDecayTime())));
+        }
+        this.routes = list.toArray(new Route[0]);
+    }
+
+    @Override
+    @NonNull
+    public String getName() {
+        return NAME;
+    }
+
+    /**
+     *
+     * @param senderName Sender name
+     * @return The statistics of the sender or null if the sender is not configured
+     */
+    @Nullable
+    public SenderStatistics getStatistics(@NonNull String senderName) {
+        for (Route route : routes) {
+            if (route.name.equals(senderName)) {
+                return route.statistics;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    @NonNull
+    @SingleResult
+    public Publisher<Object> sendAsync(@NonNull @NotNull @Valid Email email,
+                                       @NonNull @NotNull Consumer<Object> emailRequest) throws EmailException {
+        if (routes.length == 0) {
+            return Mono.error(new EmailException("No sender configured for routing"));
+        }
+        return Mono.defer(() -> {
+            Route route = choose();
+            long start = route.statistics.onStart();
+            // a send completes once, whichever of success, error or cancellation is signalled first
+            AtomicBoolean completed = new AtomicBoolean();
+            return Mono.defer(() -> Mono.from(route.sender(beanContext, rateLimiters, retryPolicies).sendAsync(email, emailRequest)))
+                    .doOnSuccess(response -> {
+                        if (completed.compareAndSet(false, true)) {
+                            route.statistics.onComplete(start, false);
+                        }
+                    })
+                    .doOnError(e -> {
+                        if (completed.compareAndSet(false, true)) {
+                            route.statistics.onComplete(start, retryPolicies.get(route.name).classify(e) != EmailErrorType.PERMANENT);
+                        }
+                    })
+                    .doOnCancel(() -> {
+                        if (completed.compareAndSet(false, true)) {
+                            route.statistics.onCancel();
+                        }
+                    });
+        });
+    }
+
+    @NonNull
+    private Route choose() {
+        if (routes.length == 1) {
+            return routes[0];
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(routes.length);
+        int second = random.nextInt(routes.length - 1);
+        if (second >= first) {
+            second++;
+        }
+        Route a = routes[first];
+        Route b = routes[second];
+        return a.statistics.cost(a.weight) <= b.statistics.cost(b.weight) ? a : b;
+    }
+
+    /**
+     * A sender decorated with its rate limit and retry policy, its weight and its statistics.
+     */
+    private static final class Route {
+        private final String name;
+        private final double weight;
+        private final SenderStatistics statistics;
+        private volatile AsyncTransactionalEmailSender<?, ?> sender;
+
+        private Route(String name, double weight, SenderStatistics statistics) {
+            this.name = name;
+            this.weight = weight;
+            this.statistics = statistics;
+        }
+
+        @NonNull
+        @SuppressWarnings("unchecked")
+        private AsyncTransactionalEmailSender<Object, Object> sender(@NonNull BeanContext beanContext,
+                                                                     @NonNull RateLimiters rateLimiters,
+                                                                     @NonNull RetryPolicies retryPolicies) {
+            AsyncTransactionalEmailSender<?, ?> result = sender;
+            if (result == null) {
+                AsyncTransactionalEmailSender<?, ?> bean = beanContext.getBean(AsyncTransactionalEmailSender.class, Qualifiers.byName(name));
+                result = RetryingAsyncTransactionalEmailSender.of(RateLimitedAsyncTransactionalEmailSender.of(bean, rateLimiters), retryPolicies);
+                sender = result;
+            }
+            return (AsyncTransactionalEmailSender<Object, Object>) result;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.routing;
+
+import io.micronaut.core.annotation.NonNull;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * Lock-free latency and error rate statistics of a sender, kept as exponentially weighted moving averages.
+ * The latency average is peak-sensitive: a sample above the average replaces it, so a sender which slows down is avoided at once,
+ * whereas lower samples are blended in with a weight which grows with the time since the previous sample.
+ * The error rate weighs every sample by {@value #ERROR_SMOOTHING}. Both averages decay towards zero while the sender is idle,
+ * thus a sender which was slow or failing is eventually tried again.
+ *
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+public class SenderStatistics {
+
+    private static final double MIN_SUCCESS_RATE = 0.01;
+    private static final double ERROR_SMOOTHING = 0.1;
+
+    private final double decayNanos;
+    private final LongSupplier clock;
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicReference<Averages> averages;
+
+    /**
+     *
+     * @param decayTime Time constant of the moving averages
+     */
+    public SenderStatistics(@NonNull Duration decayTime) {
+        this(decayTime, System::nanoTime);
+    }
+
+    /**
+     *
+     * @param decayTime Time constant of the moving averages
+     * @param clock Monotonic clock in nanoseconds
+     */
+    SenderStatistics(@NonNull Duration decayTime, @NonNull LongSupplier clock) {
+        this.decayNanos = Math.max(1, decayTime.toNanos());
+        this.clock = clock;
+        this.averages = new AtomicReference<>(new Averages(0, 0, clock.getAsLong()));
+    }
+
+    /**
+     * Records an email about to be sent.
+     * @return The start time to supply to {@link #onComplete(long, boolean)}
+     */
+    public long onStart() {
+        pending.incrementAndGet();
+        return clock.getAsLong();
+    }
+
+    /**
+     * Records an email which completed.
+     * @param start Value returned by {@link #onStart()}
+     * @param failed Whether the sender failed
+     */
+    public void onComplete(long start, boolean failed) {
+        pending.decrementAndGet();
+        long now = clock.getAsLong();
+        double latency = now - start;
+        double error = failed ? 1 : 0;
+        Averages current;
+        Averages next;
+        do {
+            current = averages.get();
+            double weight = decay(current, now);
+            double decayedLatency = current.latencyNanos * weight;
+            next = new Averages(latency > decayedLatency ? latency : decayedLatency + latency * (1 - weight),
+                    current.errorRate * weight * (1 - ERROR_SMOOTHING) + error * ERROR_SMOOTHING,
+                    now);
+        } while (!averages.compareAndSet(current, next));
+    }
+
+    /**
+     * Records an email which was cancelled before it completed.
+     */
+    public void onCancel() {
+        pending.decrementAndGet();
+    }
+
+    /**
+     * The cost grows with the latency, the emails in flight and the error rate, and shrinks with the weight.
+     * @param weight Static weight of the sender
+     * @return Cost of sending an email through the sender now
+     */
+    public double cost(double weight) {
+        Averages current = averages.get();
+        double decay = decay(current, clock.getAsLong());
+        double latency = current.latencyNanos * decay;
+        double successRate = Math.max(MIN_SUCCESS_RATE, 1 - current.errorRate * decay);
+        return (latency + 1) * (pending.get() + 1) / (weight * successRate);
+    }
+
+    /**
+     *
+     * @return Average latency in nanoseconds.
+     */
+    public double getLatencyNanos() {
+        Averages current = averages.get();
+        return current.latencyNanos * decay(current, clock.getAsLong());
+    }
+
+    /**
+     *
+     * @return Average error rate between 0 and 1.
+     */
+    public double getErrorRate() {
+        Averages current = averages.get();
+        return current.errorRate * decay(current, clock.getAsLong());
+    }
+
+    /**
+     *
+     * @return Number of emails in flight.
+     */
+    public int getPending() {
+        return pending.get();
+    }
+
+    private double decay(@NonNull Averages averages, long now) {
+        long elapsed = now - averages.timestamp;
+        return elapsed <= 0 ? 1 : Math.exp(-elapsed / decayNanos);
+    }
+
+    /**
+     * Immutable snapshot of the averages, replaced with compare-and-set.
+     */
+    private static final class Averages {
+        private final double latencyNanos;
+        private final double errorRate;
+        private final long timestamp;
+
+        private Averages(double latencyNanos, double errorRate, long timestamp) {
+            this.latencyNanos = latencyNanos;
+            this.errorRate = errorRate;
+            this.timestamp = timestamp;
+        }
+    }
+}
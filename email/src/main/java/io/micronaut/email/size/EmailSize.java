@@ -0,0 +1,97 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.size;
+
+/**
+ * Estimated size in bytes of an {@link io.micronaut.email.Email} once it is encoded for sending.
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+public final class EmailSize {
+
+    private final long bodySize;
+    private final long attachmentsSize;
+    private final long encodedAttachmentsSize;
+    private final long messageSize;
+    private final boolean complete;
+
+    /**
+     *
+     * @param bodySize Size in bytes of the text and html bodies encoded as UTF-8
+     * @param attachmentsSize Size in bytes of the attachments' content
+     * @param encodedAttachmentsSize Size in bytes of the attachments' content encoded as Base64
+     * @param messageSize Size in bytes of the MIME message
+     * @param complete Whether the length of every attachment is known
+     */
+    public EmailSize(long bodySize, long attachmentsSize, long encodedAttachmentsSize, long messageSize, boolean complete) {
+        this.bodySize = bodySize;
+        this.attachmentsSize = attachmentsSize;
+        this.encodedAttachmentsSize = encodedAttachmentsSize;
+        this.messageSize = messageSize;
+        this.complete = complete;
+    }
+
+    /**
+     *
+     * @return Size in bytes of the text and html bodies encoded as UTF-8.
+     */
+    public long getBodySize() {
+        return bodySize;
+    }
+
+    /**
+     *
+     * @return Size in bytes of the attachments' content.
+     */
+    public long getAttachmentsSize() {
+        return attachmentsSize;
+    }
+
+    /**
+     *
+     * @return Size in bytes of the attachments' content encoded as Base64, as HTTP APIs send them.
+     */
+    public long getEncodedAttachmentsSize() {
+        return encodedAttachmentsSize;
+    }
+
+    /**
+     *
+     * @return Size in bytes of the MIME message, including headers, bodies and attachments encoded as MIME Base64.
+     */
+    public long getMessageSize() {
+        return messageSize;
+    }
+
+    /**
+     *
+     * @return Whether the length of every attachment is known. Otherwise, the sizes do not include the attachments of unknown length.
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+
+    @Override
+    public String toString() {
+        return "EmailSize{" +
+                "bodySize=" + bodySize +
+                ", attachmentsSize=" + attachmentsSize +
+                ", encodedAttachmentsSize=" + encodedAttachmentsSize +
+                ", messageSize=" + messageSize +
+                ", complete=" + complete +
+                '}';
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.size;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.email.Attachment;
+import io.micronaut.email.Body;
+import io.micronaut.email.BodyType;
+import io.micronaut.email.Contact;
+import io.micronaut.email.Email;
+
+import java.util.Collection;
+
+/**
+ * Estimates the size of an {@link Email} once it is encoded, without encoding it.
+ * Sizes are computed arithmetically from the length of the bodies and of the attachments, thus an estimate costs a pass over the characters of the bodies and nothing else.
+ * Bodies are counted with the transfer encoding JavaMail chooses for them: as they are if they are ASCII text with short lines, quoted-printable if most of their bytes are ASCII and MIME Base64 otherwise.
+ *
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+public final class EmailSizeEstimator {
+
+    /**
+     * Maximum length of a MIME Base64 line, excluding the line break.
+     */
+    private static final int MIME_LINE_LENGTH = 76;
+
+    /**
+     * Maximum length of a line sent without encoding, excluding the line break.
+     */
+    private static final int MAX_LINE_LENGTH = 998;
+
+    /**
+     * Characters of a quoted-printable line before the soft line break.
+     */
+    private static final int QUOTED_PRINTABLE_LINE_LENGTH = 75;
+
+    /**
+     * Bytes of the message headers other than subject and addresses, such as Message-ID, Date or MIME-Version, plus the multipart boundaries.
+     */
+    private static final int MESSAGE_OVERHEAD = 512;
+
+    /**
+     * Bytes of the headers and boundary of every MIME part.
+     */
+    private static final int PART_OVERHEAD = 160;
+
+    /**
+     * Bytes of the header name and separators of every address.
+     */
+    private static final int ADDRESS_OVERHEAD = 8;
+
+    private EmailSizeEstimator() {
+    }
+
+    /**
+     *
+     * @param email Email
+     * @return The estimated size of the email once it is encoded
+     */
+    @NonNull
+    public static EmailSize estimate(@NonNull Email email) {
+        long bodySize = 0;
+        long messageSize = MESSAGE_OVERHEAD + headerSize(email.getSubject());
+        messageSize += contactsSize(email.getFrom()) + contactsSize(email.getTo()) + contactsSize(email.getCc()) + contactsSize(email.getBcc()) + contactsSize(email.getReplyToCollection());
+        Body body = email.getBody();
+        if (body != null) {
+            for (BodyType type : BodyType.values()) {
+                String content = body.get(type).orElse(null);
+                if (content != null) {
+                    bodySize += utf8Length(content);
+                    messageSize += PART_OVERHEAD + encodedTextSize(content);
+                }
+            }
+        }
+        long attachmentsSize = 0;
+        long encodedAttachmentsSize = 0;
+        boolean complete = true;
+        if (email.getAttachments() != null) {
+            for (Attachment attachment : email.getAttachments()) {
+                messageSize += PART_OVERHEAD + headerSize(attachment.getFilename()) + headerSize(attachment.getContentType()) + headerSize(attachment.getId());
+                long length = attachment.getAttachmentContent().getLength();
+                if (length < 0) {
+                    complete = false;
+                } else {
+                    attachmentsSize += length;
+                    encodedAttachmentsSize += base64Size(length);
+                    messageSize += mimeBase64Size(length);
+                }
+            }
+        }
+        return new EmailSize(bodySize, attachmentsSize, encodedAttachmentsSize, messageSize, complete);
+    }
+
+    /**
+     *
+     * @param length Length in bytes
+     * @return Length in bytes of the content encoded as Base64 without line breaks
+     */
+    public static long base64Size(long length) {
+        return (length + 2) / 3 * 4;
+    }
+
+    /**
+     *
+     * @param length Length in bytes
+     * @return Length in bytes of the content encoded as MIME Base64, in lines of 76 characters separated by CRLF
+     */
+    public static long mimeBase64Size(long length) {
+        long encoded = base64Size(length);
+        long lines = (encoded + MIME_LINE_LENGTH - 1) / MIME_LINE_LENGTH;
+        return lines > 1 ? encoded + (lines - 1) * 2 : encoded;
+    }
+
+    /**
+     *
+     * @param value Characters
+     * @return Length in bytes of the characters encoded as UTF-8
+     */
+    public static long utf8Length(@NonNull CharSequence value) {
+        int length = value.length();
+        long result = length;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c >= 0x80) {
+                if (c < 0x800) {
+                    result += 1;
+                } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    // a surrogate pair is two chars and four bytes
+                    result += 2;
+                    i++;
+                } else {
+                    result += 2;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     *
+     * @param text Text
+     * @return Length in bytes of the text encoded as UTF-8 and then with the transfer encoding JavaMail chooses for it
+     */
+    private static long encodedTextSize(@NonNull String text) {
+        long utf8Length = utf8Length(text);
+        long nonAscii = utf8Length - text.length();
+        int lineLength = 0;
+        boolean longLines = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= 0x80) {
+                // multibyte characters count one byte above, the remaining bytes are non-ASCII as well
+                nonAscii++;
+            }
+            if (c == '\n' || c == '\r') {
+                lineLength = 0;
+            } else if (++lineLength > MAX_LINE_LENGTH) {
+                longLines = true;
+            }
+        }
+        if (nonAscii == 0 && !longLines) {
+            return utf8Length;
+        }
+        if (nonAscii < utf8Length - nonAscii) {
+            // =XX for every non-ASCII byte plus a soft line break every 75 characters
+            long encoded = utf8Length + nonAscii * 2;
+            return encoded + encoded / QUOTED_PRINTABLE_LINE_LENGTH * 3;
+        }
+        return mimeBase64Size(utf8Length);
+    }
+
+    private static long headerSize(@Nullable String value) {
+        if (value == null) {
+            return 0;
+        }
+        long utf8Length = utf8Length(value);
+        // non-ASCII headers are sent as Base64 encoded words
+        return utf8Length == value.length() ? utf8Length : base64Size(utf8Length) + 12;
+    }
+
+    private static long contactsSize(@Nullable Contact contact) {
+        return contact == null ? 0 : ADDRESS_OVERHEAD + headerSize(contact.getEmail()) + headerSize(contact.getName());
+    }
+
+    private static long contactsSize(@Nullable Collection<Contact> contacts) {
+        if (contacts == null) {
+            return 0;
+        }
+        long result = 0;
+        for (Contact contact : contacts) {
+            result += contactsSize(contact);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.size;
+
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.naming.Named;
+
+/**
+ * Size limits of the sender whose {@link io.micronaut.email.TransactionalEmailSender#getName()} matches {@link #getName()}.
+ * Limits which are not set fall back to the provider's documented limits, see {@link EmailSizeLimits}.
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+public interface EmailSizeLimitConfiguration extends Named {
+
+    /**
+     *
+     * @return Maximum size in bytes of the encoded message, zero for no limit, or null to use the provider's limit.
+     */
+    @Nullable
+    Long getMaxMessageSize();
+
+    /**
+     *
+     * @return Maximum size in bytes of all the attachments encoded as Base64, zero for no limit, or null to use the provider's limit.
+     */
+    @Nullable
+    Long getMaxAttachmentsSize();
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.size;
+
+import io.micronaut.context.annotation.EachProperty;
+import io.micronaut.context.annotation.Parameter;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+
+/**
+ * {@link EachProperty} implementation of {@link EmailSizeLimitConfiguration}. The property name is the sender name, for example `micronaut.email.size-limits.ses.max-message-size`.
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+@EachProperty(EmailSizeLimitConfigurationProperties.PREFIX)
+public class EmailSizeLimitConfigurationProperties implements EmailSizeLimitConfiguration {
+
+    /**
+     * Size limits configuration prefix.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final String PREFIX = "micronaut.email.size-limits";
+
+    private final String name;
+
+    @Nullable
+    private Long maxMessageSize;
+
+    @Nullable
+    private Long maxAttachmentsSize;
+
+    /**
+     *
+     * @param name Sender name
+     */
+    public EmailSizeLimitConfigurationProperties(@Parameter String name) {
+        this.name = name;
+    }
+
+    @Override
+    @NonNull
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    @Nullable
+    public Long getMaxMessageSize() {
+        return maxMessageSize;
+    }
+
+    /**
+     * Maximum size in bytes of the encoded message. Zero disables the limit. Default value: the provider's limit.
+     *
+     * @param maxMessageSize Maximum message size in bytes
+     */
+    public void setMaxMessageSize(@Nullable Long maxMessageSize) {
+        this.maxMessageSize = maxMessageSize;
+    }
+
+    @Override
+    @Nullable
+    public Long getMaxAttachmentsSize() {
+        return maxAttachmentsSize;
+    }
+
+    /**
+     * Maximum size in bytes of all the attachments encoded as Base64. Zero disables the limit. Default value: the provider's limit.
+     *
+     * @param maxAttachmentsSize Maximum size of the attachments in bytes
+     */
+    public void setMaxAttachmentsSize(@Nullable Long maxAttachmentsSize) {
+        this.maxAttachmentsSize = maxAttachmentsSize;
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.size;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.email.Email;
+import io.micronaut.email.EmailErrorType;
+import io.micronaut.email.EmailException;
+import jakarta.inject.Singleton;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Holds the size limits of every sender, keyed by sender name, and rejects emails which exceed them before they are composed.
+ * Providers' documented limits apply unless they are overridden with an {@link EmailSizeLimitConfiguration}:
+ * <ul>
+ *     <li>ses: 10MB per raw message.</li>
+ *     <li>sendgrid: 30MB per message.</li>
+ *     <li>postmark: 10MB per message, including attachments.</li>
+ *     <li>mailjet: 15MB of attachments per message.</li>
+ * </ul>
+ * Senders without limits are not checked.
+ *
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+@Singleton
+public class EmailSizeLimits {
+
+    /**
+     * Value of a limit which is not enforced.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final long UNLIMITED = 0;
+
+    private static final long MEGABYTE = 1024L * 1024;
+
+    private static final Map<String, Limit> PROVIDER_LIMITS = Map.of(
+            "ses", new Limit(10 * MEGABYTE, UNLIMITED),
+            "sendgrid", new Limit(30 * MEGABYTE, UNLIMITED),
+            "postmark", new Limit(10 * MEGABYTE, UNLIMITED),
+            "mailjet", new Limit(UNLIMITED, 15 * MEGABYTE));
+
+    private final Map<String, Limit> limits;
+
+    /**
+     *
+     * @param configurations Size limit configurations
+     */
+    public EmailSizeLimits(List<EmailSizeLimitConfiguration> configurations) {
+        Map<String, Limit> map = new HashMap<>(PROVIDER_LIMITS);
+        for (EmailSizeLimitConfiguration configuration : configurations) {
+            Limit provider = PROVIDER_LIMITS.getOrDefault(configuration.getName(), new Limit(UNLIMITED, UNLIMITED));
+            map.put(configuration.getName(), new Limit(
+                    configuration.getMaxMessageSize() != null ? configuration.getMaxMessageSize() : provider.maxMessageSize,
+                    configuration.getMaxAttachmentsSize() != null ? configuration.getMaxAttachmentsSize() : provider.maxAttachmentsSize));
+        }
+        this.limits = map;
+    }
+
+    /**
+     *
+     * @param senderName Sender name
+     * @return Maximum size in bytes of the encoded message or {@link #UNLIMITED}
+     */
+    public long getMaxMessageSize(@NonNull String senderName) {
+        Limit limit = limits.get(senderName);
+        return limit == null ? UNLIMITED : limit.maxMessageSize;
+    }
+
+    /**
+     *
+     * @param senderName Sender name
+     * @return Maximum size in bytes of all the attachments encoded as Base64 or {@link #UNLIMITED}
+     */
+    public long getMaxAttachmentsSize(@NonNull String senderName) {
+        Limit limit = limits.get(senderName);
+        return limit == null ? UNLIMITED : limit.maxAttachmentsSize;
+    }
+
+    /**
+     * Estimates the size of the email with {@link EmailSizeEstimator} and checks it against the sender's limits.
+     * @param senderName Sender name
+     * @param email Email
+     * @throws EmailException of type {@link EmailErrorType#PERMANENT} if the email exceeds any limit of the sender
+     */
+    public void check(@NonNull String senderName, @NonNull Email email) throws EmailException {
+        Limit limit = limits.get(senderName);
+        if (limit == null || (limit.maxMessageSize == UNLIMITED && limit.maxAttachmentsSize == UNLIMITED)) {
+            return;
+        }
+        EmailSize size = EmailSizeEstimator.estimate(email);
+        if (limit.maxMessageSize != UNLIMITED && size.getMessageSize() > limit.maxMessageSize) {
+            throw new EmailException("Email of about " + size.getMessageSize() + " bytes exceeds the maximum message size of sender " + senderName + " of " + limit.maxMessageSize + " bytes", EmailErrorType.PERMANENT);
+        }
+        if (limit.maxAttachmentsSize != UNLIMITED && size.getEncodedAttachmentsSize() > limit.maxAttachmentsSize) {
+            throw new EmailException("Attachments of " + size.getEncodedAttachmentsSize() + " bytes exceed the maximum attachments size of sender " + senderName + " of " + limit.maxAttachmentsSize + " bytes", EmailErrorType.PERMANENT);
+        }
+    }
+
+    /**
+     *
+     * @param emailSizeLimits Email size limits. If null, nothing is checked.
+     * @param senderName Sender name
+     * @param email Email
+     * @throws EmailException of type {@link EmailErrorType#PERMANENT} if the email exceeds any limit of the sender
+     */
+    public static void check(@Nullable EmailSizeLimits emailSizeLimits, @NonNull String senderName, @NonNull Email email) throws EmailException {
+        if (emailSizeLimits != null) {
+            emailSizeLimits.check(senderName, email);
+        }
+    }
+
+    /**
+     * A sender's limits.
+     */
+    private static final class Limit {
+        private final long maxMessageSize;
+        private final long maxAttachmentsSize;
+
+        private Limit(long maxMessageSize, long maxAttachmentsSize) {
+            this.maxMessageSize = maxMessageSize;
+            this.maxAttachmentsSize = maxAttachmentsSize;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.suppression;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.email.validation.EmailAddresses;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Hashing and normalization of email addresses. The domain is normalized by {@link EmailAddresses#normalize(CharSequence)}, as everywhere else,
+ * thus an internationalized domain is compared in its ASCII form. The whole address is then lower-cased, since a mailbox which bounced or complained
+ * must stay suppressed whatever the case in which it is written. An address which is not valid is only lower-cased.
+ * An address hashes the same as its normalized form.
+ *
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+final class Addresses {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final char MAX_ASCII = 127;
+
+    private Addresses() {
+    }
+
+    /**
+     * Hashes an address. It does not allocate unless the domain contains non-ASCII characters.
+     * @param address Email address
+     * @return 64-bit hash of the normalized address
+     */
+    static long hash(@NonNull CharSequence address) {
+        for (int i = lastIndexOfAt(address) + 1; i < address.length(); i++) {
+            if (address.charAt(i) > MAX_ASCII) {
+                return lowerCaseHash(normalizedString(address));
+            }
+        }
+        return lowerCaseHash(address);
+    }
+
+    /**
+     *
+     * @param address Email address
+     * @return UTF-8 bytes of the normalized address
+     */
+    @NonNull
+    static byte[] normalize(@NonNull CharSequence address) {
+        return normalizedString(address).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @NonNull
+    private static String normalizedString(@NonNull CharSequence address) {
+        CharSequence normalized = address;
+        if (EmailAddresses.isValid(address, true)) {
+            try {
+                normalized = EmailAddresses.normalize(address);
+            } catch (IllegalArgumentException e) {
+                // the domain cannot be converted to ASCII
+            }
+        }
+        StringBuilder result = new StringBuilder(normalized.length());
+        for (int i = 0; i < normalized.length(); i++) {
+            result.append(Character.toLowerCase(normalized.charAt(i)));
+        }
+        return result.toString();
+    }
+
+    /**
+     * @param address Address whose domain is in its ASCII form. Every character is lower-cased.
+     * @return 64-bit hash
+     */
+    private static long lowerCaseHash(@NonNull CharSequence address) {
+        long h = FNV_OFFSET_BASIS;
+        for (int i = 0; i < address.length(); i++) {
+            h ^= Character.toLowerCase(address.charAt(i));
+            h *= FNV_PRIME;
+        }
+        // MurmurHash3 finalizer, FNV-1a alone leaves the low bits poorly mixed
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private static int lastIndexOfAt(@NonNull CharSequence address) {
+        int at = address.length() - 1;
+        while (at >= 0 && address.charAt(at) != '@') {
+            at--;
+        }
+        return at;
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.suppression;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Bloom filter whose bits are stored off-heap. The probes are derived from a single 64-bit hash with double hashing.
+ * Bits are set by a single writer at a time; readers may miss a bit being set concurrently.
+ *
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+final class BloomFilter {
+
+    private static final int MAX_HASH_FUNCTIONS = 16;
+
+    private final ByteBuffer bits;
+    private final long numBits;
+    private final int numHashFunctions;
+    private final int expectedInsertions;
+
+    /**
+     * @param expectedInsertions Expected number of insertions
+     * @param falsePositiveProbability False positive probability once the expected insertions are reached
+     */
+    BloomFilter(int expectedInsertions, double falsePositiveProbability) {
+        this.expectedInsertions = Math.max(1, expectedInsertions);
+        double p = Math.min(Math.max(falsePositiveProbability, Double.MIN_NORMAL), 0.5);
+        long optimalBits = (long) Math.ceil(-this.expectedInsertions * Math.log(p) / (Math.log(2) * Math.log(2)));
+        // rounded up to whole longs and capped by the largest direct buffer
+        long words = Math.min((Math.max(64, optimalBits) + 63) / 64, Integer.MAX_VALUE / Long.BYTES);
+        this.numBits = words * 64;
+        this.numHashFunctions = (int) Math.max(1, Math.min(MAX_HASH_FUNCTIONS, Math.round((double) numBits / this.expectedInsertions * Math.log(2))));
+        this.bits = ByteBuffer.allocateDirect((int) (words * Long.BYTES));
+    }
+
+    /**
+     *
+     * @return Expected number of insertions
+     */
+    int getExpectedInsertions() {
+        return expectedInsertions;
+    }
+
+    /**
+     * @param hash 64-bit hash
+     */
+    void put(long hash) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= numHashFunctions; i++) {
+            long bit = ((h1 + (long) i * h2) & Long.MAX_VALUE) % numBits;
+            int index = (int) (bit >>> 6) * Long.BYTES;
+            bits.putLong(index, bits.getLong(index) | (1L << bit));
+        }
+    }
+
+    /**
+     * @param hash 64-bit hash
+     * @return false if the hash has definitely not been put, true if it might have been.
+     */
+    boolean mightContain(long hash) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= numHashFunctions; i++) {
+            long bit = ((h1 + (long) i * h2) & Long.MAX_VALUE) % numBits;
+            if ((bits.getLong((int) (bit >>> 6) * Long.BYTES) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.suppression;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.email.EmailException;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * {@link SuppressionList} which checks a Bloom filter first and, only if the filter reports a match, an exact set of addresses.
+ * Both are stored off-heap, thus millions of addresses do not grow the heap, and checking an address which is not suppressed neither locks nor allocates.
+ * If {@link SuppressionConfiguration#getFile()} is set, every addition and removal is appended to the file, which is replayed on startup.
+ *
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+@Requires(property = SuppressionConfigurationProperties.PREFIX + ".enabled", value = StringUtils.TRUE)
+@Singleton
+public class DefaultSuppressionList implements SuppressionList {
+    private static final Logger LOG = LoggerFactory.getLogger(DefaultSuppressionList.class);
+    private static final byte ADD = 1;
+    private static final byte REMOVE = 2;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final double falsePositiveProbability;
+    private final OffHeapAddressSet addresses;
+    private volatile BloomFilter bloomFilter;
+
+    @Nullable
+    private final FileChannel log;
+
+    /**
+     * @param configuration Suppression configuration
+     */
+    public DefaultSuppressionList(SuppressionConfiguration configuration) {
+        this.falsePositiveProbability = configuration.getFalsePositiveProbability();
+        this.addresses = new OffHeapAddressSet(configuration.getExpectedAddresses());
+        this.bloomFilter = new BloomFilter(configuration.getExpectedAddresses(), falsePositiveProbability);
+        Path file = configuration.getFile();
+        try {
+            this.log = file == null ? null : open(file);
+        } catch (IOException e) {
+            throw new EmailException(e);
+        }
+    }
+
+    @Override
+    public boolean isSuppressed(@NonNull CharSequence address) {
+        long hash = Addresses.hash(address);
+        if (!bloomFilter.mightContain(hash)) {
+            return false;
+        }
+        byte[] key = Addresses.normalize(address);
+        lock.readLock().lock();
+        try {
+            return addresses.contains(key, hash);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean suppress(@NonNull String address) {
+        return update(ADD, address);
+    }
+
+    @Override
+    public boolean unsuppress(@NonNull String address) {
+        return update(REMOVE, address);
+    }
+
+    @Override
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return addresses.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Closes the suppression list file.
+     */
+    @PreDestroy
+    public void close() {
+        if (log == null) {
+            return;
+        }
+        try {
+            log.close();
+        } catch (IOException e) {
+            if (LOG.isWarnEnabled()) {
+                LOG.warn("IOException closing the suppression list file", e);
+            }
+        }
+    }
+
+    private boolean update(byte operation, @NonNull String address) {
+        long hash = Addresses.hash(address);
+        byte[] key = Addresses.normalize(address);
+        lock.writeLock().lock();
+        try {
+            boolean changed = apply(operation, key, hash);
+            if (changed && log != null) {
+                ByteBuffer buffer = ByteBuffer.allocate(1 + Integer.BYTES + key.length);
+                buffer.put(operation).putInt(key.length).put(key).flip();
+                while (buffer.hasRemaining()) {
+                    log.write(buffer);
+                }
+            }
+            return changed;
+        } catch (IOException e) {
+            throw new EmailException(e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private boolean apply(byte operation, @NonNull byte[] key, long hash) {
+        if (operation == REMOVE) {
+            // the hash stays in the Bloom filter, the exact set rules it out
+            return addresses.remove(key, hash);
+        }
+        if (!addresses.add(key, hash)) {
+            return false;
+        }
+        BloomFilter filter = bloomFilter;
+        if (addresses.size() > filter.getExpectedInsertions()) {
+            // the false positive probability degrades past the expected insertions, thus the filter is rebuilt twice as large
+            BloomFilter grown = new BloomFilter(filter.getExpectedInsertions() * 2, falsePositiveProbability);
+            addresses.forEachHash(grown::put);
+            bloomFilter = grown;
+        } else {
+            filter.put(hash);
+        }
+        return true;
+    }
+
+    @NonNull
+    private FileChannel open(@NonNull Path file) throws IOException {
+        long valid = 0;
+        if (Files.exists(file)) {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+                while (true) {
+                    byte operation;
+                    try {
+                        operation = in.readByte();
+                    } catch (EOFException e) {
+                        break;
+                    }
+                    int length = in.readInt();
+                    if ((operation != ADD && operation != REMOVE) || length < 0 || length > Short.MAX_VALUE) {
+                        throw new IOException("Invalid suppression list record at offset " + valid);
+                    }
+                    byte[] key = new byte[length];
+                    in.readFully(key);
+                    apply(operation, key, Addresses.hash(new String(key, StandardCharsets.UTF_8)));
+                    valid += 1 + Integer.BYTES + length;
+                }
+            } catch (EOFException e) {
+                if (LOG.isWarnEnabled()) {
+                    LOG.warn("Discarding an incomplete record at the end of the suppression list file {}", file);
+                }
+            }
+        } else if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        channel.truncate(valid);
+        channel.position(valid);
+        return channel;
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.suppression;
+
+import io.micronaut.core.annotation.NonNull;
+
+import java.nio.ByteBuffer;
+import java.util.function.LongConsumer;
+
+/**
+ * Exact set of normalized addresses stored off-heap. An open addressing table with linear probing holds, for every address,
+ * its hash and the position of its bytes in an append-only arena. Removed addresses leave a tombstone, and both the table
+ * and the arena are compacted when the table is rebuilt. It is not thread-safe.
+ *
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+final class OffHeapAddressSet {
+
+    private static final int SLOT_BYTES = 16;
+    private static final int HASH_OFFSET = 0;
+    private static final int KEY_OFFSET = 8;
+    private static final int LENGTH_OFFSET = 12;
+    private static final int EMPTY = 0;
+    private static final int TOMBSTONE = -1;
+    private static final int MIN_CAPACITY = 16;
+    // the largest power of two whose slots fit in a direct buffer
+    private static final int MAX_CAPACITY = 1 << 26;
+    private static final int AVERAGE_ADDRESS_BYTES = 24;
+
+    private ByteBuffer slots;
+    private ByteBuffer keys;
+    private int capacity;
+    private int size;
+    private int used;
+
+    /**
+     * @param expectedSize Expected number of addresses
+     */
+    OffHeapAddressSet(int expectedSize) {
+        this.capacity = tableSizeFor(expectedSize);
+        this.slots = ByteBuffer.allocateDirect(capacity * SLOT_BYTES);
+        this.keys = ByteBuffer.allocateDirect(Math.max(1024, expectedSize * AVERAGE_ADDRESS_BYTES));
+    }
+
+    /**
+     *
+     * @return Number of addresses
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * @param key Normalized address
+     * @param hash Hash of the address
+     * @return Whether the set contains the address
+     */
+    boolean contains(@NonNull byte[] key, long hash) {
+        return find(key, hash) >= 0;
+    }
+
+    /**
+     * @param key Normalized address
+     * @param hash Hash of the address
+     * @return true if the address was added, false if it was already present
+     */
+    boolean add(@NonNull byte[] key, long hash) {
+        if (find(key, hash) >= 0) {
+            return false;
+        }
+        if ((used + 1) * 2L > capacity) {
+            if ((size + 1) * 2L > MAX_CAPACITY) {
+                throw new IllegalStateException("The suppression list cannot hold more than " + MAX_CAPACITY / 2 + " addresses");
+            }
+            rebuild(tableSizeFor(size + 1));
+        }
+        int mask = capacity - 1;
+        int slot = spread(hash) & mask;
+        int reusable = -1;
+        int keyOffset;
+        while ((keyOffset = slots.getInt(slot * SLOT_BYTES + KEY_OFFSET)) != EMPTY) {
+            if (keyOffset == TOMBSTONE && reusable < 0) {
+                reusable = slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        if (reusable >= 0) {
+            slot = reusable;
+        } else {
+            used++;
+        }
+        write(slot, hash, append(key), key.length);
+        size++;
+        return true;
+    }
+
+    /**
+     * @param key Normalized address
+     * @param hash Hash of the address
+     * @return true if the address was removed, false if it was not present
+     */
+    boolean remove(@NonNull byte[] key, long hash) {
+        int slot = find(key, hash);
+        if (slot < 0) {
+            return false;
+        }
+        slots.putInt(slot * SLOT_BYTES + KEY_OFFSET, TOMBSTONE);
+        size--;
+        return true;
+    }
+
+    /**
+     * @param consumer Consumer of the hash of every address
+     */
+    void forEachHash(@NonNull LongConsumer consumer) {
+        for (int slot = 0; slot < capacity; slot++) {
+            if (slots.getInt(slot * SLOT_BYTES + KEY_OFFSET) > 0) {
+                consumer.accept(slots.getLong(slot * SLOT_BYTES + HASH_OFFSET));
+            }
+        }
+    }
+
+    private int find(@NonNull byte[] key, long hash) {
+        int mask = capacity - 1;
+        int slot = spread(hash) & mask;
+        int keyOffset;
+        while ((keyOffset = slots.getInt(slot * SLOT_BYTES + KEY_OFFSET)) != EMPTY) {
+            int base = slot * SLOT_BYTES;
+            if (keyOffset > 0 && slots.getLong(base + HASH_OFFSET) == hash && equals(keyOffset - 1, slots.getInt(base + LENGTH_OFFSET), key)) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private boolean equals(int position, int length, @NonNull byte[] key) {
+        if (length != key.length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (keys.get(position + i) != key[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void write(int slot, long hash, int position, int length) {
+        int base = slot * SLOT_BYTES;
+        slots.putLong(base + HASH_OFFSET, hash);
+        // positions are stored plus one so that zero marks an empty slot
+        slots.putInt(base + KEY_OFFSET, position + 1);
+        slots.putInt(base + LENGTH_OFFSET, length);
+    }
+
+    private int append(@NonNull byte[] key) {
+        if (keys.remaining() < key.length) {
+            ByteBuffer grown = ByteBuffer.allocateDirect(Math.max(keys.capacity() * 2, keys.position() + key.length));
+            keys.flip();
+            grown.put(keys);
+            keys = grown;
+        }
+        int position = keys.position();
+        keys.put(key);
+        return position;
+    }
+
+    private void rebuild(int newCapacity) {
+        ByteBuffer oldSlots = slots;
+        ByteBuffer oldKeys = keys;
+        int oldCapacity = capacity;
+        capacity = newCapacity;
+        slots = ByteBuffer.allocateDirect(newCapacity * SLOT_BYTES);
+        keys = ByteBuffer.allocateDirect(Math.max(1024, oldKeys.position()));
+        used = 0;
+        int mask = newCapacity - 1;
+        for (int oldSlot = 0; oldSlot < oldCapacity; oldSlot++) {
+            int base = oldSlot * SLOT_BYTES;
+            int keyOffset = oldSlots.getInt(base + KEY_OFFSET);
+            if (keyOffset <= 0) {
+                continue;
+            }
+            long hash = oldSlots.getLong(base + HASH_OFFSET);
+            int length = oldSlots.getInt(base + LENGTH_OFFSET);
+            int position = keys.position();
+            for (int i = 0; i < length; i++) {
+                keys.put(oldKeys.get(keyOffset - 1 + i));
+            }
+            int slot = spread(hash) & mask;
+            while (slots.getInt(slot * SLOT_BYTES + KEY_OFFSET) != EMPTY) {
+                slot = (slot + 1) & mask;
+            }
+            write(slot, hash, position, length);
+            used++;
+        }
+    }
+
+    private static int spread(long hash) {
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    private static int tableSizeFor(int expectedSize) {
+        // at most half full
+        long wanted = Math.max(MIN_CAPACITY, (long) expectedSize * 2);
+        if (wanted >= MAX_CAPACITY) {
+            return MAX_CAPACITY;
+        }
+        return Integer.highestOneBit((int) wanted - 1) << 1;
+    }
+}
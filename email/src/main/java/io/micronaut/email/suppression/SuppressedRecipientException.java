@@ -0,0 +1,51 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.suppression;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.email.EmailErrorType;
+import io.micronaut.email.EmailException;
+
+import java.util.List;
+
+/**
+ * Thrown when an email is not sent because of suppressed recipients.
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+public class SuppressedRecipientException extends EmailException {
+
+    @NonNull
+    private final List<String> suppressedAddresses;
+
+    /**
+     *
+     * @param suppressedAddresses Suppressed recipient addresses
+     */
+    public SuppressedRecipientException(@NonNull List<String> suppressedAddresses) {
+        super("The email was not sent because of suppressed recipients: " + suppressedAddresses, EmailErrorType.PERMANENT);
+        this.suppressedAddresses = suppressedAddresses;
+    }
+
+    /**
+     *
+     * @return Suppressed recipient addresses
+     */
+    @NonNull
+    public List<String> getSuppressedAddresses() {
+        return suppressedAddresses;
+    }
+}
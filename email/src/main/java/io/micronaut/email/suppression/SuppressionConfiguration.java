@@ -0,0 +1,56 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.suppression;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.util.Toggleable;
+
+import java.nio.file.Path;
+
+/**
+ * Configuration of the {@link SuppressionList}.
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+public interface SuppressionConfiguration extends Toggleable {
+
+    /**
+     *
+     * @return File where the suppression list is persisted. If null, the suppression list is only kept in memory.
+     */
+    @Nullable
+    Path getFile();
+
+    /**
+     *
+     * @return Expected number of suppressed addresses, used to size the Bloom filter.
+     */
+    int getExpectedAddresses();
+
+    /**
+     *
+     * @return Probability that the Bloom filter reports an address which is not suppressed, which is then checked against the exact set.
+     */
+    double getFalsePositiveProbability();
+
+    /**
+     *
+     * @return What happens to an email with suppressed recipients.
+     */
+    @NonNull
+    SuppressionMode getMode();
+}
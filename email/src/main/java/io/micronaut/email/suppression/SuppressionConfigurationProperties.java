@@ -0,0 +1,145 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.suppression;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+
+import java.nio.file.Path;
+
+/**
+ * {@link ConfigurationProperties} implementation of {@link SuppressionConfiguration}.
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+@ConfigurationProperties(SuppressionConfigurationProperties.PREFIX)
+public class SuppressionConfigurationProperties implements SuppressionConfiguration {
+
+    /**
+     * Suppression configuration prefix.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final String PREFIX = "micronaut.email.suppression";
+
+    /**
+     * The default enable value.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final boolean DEFAULT_ENABLED = false;
+
+    /**
+     * The default expected number of suppressed addresses.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final int DEFAULT_EXPECTED_ADDRESSES = 1_000_000;
+
+    /**
+     * The default false positive probability of the Bloom filter.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final double DEFAULT_FALSE_POSITIVE_PROBABILITY = 0.01;
+
+    /**
+     * The default suppression mode.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final SuppressionMode DEFAULT_MODE = SuppressionMode.REMOVE;
+
+    private boolean enabled = DEFAULT_ENABLED;
+
+    @Nullable
+    private Path file;
+
+    private int expectedAddresses = DEFAULT_EXPECTED_ADDRESSES;
+
+    private double falsePositiveProbability = DEFAULT_FALSE_POSITIVE_PROBABILITY;
+
+    @NonNull
+    private SuppressionMode mode = DEFAULT_MODE;
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Whether emails are not sent to suppressed addresses. Default value: `{@value #DEFAULT_ENABLED}`
+     *
+     * @param enabled True if the suppression list is enabled
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    @Nullable
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * File where additions to and removals from the suppression list are appended. It is replayed on startup. If not set, the suppression list is only kept in memory.
+     *
+     * @param file Suppression list file
+     */
+    public void setFile(@Nullable Path file) {
+        this.file = file;
+    }
+
+    @Override
+    public int getExpectedAddresses() {
+        return expectedAddresses;
+    }
+
+    /**
+     * Expected number of suppressed addresses, used to size the Bloom filter. The filter doubles once it holds more addresses. Default value: `{@value #DEFAULT_EXPECTED_ADDRESSES}`
+     *
+     * @param expectedAddresses Expected number of suppressed addresses
+     */
+    public void setExpectedAddresses(int expectedAddresses) {
+        this.expectedAddresses = expectedAddresses;
+    }
+
+    @Override
+    public double getFalsePositiveProbability() {
+        return falsePositiveProbability;
+    }
+
+    /**
+     * Probability that the Bloom filter reports an address which is not suppressed, which is then checked against the exact set. Default value: `{@value #DEFAULT_FALSE_POSITIVE_PROBABILITY}`
+     *
+     * @param falsePositiveProbability False positive probability
+     */
+    public void setFalsePositiveProbability(double falsePositiveProbability) {
+        this.falsePositiveProbability = falsePositiveProbability;
+    }
+
+    @Override
+    @NonNull
+    public SuppressionMode getMode() {
+        return mode;
+    }
+
+    /**
+     * What happens to an email with suppressed recipients. Default value: `REMOVE`
+     *
+     * @param mode Suppression mode
+     */
+    public void setMode(@NonNull SuppressionMode mode) {
+        this.mode = mode;
+    }
+}
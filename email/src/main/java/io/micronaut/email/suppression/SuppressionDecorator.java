@@ -0,0 +1,106 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.suppression;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.order.Ordered;
+import io.micronaut.email.Contact;
+import io.micronaut.email.Email;
+import io.micronaut.email.EmailDecorator;
+import jakarta.inject.Singleton;
+
+import jakarta.validation.constraints.NotNull;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Removes or rejects the "To", "Cc" and "Bcc" recipients found in the {@link SuppressionList}, depending on {@link SuppressionConfiguration#getMode()}.
+ * It runs after every other {@link EmailDecorator}, thus recipients added by decorators are checked too.
+ * If no recipient is left, the email is rejected with a {@link SuppressedRecipientException}.
+ *
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+@Requires(beans = SuppressionList.class)
+@Singleton
+public class SuppressionDecorator implements EmailDecorator {
+
+    private final SuppressionList suppressionList;
+    private final SuppressionMode mode;
+
+    /**
+     * @param suppressionList Suppression list
+     * @param configuration Suppression configuration
+     */
+    public SuppressionDecorator(SuppressionList suppressionList, SuppressionConfiguration configuration) {
+        this.suppressionList = suppressionList;
+        this.mode = configuration.getMode();
+    }
+
+    @Override
+    public void decorate(@NonNull @NotNull Email.Builder emailBuilder) {
+        List<String> suppressed = null;
+        suppressed = check(emailBuilder.getTo().orElse(null), suppressed);
+        suppressed = check(emailBuilder.getCc().orElse(null), suppressed);
+        suppressed = check(emailBuilder.getBcc().orElse(null), suppressed);
+        if (suppressed == null) {
+            return;
+        }
+        if (mode == SuppressionMode.REJECT || !hasRecipients(emailBuilder)) {
+            throw new SuppressedRecipientException(suppressed);
+        }
+    }
+
+    @Override
+    public boolean decoratesRecipients() {
+        return true;
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+
+    @Nullable
+    private List<String> check(@Nullable List<Contact> contacts, @Nullable List<String> suppressed) {
+        if (contacts == null) {
+            return suppressed;
+        }
+        List<String> result = suppressed;
+        // indexed loop, the common case of no suppressed recipient does not allocate an iterator
+        for (int i = contacts.size() - 1; i >= 0; i--) {
+            String address = contacts.get(i).getEmail();
+            if (suppressionList.isSuppressed(address)) {
+                if (result == null) {
+                    result = new ArrayList<>(1);
+                }
+                result.add(address);
+                if (mode == SuppressionMode.REMOVE) {
+                    contacts.remove(i);
+                }
+            }
+        }
+        return result;
+    }
+
+    private static boolean hasRecipients(@NonNull Email.Builder emailBuilder) {
+        return emailBuilder.getTo().map(to -> !to.isEmpty()).orElse(false)
+                || emailBuilder.getCc().map(cc -> !cc.isEmpty()).orElse(false)
+                || emailBuilder.getBcc().map(bcc -> !bcc.isEmpty()).orElse(false);
+    }
+}
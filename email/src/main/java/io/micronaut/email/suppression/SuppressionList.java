@@ -0,0 +1,53 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.suppression;
+
+import io.micronaut.core.annotation.NonNull;
+
+/**
+ * Addresses which must not receive emails, for example because they bounced or complained. Addresses are compared case-insensitively.
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+public interface SuppressionList {
+
+    /**
+     *
+     * @param address Email address
+     * @return Whether emails must not be sent to the address.
+     */
+    boolean isSuppressed(@NonNull CharSequence address);
+
+    /**
+     * Adds an address to the suppression list.
+     * @param address Email address
+     * @return true if the address was not suppressed
+     */
+    boolean suppress(@NonNull String address);
+
+    /**
+     * Removes an address from the suppression list.
+     * @param address Email address
+     * @return true if the address was suppressed
+     */
+    boolean unsuppress(@NonNull String address);
+
+    /**
+     *
+     * @return Number of suppressed addresses.
+     */
+    int size();
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.suppression;
+
+/**
+ * What happens to an email with suppressed recipients.
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+public enum SuppressionMode {
+    /**
+     * Suppressed recipients are removed. The email is rejected only if it has no recipients left.
+     */
+    REMOVE,
+
+    /**
+     * The email is rejected if any recipient is suppressed.
+     */
+    REJECT
+}
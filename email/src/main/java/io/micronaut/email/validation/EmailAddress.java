@@ -0,0 +1,56 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.validation;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The annotated element must be a valid email address as checked by {@link EmailAddresses#isValid(CharSequence)}.
+ * {@code null} elements are considered valid.
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+@Constraint(validatedBy = EmailAddressValidator.class)
+@Target({ElementType.FIELD, ElementType.METHOD, ElementType.PARAMETER, ElementType.TYPE_USE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface EmailAddress {
+    /**
+     * EmailAddress message.
+     */
+    String MESSAGE = "io.micronaut.email.validation.EmailAddress.message";
+
+    /**
+     * @return message The error message
+     */
+    String message() default "{" + MESSAGE + "}";
+
+    /**
+     * @return Groups to control the order in which constraints are evaluated,
+     * or to perform validation of the partial state of a JavaBean.
+     */
+    Class<?>[] groups() default {};
+
+    /**
+     * @return Payloads used by validation clients to associate some metadata information with a given constraint declaration
+     */
+    Class<? extends Payload>[] payload() default {};
+
+}
@@ -0,0 +1,350 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.email.validation;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.email.Contact;
+import io.micronaut.email.Email;
+import io.micronaut.email.EmailErrorType;
+import io.micronaut.email.EmailException;
+
+import java.net.IDN;
+import java.util.Collection;
+import java.util.Locale;
+
+/**
+ * Validates and normalizes email addresses such as {@code john@example.com}, without angle brackets nor display name.
+ * The local part is a dot-atom or a quoted string as defined in RFC 5322 and the domain is a host name or an address literal as defined in RFC 5321.
+ * When international addresses are allowed, the local part and the domain may contain non-ASCII characters as defined in RFC 6531.
+ * Addresses are checked character by character, without regular expressions and without allocating.
+ *
+ * @see <a href="https://www.rfc-editor.org/rfc/rfc5321#section-4.1.2">RFC 5321 Command Argument Syntax</a>
+ * @see <a href="https://www.rfc-editor.org/rfc/rfc6531#section-3.3">RFC 6531 Extended Mailbox Address Syntax</a>
+ * @author Sergio del Amo
+ * @since 2.8.0
+ */
+public final class EmailAddresses {
+
+    /**
+     * The maximum length of an address. RFC 5321 limits a path, which encloses the address in angle brackets, to 256 octets.
+     */
+    public static final int MAX_LENGTH = 254;
+
+    /**
+     * The maximum length of the local part of an address.
+     */
+    public static final int MAX_LOCAL_PART_LENGTH = 64;
+
+    private static final int MAX_LABEL_LENGTH = 63;
+    private static final int MAX_OCTET = 255;
+    private static final int MAX_HEX_DIGITS = 4;
+    private static final int IPV6_GROUPS = 8;
+    private static final int IPV4_OCTETS = 4;
+    private static final String IPV6_TAG = "IPv6:";
+    private static final char FIRST_PRINTABLE_NON_ASCII = '\u00A0';
+    private static final boolean[] ATEXT = new boolean[128];
+
+    static {
+        for (char c = 'a'; c <= 'z'; c++) {
+            ATEXT[c] = true;
+            ATEXT[Character.toUpperCase(c)] = true;
+        }
+        for (char c = '0'; c <= '9'; c++) {
+            ATEXT[c] = true;
+        }
+        for (char c : "!#$%&'*+-/=?^_`{|}~".toCharArray()) {
+            ATEXT[c] = true;
+        }
+    }
+
+    private EmailAddresses() {
+    }
+
+    /**
+     * @param address Email address
+     * @return Whether the address is valid. International addresses are allowed.
+     */
+    public static boolean isValid(@Nullable CharSequence address) {
+        return isValid(address, true);
+    }
+
+    /**
+     * @param address Email address
+     * @param allowInternational Whether to allow non-ASCII characters in the local part and the domain
+     * @return Whether the address is valid
+     */
+    public static boolean isValid(@Nullable CharSequence address, boolean allowInternational) {
+        if (address == null) {
+            return false;
+        }
+        int length = address.length();
+        if (length == 0 || length > MAX_LENGTH) {
+            return false;
+        }
+        int at = address.charAt(0) == '"' ?
+            quotedStringEnd(address, length, allowInternational) :
+            dotAtomEnd(address, length, allowInternational);
+        return at > 0 && at <= MAX_LOCAL_PART_LENGTH
+            && at < length - 1
+            && address.charAt(at) == '@'
+            && isValidDomain(address, at + 1, length, allowInternational);
+    }
+
+    /**
+     * Normalizes a valid address so that equal mailboxes have equal addresses: the domain is lower-cased and an internationalized domain is converted to its ASCII form.
+     * The local part is kept as it is because it may be case-sensitive. If the address is already normalized, it is returned without copying it.
+     *
+     * @param address Email address
+     * @return The normalized address
+     * @throws IllegalArgumentException if the address is not valid
+     */
+    @NonNull
+    public static String normalize(@NonNull CharSequence address) {
+        if (!isValid(address, true)) {
+            throw new IllegalArgumentException("Invalid email address: " + address);
+        }
+        int length = address.length();
+        int at = length - 1;
+        while (address.charAt(at) != '@') {
+            at--;
+        }
+        boolean normalized = true;
+        boolean ascii = true;
+        for (int i = at + 1; i < length; i++) {
+            char c = address.charAt(i);
+            if (c >= 'A' && c <= 'Z') {
+                normalized = false;
+            } else if (c >= ATEXT.length) {
+                ascii = false;
+            }
+        }
+        if (normalized && ascii) {
+            return address.toString();
+        }
+        String domain = address.subSequence(at + 1, length).toString();
+        if (!ascii) {
+            domain = IDN.toASCII(domain, IDN.USE_STD3_ASCII_RULES);
+        }
+        return address.subSequence(0, at + 1) + domain.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Checks the addresses of the sender and of every recipient of an email. Composers invoke it to fail before contacting the provider.
+     *
+     * @param email Email
+     * @throws EmailException with {@link EmailErrorType#PERMANENT} if any address is not valid
+     */
+    public static void validate(@NonNull Email email) throws EmailException {
+        validate(email.getFrom());
+        validate(email.getTo());
+        validate(email.getCc());
+        validate(email.getBcc());
+        validate(email.getReplyToCollection());
+    }
+
+    private static void validate(@Nullable Collection<Contact> contacts) {
+        if (contacts != null) {
+            for (Contact contact : contacts) {
+                validate(contact);
+            }
+        }
+    }
+
+    private static void validate(@Nullable Contact contact) {
+        if (contact != null && !isValid(contact.getEmail(), true)) {
+            throw new EmailException("Invalid email address: " + contact.getEmail(), EmailErrorType.PERMANENT);
+        }
+    }
+
+    /**
+     * @return the index after the local part or -1 if the dot-atom is not valid
+     */
+    private static int dotAtomEnd(@NonNull CharSequence s, int length, boolean international) {
+        char previous = '.';
+        for (int i = 0; i < length; i++) {
+            char c = s.charAt(i);
+            if (c == '@') {
+                return previous == '.' ? -1 : i;
+            }
+            if (c == '.' ? previous == '.' : !isAtext(c, international)) {
+                return -1;
+            }
+            previous = c;
+        }
+        return -1;
+    }
+
+    /**
+     * @return the index after the closing quote or -1 if the quoted string is not valid
+     */
+    private static int quotedStringEnd(@NonNull CharSequence s, int length, boolean international) {
+        for (int i = 1; i < length; i++) {
+            char c = s.charAt(i);
+            if (c == '"') {
+                return i + 1;
+            }
+            if (c == '\\') {
+                i++;
+                if (i == length || !isQuotedPair(s.charAt(i), international)) {
+                    return -1;
+                }
+            } else if (!isQtext(c, international)) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isValidDomain(@NonNull CharSequence s, int start, int end, boolean international) {
+        if (s.charAt(start) == '[') {
+            return s.charAt(end - 1) == ']' && isAddressLiteral(s, start + 1, end - 1);
+        }
+        int labelLength = 0;
+        char previous = '.';
+        for (int i = start; i < end; i++) {
+            char c = s.charAt(i);
+            if (c == '.') {
+                if (previous == '.' || previous == '-') {
+                    return false;
+                }
+                labelLength = 0;
+            } else if ((c == '-' && previous != '.') || isLetterOrDigit(c) || (international && isInternationalLabelChar(c))) {
+                if (++labelLength > MAX_LABEL_LENGTH) {
+                    return false;
+                }
+            } else {
+                return false;
+            }
+            previous = c;
+        }
+        return previous != '.' && previous != '-';
+    }
+
+    private static boolean isAddressLiteral(@NonNull CharSequence s, int start, int end) {
+        int tagLength = IPV6_TAG.length();
+        if (end - start > tagLength && regionMatchesIgnoreCase(s, start, IPV6_TAG)) {
+            return isIpv6(s, start + tagLength, end);
+        }
+        return isIpv4(s, start, end);
+    }
+
+    private static boolean isIpv4(@NonNull CharSequence s, int start, int end) {
+        int octets = 0;
+        int digits = 0;
+        int value = 0;
+        for (int i = start; i <= end; i++) {
+            char c = i == end ? '.' : s.charAt(i);
+            if (c == '.') {
+                if (digits == 0 || value > MAX_OCTET || ++octets > IPV4_OCTETS) {
+                    return false;
+                }
+                digits = 0;
+                value = 0;
+            } else if (c >= '0' && c <= '9' && digits < 3) {
+                digits++;
+                value = value * 10 + (c - '0');
+            } else {
+                return false;
+            }
+        }
+        return octets == IPV4_OCTETS;
+    }
+
+    private static boolean isIpv6(@NonNull CharSequence s, int start, int end) {
+        int groups = 0;
+        int digits = 0;
+        int groupStart = start;
+        boolean compressed = false;
+        for (int i = start; i < end; i++) {
+            char c = s.charAt(i);
+            if (c == ':') {
+                if (digits > 0) {
+                    groups++;
+                } else if (i == start) {
+                    // a leading colon must start "::"
+                    if (i + 1 == end || s.charAt(i + 1) != ':') {
+                        return false;
+                    }
+                } else if (compressed || s.charAt(i - 1) != ':') {
+                    return false;
+                } else {
+                    compressed = true;
+                }
+                digits = 0;
+                groupStart = i + 1;
+            } else if (c == '.') {
+                // an IPv4 address in the last two groups
+                if (!isIpv4(s, groupStart, end)) {
+                    return false;
+                }
+                groups += 2;
+                digits = 0;
+                break;
+            } else if (Character.digit(c, 16) >= 0 && digits < MAX_HEX_DIGITS) {
+                digits++;
+            } else {
+                return false;
+            }
+        }
+        if (digits > 0) {
+            groups++;
+        } else if (s.charAt(end - 1) == ':' && !(compressed && s.charAt(end - 2) == ':')) {
+            return false;
+        }
+        return compressed ? groups < IPV6_GROUPS : groups == IPV6_GROUPS;
+    }
+
+    private static boolean regionMatchesIgnoreCase(@NonNull CharSequence s, int start, @NonNull String prefix) {
+        for (int i = 0; i < prefix.length(); i++) {
+            if (Character.toLowerCase(s.charAt(start + i)) != Character.toLowerCase(prefix.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isLetterOrDigit(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
+
+    private static boolean isInternationalLabelChar(char c) {
+        if (c < FIRST_PRINTABLE_NON_ASCII) {
+            return false;
+        }
+        if (Character.isLetterOrDigit(c) || Character.isSurrogate(c)) {
+            return true;
+        }
+        int type = Character.getType(c);
+        return type == Character.NON_SPACING_MARK || type == Character.COMBINING_SPACING_MARK || type == Character.ENCLOSING_MARK;
+    }
+
+    private static boolean isInternationalChar(char c, boolean international) {
+        return international && c >= FIRST_PRINTABLE_NON_ASCII && !Character.isSpaceChar(c);
+    }
+
+    private static boolean isAtext(char c, boolean international) {
+        return c < ATEXT.length ? ATEXT[c] : isInternationalChar(c, international);
+    }
+
+    private static boolean isQtext(char c, boolean international) {
+        return c < ATEXT.length ? c >= ' ' && c != '"' && c != '\\' && c != 127 : isInternationalChar(c, international);
+    }
+
+    private static boolean isQuotedPair(char c, boolean international) {
+        return c < ATEXT.length ? c >= ' ' && c != 127 : isInternationalChar(c, international);
+    }
+}
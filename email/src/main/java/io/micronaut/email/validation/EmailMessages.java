@@ -32,6 +32,12 @@ public class EmailMessages extends StaticMessageSource {
     @SuppressWarnings("WeakerAccess")
     public static final String ANY_RECIPIENT_MESSAGE = "You have to specify to, cc or a bcc recipient";
 
+    /**
+     * {@link EmailAddress} message.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final String EMAIL_ADDRESS_MESSAGE = "must be a well-formed email address";
+
     /**
      * The message suffix to use.
      */
@@ -43,5 +49,6 @@ public class EmailMessages extends StaticMessageSource {
      */
     public EmailMessages() {
         addMessage(AnyRecipient.class.getName() + MESSAGE_SUFFIX, ANY_RECIPIENT_MESSAGE);
+        addMessage(EmailAddress.class.getName() + MESSAGE_SUFFIX, EMAIL_ADDRESS_MESSAGE);
     }
 }
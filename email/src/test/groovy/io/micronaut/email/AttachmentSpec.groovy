@@ -2,9 +2,17 @@ package io.micronaut.email
 
 import io.micronaut.core.beans.BeanIntrospection
 import spock.lang.Specification
+import spock.lang.TempDir
+
+import java.nio.ByteBuffer
+import java.nio.file.Files
+import java.nio.file.Path
 
 class AttachmentSpec extends Specification {
 
+    @TempDir
+    Path tempDir
+
     void "Attachment is annotated with @Introspected"() {
         when:
         BeanIntrospection.getIntrospection(Attachment)
@@ -12,4 +20,66 @@ class AttachmentSpec extends Specification {
         then:
         noExceptionThrown()
     }
+
+    void "byte array content is not copied"() {
+        given:
+        byte[] bytes = "hello".bytes
+
+        when:
+        Attachment attachment = Attachment.builder().filename("hello.txt").contentType("text/plain").content(bytes).build()
+
+        then:
+        attachment.content.is(bytes)
+        5L == attachment.attachmentContent.length
+    }
+
+    void "file content is read when the content is opened"() {
+        given:
+        Path path = tempDir.resolve("hello.txt")
+        Files.write(path, "hello".bytes)
+        Attachment attachment = Attachment.builder().filename("hello.txt").contentType("text/plain").content(path.toFile()).build()
+
+        when:
+        Files.write(path, "hello world".bytes)
+
+        then:
+        11L == attachment.attachmentContent.length
+        "hello world" == attachment.attachmentContent.openStream().text
+        "hello world" == new String(attachment.content)
+    }
+
+    void "a missing file fails when the attachment is built"() {
+        when:
+        Attachment.builder().content(tempDir.resolve("missing.txt"))
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+
+    void "byte buffer content can be read more than once"() {
+        given:
+        ByteBuffer buffer = ByteBuffer.wrap("hello world".bytes, 6, 5)
+        AttachmentContent content = AttachmentContent.of(buffer)
+
+        expect:
+        5L == content.length
+        "world" == content.openStream().text
+        "world" == content.openStream().text
+        6 == buffer.position()
+    }
+
+    void "content is encoded to Base64 in chunks"(int size) {
+        given:
+        byte[] bytes = new byte[size]
+        new Random(size).nextBytes(bytes)
+        AttachmentContent content = { -> new ByteArrayInputStream(bytes) } as AttachmentContent
+
+        expect:
+        AttachmentContent.UNKNOWN_LENGTH == content.length
+        Base64.encoder.encodeToString(bytes) == content.toBase64()
+        bytes == content.bytes
+
+        where:
+        size << [0, 1, 2, 3, AttachmentContent.BASE64_CHUNK_SIZE - 1, AttachmentContent.BASE64_CHUNK_SIZE, AttachmentContent.BASE64_CHUNK_SIZE * 2 + 1]
+    }
 }
@@ -0,0 +1,116 @@
+package io.micronaut.email
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.RuntimeBeanDefinition
+import io.micronaut.core.type.Argument
+import io.micronaut.inject.qualifiers.Qualifiers
+import org.reactivestreams.Publisher
+import reactor.core.publisher.Mono
+import spock.lang.Specification
+
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CompletionStage
+import java.util.concurrent.TimeUnit
+import java.util.function.Consumer
+
+import static io.micronaut.email.TestEmails.email
+
+class DefaultAsyncEmailSenderSpec extends Specification {
+
+    void "email senders complete a stage through the decorators"() {
+        given:
+        AsyncTransactionalEmailSender<Object, String> sender = new AsyncTransactionalEmailSender<Object, String>() {
+            @Override
+            Publisher<String> sendAsync(Email email, Consumer<Object> emailRequest) throws EmailException {
+                Mono.just("reactive ${email.subject}".toString())
+            }
+
+            @Override
+            CompletionStage<String> sendStage(Email email, Consumer<Object> emailRequest) {
+                CompletableFuture.completedFuture("native ${email.subject}".toString())
+            }
+
+            @Override
+            String getName() {
+                'async'
+            }
+        }
+        EmailDecorator subjectDecorator = { Email.Builder builder -> builder.subject('Decorated') } as EmailDecorator
+        AsyncEmailDecorator asyncDecorator = new AsyncEmailDecorator() {
+            @Override
+            Publisher<Void> decorate(Email.Builder emailBuilder) {
+                Mono.empty()
+            }
+        }
+
+        when:
+        AsyncEmailSender<Object, String> emailSender = new DefaultAsyncEmailSender<>(sender, new EmailDecoratorPipeline([subjectDecorator]), null, null, null, null, null)
+
+        then: 'the native stage of the sender is used'
+        'native Decorated' == emailSender.sendStage(email())
+                .toCompletableFuture().get(5, TimeUnit.SECONDS)
+
+        when:
+        emailSender = new DefaultAsyncEmailSender<>(sender, new EmailDecoratorPipeline([subjectDecorator], [asyncDecorator]), null, null, null, null, null)
+
+        then: 'asynchronous decorators are applied without blocking'
+        'reactive Decorated' == emailSender.sendStage(email())
+                .toCompletableFuture().get(5, TimeUnit.SECONDS)
+    }
+
+    void "the native stage of the sender is reached through the rate limit, retry and idempotency decorators"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run([
+                'micronaut.email.rate-limit.native.permits-per-second': 1000,
+                'micronaut.email.retry.enabled': true,
+                'micronaut.email.retry.initial-delay': '10ms',
+                'micronaut.email.idempotency.enabled': true,
+        ])
+        NativeStageSender sender = new NativeStageSender()
+        applicationContext.registerBeanDefinition(RuntimeBeanDefinition.builder(Argument.of(AsyncTransactionalEmailSender, Object, Object), () -> sender)
+                .qualifier(Qualifiers.byName('native'))
+                .build())
+        AsyncEmailSender<Object, Object> emailSender = applicationContext.getBean(AsyncEmailSender, Qualifiers.byName('native'))
+
+        when:
+        Object response = emailSender.sendStage(email().idempotencyKey('order-1'))
+                .toCompletableFuture().get(5, TimeUnit.SECONDS)
+
+        then: 'the transient failure is retried'
+        'native Hello' == response
+        2 == sender.attempts
+
+        when:
+        response = emailSender.sendStage(email().idempotencyKey('order-1'))
+                .toCompletableFuture().get(5, TimeUnit.SECONDS)
+
+        then: 'the repeated key returns the first response without calling the provider'
+        'native Hello' == response
+        2 == sender.attempts
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    static class NativeStageSender implements AsyncTransactionalEmailSender<Object, Object> {
+        int attempts
+
+        @Override
+        Publisher<Object> sendAsync(Email email, Consumer<Object> emailRequest) throws EmailException {
+            throw new IllegalStateException('The stage must not subscribe to a publisher')
+        }
+
+        @Override
+        CompletionStage<Object> sendStage(Email email, Consumer<Object> emailRequest) {
+            attempts++
+            attempts == 1
+                    ? CompletableFuture.failedFuture(new EmailException('Unavailable', EmailErrorType.TRANSIENT))
+                    : CompletableFuture.completedFuture("native ${email.subject}".toString())
+        }
+
+        @Override
+        String getName() {
+            'native'
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package io.micronaut.email
+
+import io.micronaut.core.annotation.NonNull
+import io.micronaut.email.configuration.FromConfiguration
+import io.micronaut.email.idempotency.IdempotencyConfigurationProperties
+import io.micronaut.email.idempotency.InMemoryIdempotencyStore
+import io.micronaut.email.ratelimit.RateLimitConfigurationProperties
+import io.micronaut.email.ratelimit.RateLimiters
+import spock.lang.Specification
+
+import java.time.Duration
+
+class DefaultBulkEmailSenderSpec extends Specification {
+
+    void "every email is decorated before being sent in bulk"() {
+        given:
+        MockBulkEmailSender bulkTransactionalEmailSender = new MockBulkEmailSender()
+        DefaultBulkEmailSender<String> bulkEmailSender = new DefaultBulkEmailSender<>(bulkTransactionalEmailSender,
+                [new FromDecorator({ -> new Contact("sender@example.com") } as FromConfiguration)])
+
+        when:
+        List<BulkSendResult<String>> results = bulkEmailSender.sendAll([
+                Email.builder().to("alice@example.com").subject("Hello").body("Alice"),
+                Email.builder().to("bob@example.com").subject("Hello").body("Bob")
+        ])
+
+        then:
+        'mock' == bulkEmailSender.name
+        2 == results.size()
+        results.every { it.success && it.exception == null }
+        ["alice@example.com", "bob@example.com"] == results*.response
+        bulkTransactionalEmailSender.emails.every { it.from.email == "sender@example.com" }
+    }
+
+    void "an email whose idempotency key has already been sent is not sent again"() {
+        given:
+        MockBulkEmailSender bulkTransactionalEmailSender = new MockBulkEmailSender()
+        DefaultBulkEmailSender<String> bulkEmailSender = new DefaultBulkEmailSender<>(bulkTransactionalEmailSender, EmailDecoratorPipeline.EMPTY, null, null,
+                new InMemoryIdempotencyStore(new IdempotencyConfigurationProperties()))
+        bulkEmailSender.sendAll([Email.builder().from("sender@example.com").to("alice@example.com").subject("Hello").body("Alice").idempotencyKey("welcome-alice")])
+
+        when:
+        List<BulkSendResult<String>> results = bulkEmailSender.sendAll([
+                Email.builder().from("sender@example.com").to("alice@example.com").subject("Hello").body("Alice").idempotencyKey("welcome-alice"),
+                Email.builder().from("sender@example.com").to("bob@example.com").subject("Hello").body("Bob").idempotencyKey("welcome-bob")
+        ])
+
+        then:
+        results.every { it.success }
+        ["alice@example.com", "bob@example.com"] == results*.response
+        ["alice@example.com", "bob@example.com"] == bulkTransactionalEmailSender.emails*.to*.first()*.email
+    }
+
+    void "every email sent in bulk takes a rate limit permit"() {
+        given:
+        RateLimitConfigurationProperties configuration = new RateLimitConfigurationProperties('mock')
+        configuration.permitsPerSecond = 1
+        configuration.burst = 1
+        configuration.maxWait = Duration.ofMillis(10)
+        MockBulkEmailSender bulkTransactionalEmailSender = new MockBulkEmailSender()
+        DefaultBulkEmailSender<String> bulkEmailSender = new DefaultBulkEmailSender<>(bulkTransactionalEmailSender, EmailDecoratorPipeline.EMPTY, null,
+                new RateLimiters([configuration]), null)
+
+        when:
+        List<BulkSendResult<String>> results = bulkEmailSender.sendAll([
+                Email.builder().from("sender@example.com").to("alice@example.com").subject("Hello").body("Alice"),
+                Email.builder().from("sender@example.com").to("bob@example.com").subject("Hello").body("Bob")
+        ])
+
+        then:
+        results[0].success
+        !results[1].success
+        EmailErrorType.THROTTLED == results[1].exception.errorType
+        ["alice@example.com"] == bulkTransactionalEmailSender.emails*.to*.first()*.email
+    }
+
+    void "failed results expose the exception"() {
+        given:
+        Email email = Email.builder().from("sender@example.com").to("alice@example.com").subject("Hello").body("Alice").build()
+
+        when:
+        BulkSendResult<String> result = BulkSendResult.failure(email, new EmailException("rejected"))
+
+        then:
+        !result.success
+        result.email.is(email)
+        null == result.response
+        "rejected" == result.exception.message
+    }
+
+    static class MockBulkEmailSender implements BulkTransactionalEmailSender<String> {
+        List<Email> emails = []
+
+        @Override
+        @NonNull
+        List<BulkSendResult<String>> sendAll(@NonNull Collection<Email> emails) throws EmailException {
+            this.emails.addAll(emails)
+            emails.collect { BulkSendResult.success(it, it.to.first().email) }
+        }
+
+        @Override
+        String getName() {
+            'mock'
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package io.micronaut.email
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.core.annotation.NonNull
+import io.micronaut.core.annotation.Nullable
+import org.reactivestreams.Publisher
+import reactor.core.publisher.Mono
+import reactor.core.scheduler.Schedulers
+import spock.lang.Specification
+
+import java.time.Duration
+
+import static io.micronaut.email.TestEmails.email
+
+class EmailDecoratorPipelineSpec extends Specification {
+
+    void "decorators are applied in order"() {
+        given:
+        List<String> applied = []
+        EmailDecoratorPipeline pipeline = new EmailDecoratorPipeline(
+                [decorator(applied, 'second', 2), decorator(applied, 'fourth', 4)],
+                [asyncDecorator(applied, 'third', 3), asyncDecorator(applied, 'first', 1)])
+
+        when:
+        pipeline.decorate(email())
+
+        then:
+        ['first', 'second', 'third', 'fourth'] == applied
+
+        when:
+        applied.clear()
+        Mono.from(pipeline.decorateAsync(email())).block()
+
+        then:
+        ['first', 'second', 'third', 'fourth'] == applied
+    }
+
+    void "decorators which do not support the email builder are skipped"() {
+        given:
+        EmailDecorator decorator = Mock()
+        decorator.supports(_) >> { Email.Builder builder -> builder.getFrom().isPresent() }
+        EmailDecoratorPipeline pipeline = new EmailDecoratorPipeline([decorator])
+
+        when:
+        pipeline.decorate(Email.builder().to('receiver@example.com'))
+
+        then:
+        0 * decorator.decorate(_, _)
+
+        when:
+        pipeline.decorate(email())
+
+        then:
+        1 * decorator.decorate(_, _)
+    }
+
+    void "decorators receive the name of the sender which sends the email"() {
+        given:
+        List<String> senderNames = []
+        EmailDecorator decorator = new EmailDecorator() {
+            @Override
+            void decorate(@NonNull Email.Builder emailBuilder) {
+                senderNames << 'unknown'
+            }
+
+            @Override
+            void decorate(@NonNull Email.Builder emailBuilder, @Nullable String senderName) {
+                senderNames << senderName
+            }
+        }
+        EmailDecoratorPipeline pipeline = new EmailDecoratorPipeline([decorator])
+        TransactionalEmailSender<Object, Object> transactionalEmailSender = Mock()
+        transactionalEmailSender.getName() >> 'named'
+        EmailSender<Object, Object> emailSender = new DefaultEmailSender<>(transactionalEmailSender, pipeline, null, null, null, null)
+
+        when:
+        emailSender.send(email())
+        pipeline.decorate(email())
+
+        then:
+        ['named', null] == senderNames
+    }
+
+    void "asynchronous decoration does not block and is deferred until subscription"() {
+        given:
+        List<String> applied = []
+        AsyncEmailDecorator slow = new AsyncEmailDecorator() {
+            @Override
+            Publisher<Void> decorate(@NonNull Email.Builder emailBuilder) {
+                Mono.delay(Duration.ofMillis(50)).doOnNext(l -> emailBuilder.subject('Branded')).then()
+            }
+        }
+        EmailDecoratorPipeline pipeline = new EmailDecoratorPipeline([decorator(applied, 'sync', 0)], [slow])
+        Email.Builder builder = email()
+
+        when:
+        Publisher<Email.Builder> publisher = pipeline.decorateAsync(builder)
+
+        then:
+        applied.empty
+
+        when:
+        Email.Builder decorated = Mono.from(publisher).publishOn(Schedulers.parallel()).block()
+
+        then:
+        ['sync'] == applied
+        'Branded' == decorated.build().subject
+    }
+
+    void "the pipeline bean applies every decorator bean"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run(['micronaut.email.from.email': 'sender@example.com'])
+        applicationContext.registerSingleton(AsyncEmailDecorator, new BccDecorator())
+        EmailDecoratorPipeline pipeline = applicationContext.getBean(EmailDecoratorPipeline)
+        Email.Builder builder = Email.builder().to('receiver@example.com').subject('Hello').body('Hello world')
+
+        when:
+        Mono.from(pipeline.decorateAsync(builder)).block()
+        Email email = builder.build()
+
+        then:
+        'sender@example.com' == email.from.email
+        ['bcc@example.com'] == email.bcc*.email
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    private static EmailDecorator decorator(List<String> applied, String name, int order) {
+        new EmailDecorator() {
+            @Override
+            void decorate(@NonNull Email.Builder emailBuilder) {
+                applied << name
+            }
+
+            @Override
+            int getOrder() {
+                order
+            }
+        }
+    }
+
+    private static AsyncEmailDecorator asyncDecorator(List<String> applied, String name, int order) {
+        new AsyncEmailDecorator() {
+            @Override
+            Publisher<Void> decorate(@NonNull Email.Builder emailBuilder) {
+                Mono.fromRunnable(() -> applied << name)
+            }
+
+            @Override
+            int getOrder() {
+                order
+            }
+        }
+    }
+
+    static class BccDecorator implements AsyncEmailDecorator {
+        @Override
+        Publisher<Void> decorate(@NonNull Email.Builder emailBuilder) {
+            Mono.fromRunnable(() -> emailBuilder.bcc('bcc@example.com'))
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package io.micronaut.email
+
+import io.micronaut.core.annotation.NonNull
+import io.micronaut.email.configuration.FromConfiguration
+import spock.lang.Specification
+
+class EmailPrototypeSpec extends Specification {
+
+    void "derived emails share the content of the prototype"() {
+        given:
+        EmailPrototype prototype = EmailPrototype.of(Email.builder()
+                .from("sender@example.com")
+                .bcc("archive@example.com")
+                .subject("Announcement")
+                .body("Lore ipsum body")
+                .attachment { it.filename("terms.txt").contentType("text/plain").content("terms".bytes) })
+
+        when:
+        Email alice = prototype.email(new Contact("alice@example.com"))
+        Email bob = prototype.email(new Contact("bob@example.com"))
+
+        then:
+        alice.prototype.is(prototype)
+        ["alice@example.com"] == alice.to*.email
+        ["bob@example.com"] == bob.to*.email
+        ["archive@example.com"] == bob.bcc*.email
+        alice.subject.is(bob.subject)
+        alice.body.is(bob.body)
+        alice.attachments.is(bob.attachments)
+        !prototype.mergeable
+    }
+
+    void "merge fields replace the placeholders of the subject and the body"() {
+        given:
+        EmailPrototype prototype = EmailPrototype.of(Email.builder()
+                .from("sender@example.com")
+                .subject("Hello {{name}}")
+                .body("<p>Hi {{name}}, your code is {{code}} {{unknown}}</p>", "Hi {{name}}"))
+
+        when:
+        Email email = prototype.email(new Contact("alice@example.com"), [name: "Alice", code: "42"])
+
+        then:
+        prototype.mergeable
+        "Hello Alice" == email.subject
+        "<p>Hi Alice, your code is 42 {{unknown}}</p>" == email.body.get(BodyType.HTML).get()
+        "Hi Alice" == email.body.get(BodyType.TEXT).get()
+        [name: "Alice", code: "42"] == email.mergeFields
+
+        and: 'without merge fields the placeholders are kept'
+        prototype.email(new Contact("bob@example.com")).body.is(prototype.email.body)
+    }
+
+    void "merge fields are HTML-escaped in the HTML part only"() {
+        given:
+        EmailPrototype prototype = EmailPrototype.of(Email.builder()
+                .from("sender@example.com")
+                .subject("Hello {{name}}")
+                .body("<p>Hi {{name}}</p>", "Hi {{name}}"))
+        Map<String, String> mergeFields = [name: "<script>alert('Tom & Jerry')</script>"]
+
+        when:
+        Email email = prototype.email(new Contact("alice@example.com"), mergeFields)
+
+        then:
+        "Hello <script>alert('Tom & Jerry')</script>" == email.subject
+        "<p>Hi &lt;script&gt;alert(&#39;Tom &amp; Jerry&#39;)&lt;/script&gt;</p>" == email.body.get(BodyType.HTML).get()
+        "Hi <script>alert('Tom & Jerry')</script>" == email.body.get(BodyType.TEXT).get()
+        !prototype.isSubstitutable(mergeFields)
+        prototype.isSubstitutable([name: "Alice"])
+        EmailPrototype.of(Email.builder().from("sender@example.com").subject("Hello").body("Hi {{name}}")).isSubstitutable(mergeFields)
+    }
+
+    void "bulk senders decorate the prototype once and the recipients of every derived email"() {
+        given:
+        int decorations = 0
+        EmailDecorator counting = { Email.Builder builder -> decorations++ } as EmailDecorator
+        MockBulkEmailSender bulkTransactionalEmailSender = new MockBulkEmailSender()
+        DefaultBulkEmailSender<String> bulkEmailSender = new DefaultBulkEmailSender<>(bulkTransactionalEmailSender, [
+                new FromDecorator({ -> new Contact("sender@example.com") } as FromConfiguration),
+                counting,
+                new RejectingDecorator()
+        ])
+
+        when:
+        EmailPrototype prototype = bulkEmailSender.prototype(Email.builder().subject("Announcement").body("Lore ipsum body"))
+        List<BulkSendResult<String>> results = bulkEmailSender.sendDerived(["alice", "mallory", "bob"].collect {
+            prototype.email(new Contact("${it}@example.com"))
+        })
+
+        then:
+        1 == decorations
+        "sender@example.com" == prototype.email.from.email
+        ["alice@example.com", "mallory@example.com", "bob@example.com"] == results*.email*.to*.email.flatten()
+        [true, false, true] == results*.success
+        "rejected" == results[1].exception.message
+        ["alice@example.com", "bob@example.com"] == bulkTransactionalEmailSender.emails*.to*.email.flatten()
+    }
+
+    void "only emails derived from a prototype can be sent without decorating them"() {
+        given:
+        DefaultBulkEmailSender<String> bulkEmailSender = new DefaultBulkEmailSender<>(new MockBulkEmailSender(), [])
+
+        when:
+        bulkEmailSender.sendDerived([Email.builder().from("sender@example.com").to("alice@example.com").subject("Hello").body("Alice").build()])
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+
+    static class RejectingDecorator implements EmailDecorator {
+        @Override
+        void decorate(@NonNull Email.Builder emailBuilder) {
+            if (emailBuilder.to.get().any { it.email.startsWith("mallory") }) {
+                throw new EmailException("rejected", EmailErrorType.PERMANENT)
+            }
+        }
+
+        @Override
+        boolean decoratesRecipients() {
+            true
+        }
+    }
+
+    static class MockBulkEmailSender implements BulkTransactionalEmailSender<String> {
+        List<Email> emails = []
+
+        @Override
+        @NonNull
+        List<BulkSendResult<String>> sendAll(@NonNull Collection<Email> emails) throws EmailException {
+            this.emails.addAll(emails)
+            emails.collect { BulkSendResult.success(it, it.to.first().email) }
+        }
+
+        @Override
+        String getName() {
+            'mock'
+        }
+    }
+}
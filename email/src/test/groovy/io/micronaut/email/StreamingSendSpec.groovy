@@ -0,0 +1,112 @@
+package io.micronaut.email
+
+import io.micronaut.core.annotation.NonNull
+import org.reactivestreams.Publisher
+import reactor.core.publisher.Flux
+import reactor.core.publisher.Mono
+import spock.lang.Specification
+
+import java.time.Duration
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.function.Consumer
+
+class StreamingSendSpec extends Specification {
+
+    void "emails are streamed with bounded concurrency"() {
+        given:
+        MockAsyncSender sender = new MockAsyncSender()
+        AsyncEmailSender<Object, String> emailSender = new DefaultAsyncEmailSender<>(sender, EmailDecoratorPipeline.EMPTY, null, null, null, null, null)
+
+        when:
+        List<BulkSendResult<String>> results = Flux.from(emailSender.sendMany(emails(20), StreamingOptions.builder().concurrency(3).build()))
+                .collectList()
+                .block()
+
+        then:
+        20 == results.size()
+        results.findAll { !it.success }*.email*.to*.first()*.email == ['receiver13@example.com']
+        results.find { !it.success }.exception.message == 'rejected'
+        3 == sender.maxInFlight.get()
+    }
+
+    void "email builders are requested as results are requested"() {
+        given:
+        MockAsyncSender sender = new MockAsyncSender()
+        AsyncEmailSender<Object, String> emailSender = new DefaultAsyncEmailSender<>(sender, EmailDecoratorPipeline.EMPTY, null, null, null, null, null)
+        AtomicInteger requested = new AtomicInteger()
+        Publisher<Email.Builder> source = Flux.range(0, 10_000)
+                .map(i -> email(i))
+                .doOnNext(b -> requested.incrementAndGet())
+
+        when:
+        List<BulkSendResult<String>> results = Flux.from(emailSender.sendMany(source, StreamingOptions.builder().concurrency(2).prefetch(4).build()))
+                .take(5, true)
+                .collectList()
+                .block(Duration.ofSeconds(5))
+
+        then:
+        5 == results.size()
+        requested.get() < 20
+    }
+
+    void "bulk senders stream emails in batches"() {
+        given:
+        MockBulkSender sender = new MockBulkSender()
+        BulkEmailSender<String> bulkEmailSender = new DefaultBulkEmailSender<>(sender, [])
+
+        when:
+        List<BulkSendResult<String>> results = Flux.from(bulkEmailSender.sendMany(emails(25),
+                StreamingOptions.builder().batchSize(10).concurrency(1).build()))
+                .collectList()
+                .block()
+
+        then:
+        25 == results.size()
+        results.every { it.success }
+        [10, 10, 5] == sender.batches
+    }
+
+    private static Publisher<Email.Builder> emails(int count) {
+        Flux.range(0, count).map(i -> email(i))
+    }
+
+    private static Email.Builder email(int i) {
+        Email.builder().from('sender@example.com').to("receiver${i}@example.com".toString()).subject('Hello').body('Hello world')
+    }
+
+    static class MockAsyncSender implements AsyncTransactionalEmailSender<Object, String> {
+        final AtomicInteger inFlight = new AtomicInteger()
+        final AtomicInteger maxInFlight = new AtomicInteger()
+
+        @Override
+        @NonNull
+        Publisher<String> sendAsync(@NonNull Email email, @NonNull Consumer<Object> emailRequest) throws EmailException {
+            String to = email.to.first().email
+            Mono.delay(Duration.ofMillis(5))
+                    .doOnSubscribe(s -> maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max))
+                    .doOnTerminate(() -> inFlight.decrementAndGet())
+                    .then(to == 'receiver13@example.com' ? Mono.error(new EmailException('rejected')) : Mono.just(to))
+        }
+
+        @Override
+        String getName() {
+            'mock'
+        }
+    }
+
+    static class MockBulkSender implements BulkTransactionalEmailSender<String> {
+        List<Integer> batches = []
+
+        @Override
+        @NonNull
+        List<BulkSendResult<String>> sendAll(@NonNull Collection<Email> emails) throws EmailException {
+            batches << emails.size()
+            emails.collect { BulkSendResult.success(it, it.to.first().email) }
+        }
+
+        @Override
+        String getName() {
+            'mock'
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package io.micronaut.email
+
+/**
+ * Email shared by the specs which do not care about its content.
+ */
+final class TestEmails {
+
+    private TestEmails() {
+    }
+
+    static Email.Builder email() {
+        Email.builder().from('sender@example.com').to('receiver@example.com').subject('Hello').body('Hello world')
+    }
+}
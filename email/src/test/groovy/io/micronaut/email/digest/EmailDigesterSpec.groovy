@@ -0,0 +1,275 @@
+package io.micronaut.email.digest
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.core.annotation.NonNull
+import io.micronaut.email.Body
+import io.micronaut.email.BodyType
+import io.micronaut.email.Email
+import io.micronaut.email.EmailDecorator
+import io.micronaut.email.EmailException
+import io.micronaut.email.EmailSender
+import io.micronaut.inject.qualifiers.Qualifiers
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.function.Consumer
+
+class EmailDigesterSpec extends Specification {
+
+    void "emails for the same recipient and category are merged when the window closes"() {
+        given:
+        ApplicationContext applicationContext = start([
+                'micronaut.email.digest.categories.comments.window': '1s',
+                'micronaut.email.digest.categories.likes.window': '1s'])
+        MockEmailSender sender = (MockEmailSender) applicationContext.getBean(EmailSender, Qualifiers.byName('mock'))
+        EmailDigester digester = applicationContext.getBean(EmailDigester)
+
+        when:
+        digester.add('comments', email('alice@example.com', 'First comment'))
+        digester.add('comments', email('ALICE@example.com', 'Second comment'))
+        digester.add('comments', email('bob@example.com', 'Third comment'))
+        digester.add('likes', email('alice@example.com', 'A like'))
+
+        then:
+        sender.emails.empty
+
+        and:
+        new PollingConditions(timeout: 5).eventually {
+            assert 3 == sender.emails.size()
+        }
+        Email alice = sender.emails.find { it.to.first().email == 'alice@example.com' && it.subject.startsWith('comments') }
+        'comments (2)' == alice.subject
+        'First comment\n\n---\n\nSecond comment' == alice.body.get(BodyType.TEXT).get()
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "emails are only merged with emails to the same recipients"() {
+        given:
+        ApplicationContext applicationContext = start(['micronaut.email.digest.categories.comments.window': '1h'])
+        MockEmailSender sender = (MockEmailSender) applicationContext.getBean(EmailSender, Qualifiers.byName('mock'))
+        EmailDigester digester = applicationContext.getBean(EmailDigester)
+
+        when:
+        digester.add('comments', email('alice@example.com', 'For Alice and Bob').to('bob@example.com'))
+        digester.add('comments', email('alice@example.com', 'For Alice'))
+        digester.add('comments', email('bob@example.com', 'For Bob and Alice').to('alice@example.com'))
+        digester.add('comments', email('alice@example.com', 'For Alice, copy to Carol').cc('carol@example.com'))
+        digester.flush()
+        Email both = sender.emails.find { it.body.get(BodyType.TEXT).get().contains('For Alice and Bob') }
+        Email alice = sender.emails.find { it.body.get(BodyType.TEXT).get() == 'For Alice' }
+        Email copied = sender.emails.find { it.body.get(BodyType.TEXT).get() == 'For Alice, copy to Carol' }
+
+        then:
+        3 == sender.emails.size()
+        'For Alice and Bob\n\n---\n\nFor Bob and Alice' == both.body.get(BodyType.TEXT).get()
+        ['alice@example.com', 'bob@example.com'] == both.to*.email
+        ['alice@example.com'] == alice.to*.email
+        ['carol@example.com'] == copied.cc*.email
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "bodies are rendered before they are merged"() {
+        given:
+        ApplicationContext applicationContext = start(['micronaut.email.digest.categories.comments.window': '1h'])
+        applicationContext.registerSingleton(EmailDecorator, new RenderingDecorator())
+        MockEmailSender sender = (MockEmailSender) applicationContext.getBean(EmailSender, Qualifiers.byName('mock'))
+        EmailDigester digester = applicationContext.getBean(EmailDigester)
+
+        when:
+        digester.add('comments', email('alice@example.com', 'ignored').body(new UnrenderedBody('First')))
+        digester.add('comments', email('alice@example.com', 'ignored').body(new UnrenderedBody('Second')))
+        digester.flush()
+
+        then:
+        'rendered First\n\n---\n\nrendered Second' == sender.emails.first().body.get(BodyType.TEXT).get()
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "emails of an unknown category are rejected"() {
+        given:
+        ApplicationContext applicationContext = start([:])
+        EmailDigester digester = applicationContext.getBean(EmailDigester)
+
+        when:
+        digester.add('unknown', email('alice@example.com', 'Hello'))
+
+        then:
+        EmailException e = thrown()
+        e.message.contains('unknown')
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "a full digest is sent before the window closes"() {
+        given:
+        ApplicationContext applicationContext = start([
+                'micronaut.email.digest.categories.comments.window': '1h',
+                'micronaut.email.digest.categories.comments.max-emails': 3])
+        MockEmailSender sender = (MockEmailSender) applicationContext.getBean(EmailSender, Qualifiers.byName('mock'))
+        EmailDigester digester = applicationContext.getBean(EmailDigester)
+
+        when:
+        4.times { digester.add('comments', email('alice@example.com', "Comment ${it}")) }
+
+        then:
+        new PollingConditions(timeout: 5).eventually {
+            assert 1 == sender.emails.size()
+        }
+        'comments (3)' == sender.emails.first().subject
+
+        when: 'the digester is flushed'
+        digester.flush()
+
+        then:
+        2 == sender.emails.size()
+        'comments' == sender.emails.last().subject
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "the oldest digest is sent once the buffered emails exceed the limit"() {
+        given:
+        ApplicationContext applicationContext = start([
+                'micronaut.email.digest.shards': 1,
+                'micronaut.email.digest.max-buffered-emails': 2,
+                'micronaut.email.digest.categories.comments.window': '1h'])
+        MockEmailSender sender = (MockEmailSender) applicationContext.getBean(EmailSender, Qualifiers.byName('mock'))
+        EmailDigester digester = applicationContext.getBean(EmailDigester)
+
+        when:
+        digester.add('comments', email('alice@example.com', 'For Alice'))
+        digester.add('comments', email('bob@example.com', 'For Bob'))
+        digester.add('comments', email('carol@example.com', 'For Carol'))
+
+        then:
+        new PollingConditions(timeout: 5).eventually {
+            assert ['alice@example.com'] == sender.emails*.to*.first()*.email
+        }
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "the merger named after the category merges its digests"() {
+        given:
+        ApplicationContext applicationContext = start(['micronaut.email.digest.categories.comments.window': '1h'])
+        applicationContext.registerSingleton(DigestMerger, { String category, List<Email.Builder> emails ->
+            Email.builder().from('sender@example.com').to('alice@example.com').subject("${emails.size()} new comments".toString()).body('Comments')
+        } as DigestMerger, Qualifiers.byName('comments'))
+        MockEmailSender sender = (MockEmailSender) applicationContext.getBean(EmailSender, Qualifiers.byName('mock'))
+        EmailDigester digester = applicationContext.getBean(EmailDigester)
+
+        when:
+        2.times { digester.add('comments', email('alice@example.com', 'Comment')) }
+        applicationContext.close()
+
+        then: 'pending digests are sent when the digester is closed'
+        ['2 new comments'] == sender.emails*.subject
+    }
+
+    void "a digest which fails to be sent is sent again with the emails added meanwhile"() {
+        given:
+        ApplicationContext applicationContext = start([
+                'micronaut.email.digest.categories.comments.window': '1h',
+                'micronaut.email.digest.redelivery-delay': '100ms'])
+        MockEmailSender sender = (MockEmailSender) applicationContext.getBean(EmailSender, Qualifiers.byName('mock'))
+        sender.failures = 2
+        EmailDigester digester = applicationContext.getBean(EmailDigester)
+
+        when:
+        digester.add('comments', email('alice@example.com', 'First comment'))
+        digester.flush()
+        digester.add('comments', email('alice@example.com', 'Second comment'))
+
+        then:
+        new PollingConditions(timeout: 5).eventually {
+            assert 1 == sender.emails.size()
+        }
+        3 == sender.attempts
+        'comments (2)' == sender.emails[0].subject
+        'First comment\n\n---\n\nSecond comment' == sender.emails[0].body.get(BodyType.TEXT).get()
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    private static ApplicationContext start(Map<String, Object> properties) {
+        ApplicationContext applicationContext = ApplicationContext.run([
+                'micronaut.email.digest.enabled': true,
+                'micronaut.email.digest.categories.comments.sender': 'mock',
+                'micronaut.email.digest.categories.likes.sender': 'mock'] + properties)
+        applicationContext.registerSingleton(EmailSender, new MockEmailSender(), Qualifiers.byName('mock'))
+        applicationContext
+    }
+
+    private static Email.Builder email(String to, String body) {
+        Email.builder().from('sender@example.com').to(to).subject('comments').body(body)
+    }
+
+    /**
+     * Body which, as a template body, is empty until it is rendered.
+     */
+    static class UnrenderedBody implements Body {
+        final String model
+        String rendered = ''
+
+        UnrenderedBody(String model) {
+            this.model = model
+        }
+
+        @Override
+        Optional<String> get(BodyType bodyType) {
+            bodyType == BodyType.TEXT ? Optional.of(rendered) : Optional.empty()
+        }
+    }
+
+    static class RenderingDecorator implements EmailDecorator {
+        @Override
+        void decorate(Email.Builder emailBuilder) {
+            UnrenderedBody body = (UnrenderedBody) emailBuilder.body.get()
+            body.rendered = "rendered ${body.model}".toString()
+        }
+
+        @Override
+        boolean supports(Email.Builder emailBuilder) {
+            emailBuilder.body.filter { it instanceof UnrenderedBody }.isPresent()
+        }
+
+        @Override
+        boolean decoratesBody() {
+            true
+        }
+    }
+
+    static class MockEmailSender implements EmailSender<Object, Object> {
+        List<Email> emails = new CopyOnWriteArrayList<>()
+        volatile int failures
+        volatile int attempts
+
+        @Override
+        @NonNull
+        Object send(@NonNull Email.Builder emailBuilder, @NonNull Consumer<Object> emailRequest) throws EmailException {
+            attempts++
+            if (failures > 0) {
+                failures--
+                throw new EmailException('Service unavailable')
+            }
+            emails << emailBuilder.build()
+            emailBuilder
+        }
+
+        @Override
+        String getName() {
+            'mock'
+        }
+    }
+}
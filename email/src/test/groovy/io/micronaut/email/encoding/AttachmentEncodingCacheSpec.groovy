@@ -0,0 +1,122 @@
+package io.micronaut.email.encoding
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.email.AttachmentContent
+import spock.lang.Specification
+
+import java.nio.file.Files
+import java.nio.file.Path
+
+class AttachmentEncodingCacheSpec extends Specification {
+
+    void "equal contents are encoded once"() {
+        given:
+        DefaultAttachmentEncodingCache cache = cache(1024 * 1024, 16)
+        byte[] bytes = bytes(3000)
+
+        when:
+        String encoded = cache.base64(AttachmentContent.of(bytes))
+
+        then:
+        encoded == Base64.encoder.encodeToString(bytes)
+        encoded.is(cache.base64(AttachmentContent.of(bytes.clone())))
+        encoded.is(cache.base64(AttachmentContent.of(java.nio.ByteBuffer.wrap(bytes))))
+        4000 == cache.size()
+    }
+
+    void "mutable contents are hashed again every time"() {
+        given:
+        DefaultAttachmentEncodingCache cache = cache(1024 * 1024, 16)
+        Path path = Files.createTempFile("attachment", ".bin")
+        Files.write(path, bytes(300))
+        AttachmentContent content = AttachmentContent.of(path)
+
+        when:
+        String first = cache.base64(content)
+        Files.write(path, bytes(600))
+        String second = cache.base64(content)
+
+        then:
+        !content.immutable
+        first == Base64.encoder.encodeToString(bytes(300))
+        second == Base64.encoder.encodeToString(bytes(600))
+
+        cleanup:
+        Files.deleteIfExists(path)
+    }
+
+    void "mime encoding is split in lines"() {
+        given:
+        DefaultAttachmentEncodingCache cache = cache(1024 * 1024, 16)
+        byte[] bytes = bytes(3000)
+
+        when:
+        byte[] encoded = cache.mimeBase64(AttachmentContent.of(bytes))
+
+        then:
+        encoded == Base64.mimeEncoder.encode(bytes)
+        encoded.is(cache.mimeBase64(AttachmentContent.of(bytes)))
+    }
+
+    void "the least recently used encodings are evicted once the maximum size is exceeded"() {
+        given:
+        DefaultAttachmentEncodingCache cache = cache(1000, 16)
+        AttachmentContent a = AttachmentContent.of(bytes(300))
+        AttachmentContent b = AttachmentContent.of(bytes(301))
+        AttachmentContent c = AttachmentContent.of(bytes(302))
+
+        when:
+        String encodedA = cache.base64(a)
+        String encodedB = cache.base64(b)
+        cache.base64(a)
+        cache.base64(c)
+
+        then:
+        cache.size() <= 1000
+        encodedA.is(cache.base64(a))
+        !encodedB.is(cache.base64(b))
+    }
+
+    void "attachments smaller than the minimum size or larger than the maximum size are not cached"() {
+        given:
+        DefaultAttachmentEncodingCache cache = cache(1000, 100)
+        byte[] small = bytes(10)
+        byte[] large = bytes(2000)
+
+        when:
+        String encodedSmall = cache.base64(AttachmentContent.of(small))
+        String encodedLarge = cache.base64(AttachmentContent.of(large))
+
+        then:
+        encodedSmall == Base64.encoder.encodeToString(small)
+        encodedLarge == Base64.encoder.encodeToString(large)
+        0 == cache.size()
+    }
+
+    void "the cache can be disabled"() {
+        given:
+        ApplicationContext enabled = ApplicationContext.run()
+        ApplicationContext disabled = ApplicationContext.run(['micronaut.email.attachment-cache.enabled': false])
+
+        expect:
+        enabled.containsBean(AttachmentEncodingCache)
+        !disabled.containsBean(AttachmentEncodingCache)
+
+        cleanup:
+        enabled.close()
+        disabled.close()
+    }
+
+    private static DefaultAttachmentEncodingCache cache(long maxSize, long minAttachmentSize) {
+        AttachmentEncodingCacheConfigurationProperties configuration = new AttachmentEncodingCacheConfigurationProperties()
+        configuration.maxSize = maxSize
+        configuration.minAttachmentSize = minAttachmentSize
+        new DefaultAttachmentEncodingCache(configuration)
+    }
+
+    private static byte[] bytes(int length) {
+        byte[] bytes = new byte[length]
+        new Random(length).nextBytes(bytes)
+        bytes
+    }
+}
@@ -0,0 +1,187 @@
+package io.micronaut.email.execution
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.core.annotation.NonNull
+import io.micronaut.email.AbstractTransactionalEmailSender
+import io.micronaut.email.AsyncTransactionalEmailSender
+import io.micronaut.email.Email
+import io.micronaut.email.EmailException
+import io.micronaut.inject.qualifiers.Qualifiers
+import io.micronaut.scheduling.TaskExecutors
+import org.reactivestreams.Publisher
+import reactor.core.publisher.Flux
+import reactor.core.publisher.Mono
+import spock.lang.Specification
+
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.SynchronousQueue
+import java.util.concurrent.ThreadPoolExecutor
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.function.Consumer
+
+import static io.micronaut.email.TestEmails.email
+
+class SenderExecutorsSpec extends Specification {
+
+    void "execution is configured via configuration"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run([
+                'micronaut.email.execution.smtp.max-concurrency': 10,
+        ])
+
+        when:
+        ExecutionConfiguration configuration = applicationContext.getBean(ExecutionConfiguration, Qualifiers.byName('smtp'))
+
+        then:
+        TaskExecutors.BLOCKING == configuration.executor
+        10 == configuration.maxConcurrency
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "blocking sends run on the configured executor with at most the configured concurrency"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run([
+                'micronaut.executors.email-test.type': 'fixed',
+                'micronaut.executors.email-test.number-of-threads': 4,
+                'micronaut.email.execution.blocking.executor': 'email-test',
+                'micronaut.email.execution.blocking.max-concurrency': 2,
+        ])
+        BlockingSender sender = new BlockingSender(applicationContext.getBean(ExecutorService, Qualifiers.byName(TaskExecutors.IO)),
+                applicationContext.getBean(SenderExecutors))
+
+        when:
+        List<String> threads = Flux.range(0, 8)
+                .flatMap(i -> sender.sendAsync(email().build(), r -> { }))
+                .collectList()
+                .block()
+
+        then:
+        8 == threads.size()
+        threads.every { it.contains('email-test') }
+        2 == sender.maxInFlight.get()
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "senders without execution configuration use their executor"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run()
+        BlockingSender sender = new BlockingSender(applicationContext.getBean(ExecutorService, Qualifiers.byName(TaskExecutors.IO)),
+                applicationContext.getBean(SenderExecutors))
+
+        when:
+        String thread = Mono.from(sender.sendAsync(email().build(), r -> { })).block()
+
+        then:
+        thread.contains(TaskExecutors.IO)
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "completion stages run on the sender executor without reactor"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run([
+                'micronaut.email.execution.blocking.max-concurrency': 2,
+        ])
+        BlockingSender sender = new BlockingSender(applicationContext.getBean(ExecutorService, Qualifiers.byName(TaskExecutors.IO)),
+                applicationContext.getBean(SenderExecutors))
+
+        when:
+        List<CompletableFuture<String>> stages = (1..6).collect { sender.sendStage(email().build()).toCompletableFuture() }
+        CompletableFuture.allOf(stages as CompletableFuture[]).get(5, TimeUnit.SECONDS)
+
+        then:
+        6 == stages*.get().size()
+        sender.maxInFlight.get() <= 2
+
+        when:
+        sender.fail = true
+        sender.sendStage(email().build()).toCompletableFuture().get(5, TimeUnit.SECONDS)
+
+        then:
+        ExecutionException e = thrown()
+        e.cause instanceof EmailException
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "sends waiting for a permit do not occupy a thread"() {
+        given:
+        ThreadPoolExecutor executorService = new ThreadPoolExecutor(0, Integer.MAX_VALUE, 60, TimeUnit.SECONDS, new SynchronousQueue<>())
+        SenderExecutor senderExecutor = new SenderExecutor(executorService, 2)
+        CountDownLatch latch = new CountDownLatch(1)
+
+        when:
+        List<CompletableFuture<Integer>> futures = (1..10).collect { i -> senderExecutor.submit { latch.await(); i } }
+
+        then:
+        2 == executorService.activeCount
+        0 == senderExecutor.availablePermits()
+
+        when: 'a waiting send is cancelled'
+        futures[5].cancel(false)
+        latch.countDown()
+        CompletableFuture.allOf(futures.findAll { !it.cancelled } as CompletableFuture[]).get(5, TimeUnit.SECONDS)
+
+        then:
+        (1..10).findAll { it != 6 } == futures.findAll { !it.cancelled }*.get()
+        2 == senderExecutor.availablePermits()
+
+        cleanup:
+        executorService.shutdown()
+    }
+
+    void "asynchronous senders provide a completion stage by default"() {
+        given:
+        AsyncTransactionalEmailSender<Object, String> sender = new AsyncTransactionalEmailSender<Object, String>() {
+            @Override
+            Publisher<String> sendAsync(Email email, Consumer<Object> emailRequest) throws EmailException {
+                Mono.just(email.subject)
+            }
+
+            @Override
+            String getName() {
+                'async'
+            }
+        }
+
+        expect:
+        'Hello' == sender.sendStage(email().build()).toCompletableFuture().get(5, TimeUnit.SECONDS)
+    }
+
+    static class BlockingSender extends AbstractTransactionalEmailSender<Object, String> {
+        final AtomicInteger inFlight = new AtomicInteger()
+        final AtomicInteger maxInFlight = new AtomicInteger()
+        boolean fail
+
+        BlockingSender(ExecutorService executorService, SenderExecutors senderExecutors) {
+            super(executorService, senderExecutors)
+        }
+
+        @Override
+        @NonNull
+        String send(@NonNull Email email, @NonNull Consumer<Object> emailRequest) throws EmailException {
+            if (fail) {
+                throw new EmailException('Failed')
+            }
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max)
+            Thread.sleep(50)
+            inFlight.decrementAndGet()
+            Thread.currentThread().name
+        }
+
+        @Override
+        String getName() {
+            'blocking'
+        }
+    }
+}
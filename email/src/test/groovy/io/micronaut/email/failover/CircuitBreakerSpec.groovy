@@ -0,0 +1,70 @@
+package io.micronaut.email.failover
+
+import spock.lang.Specification
+
+import java.time.Duration
+import java.util.concurrent.atomic.AtomicLong
+
+class CircuitBreakerSpec extends Specification {
+
+    void "the circuit opens after consecutive failures and lets a single probe through once the open duration elapses"() {
+        given:
+        AtomicLong clock = new AtomicLong()
+        CircuitBreaker circuitBreaker = new CircuitBreaker(2, Duration.ofNanos(100), clock::get)
+
+        when:
+        circuitBreaker.onFailure()
+
+        then:
+        !circuitBreaker.open
+        circuitBreaker.tryAcquire()
+
+        when:
+        circuitBreaker.onFailure()
+
+        then:
+        circuitBreaker.open
+        !circuitBreaker.tryAcquire()
+
+        when:
+        clock.set(100)
+
+        then: 'a single probe is allowed'
+        circuitBreaker.tryAcquire()
+        !circuitBreaker.tryAcquire()
+
+        when: 'the probe fails'
+        circuitBreaker.onFailure()
+        clock.set(150)
+
+        then:
+        !circuitBreaker.tryAcquire()
+
+        when:
+        clock.set(200)
+
+        then:
+        circuitBreaker.tryAcquire()
+
+        when: 'the probe succeeds'
+        circuitBreaker.onSuccess()
+
+        then:
+        !circuitBreaker.open
+        circuitBreaker.tryAcquire()
+        circuitBreaker.tryAcquire()
+    }
+
+    void "a success resets the consecutive failures"() {
+        given:
+        CircuitBreaker circuitBreaker = new CircuitBreaker(2, Duration.ofSeconds(30))
+
+        when:
+        circuitBreaker.onFailure()
+        circuitBreaker.onSuccess()
+        circuitBreaker.onFailure()
+
+        then:
+        !circuitBreaker.open
+    }
+}
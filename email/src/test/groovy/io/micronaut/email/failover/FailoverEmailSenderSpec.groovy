@@ -0,0 +1,190 @@
+package io.micronaut.email.failover
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.core.annotation.NonNull
+import io.micronaut.email.AsyncTransactionalEmailSender
+import io.micronaut.email.Email
+import io.micronaut.email.EmailErrorType
+import io.micronaut.email.EmailException
+import io.micronaut.email.EmailSender
+import io.micronaut.email.TransactionalEmailSender
+import io.micronaut.inject.qualifiers.Qualifiers
+import org.reactivestreams.Publisher
+import reactor.core.publisher.Mono
+import spock.lang.Specification
+
+import java.util.function.Consumer
+
+import static io.micronaut.email.TestEmails.email
+
+class FailoverEmailSenderSpec extends Specification {
+
+    void "failover sender is disabled by default"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run()
+
+        expect:
+        !applicationContext.containsBean(FailoverEmailSender)
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "the next sender is tried when a sender fails with a transient error"() {
+        given:
+        MockSender primary = new MockSender(name: 'primary', failure: new EmailException('unavailable', EmailErrorType.TRANSIENT))
+        MockSender secondary = new MockSender(name: 'secondary')
+        ApplicationContext applicationContext = start(primary, secondary)
+        TransactionalEmailSender<Object, Object> failover = applicationContext.getBean(TransactionalEmailSender, Qualifiers.byName(FailoverEmailSender.NAME))
+
+        when:
+        Object response = failover.send(email().build(), r -> { })
+
+        then:
+        'secondary' == response
+        1 == primary.attempts
+        1 == secondary.attempts
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "permanent failures are not sent through the next sender"() {
+        given:
+        MockSender primary = new MockSender(name: 'primary', failure: new EmailException('rejected', EmailErrorType.PERMANENT))
+        MockSender secondary = new MockSender(name: 'secondary')
+        ApplicationContext applicationContext = start(primary, secondary)
+        FailoverEmailSender failover = applicationContext.getBean(FailoverEmailSender)
+
+        when:
+        failover.send(email().build(), r -> { })
+
+        then:
+        EmailException e = thrown()
+        EmailErrorType.PERMANENT == e.errorType
+        0 == secondary.attempts
+        !failover.getCircuitBreaker('primary').open
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "a sender whose circuit breaker is open is skipped"() {
+        given:
+        MockSender primary = new MockSender(name: 'primary', failure: new EmailException('unavailable', EmailErrorType.TRANSIENT))
+        MockSender secondary = new MockSender(name: 'secondary')
+        ApplicationContext applicationContext = start(primary, secondary)
+        FailoverEmailSender failover = applicationContext.getBean(FailoverEmailSender)
+
+        when:
+        5.times { failover.send(email().build(), r -> { }) }
+
+        then:
+        2 == primary.attempts
+        5 == secondary.attempts
+        failover.getCircuitBreaker('primary').open
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "reactive sends fail over to the next sender"() {
+        given:
+        MockSender primary = new MockSender(name: 'primary', failure: new EmailException('slow down', EmailErrorType.THROTTLED))
+        MockSender secondary = new MockSender(name: 'secondary')
+        ApplicationContext applicationContext = start(primary, secondary)
+        FailoverEmailSender failover = applicationContext.getBean(FailoverEmailSender)
+
+        when:
+        Object response = Mono.from(failover.sendAsync(email().build(), r -> { })).block()
+
+        then:
+        'secondary' == response
+        1 == primary.attempts
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "an email sender is registered for the failover sender"() {
+        given:
+        MockSender primary = new MockSender(name: 'primary', failure: new EmailException('unavailable', EmailErrorType.TRANSIENT))
+        MockSender secondary = new MockSender(name: 'secondary')
+        ApplicationContext applicationContext = start(primary, secondary)
+
+        when:
+        EmailSender<Object, Object> emailSender = applicationContext.getBean(EmailSender, Qualifiers.byName(FailoverEmailSender.NAME))
+
+        then:
+        'secondary' == emailSender.send(email())
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "a sender is retried with its own retry policy before the next sender is tried"() {
+        given:
+        MockSender primary = new MockSender(name: 'primary', failure: new EmailException('unavailable', EmailErrorType.TRANSIENT))
+        MockSender secondary = new MockSender(name: 'secondary')
+        ApplicationContext applicationContext = start([
+                'micronaut.email.retry.enabled': true,
+                'micronaut.email.retry.max-attempts': 2,
+                'micronaut.email.retry.initial-delay': '1ms',
+        ], primary, secondary)
+        FailoverEmailSender failover = applicationContext.getBean(FailoverEmailSender)
+
+        when:
+        Object response = failover.send(email().build(), r -> { })
+
+        then:
+        'secondary' == response
+        2 == primary.attempts
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    private static ApplicationContext start(MockSender... senders) {
+        start([:], senders)
+    }
+
+    private static ApplicationContext start(Map<String, Object> properties, MockSender... senders) {
+        ApplicationContext applicationContext = ApplicationContext.run([
+                'micronaut.email.failover.enabled': true,
+                'micronaut.email.failover.senders': senders*.name,
+                'micronaut.email.failover.failure-threshold': 2,
+        ] + properties)
+        for (MockSender sender : senders) {
+            applicationContext.registerSingleton(TransactionalEmailSender, sender, Qualifiers.byName(sender.name))
+            applicationContext.registerSingleton(AsyncTransactionalEmailSender, sender, Qualifiers.byName(sender.name))
+        }
+        applicationContext
+    }
+
+    static class MockSender implements TransactionalEmailSender<Object, Object>, AsyncTransactionalEmailSender<Object, Object> {
+        String name
+        RuntimeException failure
+        int attempts
+
+        @Override
+        @NonNull
+        Object send(@NonNull Email email, @NonNull Consumer<Object> emailRequest) throws EmailException {
+            attempts++
+            if (failure) {
+                throw failure
+            }
+            name
+        }
+
+        @Override
+        @NonNull
+        Publisher<Object> sendAsync(@NonNull Email email, @NonNull Consumer<Object> emailRequest) throws EmailException {
+            Mono.fromCallable(() -> send(email, emailRequest))
+        }
+
+        @Override
+        String getName() {
+            name
+        }
+    }
+}
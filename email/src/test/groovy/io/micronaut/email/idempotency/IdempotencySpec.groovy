@@ -0,0 +1,283 @@
+package io.micronaut.email.idempotency
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.core.annotation.NonNull
+import io.micronaut.email.AsyncTransactionalEmailSender
+import io.micronaut.email.DefaultAsyncEmailSender
+import io.micronaut.email.DefaultEmailSender
+import io.micronaut.email.Email
+import io.micronaut.email.EmailDecoratorPipeline
+import io.micronaut.email.EmailException
+import io.micronaut.email.EmailSender
+import io.micronaut.email.TransactionalEmailSender
+import io.micronaut.inject.qualifiers.Qualifiers
+import org.h2.jdbcx.JdbcDataSource
+import org.reactivestreams.Publisher
+import reactor.core.publisher.Flux
+import reactor.core.publisher.Mono
+import reactor.core.scheduler.Schedulers
+import spock.lang.Specification
+
+import javax.sql.DataSource
+import java.time.Duration
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.function.Consumer
+
+import static io.micronaut.email.TestEmails.email
+
+class IdempotencySpec extends Specification {
+
+    void "idempotency keys are not checked by default"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run()
+
+        expect:
+        !applicationContext.containsBean(IdempotencyStore)
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "an email with a repeated idempotency key returns the first response without calling the provider"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run(['micronaut.email.idempotency.enabled': true])
+        CountingSender sender = new CountingSender()
+        EmailSender<Object, String> emailSender = new DefaultEmailSender<>(sender, EmailDecoratorPipeline.EMPTY, null, null, null, applicationContext.getBean(IdempotencyStore))
+
+        expect:
+        applicationContext.getBean(IdempotencyStore) instanceof InMemoryIdempotencyStore
+
+        when:
+        String first = emailSender.send(email().idempotencyKey('order-1'))
+        String second = emailSender.send(email().idempotencyKey('order-1'))
+        String other = emailSender.send(email().idempotencyKey('order-2'))
+        emailSender.send(email())
+        emailSender.send(email())
+
+        then:
+        first == second
+        first != other
+        4 == sender.sent.get()
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "the key is released if sending fails"() {
+        given:
+        CountingSender sender = new CountingSender(failures: 1)
+        EmailSender<Object, String> emailSender = new DefaultEmailSender<>(sender, EmailDecoratorPipeline.EMPTY, null, null, null, store())
+
+        when:
+        emailSender.send(email().idempotencyKey('order-1'))
+
+        then:
+        thrown(EmailException)
+
+        when:
+        String response = emailSender.send(email().idempotencyKey('order-1'))
+
+        then:
+        'response-2' == response
+        emailSender.send(email().idempotencyKey('order-1')) == response
+    }
+
+    void "asynchronous senders emit the first response for a repeated key"() {
+        given:
+        CountingAsyncSender sender = new CountingAsyncSender()
+        DefaultAsyncEmailSender<Object, String> emailSender = new DefaultAsyncEmailSender<>(sender, EmailDecoratorPipeline.EMPTY, null, null, null, store(), null)
+
+        when:
+        String first = Mono.from(emailSender.sendAsync(email().idempotencyKey('order-1'))).block()
+        String second = Mono.from(emailSender.sendAsync(email().idempotencyKey('order-1'))).block()
+
+        then:
+        first == second
+        1 == sender.sent.get()
+    }
+
+    void "a repeated key returns the empty response of a sender which returns none"() {
+        when:
+        CountingSender sender = new CountingSender(emptyResponse: true)
+        EmailSender<Object, String> emailSender = new DefaultEmailSender<>(sender, EmailDecoratorPipeline.EMPTY, null, null, null, idempotencyStore)
+        emailSender.send(email().idempotencyKey('order-1'))
+        String second = emailSender.send(email().idempotencyKey('order-1'))
+
+        then:
+        noExceptionThrown()
+        second == null
+        1 == sender.sent.get()
+
+        where:
+        idempotencyStore << [store(), new JdbcIdempotencyStore(new IdempotencyConfigurationProperties(),
+                new IdempotencyConfigurationProperties.JdbcIdempotencyStoreConfigurationProperties(),
+                new JdbcDataSource(url: 'jdbc:h2:mem:idempotency-empty;DB_CLOSE_DELAY=-1'))]
+    }
+
+    void "a cancelled asynchronous send keeps its key reserved"() {
+        given:
+        IdempotencyStore store = store()
+        AsyncTransactionalEmailSender<Object, String> sender = Stub {
+            getName() >> 'hanging'
+            sendAsync(_, _) >> Mono.never()
+        }
+        DefaultAsyncEmailSender<Object, String> emailSender = new DefaultAsyncEmailSender<>(sender, EmailDecoratorPipeline.EMPTY, null, null, null, store, null)
+
+        when:
+        Mono.from(emailSender.sendAsync(email().idempotencyKey('order-1'))).subscribe().dispose()
+
+        then:
+        store.reserve('order-1').present
+        !store.reserve('order-1').get().completed
+    }
+
+    void "a key is reserved once under contention"() {
+        given:
+        IdempotencyStore store = store()
+
+        when:
+        List<Boolean> reserved = Flux.range(0, 64)
+                .parallel(8)
+                .runOn(Schedulers.parallel())
+                .map(i -> !store.reserve('order-1').present)
+                .sequential()
+                .collectList()
+                .block()
+
+        then:
+        1 == reserved.count { it }
+    }
+
+    void "the in memory store is bounded and evicts expired keys"() {
+        given:
+        IdempotencyConfigurationProperties configuration = new IdempotencyConfigurationProperties(maxSize: 4, stripes: 1, ttl: Duration.ofMillis(200))
+        IdempotencyStore store = new InMemoryIdempotencyStore(configuration)
+
+        when:
+        (1..5).each { store.complete("order-${it}".toString(), "response-${it}".toString()) }
+
+        then: 'the oldest key is evicted'
+        !store.reserve('order-1').present
+        'response-5' == store.reserve('order-5').get().response
+
+        when:
+        sleep(300)
+
+        then:
+        !store.reserve('order-5').present
+    }
+
+    void "idempotency keys can be stored in a database"() {
+        given:
+        JdbcDataSource dataSource = new JdbcDataSource(url: 'jdbc:h2:mem:idempotency;DB_CLOSE_DELAY=-1')
+        ApplicationContext applicationContext = ApplicationContext.builder()
+                .properties(['micronaut.email.idempotency.jdbc.enabled': true])
+                .start()
+        applicationContext.registerSingleton(DataSource, dataSource, Qualifiers.byName('default'))
+        IdempotencyStore store = applicationContext.getBean(IdempotencyStore)
+        CountingSender sender = new CountingSender()
+        EmailSender<Object, String> emailSender = new DefaultEmailSender<>(sender, EmailDecoratorPipeline.EMPTY, null, null, null, store)
+
+        expect:
+        store instanceof JdbcIdempotencyStore
+
+        when:
+        String first = emailSender.send(email().idempotencyKey('order-1'))
+
+        then:
+        emailSender.send(email().idempotencyKey('order-1')) == first
+        1 == sender.sent.get()
+
+        when: 'an email with the same key is being sent'
+        store.reserve('order-2')
+        emailSender.send(email().idempotencyKey('order-2'))
+
+        then:
+        DuplicateEmailException e = thrown()
+        !e.completed
+
+        when: 'the response is not serializable'
+        store.reserve('order-3')
+        store.complete('order-3', new Object())
+
+        then:
+        store.reserve('order-3').get().completed
+        !store.reserve('order-3').get().responseStored
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "stored responses are only deserialized into allowed classes"() {
+        given:
+        JdbcDataSource dataSource = new JdbcDataSource(url: 'jdbc:h2:mem:idempotency-filter;DB_CLOSE_DELAY=-1')
+        IdempotencyConfigurationProperties.JdbcIdempotencyStoreConfigurationProperties jdbcConfiguration = new IdempotencyConfigurationProperties.JdbcIdempotencyStoreConfigurationProperties()
+        IdempotencyStore store = new JdbcIdempotencyStore(new IdempotencyConfigurationProperties(), jdbcConfiguration, dataSource)
+
+        when:
+        store.reserve('order-1')
+        store.complete('order-1', new SerializableResponse(id: 'response-1'))
+
+        then: 'the response class is not allowed'
+        store.reserve('order-1').get().completed
+        store.reserve('order-1').get().response == null
+
+        when:
+        store.reserve('order-2')
+        store.complete('order-2', ['response-2'])
+
+        then:
+        store.reserve('order-2').get().response == ['response-2']
+
+        when:
+        jdbcConfiguration.allowedResponseClasses = [SerializableResponse.name]
+        store = new JdbcIdempotencyStore(new IdempotencyConfigurationProperties(), jdbcConfiguration, dataSource)
+
+        then:
+        store.reserve('order-1').get().response.id == 'response-1'
+    }
+
+    private static IdempotencyStore store() {
+        new InMemoryIdempotencyStore(new IdempotencyConfigurationProperties())
+    }
+
+    static class SerializableResponse implements Serializable {
+        String id
+    }
+
+    static class CountingSender implements TransactionalEmailSender<Object, String> {
+        final AtomicInteger sent = new AtomicInteger()
+        int failures
+        boolean emptyResponse
+
+        @Override
+        @NonNull
+        String send(@NonNull Email email, @NonNull Consumer<Object> emailRequest) throws EmailException {
+            int attempt = sent.incrementAndGet()
+            if (attempt <= failures) {
+                throw new EmailException('connection reset')
+            }
+            emptyResponse ? null : "response-${attempt}".toString()
+        }
+
+        @Override
+        String getName() {
+            'counting'
+        }
+    }
+
+    static class CountingAsyncSender implements AsyncTransactionalEmailSender<Object, String> {
+        final AtomicInteger sent = new AtomicInteger()
+
+        @Override
+        @NonNull
+        Publisher<String> sendAsync(@NonNull Email email, @NonNull Consumer<Object> emailRequest) throws EmailException {
+            Mono.fromCallable(() -> "response-${sent.incrementAndGet()}".toString())
+        }
+
+        @Override
+        String getName() {
+            'counting'
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package io.micronaut.email.metrics
+
+import io.micrometer.core.instrument.MeterRegistry
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import io.micronaut.context.ApplicationContext
+import io.micronaut.core.annotation.NonNull
+import io.micronaut.email.DefaultEmailSender
+import io.micronaut.email.Email
+import io.micronaut.email.EmailDecoratorPipeline
+import io.micronaut.email.EmailErrorType
+import io.micronaut.email.EmailException
+import io.micronaut.email.EmailSender
+import io.micronaut.email.TransactionalEmailSender
+import spock.lang.Specification
+
+import java.util.function.Consumer
+
+import static io.micronaut.email.metrics.MicrometerEmailMetrics.ERROR_TAG
+import static io.micronaut.email.metrics.MicrometerEmailMetrics.EXCEPTION_TAG
+import static io.micronaut.email.metrics.MicrometerEmailMetrics.PAYLOAD_SUMMARY
+import static io.micronaut.email.metrics.MicrometerEmailMetrics.PHASE_TAG
+import static io.micronaut.email.metrics.MicrometerEmailMetrics.PHASE_TIMER
+import static io.micronaut.email.metrics.MicrometerEmailMetrics.RESULT_TAG
+import static io.micronaut.email.metrics.MicrometerEmailMetrics.SENDER_TAG
+import static io.micronaut.email.metrics.MicrometerEmailMetrics.SENT_COUNTER
+
+import static io.micronaut.email.TestEmails.email
+
+class MicrometerEmailMetricsSpec extends Specification {
+
+    void "there are no email metrics without a meter registry"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run()
+
+        expect:
+        !applicationContext.containsBean(EmailMetrics)
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "email metrics can be disabled"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.builder(['micronaut.email.metrics.enabled': false])
+                .singletons(new SimpleMeterRegistry())
+                .start()
+
+        expect:
+        !applicationContext.containsBean(EmailMetrics)
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "phases and outcomes are recorded per sender"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.builder()
+                .singletons(new SimpleMeterRegistry())
+                .start()
+        MockSender sender = new MockSender()
+        EmailSender<Object, Object> emailSender = new DefaultEmailSender<>(sender, EmailDecoratorPipeline.EMPTY, null, null, applicationContext.getBean(EmailMetrics), null)
+        MeterRegistry meterRegistry = applicationContext.getBean(MeterRegistry)
+
+        when:
+        emailSender.send(email())
+
+        then:
+        1 == meterRegistry.get(PHASE_TIMER).tags(SENDER_TAG, 'metered', PHASE_TAG, 'decorate').timer().count()
+        1 == meterRegistry.get(PHASE_TIMER).tags(SENDER_TAG, 'metered', PHASE_TAG, 'transmit').timer().count()
+        1 == meterRegistry.get(SENT_COUNTER).tags(SENDER_TAG, 'metered', RESULT_TAG, 'success').counter().count()
+        'Hello world'.length() == meterRegistry.get(PAYLOAD_SUMMARY).tags(SENDER_TAG, 'metered').summary().totalAmount()
+
+        when:
+        sender.failure = new EmailException(new IOException('connection reset'), EmailErrorType.TRANSIENT)
+        emailSender.send(email())
+
+        then:
+        thrown(EmailException)
+        2 == meterRegistry.get(PHASE_TIMER).tags(SENDER_TAG, 'metered', PHASE_TAG, 'transmit').timer().count()
+        1 == meterRegistry.get(SENT_COUNTER)
+                .tags(SENDER_TAG, 'metered', RESULT_TAG, 'failure', ERROR_TAG, 'transient', EXCEPTION_TAG, 'IOException')
+                .counter().count()
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    static class MockSender implements TransactionalEmailSender<Object, Object> {
+        EmailException failure
+
+        @Override
+        @NonNull
+        Object send(@NonNull Email email, @NonNull Consumer<Object> emailRequest) throws EmailException {
+            if (failure) {
+                throw failure
+            }
+            'sent'
+        }
+
+        @Override
+        String getName() {
+            'metered'
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package io.micronaut.email.offload
+
+import io.micronaut.context.exceptions.ConfigurationException
+import io.micronaut.email.AttachmentContent
+import io.micronaut.email.BodyType
+import io.micronaut.email.Email
+import io.micronaut.email.StringBody
+import spock.lang.Specification
+import spock.lang.TempDir
+
+import java.nio.file.Files
+import java.nio.file.Path
+
+class AttachmentOffloadDecoratorSpec extends Specification {
+
+    @TempDir
+    Path directory
+
+    void "large attachments are replaced by a download link"() {
+        given:
+        AttachmentOffloadDecorator decorator = decorator(blobStore())
+        byte[] large = bytes(2000)
+        Email.Builder builder = Email.builder()
+                .from("sender@example.com")
+                .to("receiver@example.com")
+                .subject("Report")
+                .body("<html><body><p>Hello</p></body></html>", "Hello")
+                .attachment { it.filename("annual report.pdf").contentType("application/pdf").content(large) }
+                .attachment { it.filename("small.txt").contentType("text/plain").content(bytes(10)) }
+                .attachment { it.filename("logo.png").contentType("image/png").id("logo").disposition("inline").content(bytes(3000)) }
+
+        when:
+        boolean supported = decorator.supports(builder)
+        decorator.decorate(builder)
+        Email email = builder.build()
+        String key = blobStore().put(AttachmentContent.of(large))
+
+        then:
+        supported
+        ["small.txt", "logo.png"] == email.attachments*.filename
+        "Hello\n\nAttachments:\nannual report.pdf: https://files.example.com/attachments/${key}/annual%20report.pdf" == email.body.get(BodyType.TEXT).get()
+        "<html><body><p>Hello</p><p>Attachments:</p><ul><li><a href=\"https://files.example.com/attachments/${key}/annual%20report.pdf\">annual report.pdf</a></li></ul></body></html>" == email.body.get(BodyType.HTML).get()
+    }
+
+    void "the links are inserted before the closing body tag in any case"() {
+        given:
+        OffloadedAttachmentsBody body = new OffloadedAttachmentsBody(new StringBody("<HTML><BODY><p>İstanbul İzmir</p></BODY></HTML>", BodyType.HTML),
+                [new OffloadedAttachmentsBody.Link("report.pdf", "https://files.example.com/report.pdf")])
+
+        expect:
+        "<HTML><BODY><p>İstanbul İzmir</p><p>Attachments:</p><ul><li><a href=\"https://files.example.com/report.pdf\">report.pdf</a></li></ul></BODY></HTML>" == body.get(BodyType.HTML).get()
+    }
+
+    void "emails without a body get a text body with the links"() {
+        given:
+        AttachmentOffloadDecorator decorator = decorator(blobStore())
+        Email.Builder builder = Email.builder()
+                .attachment { it.filename("data.csv").contentType("text/csv").content(bytes(2000)) }
+
+        when:
+        decorator.decorate(builder)
+
+        then:
+        builder.getBody().get().get(BodyType.TEXT).get().startsWith("Attachments:\ndata.csv: https://files.example.com/attachments/")
+        !builder.getBody().get().get(BodyType.HTML).isPresent()
+        builder.getAttachments().get().isEmpty()
+    }
+
+    void "emails without large attachments are not decorated"() {
+        given:
+        AttachmentOffloadDecorator decorator = decorator(blobStore())
+
+        expect:
+        !decorator.supports(Email.builder())
+        !decorator.supports(Email.builder().attachment { it.filename("small.txt").contentType("text/plain").content(bytes(10)) })
+    }
+
+    void "identical contents are stored once"() {
+        given:
+        LocalBlobStore blobStore = blobStore()
+        byte[] content = bytes(5000)
+
+        when:
+        String key = blobStore.put(AttachmentContent.of(content))
+
+        then:
+        key == blobStore.put(AttachmentContent.of(content.clone()))
+        key ==~ /[0-9a-f]{64}/
+        1 == Files.walk(directory).filter(Files::isRegularFile).count()
+        content == blobStore.get(key).get().bytes
+        !blobStore.get("../" + key).isPresent()
+        !blobStore.get("0" * 64).isPresent()
+    }
+
+    void "the base url is required"() {
+        given:
+        AttachmentOffloadConfigurationProperties configuration = new AttachmentOffloadConfigurationProperties()
+
+        when:
+        new AttachmentOffloadDecorator(configuration, blobStore())
+
+        then:
+        thrown(ConfigurationException)
+    }
+
+    private LocalBlobStore blobStore() {
+        AttachmentOffloadConfigurationProperties configuration = new AttachmentOffloadConfigurationProperties()
+        configuration.directory = directory
+        new LocalBlobStore(configuration)
+    }
+
+    private static AttachmentOffloadDecorator decorator(BlobStore blobStore) {
+        AttachmentOffloadConfigurationProperties configuration = new AttachmentOffloadConfigurationProperties()
+        configuration.threshold = 1024
+        configuration.baseUrl = "https://files.example.com/attachments"
+        new AttachmentOffloadDecorator(configuration, blobStore)
+    }
+
+    private static byte[] bytes(int length) {
+        byte[] bytes = new byte[length]
+        new Random(length).nextBytes(bytes)
+        bytes
+    }
+}
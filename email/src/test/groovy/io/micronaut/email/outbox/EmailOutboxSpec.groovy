@@ -0,0 +1,195 @@
+package io.micronaut.email.outbox
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.core.annotation.NonNull
+import io.micronaut.email.Attachment
+import io.micronaut.email.BodyType
+import io.micronaut.email.Email
+import io.micronaut.email.EmailErrorType
+import io.micronaut.email.EmailException
+import io.micronaut.email.TransactionalEmailSender
+import io.micronaut.inject.qualifiers.Qualifiers
+import spock.lang.Specification
+import spock.lang.TempDir
+import spock.util.concurrent.PollingConditions
+
+import java.nio.file.Files
+import java.nio.file.Path
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.function.Consumer
+
+class EmailOutboxSpec extends Specification {
+
+    @TempDir
+    Path directory
+
+    void "outbox is disabled by default"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run()
+
+        expect:
+        !applicationContext.containsBean(EmailOutbox)
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "enqueued emails are delivered through the configured sender"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run([
+                'micronaut.email.outbox.enabled': true,
+                'micronaut.email.outbox.directory': directory.toString(),
+                'micronaut.email.outbox.sender': 'mock',
+        ])
+        MockEmailSender sender = new MockEmailSender()
+        applicationContext.registerSingleton(TransactionalEmailSender, sender, Qualifiers.byName('mock'))
+        EmailOutbox outbox = applicationContext.getBean(EmailOutbox)
+
+        when:
+        3.times {
+            outbox.enqueue(Email.builder()
+                    .from("sender@example.com")
+                    .to("receiver${it}@example.com")
+                    .subject("Hello ${it}")
+                    .body("<p>Hello</p>", "Hello"))
+        }
+
+        then:
+        new PollingConditions(timeout: 5).eventually {
+            assert 3 == sender.emails.size()
+        }
+        (0..2).collect { "receiver${it}@example.com".toString() } as Set == sender.emails.collect { it.to.first().email } as Set
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "emails left in the outbox are delivered when the application starts"() {
+        given:
+        SegmentJournal journal = new SegmentJournal(directory, OutboxConfigurationProperties.DEFAULT_SEGMENT_SIZE)
+        journal.append(OutboxEmailCodec.encode(Email.builder()
+                .from("sender@example.com")
+                .to("receiver@example.com")
+                .subject("Left over")
+                .body("Hello")
+                .build()))
+        journal.close()
+        MockEmailSender sender = new MockEmailSender()
+
+        when:
+        ApplicationContext applicationContext = ApplicationContext.builder()
+                .properties([
+                        'micronaut.email.outbox.enabled': true,
+                        'micronaut.email.outbox.directory': directory.toString(),
+                ])
+                .singletons(sender)
+                .start()
+
+        then:
+        new PollingConditions(timeout: 5).eventually {
+            assert 1 == sender.emails.size()
+        }
+        "Left over" == sender.emails.first().subject
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "emails which fail to be delivered are kept in the dead letter journal until they are redelivered"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run([
+                'micronaut.email.outbox.enabled': true,
+                'micronaut.email.outbox.directory': directory.toString(),
+                'micronaut.email.outbox.sender': 'mock',
+        ])
+        MockEmailSender sender = new MockEmailSender(failing: ['Fails'] as Set)
+        applicationContext.registerSingleton(TransactionalEmailSender, sender, Qualifiers.byName('mock'))
+        EmailOutbox outbox = applicationContext.getBean(EmailOutbox)
+
+        when:
+        ['Fails', 'Hello'].each {
+            outbox.enqueue(Email.builder()
+                    .from("sender@example.com")
+                    .to("receiver@example.com")
+                    .subject(it)
+                    .body("Hello"))
+        }
+
+        then: 'the offset advances past the failed email once it is in the dead letter journal'
+        new PollingConditions(timeout: 5).eventually {
+            assert ['Hello'] == sender.emails*.subject
+            assert 1 == sender.failures
+            assert Files.list(directory.resolve('dead-letter')).withCloseable { files -> files.anyMatch { it.fileName.toString().endsWith('.log') && Files.size(it) > 0 } }
+        }
+
+        when:
+        sender.failing.clear()
+        int redelivered = outbox.redeliverDeadLetters()
+
+        then:
+        1 == redelivered
+        new PollingConditions(timeout: 5).eventually {
+            assert ['Hello', 'Fails'] == sender.emails*.subject
+        }
+        0 == outbox.redeliverDeadLetters()
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "emails are stored with their rendered body and attachments"() {
+        given:
+        Email email = Email.builder()
+                .from("sender@example.com")
+                .to("receiver@example.com")
+                .cc("cc@example.com")
+                .bcc("bcc@example.com")
+                .replyTo("reply@example.com")
+                .subject("Hello")
+                .body("<p>Hello</p>", BodyType.HTML)
+                .attachment(Attachment.builder().filename("hello.txt").contentType("text/plain").content("hello".bytes).id("hello").disposition("inline").build())
+                .build()
+
+        when:
+        Email decoded = OutboxEmailCodec.decode(OutboxEmailCodec.encode(email))
+
+        then:
+        "sender@example.com" == decoded.from.email
+        ["receiver@example.com"] == decoded.to*.email
+        ["cc@example.com"] == decoded.cc*.email
+        ["bcc@example.com"] == decoded.bcc*.email
+        ["reply@example.com"] == decoded.replyToCollection*.email
+        "Hello" == decoded.subject
+        "<p>Hello</p>" == decoded.body.get(BodyType.HTML).get()
+        !decoded.body.get(BodyType.TEXT).present
+        1 == decoded.attachments.size()
+        "hello.txt" == decoded.attachments[0].filename
+        "text/plain" == decoded.attachments[0].contentType
+        "hello".bytes == decoded.attachments[0].content
+        "hello" == decoded.attachments[0].id
+        "inline" == decoded.attachments[0].disposition
+    }
+
+    static class MockEmailSender implements TransactionalEmailSender<Object, Email> {
+        List<Email> emails = new CopyOnWriteArrayList<>()
+        Set<String> failing = ConcurrentHashMap.newKeySet()
+        volatile int failures
+
+        @Override
+        @NonNull
+        Email send(@NonNull Email email, @NonNull Consumer<Object> emailRequest) throws EmailException {
+            if (email.subject in failing) {
+                failures++
+                throw new EmailException("Rejected", EmailErrorType.PERMANENT)
+            }
+            emails << email
+            email
+        }
+
+        @Override
+        String getName() {
+            'mock'
+        }
+    }
+}
@@ -0,0 +1,281 @@
+package io.micronaut.email.outbox
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.core.annotation.NonNull
+import io.micronaut.email.AsyncTransactionalEmailSender
+import io.micronaut.email.Email
+import io.micronaut.email.EmailException
+import io.micronaut.inject.qualifiers.Qualifiers
+import org.reactivestreams.Publisher
+import reactor.core.publisher.Mono
+import spock.lang.Specification
+import spock.lang.TempDir
+import spock.util.concurrent.PollingConditions
+
+import java.nio.file.Path
+import java.time.Duration
+import java.time.Instant
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.function.Consumer
+
+import static io.micronaut.email.TestEmails.email
+
+class EmailSchedulerSpec extends Specification {
+
+    @TempDir
+    Path directory
+
+    void "the scheduler is disabled by default"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run()
+
+        expect:
+        !applicationContext.containsBean(EmailScheduler)
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "emails are sent once their send time is reached"() {
+        given:
+        MockAsyncEmailSender sender = new MockAsyncEmailSender('mock')
+        ApplicationContext applicationContext = start(sender)
+        EmailScheduler scheduler = applicationContext.getBean(EmailScheduler)
+        Instant sendAt = Instant.ofEpochMilli(System.currentTimeMillis() + 500)
+
+        when:
+        ScheduledEmail later = scheduler.sendAt(email().subject('Later'), sendAt)
+        scheduler.sendAt(email().subject('Now'), Instant.now().minusSeconds(60))
+
+        then:
+        sendAt == later.sendAt
+        new PollingConditions(timeout: 5).eventually {
+            assert ['Now', 'Later'] as Set == sender.emails*.subject as Set
+        }
+        sender.sentAt[sender.emails*.subject.indexOf('Later')] >= sendAt
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "cancelled emails are not sent"() {
+        given:
+        MockAsyncEmailSender sender = new MockAsyncEmailSender('mock')
+        ApplicationContext applicationContext = start(sender)
+        EmailScheduler scheduler = applicationContext.getBean(EmailScheduler)
+        ScheduledEmail cancelled = scheduler.sendAfter(email().subject('Cancelled'), Duration.ofMillis(200))
+        ScheduledEmail kept = scheduler.sendAfter(email().subject('Kept'), Duration.ofMillis(200))
+
+        when:
+        boolean result = cancelled.cancel()
+
+        then:
+        result
+        !scheduler.cancel(cancelled.id)
+        new PollingConditions(timeout: 5).eventually {
+            assert ['Kept'] == sender.emails*.subject
+        }
+        !kept.cancel()
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "emails are sent through the named sender"() {
+        given:
+        MockAsyncEmailSender sender = new MockAsyncEmailSender('mock')
+        MockAsyncEmailSender other = new MockAsyncEmailSender('other')
+        ApplicationContext applicationContext = start(sender)
+        applicationContext.registerSingleton(AsyncTransactionalEmailSender, other, Qualifiers.byName('other'))
+        EmailScheduler scheduler = applicationContext.getBean(EmailScheduler)
+
+        when:
+        ScheduledEmail scheduled = scheduler.sendAt(email().subject('Other'), Instant.now(), 'other')
+
+        then:
+        'other' == scheduled.senderName
+        new PollingConditions(timeout: 5).eventually {
+            assert ['Other'] == other.emails*.subject
+        }
+        sender.emails.empty
+
+        when:
+        scheduler.sendAt(email().subject('Unknown'), Instant.now(), 'unknown')
+
+        then:
+        thrown(EmailException)
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "the wheel keeps advancing while due emails are being sent"() {
+        given:
+        CompletableFuture<Void> slow = new CompletableFuture<>()
+        MockAsyncEmailSender sender = new MockAsyncEmailSender('mock', slow)
+        ApplicationContext applicationContext = start(sender, ['micronaut.email.scheduler.concurrency': 2])
+        EmailScheduler scheduler = applicationContext.getBean(EmailScheduler)
+
+        when:
+        scheduler.sendAt(email().subject('Slow 1'), Instant.now())
+        scheduler.sendAfter(email().subject('Later'), Duration.ofMillis(200))
+
+        then: 'a later email is sent while a due email is still being sent'
+        new PollingConditions(timeout: 5).eventually {
+            assert ['Later'] == sender.emails*.subject
+        }
+
+        when:
+        scheduler.sendAt(email().subject('Slow 2'), Instant.now())
+        new PollingConditions(timeout: 5).eventually {
+            assert 2 == sender.started.get()
+        }
+        ScheduledEmail ready = scheduler.sendAt(email().subject('Ready'), Instant.now())
+        sleep(100)
+
+        then: 'a due email waiting for a free slot can be cancelled'
+        ready.cancel()
+
+        when:
+        slow.complete(null)
+
+        then:
+        new PollingConditions(timeout: 5).eventually {
+            assert ['Later', 'Slow 1', 'Slow 2'] as Set == sender.emails*.subject as Set
+        }
+        sleep(100)
+        3 == sender.emails.size()
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "pending emails survive a restart"() {
+        given:
+        ApplicationContext applicationContext = start(new MockAsyncEmailSender('mock'))
+        EmailScheduler scheduler = applicationContext.getBean(EmailScheduler)
+        scheduler.sendAfter(email().subject('Pending'), Duration.ofMillis(500))
+        ScheduledEmail cancelled = scheduler.sendAfter(email().subject('Cancelled'), Duration.ofMillis(500))
+        cancelled.cancel()
+        applicationContext.close()
+        MockAsyncEmailSender sender = new MockAsyncEmailSender('mock')
+
+        when:
+        applicationContext = start(sender)
+
+        then:
+        new PollingConditions(timeout: 5).eventually {
+            assert ['Pending'] == sender.emails*.subject
+        }
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "emails which fail to be sent are sent again with backoff until they are sent"() {
+        given:
+        MockAsyncEmailSender sender = new MockAsyncEmailSender('mock')
+        sender.failures.set(2)
+        ApplicationContext applicationContext = start(sender, ['micronaut.email.scheduler.redelivery-delay': '50ms'])
+        EmailScheduler scheduler = applicationContext.getBean(EmailScheduler)
+
+        when:
+        scheduler.sendAt(email().subject('Failing'), Instant.now())
+
+        then:
+        new PollingConditions(timeout: 5).eventually {
+            assert ['Failing'] == sender.emails*.subject
+        }
+        3 == sender.attempts.get()
+
+        when: 'the email is not sent again after a restart'
+        applicationContext.close()
+        MockAsyncEmailSender restarted = new MockAsyncEmailSender('mock')
+        applicationContext = start(restarted)
+        sleep(200)
+
+        then:
+        restarted.emails.empty
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "emails which fail to be sent can be cancelled and survive a restart"() {
+        given:
+        MockAsyncEmailSender sender = new MockAsyncEmailSender('mock')
+        sender.failures.set(Integer.MAX_VALUE)
+        ApplicationContext applicationContext = start(sender, ['micronaut.email.scheduler.redelivery-delay': '1h'])
+        EmailScheduler scheduler = applicationContext.getBean(EmailScheduler)
+        scheduler.sendAt(email().subject('Failing'), Instant.now())
+        ScheduledEmail cancelled = scheduler.sendAt(email().subject('Cancelled'), Instant.now())
+        new PollingConditions(timeout: 5).eventually {
+            assert 2 == sender.attempts.get()
+        }
+
+        when:
+        boolean result = cancelled.cancel()
+        applicationContext.close()
+        MockAsyncEmailSender restarted = new MockAsyncEmailSender('mock')
+        applicationContext = start(restarted)
+
+        then:
+        result
+        new PollingConditions(timeout: 5).eventually {
+            assert ['Failing'] == restarted.emails*.subject
+        }
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    private ApplicationContext start(MockAsyncEmailSender sender, Map<String, Object> properties = [:]) {
+        ApplicationContext applicationContext = ApplicationContext.builder()
+                .properties([
+                        'micronaut.email.scheduler.enabled': true,
+                        'micronaut.email.scheduler.directory': directory.toString(),
+                        'micronaut.email.scheduler.tick-duration': '10ms',
+                        'micronaut.email.scheduler.sender': 'mock',
+                ] + properties)
+                .build()
+        applicationContext.registerSingleton(AsyncTransactionalEmailSender, sender, Qualifiers.byName('mock'))
+        applicationContext.start()
+    }
+
+    static class MockAsyncEmailSender implements AsyncTransactionalEmailSender<Object, Email> {
+        final String name
+        List<Email> emails = new CopyOnWriteArrayList<>()
+        List<Instant> sentAt = new CopyOnWriteArrayList<>()
+        AtomicInteger started = new AtomicInteger()
+        AtomicInteger attempts = new AtomicInteger()
+        AtomicInteger failures = new AtomicInteger()
+        CompletableFuture<Void> slow
+
+        MockAsyncEmailSender(String name, CompletableFuture<Void> slow = CompletableFuture.completedFuture(null)) {
+            this.name = name
+            this.slow = slow
+        }
+
+        @Override
+        @NonNull
+        Publisher<Email> sendAsync(@NonNull Email email, @NonNull Consumer<Object> emailRequest) throws EmailException {
+            attempts.incrementAndGet()
+            if (failures.getAndDecrement() > 0) {
+                return Mono.error(new EmailException('Service unavailable'))
+            }
+            Mono<Void> wait = email.subject.startsWith('Slow') ? Mono.fromFuture(slow).doOnSubscribe(s -> started.incrementAndGet()) : Mono.empty()
+            wait.then(Mono.fromCallable(() -> {
+                sentAt << Instant.now()
+                emails << email
+                email
+            }))
+        }
+
+        @Override
+        String getName() {
+            name
+        }
+    }
+}
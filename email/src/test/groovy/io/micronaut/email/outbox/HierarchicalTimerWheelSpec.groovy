@@ -0,0 +1,54 @@
+package io.micronaut.email.outbox
+
+import spock.lang.Specification
+
+class HierarchicalTimerWheelSpec extends Specification {
+
+    void "timeouts expire at their deadline across every level"() {
+        given:
+        HierarchicalTimerWheel wheel = new HierarchicalTimerWheel(4, 10)
+        List<Long> deadlines = [10L, 13L, 14L, 27L, 30L, 100L, 1000L, 65_546L]
+        deadlines.each { wheel.add(new HierarchicalTimerWheel.Timeout(it)) }
+        Map<Long, Long> expiredAt = [:]
+
+        when:
+        for (long tick = 10; tick <= 70_000; tick++) {
+            wheel.advance(tick, timeout -> expiredAt.put(timeout.deadline, tick))
+        }
+
+        then:
+        deadlines.collectEntries { [(it): it] } == expiredAt
+        0 == wheel.size()
+    }
+
+    void "removed timeouts do not expire"() {
+        given:
+        HierarchicalTimerWheel wheel = new HierarchicalTimerWheel(4, 0)
+        HierarchicalTimerWheel.Timeout kept = new HierarchicalTimerWheel.Timeout(50)
+        HierarchicalTimerWheel.Timeout removed = new HierarchicalTimerWheel.Timeout(50)
+        wheel.add(kept)
+        wheel.add(removed)
+        List<HierarchicalTimerWheel.Timeout> expired = []
+
+        when:
+        boolean result = wheel.remove(removed)
+        wheel.advance(100, expired::add)
+
+        then:
+        result
+        !wheel.remove(removed)
+        [kept] == expired
+    }
+
+    void "timeouts whose deadline has been processed are not added"() {
+        given:
+        HierarchicalTimerWheel wheel = new HierarchicalTimerWheel(256, 0)
+        wheel.advance(10, timeout -> { })
+
+        expect:
+        11 == wheel.currentTick
+        !wheel.add(new HierarchicalTimerWheel.Timeout(10))
+        wheel.add(new HierarchicalTimerWheel.Timeout(11))
+        1 == wheel.size()
+    }
+}
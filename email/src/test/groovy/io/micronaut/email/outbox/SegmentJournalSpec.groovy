@@ -0,0 +1,127 @@
+package io.micronaut.email.outbox
+
+import spock.lang.Specification
+import spock.lang.TempDir
+
+import java.nio.channels.FileChannel
+import java.nio.file.Files
+import java.nio.file.Path
+import java.nio.file.StandardOpenOption
+import java.util.concurrent.TimeUnit
+
+class SegmentJournalSpec extends Specification {
+
+    @TempDir
+    Path directory
+
+    void "records are read in the order they were appended"() {
+        given:
+        SegmentJournal journal = new SegmentJournal(directory, 1024)
+
+        when:
+        long first = journal.append("hello".bytes)
+        long second = journal.append("world".bytes)
+
+        then:
+        0L == first
+        new String(journal.read(first).payload) == "hello"
+        journal.read(first).nextOffset == second
+        new String(journal.read(second).payload) == "world"
+        journal.read(journal.read(second).nextOffset) == null
+
+        cleanup:
+        journal.close()
+    }
+
+    void "a new segment is started when the segment size is reached and consumed segments are deleted"() {
+        given:
+        SegmentJournal journal = new SegmentJournal(directory, 32)
+        List<Long> offsets = (0..<4).collect { journal.append(new byte[20]) }
+
+        expect:
+        4 == segmentFiles().size()
+
+        when:
+        journal.commit(offsets[2])
+
+        then:
+        2 == segmentFiles().size()
+        offsets[2] == journal.committedOffset
+        journal.read(offsets[2]).payload.length == 20
+
+        cleanup:
+        journal.close()
+    }
+
+    void "records are replayed from the consumer offset when the journal is opened again"() {
+        given:
+        SegmentJournal journal = new SegmentJournal(directory, 1024)
+        journal.append("one".bytes)
+        long second = journal.append("two".bytes)
+        journal.commit(second)
+        journal.close()
+
+        when:
+        journal = new SegmentJournal(directory, 1024)
+
+        then:
+        second == journal.committedOffset
+        new String(journal.read(journal.committedOffset).payload) == "two"
+
+        cleanup:
+        journal.close()
+    }
+
+    void "an incomplete record at the end of the journal is discarded"() {
+        given:
+        SegmentJournal journal = new SegmentJournal(directory, 1024)
+        long first = journal.append("complete".bytes)
+        long end = journal.durableOffset
+        journal.close()
+        FileChannel.open(segmentFiles().first(), StandardOpenOption.WRITE, StandardOpenOption.APPEND).withCloseable {
+            it.write(java.nio.ByteBuffer.wrap([0, 0, 0, 100, 1, 2] as byte[]))
+        }
+
+        when:
+        journal = new SegmentJournal(directory, 1024)
+
+        then:
+        end == journal.durableOffset
+        new String(journal.read(first).payload) == "complete"
+        journal.read(end) == null
+
+        when:
+        long next = journal.append("next".bytes)
+
+        then:
+        end == next
+        new String(journal.read(next).payload) == "next"
+
+        cleanup:
+        journal.close()
+    }
+
+    void "waiting for records returns once a record is appended"() {
+        given:
+        SegmentJournal journal = new SegmentJournal(directory, 1024)
+        Thread.start {
+            sleep(100)
+            journal.append("late".bytes)
+        }
+
+        when:
+        journal.awaitRecords(0, 5, TimeUnit.SECONDS)
+
+        then:
+        journal.read(0) != null
+
+        cleanup:
+        journal.close()
+    }
+
+    private List<Path> segmentFiles() {
+        Files.list(directory).withCloseable { files ->
+            files.filter { it.fileName.toString().endsWith(".log") }.sorted().toList()
+        }
+    }
+}
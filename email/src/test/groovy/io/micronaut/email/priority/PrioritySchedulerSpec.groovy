@@ -0,0 +1,187 @@
+package io.micronaut.email.priority
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.exceptions.ConfigurationException
+import io.micronaut.email.EmailErrorType
+import io.micronaut.email.EmailException
+import io.micronaut.email.EmailPriority
+import org.reactivestreams.Publisher
+import reactor.core.publisher.Flux
+import reactor.core.publisher.Mono
+import reactor.core.publisher.Sinks
+import spock.lang.Specification
+
+import java.time.Duration
+import java.util.concurrent.CopyOnWriteArrayList
+
+class PrioritySchedulerSpec extends Specification {
+
+    void "priority lanes are disabled by default and configured per lane"() {
+        expect:
+        !ApplicationContext.run().withCloseable { it.containsBean(PriorityScheduler) }
+
+        when:
+        ApplicationContext applicationContext = ApplicationContext.run([
+                'micronaut.email.priority.enabled': true,
+                'micronaut.email.priority.max-concurrency': 10,
+                'micronaut.email.priority.lanes.low.weight': 2,
+                'micronaut.email.priority.lanes.low.permits-per-second': 5,
+        ])
+        Map<String, PriorityLaneConfiguration> lanes = applicationContext.getBeansOfType(PriorityLaneConfiguration)
+                .collectEntries { [(it.name): it] }
+
+        then:
+        applicationContext.containsBean(PriorityScheduler)
+        10 == applicationContext.getBean(PriorityConfiguration).maxConcurrency
+        2 == lanes.low.weight
+        5d == lanes.low.permitsPerSecond
+        PriorityLaneConfigurationProperties.DEFAULT_MAX_QUEUE_SIZE == lanes.low.maxQueueSize
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "high priority emails are sent before queued low priority emails"() {
+        given:
+        PriorityScheduler scheduler = scheduler(1, lane('high', PriorityLaneConfigurationProperties.DEFAULT_HIGH_WEIGHT))
+        Sinks.One<String> blocker = Sinks.one()
+        List<String> started = new CopyOnWriteArrayList<>()
+        Mono<String> blocked = Mono.from(scheduler.schedule(EmailPriority.NORMAL, () -> blocker.asMono()))
+        List<Mono<String>> sends = [
+                send(scheduler, EmailPriority.LOW, 'low-1', started),
+                send(scheduler, EmailPriority.LOW, 'low-2', started),
+                send(scheduler, EmailPriority.HIGH, 'high', started),
+        ]
+
+        when:
+        blocked.subscribe()
+        Mono<List<String>> results = Flux.merge(sends).collectList().cache()
+        results.subscribe()
+
+        then:
+        2 == scheduler.queued(EmailPriority.LOW)
+        1 == scheduler.queued(EmailPriority.HIGH)
+
+        when:
+        blocker.tryEmitValue('normal')
+
+        then:
+        3 == results.block(Duration.ofSeconds(5)).size()
+        ['high', 'low-1', 'low-2'] == started
+    }
+
+    void "lanes are dequeued with smooth weighted round robin"() {
+        given:
+        PriorityScheduler scheduler = scheduler(1, lane('high', 3), lane('low', 1))
+        Sinks.One<String> blocker = Sinks.one()
+        List<String> started = new CopyOnWriteArrayList<>()
+        Mono.from(scheduler.schedule(EmailPriority.NORMAL, () -> blocker.asMono())).subscribe()
+        List<Mono<String>> sends = (1..4).collectMany { [send(scheduler, EmailPriority.HIGH, 'H', started), send(scheduler, EmailPriority.LOW, 'L', started)] }
+        sends.each { it.subscribe() }
+
+        when:
+        blocker.tryEmitValue('normal')
+
+        then:
+        ['H', 'H', 'L', 'H', 'H', 'L', 'L', 'L'] == started
+    }
+
+    void "emails are rejected once the lane is full"() {
+        given:
+        PriorityLaneConfigurationProperties low = lane('low', 1)
+        low.maxQueueSize = 1
+        PriorityScheduler scheduler = scheduler(1, lane('high', 1), low)
+        Sinks.One<String> blocker = Sinks.one()
+        Mono.from(scheduler.schedule(EmailPriority.LOW, () -> blocker.asMono())).subscribe()
+        Mono.from(scheduler.schedule(EmailPriority.LOW, () -> Mono.just('queued'))).subscribe()
+
+        when:
+        Mono.from(scheduler.schedule(EmailPriority.LOW, () -> Mono.just('rejected'))).block()
+
+        then:
+        EmailException e = thrown()
+        EmailErrorType.THROTTLED == e.errorType
+    }
+
+    void "reserved concurrency is kept free for its lane and cancelled emails leave the lane"() {
+        given:
+        PriorityLaneConfigurationProperties high = new PriorityLaneConfigurationProperties('high')
+        high.reservedConcurrency = 1
+        PriorityScheduler scheduler = scheduler(2, high)
+        Sinks.One<String> blocker = Sinks.one()
+        Mono.from(scheduler.schedule(EmailPriority.LOW, () -> blocker.asMono())).subscribe()
+        def queued = Mono.from(scheduler.schedule(EmailPriority.LOW, () -> Mono.just('low'))).subscribe()
+
+        expect:
+        1 == scheduler.inFlight(EmailPriority.LOW)
+        1 == scheduler.queued(EmailPriority.LOW)
+        'high' == Mono.from(scheduler.schedule(EmailPriority.HIGH, () -> Mono.just('high'))).block(Duration.ofSeconds(5))
+
+        when:
+        queued.dispose()
+
+        then:
+        0 == scheduler.queued(EmailPriority.LOW)
+    }
+
+    void "the reserved concurrency must leave capacity for the other lanes"() {
+        when:
+        scheduler(8)
+
+        then:
+        thrown(ConfigurationException)
+    }
+
+    void "lanes are rate limited"() {
+        given:
+        PriorityLaneConfigurationProperties low = lane('low', 1)
+        low.permitsPerSecond = 20
+        PriorityScheduler scheduler = scheduler(10, low)
+        List<Publisher<String>> sends = (1..3).collect { scheduler.schedule(EmailPriority.LOW, () -> Mono.just('low')) }
+
+        when:
+        long start = System.nanoTime()
+        List<String> results = Flux.merge(sends).collectList().block(Duration.ofSeconds(5))
+
+        then:
+        3 == results.size()
+        Duration.ofNanos(System.nanoTime() - start) >= Duration.ofMillis(80)
+    }
+
+    void "a throttled lane does not skew the weights of the other lanes"() {
+        given:
+        PriorityLaneConfigurationProperties high = lane('high', 3)
+        high.permitsPerSecond = 1
+        PriorityScheduler scheduler = scheduler(10, high, lane('normal', 2), lane('low', 1))
+        (1..3).each { Mono.from(scheduler.schedule(EmailPriority.HIGH, () -> Mono.just('high'))).subscribe() }
+
+        when:
+        List<String> results = Flux.merge((1..20).collect { i ->
+            scheduler.schedule(i % 2 ? EmailPriority.NORMAL : EmailPriority.LOW, () -> Mono.just('other'))
+        }).collectList().block(Duration.ofSeconds(5))
+
+        then:
+        20 == results.size()
+        0 == scheduler.@lanes.sum { it.currentWeight }
+    }
+
+    private static Mono<String> send(PriorityScheduler scheduler, EmailPriority priority, String name, List<String> started) {
+        Mono.from(scheduler.schedule(priority, () -> {
+            started << name
+            Mono.just(name)
+        }))
+    }
+
+    private static PriorityLaneConfigurationProperties lane(String name, int weight) {
+        PriorityLaneConfigurationProperties lane = new PriorityLaneConfigurationProperties(name)
+        lane.weight = weight
+        lane.reservedConcurrency = 0
+        lane
+    }
+
+    private static PriorityScheduler scheduler(int maxConcurrency, PriorityLaneConfiguration... lanes) {
+        PriorityConfigurationProperties configuration = new PriorityConfigurationProperties()
+        configuration.maxConcurrency = maxConcurrency
+        new PriorityScheduler(configuration, lanes as List)
+    }
+}
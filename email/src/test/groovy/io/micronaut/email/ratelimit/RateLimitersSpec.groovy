@@ -0,0 +1,238 @@
+package io.micronaut.email.ratelimit
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.core.annotation.NonNull
+import io.micronaut.email.AsyncTransactionalEmailSender
+import io.micronaut.email.DefaultAsyncEmailSender
+import io.micronaut.email.DefaultEmailSender
+import io.micronaut.email.Email
+import io.micronaut.email.EmailDecoratorPipeline
+import io.micronaut.email.EmailErrorType
+import io.micronaut.email.EmailException
+import io.micronaut.email.TransactionalEmailSender
+import io.micronaut.email.idempotency.IdempotencyConfigurationProperties
+import io.micronaut.email.idempotency.InMemoryIdempotencyStore
+import io.micronaut.email.retry.RetryConfiguration
+import io.micronaut.email.retry.RetryConfigurationProperties
+import io.micronaut.email.retry.RetryPolicies
+import org.reactivestreams.Publisher
+import reactor.core.publisher.Mono
+import spock.lang.Specification
+
+import java.time.Duration
+import java.util.function.Consumer
+
+import static io.micronaut.email.TestEmails.email
+
+class RateLimitersSpec extends Specification {
+
+    void "rate limits are configured per sender name"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run([
+                'micronaut.email.rate-limit.ses.permits-per-second': 14,
+                'micronaut.email.rate-limit.ses.burst': 20,
+                'micronaut.email.rate-limit.ses.max-wait': '5s',
+                'micronaut.email.rate-limit.postmark.permits-per-second': 0.5,
+        ])
+
+        when:
+        Map<String, RateLimitConfiguration> configurations = applicationContext.getBeansOfType(RateLimitConfiguration)
+                .collectEntries { [(it.name): it] }
+        RateLimiters rateLimiters = applicationContext.getBean(RateLimiters)
+
+        then:
+        14d == configurations.ses.permitsPerSecond
+        20 == configurations.ses.burst
+        Duration.ofSeconds(5) == configurations.ses.maxWait
+        0.5d == configurations.postmark.permitsPerSecond
+        RateLimitConfigurationProperties.DEFAULT_BURST == configurations.postmark.burst
+        Duration.ofSeconds(RateLimitConfigurationProperties.DEFAULT_MAX_WAIT_SECONDS) == configurations.postmark.maxWait
+        rateLimiters.get('ses')
+        rateLimiters.get('postmark')
+        !rateLimiters.get('sendgrid')
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "blocking senders wait for a permit"() {
+        given:
+        RateLimiters rateLimiters = new RateLimiters([configuration('mock', 20, 1, Duration.ofSeconds(5))])
+        MockEmailSender transactionalEmailSender = new MockEmailSender()
+        DefaultEmailSender<Void, String> emailSender = new DefaultEmailSender<>(transactionalEmailSender, EmailDecoratorPipeline.EMPTY, rateLimiters, null, null, null)
+
+        when:
+        long start = System.nanoTime()
+        3.times { emailSender.send(email()) }
+
+        then:
+        3 == transactionalEmailSender.emails.size()
+        Duration.ofNanos(System.nanoTime() - start) >= Duration.ofMillis(90)
+    }
+
+    void "sending fails if the wait exceeds the maximum wait"() {
+        given:
+        RateLimiters rateLimiters = new RateLimiters([configuration('mock', 1, 1, Duration.ofMillis(10))])
+        MockEmailSender transactionalEmailSender = new MockEmailSender()
+        DefaultEmailSender<Void, String> emailSender = new DefaultEmailSender<>(transactionalEmailSender, EmailDecoratorPipeline.EMPTY, rateLimiters, null, null, null)
+        emailSender.send(email())
+
+        when:
+        emailSender.send(email())
+
+        then:
+        EmailException e = thrown()
+        e.message.contains('mock')
+        1 == transactionalEmailSender.emails.size()
+    }
+
+    void "reactive senders are deferred until subscription and a permit is available"() {
+        given:
+        RateLimiters rateLimiters = new RateLimiters([configuration('mock', 10, 1, Duration.ofSeconds(5))])
+        MockAsyncEmailSender transactionalEmailSender = new MockAsyncEmailSender()
+        DefaultAsyncEmailSender<Void, String> emailSender = new DefaultAsyncEmailSender<>(transactionalEmailSender, EmailDecoratorPipeline.EMPTY, rateLimiters, null, null, null, null)
+
+        when:
+        Publisher<String> first = emailSender.sendAsync(email())
+        Publisher<String> second = emailSender.sendAsync(email())
+
+        then: 'nothing is sent before subscription'
+        0 == transactionalEmailSender.invocations
+
+        when:
+        long start = System.nanoTime()
+        String firstResponse = Mono.from(first).block()
+        String secondResponse = Mono.from(second).block()
+
+        then:
+        'receiver@example.com' == firstResponse
+        'receiver@example.com' == secondResponse
+        2 == transactionalEmailSender.invocations
+        Duration.ofNanos(System.nanoTime() - start) >= Duration.ofMillis(90)
+    }
+
+    void "every attempt takes a permit once the idempotency key is reserved"() {
+        given:
+        RateLimiters rateLimiters = new RateLimiters([configuration('mock', 1, 1, Duration.ofMillis(10))])
+        MockEmailSender transactionalEmailSender = new MockEmailSender(failures: [new EmailException('Too many requests', EmailErrorType.THROTTLED)])
+        DefaultEmailSender<Void, String> emailSender = new DefaultEmailSender<>(transactionalEmailSender, EmailDecoratorPipeline.EMPTY, rateLimiters,
+                new RetryPolicies(retryConfiguration(), []), null, new InMemoryIdempotencyStore(new IdempotencyConfigurationProperties()))
+
+        when: 'the retry of a throttled attempt has no permit'
+        emailSender.send(email().idempotencyKey('order-1'))
+
+        then:
+        EmailException e = thrown()
+        e.message.contains('Rate limit of sender mock exceeded')
+        1 == transactionalEmailSender.attempts
+
+        when:
+        sleep(1100)
+        String response = emailSender.send(email().idempotencyKey('order-1'))
+
+        then: 'a repeated key does not take a permit'
+        emailSender.send(email().idempotencyKey('order-1')) == response
+        2 == transactionalEmailSender.attempts
+    }
+
+    void "every reactive attempt takes a permit"() {
+        given:
+        RateLimiters rateLimiters = new RateLimiters([configuration('mock', 1, 1, Duration.ofMillis(10))])
+        MockAsyncEmailSender transactionalEmailSender = new MockAsyncEmailSender(failures: [new EmailException('Too many requests', EmailErrorType.THROTTLED)])
+        DefaultAsyncEmailSender<Void, String> emailSender = new DefaultAsyncEmailSender<>(transactionalEmailSender, EmailDecoratorPipeline.EMPTY, rateLimiters,
+                new RetryPolicies(retryConfiguration(), []), null, null, null)
+
+        when:
+        Mono.from(emailSender.sendAsync(email())).block()
+
+        then:
+        EmailException e = thrown()
+        e.message.contains('Rate limit of sender mock exceeded')
+        1 == transactionalEmailSender.invocations
+    }
+
+    void "senders without a rate limit are not limited"() {
+        given:
+        RateLimiters rateLimiters = new RateLimiters([])
+        MockEmailSender transactionalEmailSender = new MockEmailSender()
+        DefaultEmailSender<Void, String> emailSender = new DefaultEmailSender<>(transactionalEmailSender, EmailDecoratorPipeline.EMPTY, rateLimiters, null, null, null)
+
+        when:
+        100.times { emailSender.send(email()) }
+
+        then:
+        100 == transactionalEmailSender.emails.size()
+    }
+
+    void "only senders with a rate limit are decorated with a rate limiter"() {
+        given:
+        RateLimiters rateLimiters = new RateLimiters([configuration('ses', 14, 1, Duration.ofSeconds(5))])
+        MockEmailSender sender = new MockEmailSender()
+        MockAsyncEmailSender asyncSender = new MockAsyncEmailSender()
+
+        expect:
+        rateLimiters.isLimited('ses')
+        !rateLimiters.isLimited('mock')
+        RateLimitedTransactionalEmailSender.of(sender, rateLimiters).is(sender)
+        RateLimitedTransactionalEmailSender.of(sender, null).is(sender)
+        RateLimitedAsyncTransactionalEmailSender.of(asyncSender, rateLimiters).is(asyncSender)
+        RateLimitedTransactionalEmailSender.of(sender, new RateLimiters([configuration('mock', 1, 1, Duration.ofSeconds(5))])) instanceof RateLimitedTransactionalEmailSender
+    }
+
+    private static RateLimitConfiguration configuration(String name, double permitsPerSecond, int burst, Duration maxWait) {
+        RateLimitConfigurationProperties configuration = new RateLimitConfigurationProperties(name)
+        configuration.permitsPerSecond = permitsPerSecond
+        configuration.burst = burst
+        configuration.maxWait = maxWait
+        configuration
+    }
+
+    private static RetryConfiguration retryConfiguration() {
+        RetryConfigurationProperties configuration = new RetryConfigurationProperties()
+        configuration.enabled = true
+        configuration.maxAttempts = 2
+        configuration.initialDelay = Duration.ofMillis(1)
+        configuration.maxDelay = Duration.ofMillis(5)
+        configuration.minRetriesPerSecond = 1000
+        configuration
+    }
+
+    static class MockEmailSender implements TransactionalEmailSender<Void, String> {
+        List<Email> emails = []
+        List<RuntimeException> failures = []
+        int attempts
+
+        @Override
+        @NonNull
+        String send(@NonNull Email email, @NonNull Consumer<Void> emailRequest) throws EmailException {
+            attempts++
+            if (failures) {
+                throw failures.remove(0)
+            }
+            emails << email
+            email.to.first().email
+        }
+
+        @Override
+        String getName() {
+            'mock'
+        }
+    }
+
+    static class MockAsyncEmailSender implements AsyncTransactionalEmailSender<Void, String> {
+        int invocations
+        List<RuntimeException> failures = []
+
+        @Override
+        @NonNull
+        Publisher<String> sendAsync(@NonNull Email email, @NonNull Consumer<Void> emailRequest) throws EmailException {
+            invocations++
+            failures ? Mono.error(failures.remove(0)) : Mono.just(email.to.first().email)
+        }
+
+        @Override
+        String getName() {
+            'mock'
+        }
+    }
+}
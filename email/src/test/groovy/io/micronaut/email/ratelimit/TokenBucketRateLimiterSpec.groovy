@@ -0,0 +1,65 @@
+package io.micronaut.email.ratelimit
+
+import spock.lang.Specification
+
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicLong
+
+class TokenBucketRateLimiterSpec extends Specification {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1)
+
+    void "a full bucket allows a burst and then spaces permits by the rate"() {
+        given:
+        AtomicLong clock = new AtomicLong(1000)
+        RateLimiter rateLimiter = new TokenBucketRateLimiter(2, 3, clock::get)
+
+        expect:
+        0L == rateLimiter.reserve(Long.MAX_VALUE)
+        0L == rateLimiter.reserve(Long.MAX_VALUE)
+        0L == rateLimiter.reserve(Long.MAX_VALUE)
+        SECOND.intdiv(2) == rateLimiter.reserve(Long.MAX_VALUE)
+        SECOND == rateLimiter.reserve(Long.MAX_VALUE)
+    }
+
+    void "the bucket refills while idle"() {
+        given:
+        AtomicLong clock = new AtomicLong(-SECOND)
+        RateLimiter rateLimiter = new TokenBucketRateLimiter(1, 2, clock::get)
+        2.times { rateLimiter.reserve(Long.MAX_VALUE) }
+
+        when:
+        clock.addAndGet(SECOND)
+
+        then:
+        0L == rateLimiter.reserve(Long.MAX_VALUE)
+        SECOND == rateLimiter.reserve(Long.MAX_VALUE)
+
+        when:
+        clock.addAndGet(10 * SECOND)
+
+        then: 'the bucket holds no more than the burst'
+        0L == rateLimiter.reserve(Long.MAX_VALUE)
+        0L == rateLimiter.reserve(Long.MAX_VALUE)
+        SECOND == rateLimiter.reserve(Long.MAX_VALUE)
+    }
+
+    void "no permit is reserved if the wait exceeds the maximum wait"() {
+        given:
+        AtomicLong clock = new AtomicLong()
+        RateLimiter rateLimiter = new TokenBucketRateLimiter(1, 1, clock::get)
+        rateLimiter.reserve(0)
+
+        expect:
+        rateLimiter.reserve(SECOND - 1) < 0
+        SECOND == rateLimiter.reserve(SECOND)
+    }
+
+    void "the rate must be positive"() {
+        when:
+        new TokenBucketRateLimiter(0, 1)
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+}
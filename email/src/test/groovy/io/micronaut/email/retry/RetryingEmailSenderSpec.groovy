@@ -0,0 +1,236 @@
+package io.micronaut.email.retry
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.core.annotation.NonNull
+import io.micronaut.email.AsyncTransactionalEmailSender
+import io.micronaut.email.DefaultEmailSender
+import io.micronaut.email.Email
+import io.micronaut.email.EmailDecoratorPipeline
+import io.micronaut.email.EmailErrorClassifier
+import io.micronaut.email.EmailErrorType
+import io.micronaut.email.EmailException
+import io.micronaut.email.TransactionalEmailSender
+import org.reactivestreams.Publisher
+import reactor.core.publisher.Mono
+import spock.lang.Specification
+
+import java.time.Duration
+import java.util.function.Consumer
+
+import static io.micronaut.email.TestEmails.email
+
+class RetryingEmailSenderSpec extends Specification {
+
+    void "retries are disabled by default"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run()
+
+        when:
+        RetryConfiguration configuration = applicationContext.getBean(RetryConfiguration)
+
+        then:
+        !configuration.enabled
+        RetryConfigurationProperties.DEFAULT_MAX_ATTEMPTS == configuration.maxAttempts
+        Duration.ofMillis(RetryConfigurationProperties.DEFAULT_INITIAL_DELAY_MILLIS) == configuration.initialDelay
+        applicationContext.containsBean(RetryPolicies)
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "transient failures are retried until the email is sent"() {
+        given:
+        FailingEmailSender sender = new FailingEmailSender(failures: [transientFailure(), throttledFailure()])
+        TransactionalEmailSender<Void, String> retrying = new RetryingTransactionalEmailSender<>(sender, policy(5))
+
+        when:
+        String response = retrying.send(email().build(), r -> { })
+
+        then:
+        'receiver@example.com' == response
+        3 == sender.attempts
+    }
+
+    void "permanent failures are not retried"() {
+        given:
+        FailingEmailSender sender = new FailingEmailSender(failures: [new EmailException('rejected', EmailErrorType.PERMANENT)])
+        TransactionalEmailSender<Void, String> retrying = new RetryingTransactionalEmailSender<>(sender, policy(5))
+
+        when:
+        retrying.send(email().build(), r -> { })
+
+        then:
+        EmailException e = thrown()
+        EmailErrorType.PERMANENT == e.errorType
+        !e.retryable
+        1 == sender.attempts
+    }
+
+    void "the last failure is thrown once the attempts are exhausted"() {
+        given:
+        FailingEmailSender sender = new FailingEmailSender(failures: [transientFailure(), transientFailure(), transientFailure()])
+        TransactionalEmailSender<Void, String> retrying = new RetryingTransactionalEmailSender<>(sender, policy(2))
+
+        when:
+        retrying.send(email().build(), r -> { })
+
+        then:
+        EmailException e = thrown()
+        EmailErrorType.TRANSIENT == e.errorType
+        2 == sender.attempts
+    }
+
+    void "failures are classified with the classifiers"() {
+        given:
+        EmailErrorClassifier classifier = { Throwable t -> t instanceof SocketTimeoutException ? EmailErrorType.TRANSIENT : EmailErrorType.UNKNOWN }
+        FailingEmailSender sender = new FailingEmailSender(failures: [new EmailException(new SocketTimeoutException())])
+        RetryPolicy retryPolicy = new RetryPolicy(configuration(1), [classifier])
+
+        when:
+        new RetryingTransactionalEmailSender<>(sender, retryPolicy).send(email().build(), r -> { })
+
+        then:
+        EmailException e = thrown()
+        EmailErrorType.TRANSIENT == e.errorType
+        e.cause instanceof SocketTimeoutException
+    }
+
+    void "unclassified exceptions are thrown as they are"() {
+        given:
+        IllegalStateException failure = new IllegalStateException()
+        FailingEmailSender sender = new FailingEmailSender(failures: [failure])
+
+        when:
+        new RetryingTransactionalEmailSender<>(sender, policy(5)).send(email().build(), r -> { })
+
+        then:
+        IllegalStateException e = thrown()
+        e.is(failure)
+        1 == sender.attempts
+    }
+
+    void "the retry budget stops retries when most emails fail"() {
+        given:
+        RetryBudget budget = new RetryBudget(0.5, 0)
+
+        expect:
+        !budget.tryWithdraw()
+
+        when:
+        2.times { budget.deposit() }
+
+        then:
+        budget.tryWithdraw()
+        !budget.tryWithdraw()
+    }
+
+    void "reactive senders are subscribed again after a delay"() {
+        given:
+        FailingEmailSender sender = new FailingEmailSender(failures: [transientFailure(), transientFailure()])
+        AsyncTransactionalEmailSender<Void, String> retrying = new RetryingAsyncTransactionalEmailSender<>(sender, policy(3))
+
+        when:
+        Publisher<String> publisher = retrying.sendAsync(email().build(), r -> { })
+
+        then:
+        0 == sender.attempts
+
+        when:
+        String response = Mono.from(publisher).block()
+
+        then:
+        'receiver@example.com' == response
+        3 == sender.attempts
+    }
+
+    void "default email sender retries with the sender policy"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run([
+                'micronaut.email.retry.enabled': true,
+                'micronaut.email.retry.initial-delay': '1ms',
+        ])
+        FailingEmailSender sender = new FailingEmailSender(failures: [transientFailure()])
+        DefaultEmailSender<Void, String> emailSender = new DefaultEmailSender<>(sender, EmailDecoratorPipeline.EMPTY, null, applicationContext.getBean(RetryPolicies), null, null)
+
+        when:
+        String response = emailSender.send(email())
+
+        then:
+        'receiver@example.com' == response
+        2 == sender.attempts
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "senders are not decorated with a retry policy if retries are disabled"() {
+        given:
+        EmailErrorClassifier classifier = { Throwable t -> t instanceof SocketTimeoutException ? EmailErrorType.TRANSIENT : EmailErrorType.UNKNOWN }
+        RetryConfigurationProperties disabled = new RetryConfigurationProperties()
+        RetryPolicies retryPolicies = new RetryPolicies(disabled, [classifier])
+        FailingEmailSender sender = new FailingEmailSender(failures: [new EmailException(new SocketTimeoutException())])
+        DefaultEmailSender<Void, String> emailSender = new DefaultEmailSender<>(sender, EmailDecoratorPipeline.EMPTY, null, retryPolicies, null, null)
+
+        expect:
+        !retryPolicies.enabled
+        RetryingTransactionalEmailSender.of(sender, retryPolicies).is(sender)
+        RetryingAsyncTransactionalEmailSender.of(sender, retryPolicies).is(sender)
+        RetryingTransactionalEmailSender.of(sender, new RetryPolicies(configuration(2), [])) instanceof RetryingTransactionalEmailSender
+
+        when: 'failures are still classified'
+        emailSender.send(email())
+
+        then:
+        EmailException e = thrown()
+        EmailErrorType.TRANSIENT == e.errorType
+        1 == sender.attempts
+    }
+
+    private static EmailException transientFailure() {
+        new EmailException('timeout', EmailErrorType.TRANSIENT)
+    }
+
+    private static EmailException throttledFailure() {
+        new EmailException('slow down', EmailErrorType.THROTTLED)
+    }
+
+    private static RetryPolicy policy(int maxAttempts) {
+        new RetryPolicy(configuration(maxAttempts), [])
+    }
+
+    private static RetryConfiguration configuration(int maxAttempts) {
+        RetryConfigurationProperties configuration = new RetryConfigurationProperties()
+        configuration.enabled = true
+        configuration.maxAttempts = maxAttempts
+        configuration.initialDelay = Duration.ofMillis(1)
+        configuration.maxDelay = Duration.ofMillis(5)
+        configuration.minRetriesPerSecond = 1000
+        configuration
+    }
+
+    static class FailingEmailSender implements TransactionalEmailSender<Void, String>, AsyncTransactionalEmailSender<Void, String> {
+        List<RuntimeException> failures = []
+        int attempts
+
+        @Override
+        @NonNull
+        String send(@NonNull Email email, @NonNull Consumer<Void> emailRequest) throws EmailException {
+            attempts++
+            if (failures) {
+                throw failures.remove(0)
+            }
+            email.to.first().email
+        }
+
+        @Override
+        @NonNull
+        Publisher<String> sendAsync(@NonNull Email email, @NonNull Consumer<Void> emailRequest) throws EmailException {
+            Mono.fromCallable(() -> send(email, emailRequest))
+        }
+
+        @Override
+        String getName() {
+            'failing'
+        }
+    }
+}
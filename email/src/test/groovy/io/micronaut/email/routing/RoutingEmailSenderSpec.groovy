@@ -0,0 +1,145 @@
+package io.micronaut.email.routing
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.core.annotation.NonNull
+import io.micronaut.email.AsyncEmailSender
+import io.micronaut.email.AsyncTransactionalEmailSender
+import io.micronaut.email.Email
+import io.micronaut.email.EmailErrorType
+import io.micronaut.email.EmailException
+import io.micronaut.inject.qualifiers.Qualifiers
+import org.reactivestreams.Publisher
+import reactor.core.publisher.Mono
+import spock.lang.Specification
+
+import java.time.Duration
+import java.util.function.Consumer
+
+import static io.micronaut.email.TestEmails.email
+
+class RoutingEmailSenderSpec extends Specification {
+
+    void "routing is configured via configuration"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run([
+                'micronaut.email.routing.enabled': true,
+                'micronaut.email.routing.senders': ['fast', 'slow'],
+                'micronaut.email.routing.weights.fast': 3,
+                'micronaut.email.routing.decay-time': '5s',
+        ])
+
+        when:
+        RoutingConfiguration configuration = applicationContext.getBean(RoutingConfiguration)
+
+        then:
+        ['fast', 'slow'] == configuration.senders
+        3d == configuration.weights.fast
+        Duration.ofSeconds(5) == configuration.decayTime
+        applicationContext.containsBean(RoutingEmailSender)
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "traffic shifts towards the fastest sender"() {
+        given:
+        MockSender fast = new MockSender(name: 'fast', delay: Duration.ofMillis(1))
+        MockSender slow = new MockSender(name: 'slow', delay: Duration.ofMillis(30))
+        ApplicationContext applicationContext = start(fast, slow)
+        AsyncEmailSender<Object, Object> emailSender = applicationContext.getBean(AsyncEmailSender, Qualifiers.byName(RoutingEmailSender.NAME))
+
+        when:
+        60.times { Mono.from(emailSender.sendAsync(email())).block() }
+
+        then:
+        fast.sent > slow.sent
+        60 == fast.sent + slow.sent
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "traffic shifts away from a failing sender"() {
+        given:
+        MockSender healthy = new MockSender(name: 'fast', delay: Duration.ofMillis(5))
+        MockSender failing = new MockSender(name: 'slow', delay: Duration.ofMillis(5), failure: new EmailException('unavailable'))
+        ApplicationContext applicationContext = start(healthy, failing)
+        RoutingEmailSender router = applicationContext.getBean(RoutingEmailSender)
+
+        when:
+        40.times { Mono.from(router.sendAsync(email().build(), r -> { })).onErrorResume(e -> Mono.empty()).block() }
+
+        then:
+        healthy.sent > failing.attempts
+        router.getStatistics('slow').errorRate > 0
+        0 == router.getStatistics('fast').pending
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "a sender is retried with its own retry policy"() {
+        given:
+        MockSender failing = new MockSender(name: 'slow', delay: Duration.ofMillis(1), failure: new EmailException('unavailable', EmailErrorType.TRANSIENT))
+        ApplicationContext applicationContext = start([
+                'micronaut.email.retry.enabled': true,
+                'micronaut.email.retry.max-attempts': 2,
+                'micronaut.email.retry.initial-delay': '1ms',
+        ], failing)
+        RoutingEmailSender router = applicationContext.getBean(RoutingEmailSender)
+
+        when:
+        Mono.from(router.sendAsync(email().build(), r -> { })).block()
+
+        then:
+        EmailException e = thrown()
+        EmailErrorType.TRANSIENT == e.errorType
+        2 == failing.attempts
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    private static ApplicationContext start(MockSender... senders) {
+        start([:], senders)
+    }
+
+    private static ApplicationContext start(Map<String, Object> properties, MockSender... senders) {
+        ApplicationContext applicationContext = ApplicationContext.run([
+                'micronaut.email.routing.enabled': true,
+                'micronaut.email.routing.senders': senders*.name,
+                // a short decay time forgets the latency of the first, cold, email quickly
+                'micronaut.email.routing.decay-time': '100ms',
+        ] + properties)
+        for (MockSender sender : senders) {
+            applicationContext.registerSingleton(AsyncTransactionalEmailSender, sender, Qualifiers.byName(sender.name))
+        }
+        applicationContext
+    }
+
+    static class MockSender implements AsyncTransactionalEmailSender<Object, Object> {
+        String name
+        Duration delay
+        RuntimeException failure
+        int attempts
+        int sent
+
+        @Override
+        @NonNull
+        Publisher<Object> sendAsync(@NonNull Email email, @NonNull Consumer<Object> emailRequest) throws EmailException {
+            Mono.delay(delay).then(Mono.fromCallable(() -> {
+                attempts++
+                if (failure) {
+                    throw failure
+                }
+                sent++
+                name
+            }))
+        }
+
+        @Override
+        String getName() {
+            name
+        }
+    }
+}
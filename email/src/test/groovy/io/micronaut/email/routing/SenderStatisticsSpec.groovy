@@ -0,0 +1,69 @@
+package io.micronaut.email.routing
+
+import spock.lang.Specification
+
+import java.time.Duration
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicLong
+
+class SenderStatisticsSpec extends Specification {
+
+    private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1)
+
+    void "slow and failing senders cost more"() {
+        given:
+        AtomicLong clock = new AtomicLong()
+        SenderStatistics fast = new SenderStatistics(Duration.ofSeconds(1), clock::get)
+        SenderStatistics slow = new SenderStatistics(Duration.ofSeconds(1), clock::get)
+        SenderStatistics failing = new SenderStatistics(Duration.ofSeconds(1), clock::get)
+
+        when:
+        10.times {
+            long start = clock.get()
+            long fastStart = fast.onStart()
+            long slowStart = slow.onStart()
+            long failingStart = failing.onStart()
+            clock.set(start + 10 * MILLIS)
+            fast.onComplete(fastStart, false)
+            failing.onComplete(failingStart, true)
+            clock.set(start + 100 * MILLIS)
+            slow.onComplete(slowStart, false)
+        }
+
+        then:
+        fast.cost(1) < slow.cost(1)
+        fast.cost(1) < failing.cost(1)
+        failing.errorRate > 0.3
+        0 == fast.pending
+    }
+
+    void "weights and emails in flight change the cost"() {
+        given:
+        SenderStatistics statistics = new SenderStatistics(Duration.ofSeconds(1), () -> 0L)
+
+        when:
+        double idle = statistics.cost(1)
+        statistics.onStart()
+
+        then:
+        statistics.cost(1) == 2 * idle
+        statistics.cost(2) == idle
+    }
+
+    void "the averages decay while the sender is idle"() {
+        given:
+        AtomicLong clock = new AtomicLong()
+        SenderStatistics statistics = new SenderStatistics(Duration.ofSeconds(1), clock::get)
+        long start = statistics.onStart()
+        clock.set(500 * MILLIS)
+        statistics.onComplete(start, true)
+        double errorRate = statistics.errorRate
+
+        when:
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(10))
+
+        then:
+        errorRate > 0
+        statistics.errorRate < errorRate / 1000
+    }
+}
@@ -0,0 +1,123 @@
+package io.micronaut.email.size
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.email.AttachmentContent
+import io.micronaut.email.Email
+import io.micronaut.email.EmailErrorType
+import io.micronaut.email.EmailException
+import spock.lang.Specification
+
+import java.nio.charset.StandardCharsets
+
+class EmailSizeLimitsSpec extends Specification {
+
+    void "encoded sizes are computed without encoding"() {
+        expect:
+        for (int length in [0, 1, 2, 3, 56, 57, 58, 1000, 4096]) {
+            byte[] bytes = new byte[length]
+            assert Base64.encoder.encode(bytes).length == EmailSizeEstimator.base64Size(length)
+            assert Base64.mimeEncoder.encode(bytes).length == EmailSizeEstimator.mimeBase64Size(length)
+        }
+        for (String value in ["", "hello", "héllo", "日本語", "emoji 😀 and ü"]) {
+            assert value.getBytes(StandardCharsets.UTF_8).length == EmailSizeEstimator.utf8Length(value)
+        }
+    }
+
+    void "the size of the bodies and attachments is estimated"() {
+        given:
+        Email email = Email.builder()
+                .from("sender@example.com")
+                .to("receiver@example.com")
+                .subject("Report")
+                .body("<p>héllo</p>", "hello")
+                .attachment { it.filename("report.pdf").contentType("application/pdf").content(new byte[3000]) }
+                .attachment { it.filename("stream.bin").contentType("application/octet-stream").content(new UnknownLengthContent()) }
+                .build()
+
+        when:
+        EmailSize size = EmailSizeEstimator.estimate(email)
+
+        then:
+        18 == size.bodySize
+        3000 == size.attachmentsSize
+        4000 == size.encodedAttachmentsSize
+        size.messageSize > 4000
+        !size.complete
+    }
+
+    void "emails exceeding the provider limits are rejected"() {
+        given:
+        EmailSizeLimits limits = new EmailSizeLimits([])
+
+        when:
+        limits.check("postmark", email(11 * 1024 * 1024))
+
+        then:
+        EmailException e = thrown()
+        EmailErrorType.PERMANENT == e.errorType
+
+        when:
+        limits.check("postmark", email(1024 * 1024))
+        limits.check("sendgrid", email(11 * 1024 * 1024))
+        limits.check("javaxmail", email(50 * 1024 * 1024))
+
+        then:
+        noExceptionThrown()
+
+        when:
+        limits.check("mailjet", email(12 * 1024 * 1024))
+
+        then:
+        e = thrown()
+        e.message.contains("attachments size")
+    }
+
+    void "limits are configured per sender name"() {
+        given:
+        ApplicationContext context = ApplicationContext.run([
+                'micronaut.email.size-limits.ses.max-message-size': 0,
+                'micronaut.email.size-limits.postmark.max-attachments-size': 1024,
+                'micronaut.email.size-limits.javaxmail.max-message-size': 2048,
+        ])
+        EmailSizeLimits limits = context.getBean(EmailSizeLimits)
+
+        expect:
+        EmailSizeLimits.UNLIMITED == limits.getMaxMessageSize("ses")
+        10 * 1024 * 1024 == limits.getMaxMessageSize("postmark")
+        1024 == limits.getMaxAttachmentsSize("postmark")
+        2048 == limits.getMaxMessageSize("javaxmail")
+        EmailSizeLimits.UNLIMITED == limits.getMaxMessageSize("other")
+
+        when:
+        limits.check("ses", email(50 * 1024 * 1024))
+
+        then:
+        noExceptionThrown()
+
+        when:
+        limits.check("javaxmail", email(4096))
+
+        then:
+        thrown(EmailException)
+
+        cleanup:
+        context.close()
+    }
+
+    private static Email email(int attachmentSize) {
+        Email.builder()
+                .from("sender@example.com")
+                .to("receiver@example.com")
+                .subject("Report")
+                .body("hello")
+                .attachment { it.filename("report.pdf").contentType("application/pdf").content(new byte[attachmentSize]) }
+                .build()
+    }
+
+    static class UnknownLengthContent implements AttachmentContent {
+        @Override
+        InputStream openStream() throws IOException {
+            new ByteArrayInputStream(new byte[10])
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package io.micronaut.email.suppression
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.email.Email
+import io.micronaut.email.EmailDecoratorPipeline
+import io.micronaut.email.validation.EmailAddresses
+import spock.lang.Specification
+import spock.lang.TempDir
+
+import java.nio.file.Files
+import java.nio.file.Path
+import java.nio.file.StandardOpenOption
+
+import static io.micronaut.email.TestEmails.email
+
+class SuppressionListSpec extends Specification {
+
+    @TempDir
+    Path directory
+
+    void "addresses are suppressed case insensitively"() {
+        given:
+        SuppressionList suppressionList = new DefaultSuppressionList(new SuppressionConfigurationProperties())
+
+        when:
+        boolean added = suppressionList.suppress('Bounced@Example.com')
+
+        then:
+        added
+        !suppressionList.suppress('bounced@example.com')
+        suppressionList.isSuppressed('bounced@example.com')
+        suppressionList.isSuppressed('BOUNCED@EXAMPLE.COM')
+        suppressionList.isSuppressed('Bounced@example.com')
+        !suppressionList.isSuppressed('delivered@example.com')
+        1 == suppressionList.size()
+
+        when:
+        boolean removed = suppressionList.unsuppress('bounced@example.com')
+
+        then:
+        removed
+        !suppressionList.isSuppressed('bounced@example.com')
+        0 == suppressionList.size()
+
+        when:
+        suppressionList.suppress('Bounced@Bücher.example')
+
+        then:
+        suppressionList.isSuppressed('bounced@bücher.example')
+        suppressionList.isSuppressed('BOUNCED@xn--bcher-kva.example')
+        suppressionList.isSuppressed(EmailAddresses.normalize('bounced@BÜCHER.example'))
+        1 == suppressionList.size()
+    }
+
+    void "the suppression list grows past the expected number of addresses"() {
+        given:
+        SuppressionList suppressionList = new DefaultSuppressionList(new SuppressionConfigurationProperties(expectedAddresses: 100))
+
+        when:
+        (0..<20_000).each { suppressionList.suppress("user${it}@example.com".toString()) }
+        (0..<20_000).step(2).each { suppressionList.unsuppress("user${it}@example.com".toString()) }
+
+        then:
+        10_000 == suppressionList.size()
+        (0..<20_000).every { suppressionList.isSuppressed("user${it}@example.com".toString()) == (it % 2 == 1) }
+        (20_000..<30_000).every { !suppressionList.isSuppressed("user${it}@example.com".toString()) }
+    }
+
+    void "updates are persisted and replayed"() {
+        given:
+        Path file = directory.resolve('suppression.log')
+        SuppressionConfigurationProperties configuration = new SuppressionConfigurationProperties(file: file)
+        DefaultSuppressionList suppressionList = new DefaultSuppressionList(configuration)
+        suppressionList.suppress('bounced@example.com')
+        suppressionList.suppress('complained@example.com')
+        suppressionList.unsuppress('complained@example.com')
+        suppressionList.close()
+        // an incomplete record, as left by a crash while appending
+        Files.write(file, [1, 0, 0] as byte[], StandardOpenOption.APPEND)
+
+        when:
+        DefaultSuppressionList reopened = new DefaultSuppressionList(configuration)
+
+        then:
+        reopened.isSuppressed('bounced@example.com')
+        !reopened.isSuppressed('complained@example.com')
+        1 == reopened.size()
+
+        when:
+        reopened.suppress('spam@example.com')
+        reopened.close()
+        DefaultSuppressionList again = new DefaultSuppressionList(configuration)
+
+        then:
+        again.isSuppressed('spam@example.com')
+        2 == again.size()
+
+        cleanup:
+        again?.close()
+    }
+
+    void "suppressed recipients are removed"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run(['micronaut.email.suppression.enabled': true])
+        applicationContext.getBean(SuppressionList).suppress('bounced@example.com')
+        EmailDecoratorPipeline pipeline = applicationContext.getBean(EmailDecoratorPipeline)
+        Email.Builder builder = email().to('bounced@example.com').cc('Bounced@EXAMPLE.com').bcc('audit@example.com')
+
+        when:
+        pipeline.decorate(builder)
+        Email email = builder.build()
+
+        then:
+        ['receiver@example.com'] == email.to*.email
+        email.cc.empty
+        ['audit@example.com'] == email.bcc*.email
+
+        when:
+        pipeline.decorate(Email.builder().from('sender@example.com').to('bounced@example.com').subject('Hello').body('Hello world'))
+
+        then:
+        SuppressedRecipientException e = thrown()
+        ['bounced@example.com'] == e.suppressedAddresses
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "emails with suppressed recipients are rejected"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run([
+                'micronaut.email.suppression.enabled': true,
+                'micronaut.email.suppression.mode': 'reject'])
+        applicationContext.getBean(SuppressionList).suppress('complained@example.com')
+        EmailDecoratorPipeline pipeline = applicationContext.getBean(EmailDecoratorPipeline)
+
+        when:
+        pipeline.decorate(email())
+
+        then:
+        noExceptionThrown()
+
+        when:
+        pipeline.decorate(email().bcc('complained@example.com'))
+
+        then:
+        SuppressedRecipientException e = thrown()
+        ['complained@example.com'] == e.suppressedAddresses
+
+        cleanup:
+        applicationContext.close()
+    }
+}
@@ -0,0 +1,117 @@
+package io.micronaut.email.validation
+
+import io.micronaut.email.Email
+import io.micronaut.email.EmailErrorType
+import io.micronaut.email.EmailException
+import spock.lang.Specification
+import spock.lang.Unroll
+
+class EmailAddressesSpec extends Specification {
+
+    @Unroll("#address is valid")
+    void "valid addresses"(String address) {
+        expect:
+        EmailAddresses.isValid(address)
+        EmailAddresses.isValid(new StringBuilder(address))
+        new EmailAddressValidator().isValid(address, null)
+
+        where:
+        address << [
+                'john@example.com',
+                'John.Snow@Example.COM',
+                'a@b',
+                "!#\$%&'*+-/=?^_`{|}~@example.com",
+                'john+tag@sub.example-domain.com',
+                '"john snow"@example.com',
+                '"john\\"snow"@example.com',
+                '"john@snow"@example.com',
+                'john@[192.168.0.1]',
+                'john@[IPv6:2001:db8::1]',
+                'john@[IPv6:::1]',
+                'john@[IPv6:2001:db8:0:0:0:0:0:1]',
+                'john@[IPv6:::ffff:192.168.0.1]',
+                'a' * 64 + '@example.com',
+                'john@' + 'a' * 63 + '.com',
+        ]
+    }
+
+    @Unroll("#address is not valid")
+    void "invalid addresses"(String address) {
+        expect:
+        !EmailAddresses.isValid(address)
+
+        where:
+        address << [
+                null,
+                '',
+                'john',
+                '@example.com',
+                'john@',
+                'john@@example.com',
+                '.john@example.com',
+                'john.@example.com',
+                'john..snow@example.com',
+                'john snow@example.com',
+                'John Snow <john@example.com>',
+                'john@example..com',
+                'john@.example.com',
+                'john@example.com.',
+                'john@-example.com',
+                'john@example-.com',
+                'john@exa_mple.com',
+                'john@example.com ',
+                '"john@example.com',
+                '"john"snow@example.com',
+                'john@[192.168.0.256]',
+                'john@[192.168.0]',
+                'john@[IPv6:2001:db8::1::1]',
+                'john@[IPv6:2001:db8:0:0:0:0:1]',
+                'john@[IPv6:2001:db8:]',
+                'john@[]',
+                'a' * 65 + '@example.com',
+                'john@' + 'a' * 64 + '.com',
+                'john@' + 'a.' * 125 + 'com',
+        ]
+    }
+
+    void "international addresses are only valid if allowed"() {
+        expect:
+        EmailAddresses.isValid('jürgen@bücher.example')
+        EmailAddresses.isValid('用户@例子.广告')
+        !EmailAddresses.isValid('jürgen@example.com', false)
+        !EmailAddresses.isValid('juergen@bücher.example', false)
+        !EmailAddresses.isValid('jürgen snow@example.com')
+    }
+
+    void "normalize lower-cases the domain and converts internationalized domains"() {
+        given:
+        String normalized = 'john@example.com'
+
+        expect:
+        EmailAddresses.normalize(normalized).is(normalized)
+        'John.Snow@example.com' == EmailAddresses.normalize('John.Snow@Example.COM')
+        'jürgen@xn--bcher-kva.example' == EmailAddresses.normalize('jürgen@Bücher.example')
+
+        when:
+        EmailAddresses.normalize('john')
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+
+    void "validate checks the sender and every recipient"() {
+        when:
+        EmailAddresses.validate(Email.builder()
+                .from('sender@example.com')
+                .to('receiver@example.com')
+                .cc('receiver@example..com')
+                .subject('Apple Music')
+                .body('Stream music to your device')
+                .build())
+
+        then:
+        EmailException e = thrown()
+        EmailErrorType.PERMANENT == e.errorType
+        e.message.contains('receiver@example..com')
+    }
+}